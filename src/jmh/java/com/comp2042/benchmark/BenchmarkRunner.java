@@ -0,0 +1,60 @@
+package com.comp2042.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmarks jar.
+ * Accepts the usual JMH command line options and always adds the GC profiler,
+ * so every run reports allocation rate and bytes allocated per operation.
+ * The informational options {@code -h}, {@code -l}, {@code -lp}, {@code -lprof} and
+ * {@code -lrf} only print, as they do with JMH's own entry point.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the selected benchmarks, or prints what an informational option asks for.
+     * @param args JMH command line options, e.g. a benchmark name regex
+     * @throws RunnerException If a benchmark fails to run
+     * @throws CommandLineOptionException If the options cannot be parsed
+     * @throws IOException If the help text cannot be printed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldListProfilers()) {
+            commandLine.listProfilers();
+            return;
+        }
+        if (commandLine.shouldListResultFormats()) {
+            commandLine.listResultFormats();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+        if (commandLine.shouldListWithParams()) {
+            new Runner(commandLine).listWithParams(commandLine);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
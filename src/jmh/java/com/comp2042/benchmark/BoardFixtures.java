@@ -0,0 +1,38 @@
+package com.comp2042.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic board contents shared by the benchmarks.
+ */
+final class BoardFixtures {
+
+    static final int ROWS = 25;
+    static final int COLUMNS = 10;
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * Builds a mid-game board: a ragged stack with one hole per row and,
+     * the bottom {@code fullRows} rows completely filled and ready to be cleared.
+     * @param stackHeight Number of occupied rows at the bottom
+     * @param fullRows Number of bottom rows that are completely filled
+     * @param seed Seed for the stack layout
+     * @return A new board matrix of {@link #ROWS} x {@link #COLUMNS}
+     */
+    static int[][] stackedMatrix(int stackHeight, int fullRows, long seed) {
+        Random random = new Random(seed);
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int i = 0; i < stackHeight; i++) {
+            int row = ROWS - 1 - i;
+            for (int col = 0; col < COLUMNS; col++) {
+                matrix[row][col] = 1 + random.nextInt(7);
+            }
+            if (i >= fullRows) {
+                matrix[row][random.nextInt(COLUMNS)] = 0;
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.BfsPlacementGenerator;
+import com.comp2042.logic.ai.Bot;
+import com.comp2042.logic.ai.Heuristic;
+import com.comp2042.logic.ai.Placement;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks one bot decision on a mid-game board reached by the bot itself, with the search run on a single worker
+ * and on a pool of {@code threads} workers, to show how the fork/join fan-out scales.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int WARM_PIECES = 30;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private Bot bot;
+    private GameBoard board;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        bot = new Bot(new BeamSearch(new BfsPlacementGenerator(), Heuristic.DEFAULT,
+                Bot.DEFAULT_BEAM_WIDTH, Bot.DEFAULT_DEPTH, pool));
+        board = new GameBoard(BoardFixtures.ROWS, BoardFixtures.COLUMNS, new GameSeed(SEED));
+        HeadlessGame game = new HeadlessGame(board, GameMode.CLASSIC);
+        game.start();
+        bot.playGame(game, WARM_PIECES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Placement choose() {
+        return bot.choose(board, true);
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for drawing bricks from the 7-Bag randomizer, including bag refills.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickFactoryBenchmark {
+
+    private BrickFactory factory;
+
+    @Setup
+    public void setUp() {
+        factory = new BrickFactory(new Random(42L));
+    }
+
+    @Benchmark
+    public Brick createRandomBrick() {
+        return factory.createRandomBrick();
+    }
+}
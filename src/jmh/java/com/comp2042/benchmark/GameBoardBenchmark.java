@@ -0,0 +1,88 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.model.GameBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link GameBoard} operations on a standard 25 x 10 board.
+ * {@link #fullCycle()} runs one "spawn, drop, lock, clear" step per operation,
+ * spreading bricks across the columns so lines are cleared, and starts a new
+ * game whenever the stack tops out. Boards are seeded so every run sees the same bricks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int[] COLUMN_SHIFTS = {-4, -2, 0, 2, 4, -3, 3, -1, 1};
+
+    private GameBoard idleBoard;
+    private GameBoard dropBoard;
+    private GameBoard cycleBoard;
+    private int piece;
+
+    @Setup
+    public void setUp() {
+        idleBoard = new GameBoard(BoardFixtures.ROWS, BoardFixtures.COLUMNS, new GameSeed(SEED));
+        idleBoard.newGame();
+        dropBoard = new GameBoard(BoardFixtures.ROWS, BoardFixtures.COLUMNS, new GameSeed(SEED));
+        dropBoard.newGame();
+        cycleBoard = new GameBoard(BoardFixtures.ROWS, BoardFixtures.COLUMNS, new GameSeed(SEED));
+        cycleBoard.newGame();
+        piece = 0;
+    }
+
+    @Benchmark
+    public int getGhostY() {
+        return idleBoard.getGhostY(4, 0);
+    }
+
+    /**
+     * Spawns a brick and hard drops it on an empty board. The brick is never merged,
+     * so the board stays empty; the spawn cost is included.
+     */
+    @Benchmark
+    public int hardDrop() {
+        dropBoard.createNewBrick();
+        return dropBoard.hardDrop();
+    }
+
+    @Benchmark
+    public int fullCycle() {
+        int shift = COLUMN_SHIFTS[piece++ % COLUMN_SHIFTS.length];
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                cycleBoard.moveBrickLeft();
+            } else {
+                cycleBoard.moveBrickRight();
+            }
+        }
+        int distance = cycleBoard.hardDrop();
+        cycleBoard.mergeBrickToBackground();
+        ClearRow clearRow = cycleBoard.checkClears();
+        if (clearRow.getLinesRemoved() > 0) {
+            cycleBoard.commitClear(clearRow);
+        }
+        if (!cycleBoard.createNewBrick()) {
+            cycleBoard.newGame();
+        }
+        return distance + clearRow.getLinesRemoved();
+    }
+}
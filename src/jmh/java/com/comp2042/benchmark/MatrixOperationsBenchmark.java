@@ -0,0 +1,72 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.board.MatrixOperations;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the static matrix helpers used on every move and lock.
+ * All inputs are built once per trial on a 25 x 10 board with an 8-row stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    private int[][] board;
+    private int[][] boardWithFullRows;
+    private int[][] brick;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.stackedMatrix(8, 0, 42L);
+        boardWithFullRows = BoardFixtures.stackedMatrix(8, 2, 42L);
+        brick = ShapeTable.of(BrickType.T).getMatrix(0);
+    }
+
+    @Benchmark
+    public boolean intersectFree() {
+        return MatrixOperations.intersect(board, brick, 4, 2);
+    }
+
+    @Benchmark
+    public boolean intersectOnStack() {
+        return MatrixOperations.intersect(board, brick, 4, BoardFixtures.ROWS - 9);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(board, brick, 4, 10);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingNoLines() {
+        return MatrixOperations.checkRemoving(board);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingWithLines() {
+        return MatrixOperations.checkRemoving(boardWithFullRows);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(board);
+    }
+}
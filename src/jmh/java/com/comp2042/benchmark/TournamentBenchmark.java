@@ -0,0 +1,65 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.ai.Bot;
+import com.comp2042.logic.simulation.GamePlayer;
+import com.comp2042.logic.simulation.TournamentRunner;
+import com.comp2042.logic.simulation.TournamentStats;
+import com.comp2042.model.GameMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link TournamentRunner} in games per second across all cores.
+ * {@link #dropperGames()} measures the runner and rules alone with a player that drops
+ * every brick at spawn; {@link #botGames()} plays bot games capped at {@link #BOT_PIECES} bricks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TournamentBenchmark {
+
+    private static final int GAMES = 256;
+    private static final int BOT_GAMES = 32;
+    private static final int BOT_PIECES = 100;
+    private static final GamePlayer DROPPER = game -> game.apply(EventType.HARD_DROP) || game.apply(EventType.DOWN);
+
+    private TournamentRunner dropperRunner;
+    private TournamentRunner botRunner;
+    private long masterSeed;
+
+    @Setup
+    public void setUp() {
+        dropperRunner = new TournamentRunner(GameMode.CLASSIC, () -> DROPPER);
+        Bot bot = new Bot();
+        botRunner = new TournamentRunner(GameMode.CLASSIC, TournamentRunner::standardBoard,
+                () -> bot::playPiece, BOT_PIECES, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public TournamentStats dropperGames() {
+        return dropperRunner.run(masterSeed++, GAMES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOT_GAMES)
+    public TournamentStats botGames() {
+        return botRunner.run(masterSeed++, BOT_GAMES);
+    }
+}
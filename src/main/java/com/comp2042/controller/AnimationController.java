@@ -1,56 +1,167 @@
 package com.comp2042.controller;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.comp2042.logic.score.LevelProgression;
+import com.comp2042.logic.simulation.FixedTimestep;
+import com.comp2042.logic.simulation.GameSnapshot;
+import com.comp2042.logic.simulation.GravityAccumulator;
+import com.comp2042.logic.simulation.LogicThread;
+import javafx.animation.AnimationTimer;
 
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The game loop: one {@link AnimationTimer} that runs the game logic in fixed steps.
+ * Each display pulse is turned into whole logic steps by a {@link FixedTimestep}; every step
+ * samples held-key auto-repeat, advances fractional gravity and then the mode timer,
+ * all from the same monotonic clock.
+ * Changing level only changes the gravity, so nothing is rebuilt while the game runs.
+ * When a {@link LogicThread} is attached, gravity runs on that thread instead and each pulse
+ * only hands its newest snapshot to the view.
+ */
 public class AnimationController {
-    private final GuiController guiController;
-    private Timeline timeline;
 
-    private static final double BASE_DROP_SPEED_MILLIS = 400;
-    private static final double MIN_DROP_SPEED_MILLIS = 50;
-    private static final double SPEED_INCREASE_PER_LEVEL = 25;
+    /** Logic steps per second. */
+    public static final int STEPS_PER_SECOND = 60;
+
+    private final GuiController guiController;
+    private final FixedTimestep timestep = new FixedTimestep(STEPS_PER_SECOND);
+    private final GravityAccumulator gravity = new GravityAccumulator();
+    private final AnimationTimer timer;
+    private DoubleConsumer inputTimer;
+    private DoubleConsumer modeTimer;
+    private LogicThread logicThread;
+    private Consumer<GameSnapshot> snapshotListener;
+    private long shownSequence;
+    private boolean running = false;
+    private boolean paused = false;
 
     public AnimationController(GuiController guiController) {
         this.guiController = guiController;
+        this.gravity.setCellsPerStep(LevelProgression.gravityCellsPerStep(1, STEPS_PER_SECOND));
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse(now);
+            }
+        };
     }
 
-    public void start() {
-        updateSpeed(1);
+    /**
+     * Sets the callback that advances held-key auto-repeat.
+     * It is called once per logic step, before gravity, with the step length in milliseconds.
+     * @param inputTimer The input callback, or null for none
+     */
+    public void setInputTimer(DoubleConsumer inputTimer) {
+        this.inputTimer = inputTimer;
     }
 
-    public void updateSpeed(int level) {
-        double dropSpeed = Math.max(MIN_DROP_SPEED_MILLIS, BASE_DROP_SPEED_MILLIS - (level - 1) * SPEED_INCREASE_PER_LEVEL);
+    /**
+     * Sets the callback that advances mode timers, such as the Time Attack countdown.
+     * It is called once per logic step with the step length in milliseconds.
+     * @param modeTimer The mode timer callback, or null for none
+     */
+    public void setModeTimer(DoubleConsumer modeTimer) {
+        this.modeTimer = modeTimer;
+    }
+
+    /**
+     * Attaches a logic thread that runs the game rules, or detaches it.
+     * The thread is started by {@link #start()} and follows this loop's pause, resume and stop.
+     * @param logicThread A logic thread that has not been started, or null to run gravity on this loop
+     * @param snapshotListener Called on the JavaFX thread with each new snapshot, at most once per pulse
+     */
+    public void setLogicThread(LogicThread logicThread, Consumer<GameSnapshot> snapshotListener) {
+        if (this.logicThread != null) {
+            this.logicThread.stop();
+        }
+        this.logicThread = logicThread;
+        this.snapshotListener = snapshotListener;
+    }
 
-        if (timeline != null) {
-            timeline.stop();
+    /**
+     * Starts the loop for a new game at level 1.
+     */
+    public void start() {
+        timestep.reset();
+        gravity.reset();
+        updateSpeed(1);
+        running = true;
+        paused = false;
+        if (logicThread != null) {
+            shownSequence = 0;
+            logicThread.start();
         }
+        timer.start();
+    }
 
-        timeline = new Timeline(new KeyFrame(
-                Duration.millis(dropSpeed),
-                e -> guiController.moveDownFromTimer()
-        ));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
+    /**
+     * Sets the gravity for a level without restarting the loop.
+     * @param level The current level
+     */
+    public void updateSpeed(int level) {
+        gravity.setCellsPerStep(LevelProgression.gravityCellsPerStep(level, STEPS_PER_SECOND));
     }
 
     public void stop() {
-        if (timeline != null) {
-            timeline.stop();
+        running = false;
+        timer.stop();
+        if (logicThread != null) {
+            logicThread.stop();
         }
     }
 
     public void pause() {
-        if (timeline != null) {
-            timeline.pause();
+        if (running && !paused) {
+            paused = true;
+            timestep.pause();
+            timer.stop();
+            if (logicThread != null) {
+                logicThread.pause();
+            }
         }
     }
 
     public void resume() {
-        if (timeline != null) {
-            timeline.play();
+        if (running && paused) {
+            paused = false;
+            timestep.resume();
+            timer.start();
+            if (logicThread != null) {
+                logicThread.resume();
+            }
         }
     }
-}
 
+    /**
+     * Gets the logic time run since the game started, excluding pauses.
+     * @return Elapsed game time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return timestep.getElapsedMillis();
+    }
+
+    private void onPulse(long now) {
+        int steps = timestep.advanceTo(now);
+        double stepMillis = timestep.getStepMillis();
+        for (int i = 0; i < steps && running; i++) {
+            if (inputTimer != null) {
+                inputTimer.accept(stepMillis);
+            }
+            int cells = logicThread != null ? 0 : gravity.step();
+            for (int c = 0; c < cells && running; c++) {
+                guiController.moveDownFromTimer();
+            }
+            if (modeTimer != null && running) {
+                modeTimer.accept(stepMillis);
+            }
+        }
+        if (logicThread != null && running) {
+            GameSnapshot snapshot = logicThread.getSnapshot();
+            if (snapshot != null && snapshot.getSequence() != shownSequence) {
+                shownSequence = snapshot.getSequence();
+                snapshotListener.accept(snapshot);
+            }
+        }
+    }
+}
@@ -4,19 +4,44 @@ import com.comp2042.logic.score.ScoreService;
 import com.comp2042.model.Board;
 import com.comp2042.model.GameMode;
 import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.board.MatrixOperations;
 import com.comp2042.logic.board.DownData;
+import com.comp2042.logic.ai.HintService;
+import com.comp2042.logic.ai.Placement;
 import com.comp2042.logic.mode.GameModeStrategy;
 import com.comp2042.logic.mode.GameModeStrategyFactory;
+import com.comp2042.logic.mode.PuzzleModeStrategy;
 import com.comp2042.logic.mode.TimeAttackModeStrategy;
+import com.comp2042.logic.replay.Replay;
+import com.comp2042.logic.replay.ReplayRecorder;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.simulation.GameSnapshot;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.logic.simulation.LogicThread;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameSettings;
+import com.comp2042.model.Score;
+import com.comp2042.util.Logger;
+import com.comp2042.view.BrickShape;
 import com.comp2042.view.ViewData;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
 /**
  * Orchestrates the game loop and coordinates between the board, view, and game logic.
  * Handles input events, manages game state (countdown, clearing, game over), and implements
  * special game mode logic (Time Attack, Puzzle mode win conditions).
+ * With the logic thread setting on, the rules run on a {@link LogicThread} instead: input is
+ * forwarded to it and the view follows the snapshots it publishes. Line clears then have no
+ * clear animation, the game is not recorded for replay, since gravity is not on this thread, and
+ * Puzzle hints are not offered, since bricks spawn on the logic thread where the hint search
+ * does not see them.
  */
 public class GameController implements InputEventListener {
 
+    private static final String LAST_REPLAY_FILE = "last_game.replay";
+
     private final Board board;
 
     private final GuiController viewGuiController;
@@ -32,6 +57,11 @@ public class GameController implements InputEventListener {
     private final GameMode gameMode;
     private final GameModeStrategy modeStrategy;
 
+    private final ReplayRecorder replayRecorder;
+    private Replay lastReplay;
+    private LogicThread logicThread;
+    private GameSnapshot shownSnapshot;
+
     private boolean isClearing = false;
 
     private boolean isCountdown = true;
@@ -74,13 +104,17 @@ public class GameController implements InputEventListener {
         }
 
         board.newGame();
-        viewGuiController.setEventListener(this);
-        this.inputHandler = new InputHandler(this, this.gameMode);
+        this.replayRecorder = new ReplayRecorder(this, () -> !isClearing && !isCountdown);
+        viewGuiController.setEventListener(replayRecorder);
+        viewGuiController.setGameController(this);
+        this.inputHandler = new InputHandler(replayRecorder, this.gameMode);
         viewGuiController.setInputHandler(this.inputHandler);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
         viewGuiController.setBoard(board);
+        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
         viewGuiController.bindScore(board.getScore().scoreProperty());
         this.animationController = new AnimationController(viewGuiController);
+        this.animationController.setInputTimer(inputHandler::tick);
+        this.animationController.setModeTimer(this::onModeTimerStep);
         viewGuiController.setAnimationController(this.animationController);
         this.scoreService = new ScoreService(board.getScore());
         
@@ -100,10 +134,11 @@ public class GameController implements InputEventListener {
                 }
             }
             
-            if (!gameWon && !gameLost && modeStrategy.checkWinCondition(board, viewGuiController, soundController)) {
+            if (judgesLocally() && modeStrategy.checkWinCondition(board, viewGuiController, soundController)) {
                 gameWon = true;
                 modeStrategy.stop();
                 animationController.stop();
+                finishReplay();
                 
                 if (soundController != null) {
                     soundController.playLevelUp();
@@ -112,19 +147,21 @@ public class GameController implements InputEventListener {
                 viewGuiController.gameWin(soundController);
             }
             
-            if (!gameWon && !gameLost && modeStrategy.checkLossCondition(board, viewGuiController, soundController)) {
+            if (judgesLocally() && modeStrategy.checkLossCondition(board, viewGuiController, soundController)) {
                 gameLost = true;
                 modeStrategy.stop();
                 animationController.stop();
+                finishReplay();
                 viewGuiController.gameOver(soundController);
             }
         });
 
         board.getScore().linesProperty().addListener((obs, oldVal, newVal) -> {
-            if (!gameWon && !gameLost && modeStrategy.checkWinCondition(board, viewGuiController, soundController)) {
+            if (judgesLocally() && modeStrategy.checkWinCondition(board, viewGuiController, soundController)) {
                 gameWon = true;
                 modeStrategy.stop();
                 animationController.stop();
+                finishReplay();
                 
                 if (soundController != null) {
                     soundController.playLevelUp();
@@ -141,6 +178,11 @@ public class GameController implements InputEventListener {
         }
         viewGuiController.showCountdown(soundController, () -> {
             isCountdown = false;
+            attachLogicThread();
+            if (logicThread == null) {
+                replayRecorder.begin(board.getSeed().getSeed(), gameMode);
+                modeStrategy.onBrickSpawned(board, true);
+            }
             animationController.start();
             if (modeStrategy instanceof TimeAttackModeStrategy) {
                 TimeAttackModeStrategy timeAttackStrategy = (TimeAttackModeStrategy) modeStrategy;
@@ -160,6 +202,10 @@ public class GameController implements InputEventListener {
         if (isClearing || isCountdown) {
             return new DownData(null, board.getViewData());
         }
+        if (logicThread != null) {
+            submitToLogic(EventType.DOWN, event);
+            return new DownData(null, shownBrick());
+        }
         boolean canMove = board.moveBrickDown();
         ClearRow clearRow = null;
 
@@ -170,7 +216,9 @@ public class GameController implements InputEventListener {
             if (soundController != null && event.getEventSource() == com.comp2042.controller.EventSource.USER) {
                 soundController.playMove();
             }
-            viewGuiController.refreshBrick(board.getViewData());
+            ViewData viewData = board.getViewData();
+            viewGuiController.refreshBrick(viewData);
+            return new DownData(null, viewData);
         }
 
         return new DownData(clearRow, board.getViewData());
@@ -188,12 +236,17 @@ public class GameController implements InputEventListener {
         if (isClearing || isCountdown) {
             return board.getViewData();
         }
+        if (logicThread != null) {
+            submitToLogic(EventType.LEFT, event);
+            return shownBrick();
+        }
         board.moveBrickLeft();
         if (soundController != null && event.getEventSource() == com.comp2042.controller.EventSource.USER) {
             soundController.playMove();
         }
-        viewGuiController.refreshBrick(board.getViewData());
-        return board.getViewData();
+        ViewData viewData = board.getViewData();
+        viewGuiController.refreshBrick(viewData);
+        return viewData;
     }
 
 
@@ -207,12 +260,55 @@ public class GameController implements InputEventListener {
         if (isClearing || isCountdown) {
             return board.getViewData();
         }
+        if (logicThread != null) {
+            submitToLogic(EventType.RIGHT, event);
+            return shownBrick();
+        }
         board.moveBrickRight();
         if (soundController != null && event.getEventSource() == com.comp2042.controller.EventSource.USER) {
             soundController.playMove();
         }
-        viewGuiController.refreshBrick(board.getViewData());
-        return board.getViewData();
+        ViewData viewData = board.getViewData();
+        viewGuiController.refreshBrick(viewData);
+        return viewData;
+    }
+
+
+    /**
+     * Handles auto-repeat shifts, moving the brick up to several cells with a single redraw.
+     * With a logic thread the moves are only queued, so how far the brick gets is not known yet;
+     * the move sound then plays if the first move has room on the newest snapshot.
+     * @param event The LEFT or RIGHT move event
+     * @param maxCells Most cells to shift; {@code Integer.MAX_VALUE} shifts to the wall
+     * @return Number of cells the brick moved, or 0 if the moves were queued for the logic thread
+     */
+    @Override
+    public int onShiftEvent(MoveEvent event, int maxCells) {
+        if (isClearing || isCountdown) {
+            return 0;
+        }
+        boolean left = event.getEventType() == EventType.LEFT;
+        if (logicThread != null) {
+            if (shownBrickCanShift(left ? -1 : 1)) {
+                playMoveSound(event);
+            }
+            int cells = Math.min(maxCells, HeadlessGame.BOARD_COLUMNS);
+            for (int i = 0; i < cells; i++) {
+                logicThread.submit(event.getEventType());
+            }
+            return 0;
+        }
+        int moved = 0;
+        while (moved < maxCells && (left ? board.moveBrickLeft() : board.moveBrickRight())) {
+            moved++;
+        }
+        if (moved > 0) {
+            if (soundController != null && event.getEventSource() == com.comp2042.controller.EventSource.USER) {
+                soundController.playMove();
+            }
+            viewGuiController.refreshBrick(board.getViewData());
+        }
+        return moved;
     }
 
 
@@ -226,12 +322,20 @@ public class GameController implements InputEventListener {
         if (isClearing || isCountdown) {
             return board.getViewData();
         }
+        if (logicThread != null) {
+            logicThread.submit(EventType.ROTATE);
+            if (soundController != null && event.getEventSource() == com.comp2042.controller.EventSource.USER) {
+                soundController.playRotate();
+            }
+            return shownBrick();
+        }
         board.rotateLeftBrick();
         if (soundController != null && event.getEventSource() == com.comp2042.controller.EventSource.USER) {
             soundController.playRotate();
         }
-        viewGuiController.refreshBrick(board.getViewData());
-        return board.getViewData();
+        ViewData viewData = board.getViewData();
+        viewGuiController.refreshBrick(viewData);
+        return viewData;
     }
 
     /**
@@ -243,12 +347,45 @@ public class GameController implements InputEventListener {
         if (isClearing || isCountdown) {
             return board.getViewData();
         }
+        if (logicThread != null) {
+            logicThread.submit(EventType.HOLD);
+            if (soundController != null) {
+                soundController.playMove();
+            }
+            return shownBrick();
+        }
         board.holdBrick();
+        viewGuiController.hideHint();
+        modeStrategy.onBrickSpawned(board, false);
         if (soundController != null) {
             soundController.playMove();
         }
-        viewGuiController.refreshBrick(board.getViewData());
-        return board.getViewData();
+        ViewData viewData = board.getViewData();
+        viewGuiController.refreshBrick(viewData);
+        return viewData;
+    }
+
+    /**
+     * Outlines the best placement the Puzzle hint search has found so far for the falling brick.
+     * When that placement plays the held or next brick instead, the outline shows that brick and
+     * a notice tells the player to hold first. Does nothing in other modes, with a logic thread,
+     * or while no answer is ready; the outline stays until the brick locks or is held.
+     */
+    @Override
+    public void onHintEvent() {
+        if (isClearing || isCountdown || !(modeStrategy instanceof PuzzleModeStrategy)) {
+            return;
+        }
+        HintService.Hint hint = ((PuzzleModeStrategy) modeStrategy).getHint();
+        if (hint == null) {
+            return;
+        }
+        Placement placement = hint.getPlacement();
+        if (placement.isHold()) {
+            viewGuiController.showHoldFirstNotice();
+        }
+        viewGuiController.showHint(placement.getX(), placement.getY(),
+                BrickShape.of(placement.getType(), placement.getRotation()));
     }
 
     /**
@@ -263,6 +400,14 @@ public class GameController implements InputEventListener {
             return new DownData(null, board.getViewData());
         }
         
+        if (logicThread != null) {
+            logicThread.submit(EventType.HARD_DROP);
+            if (soundController != null) {
+                soundController.playHardDrop();
+            }
+            return new DownData(null, shownBrick());
+        }
+        
         int distance = board.hardDrop();
         
         if (distance > 0) {
@@ -283,6 +428,11 @@ public class GameController implements InputEventListener {
     @Override
     public void createNewGame() {
         modeStrategy.stop();
+        viewGuiController.hideHint();
+        if (logicThread != null) {
+            logicThread = null;
+            animationController.setLogicThread(null, null);
+        }
         gameWon = false;
         gameLost = false;
         highScoreAnimationShown = false;
@@ -298,6 +448,11 @@ public class GameController implements InputEventListener {
         }
         viewGuiController.showCountdown(soundController, () -> {
             isCountdown = false;
+            attachLogicThread();
+            if (logicThread == null) {
+                replayRecorder.begin(board.getSeed().getSeed(), gameMode);
+                modeStrategy.onBrickSpawned(board, true);
+            }
             animationController.start();
             if (modeStrategy instanceof TimeAttackModeStrategy) {
                 TimeAttackModeStrategy timeAttackStrategy = (TimeAttackModeStrategy) modeStrategy;
@@ -330,7 +485,9 @@ public class GameController implements InputEventListener {
     private ViewData mergeBrickToBoard() {
         ViewData lastBrick = board.getViewData();
         viewGuiController.hideGhostPiece();
+        viewGuiController.hideHint();
         board.mergeBrickToBackground();
+        modeStrategy.onBrickLocked();
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
         viewGuiController.hideFallingBrick();
         return lastBrick;
@@ -384,9 +541,27 @@ public class GameController implements InputEventListener {
         if (!board.createNewBrick()) {
             modeStrategy.stop();
             animationController.stop();
+            finishReplay();
             viewGuiController.gameOver(soundController);
         } else {
             viewGuiController.showFallingBrick();
+            modeStrategy.onBrickSpawned(board, true);
+        }
+    }
+
+    /**
+     * Ends the replay recording of the current game and saves it for verification or bug reports.
+     */
+    private void finishReplay() {
+        Replay replay = replayRecorder.finish();
+        if (replay == null) {
+            return;
+        }
+        lastReplay = replay;
+        try {
+            replay.writeTo(Paths.get(LAST_REPLAY_FILE));
+        } catch (IOException e) {
+            Logger.error("Failed to save replay: " + e.getMessage());
         }
     }
 
@@ -398,11 +573,124 @@ public class GameController implements InputEventListener {
         scoreService.applySoftDrop(event);
     }
 
+    /**
+     * Creates a logic thread for the game about to start when the setting is on, or detaches any previous one.
+     * The thread plays an identical board built from the same seed, so this controller's board
+     * only keeps the score that the view and mode strategy read.
+     */
+    private void attachLogicThread() {
+        shownSnapshot = null;
+        if (!GameSettings.isLogicThread()) {
+            logicThread = null;
+            animationController.setLogicThread(null, null);
+            return;
+        }
+        GameBoard logicBoard = new GameBoard(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS,
+                new GameSeed(board.getSeed().getSeed()));
+        logicThread = new LogicThread(new HeadlessGame(logicBoard, gameMode));
+        animationController.setLogicThread(logicThread, this::onSnapshot);
+    }
+
+    private void submitToLogic(EventType action, MoveEvent event) {
+        logicThread.submit(action);
+        playMoveSound(event);
+    }
+
+    private void playMoveSound(MoveEvent event) {
+        if (soundController != null && event.getEventSource() == com.comp2042.controller.EventSource.USER) {
+            soundController.playMove();
+        }
+    }
+
+    private ViewData shownBrick() {
+        return shownSnapshot != null ? shownSnapshot.getBrick() : board.getViewData();
+    }
+
+    /**
+     * Checks whether the brick of the newest snapshot has room to move sideways by one cell.
+     * The logic thread may be further ahead, so this only decides feedback such as sounds.
+     */
+    private boolean shownBrickCanShift(int dx) {
+        if (shownSnapshot == null) {
+            return true;
+        }
+        ViewData brick = shownSnapshot.getBrick();
+        return !MatrixOperations.intersect(shownSnapshot.getBoardMatrix(), brick.getBrickData(),
+                brick.getxPosition() + dx, brick.getyPosition());
+    }
+
+    /**
+     * Checks whether this controller decides when the game ends. With a logic thread attached
+     * only its snapshots do, so the two clocks can never end a game differently.
+     */
+    private boolean judgesLocally() {
+        return logicThread == null && !gameWon && !gameLost;
+    }
+
+    /**
+     * Shows a snapshot published by the logic thread and copies its score into this controller's board,
+     * which fires the usual high score, win and loss checks.
+     * @param snapshot The newest snapshot
+     */
+    private void onSnapshot(GameSnapshot snapshot) {
+        GameSnapshot previous = shownSnapshot;
+        shownSnapshot = snapshot;
+        if (previous == null || previous.getBoardMatrix() != snapshot.getBoardMatrix()) {
+            viewGuiController.refreshGameBackground(snapshot.getBoardMatrix());
+        }
+        viewGuiController.refreshBrick(snapshot.getBrick());
+
+        Score score = board.getScore();
+        int clearedLines = snapshot.getLines() - score.getLinesValue();
+        if (clearedLines > 0) {
+            score.addLines(clearedLines);
+            if (soundController != null) {
+                soundController.playComboSound(snapshot.getCombo());
+            }
+        }
+        if (snapshot.getScore() != score.getValue()) {
+            score.add(snapshot.getScore() - score.getValue());
+        }
+
+        if (snapshot.isFinished() && !gameWon && !gameLost) {
+            modeStrategy.stop();
+            animationController.stop();
+            if (snapshot.isWon()) {
+                gameWon = true;
+                if (soundController != null) {
+                    soundController.playLevelUp();
+                }
+                viewGuiController.gameWin(soundController);
+            } else {
+                gameLost = true;
+                viewGuiController.gameOver(soundController);
+            }
+        }
+    }
+
+    /**
+     * Advances the mode timer by one game loop step and ends the game if time has run out.
+     * With a logic thread attached the timer only updates the display; the game ends when a
+     * snapshot says so.
+     * @param stepMillis Game time covered by the step in milliseconds
+     */
+    private void onModeTimerStep(double stepMillis) {
+        modeStrategy.tick(stepMillis);
+        if (judgesLocally() && modeStrategy.checkLossCondition(board, viewGuiController, soundController)) {
+            gameLost = true;
+            modeStrategy.stop();
+            animationController.stop();
+            finishReplay();
+            viewGuiController.gameOver(soundController);
+        }
+    }
+
     /**
      * Pauses the game mode timer.
      */
     public void pauseTimer() {
         modeStrategy.pause();
+        replayRecorder.pause();
     }
 
     /**
@@ -410,6 +698,7 @@ public class GameController implements InputEventListener {
      */
     public void resumeTimer() {
         modeStrategy.resume();
+        replayRecorder.resume();
     }
 
     /**
@@ -420,6 +709,14 @@ public class GameController implements InputEventListener {
         return gameMode;
     }
 
+    /**
+     * Gets the replay of the last finished game.
+     * @return The replay, or null if no game has finished yet
+     */
+    public Replay getLastReplay() {
+        return lastReplay;
+    }
+
     /**
      * Gets the player's name.
      * @return The player name string
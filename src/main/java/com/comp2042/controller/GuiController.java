@@ -2,23 +2,29 @@ package com.comp2042.controller;
 
 import com.comp2042.logic.board.DownData;
 import com.comp2042.logic.score.HighScoreManager;
+import com.comp2042.logic.score.LevelProgression;
 import com.comp2042.model.Board;
 import com.comp2042.model.HighScoreEntry;
 import com.comp2042.model.GameBoard;
 import com.comp2042.model.GameMode;
+import com.comp2042.model.GameSettings;
+import com.comp2042.view.BrickShape;
+import com.comp2042.view.FramePresenter;
 import com.comp2042.view.GameModePanel;
 import com.comp2042.view.GameOverPanel;
 import com.comp2042.view.HowToPlayPanel;
 import com.comp2042.view.LeaderboardPanel;
 import com.comp2042.view.SettingsPanel;
 import com.comp2042.view.ViewData;
-import com.comp2042.view.Particle;
+import com.comp2042.view.renderer.CanvasBoardRenderer;
 import com.comp2042.view.renderer.GameBoardRenderer;
 import com.comp2042.view.renderer.GhostPieceRenderer;
 import com.comp2042.view.renderer.NextPieceRenderer;
 import com.comp2042.util.BrickColorMapper;
 import com.comp2042.util.GameConstants;
 import com.comp2042.view.animation.AnimationFactory;
+import com.comp2042.view.animation.ParticleSystem;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -176,7 +182,15 @@ public class GuiController implements Initializable {
     
     private GameBoardRenderer gameBoardRenderer;
     private GhostPieceRenderer ghostPieceRenderer;
+    private GhostPieceRenderer hintRenderer;
+    private GridPane hintPanel;
     private NextPieceRenderer nextPieceRenderer;
+    private CanvasBoardRenderer canvasBoardRenderer;
+    private boolean canvasRendering = false;
+    private ParticleSystem particleSystem;
+    private FramePresenter framePresenter;
+    private final Runnable framePulseListener = () -> framePresenter.flush();
+    private Scene framePulseScene;
 
     private boolean gridCreated = false;
 
@@ -240,6 +254,11 @@ public class GuiController implements Initializable {
             keyEvent.consume();
 
         });
+        gamePanel.setOnKeyReleased(keyEvent -> {
+            if (inputHandler != null) {
+                inputHandler.handleKeyReleased(keyEvent.getCode());
+            }
+        });
         if (gameOverOverlay != null) {
             gameOverOverlay.setVisible(false);
         }
@@ -288,7 +307,30 @@ public class GuiController implements Initializable {
         
         gameBoardRenderer = new GameBoardRenderer(gamePanel);
         ghostPieceRenderer = new GhostPieceRenderer(ghostPanel);
+        hintPanel = new GridPane();
+        hintPanel.setMouseTransparent(true);
+        hintPanel.setVisible(false);
+        hintRenderer = new GhostPieceRenderer(hintPanel, Color.WHITE);
         nextPieceRenderer = new NextPieceRenderer(holdPanel, nextPiece1, nextPiece2, nextPiece3);
+        canvasBoardRenderer = new CanvasBoardRenderer();
+        canvasBoardRenderer.getCanvas().setVisible(false);
+        if (gameAreaPane != null) {
+            int panelIndex = gameAreaPane.getChildren().indexOf(gamePanel);
+            gameAreaPane.getChildren().add(panelIndex + 1, canvasBoardRenderer.getCanvas());
+            gameAreaPane.getChildren().add(gameAreaPane.getChildren().indexOf(ghostPanel), hintPanel);
+        }
+
+        framePresenter = new FramePresenter(new FrameView(), this::requestFrameFlush);
+
+        particleSystem = new ParticleSystem();
+        if (rootPane != null) {
+            particleSystem.getCanvas().widthProperty().bind(rootPane.widthProperty());
+            particleSystem.getCanvas().heightProperty().bind(rootPane.heightProperty());
+            // Below the overlays, which are brought to front as they open, and never moved again
+            int overlayIndex = gameOverOverlay != null ? rootPane.getChildren().indexOf(gameOverOverlay) : -1;
+            rootPane.getChildren().add(overlayIndex >= 0 ? overlayIndex : rootPane.getChildren().size(),
+                    particleSystem.getCanvas());
+        }
 
         if (settingsPanel != null) {
             settingsPanel.setHighScoreManager(highScoreManager);
@@ -311,6 +353,8 @@ public class GuiController implements Initializable {
     }
 
     public void resetView() {
+        clearParticles();
+
         if (brickPanel != null) {
             brickPanel.getChildren().clear();
             brickPanel.setLayoutX(0);
@@ -323,11 +367,8 @@ public class GuiController implements Initializable {
             ghostPanel.setLayoutY(0);
         }
 
-        if (holdPanel != null) {
-            holdPanel.getChildren().clear();
-        }
-
         if (nextPieceRenderer != null) {
+            nextPieceRenderer.clearHeldPiece();
             nextPieceRenderer.clearNextPieces();
         }
 
@@ -358,17 +399,41 @@ public class GuiController implements Initializable {
             gridCreated = true;
         }
 
+        canvasRendering = GameSettings.isCanvasRenderer() && canvasBoardRenderer != null;
+        if (canvasBoardRenderer != null) {
+            canvasBoardRenderer.getCanvas().setVisible(canvasRendering);
+        }
+        if (gameBoardRenderer != null) {
+            gameBoardRenderer.setGridVisible(!canvasRendering);
+        }
+
+        if (canvasRendering) {
+            if (gameBoardRenderer != null) {
+                gameBoardRenderer.clearDisplayMatrix();
+            }
+            rectangles = null;
+            canvasBoardRenderer.initialize(boardMatrix);
+            canvasBoardRenderer.updateBrick(brick.getxPosition(), brick.getyPosition(), ghostRow(brick), brick.getBrickShape());
+            if (nextPieceRenderer != null) {
+                nextPieceRenderer.updateNextPieces(brick);
+                nextPieceRenderer.updateHeldPiece(brick);
+            }
+            framePresenter.reset(brick);
+            return;
+        }
+
         if (gameBoardRenderer != null) {
             gameBoardRenderer.initializeDisplayMatrix(boardMatrix);
         }
 
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        BrickShape shape = brick.getBrickShape();
+        rectangles = new Rectangle[shape.getRows()][shape.getColumns()];
+        for (int i = 0; i < shape.getRows(); i++) {
+            for (int j = 0; j < shape.getColumns(); j++) {
                 Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
                 rectangle.setArcHeight(GameConstants.ARC_SIZE);
                 rectangle.setArcWidth(GameConstants.ARC_SIZE);
-                rectangle.setFill(BrickColorMapper.getFillColor(brick.getBrickData()[i][j]));
+                rectangle.setFill(BrickColorMapper.getFillColor(shape.getCell(i, j)));
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
             }
@@ -385,64 +450,142 @@ public class GuiController implements Initializable {
         brickPanel.setLayoutY(startY);
 
         if (nextPieceRenderer != null) {
-            nextPieceRenderer.updateNextPieces(brick.getNextPieces());
-            nextPieceRenderer.updateHeldPiece(brick.getHeldBrickData());
+            nextPieceRenderer.updateNextPieces(brick);
+            nextPieceRenderer.updateHeldPiece(brick);
         }
         
-        if (ghostPieceRenderer != null && brick.getBrickData() != null) {
-            ghostPieceRenderer.initializeGhostPiece(brick.getBrickData());
+        if (ghostPieceRenderer != null) {
+            ghostPieceRenderer.initializeGhostPiece(shape);
             updateGhostPiece(brick);
         }
+        framePresenter.reset(brick);
     }
 
 
     /**
      * Refreshes the display of the current falling brick and ghost piece.
+     * The drawing is deferred to the next pulse, so several moves within one frame draw once.
      * @param brick The view data containing current brick position and shape
      */
     public void refreshBrick(ViewData brick) {
         if (isPause.getValue() == Boolean.FALSE) {
-            double cellSize = GameConstants.BRICK_SIZE + GameConstants.CELL_GAP;
-            double borderOffset = GameConstants.BORDER_OFFSET;
-            
-            updateGhostPiece(brick);
-            
-            if (brickPanel.getParent() != null && 
-                !isPause.get() && 
-                !isGameOver.get() &&
-                (pauseMenuOverlay == null || !pauseMenuOverlay.isVisible()) &&
-                (howToPlayOverlay == null || !howToPlayOverlay.isVisible()) &&
-                (settingsOverlay == null || !settingsOverlay.isVisible()) &&
-                (gameOverOverlay == null || !gameOverOverlay.isVisible()) &&
-                (countdownOverlay == null || !countdownOverlay.isVisible())) {
-                brickPanel.toFront();
+            framePresenter.submitBrick(brick);
+        }
+    }
+
+    private void drawActivePiece(ViewData brick) {
+        if (canvasRendering) {
+            canvasBoardRenderer.updateBrick(brick.getxPosition(), brick.getyPosition(), ghostRow(brick), brick.getBrickShape());
+            return;
+        }
+
+        double cellSize = GameConstants.BRICK_SIZE + GameConstants.CELL_GAP;
+        double borderOffset = GameConstants.BORDER_OFFSET;
+
+        if (brickPanel.getParent() != null && 
+            !isPause.get() && 
+            !isGameOver.get() &&
+            (pauseMenuOverlay == null || !pauseMenuOverlay.isVisible()) &&
+            (howToPlayOverlay == null || !howToPlayOverlay.isVisible()) &&
+            (settingsOverlay == null || !settingsOverlay.isVisible()) &&
+            (gameOverOverlay == null || !gameOverOverlay.isVisible()) &&
+            (countdownOverlay == null || !countdownOverlay.isVisible())) {
+            brickPanel.toFront();
+        }
+        
+        int currentY = brick.getyPosition();
+        int currentX = brick.getxPosition();
+        
+        double startX = borderOffset + currentX * cellSize;
+        double startY = borderOffset + (currentY - 2) * cellSize;
+        brickPanel.setLayoutX(startX);
+        brickPanel.setLayoutY(startY);
+        drawBrick(brickPanel, brick.getBrickShape(), rectangles);
+    }
+
+    /**
+     * Asks for a presenter flush in the next pulse, before layout, so updates made by the
+     * game loop earlier in the same pulse are drawn in that frame.
+     * The listener stays on the game scene; with nothing dirty its flush returns at once.
+     */
+    private void requestFrameFlush() {
+        Scene scene = gamePanel != null ? gamePanel.getScene() : null;
+        if (scene == null) {
+            framePresenter.flush();
+            return;
+        }
+        if (framePulseScene != scene) {
+            if (framePulseScene != null) {
+                framePulseScene.removePreLayoutPulseListener(framePulseListener);
             }
-            
-            int currentY = brick.getyPosition();
-            int currentX = brick.getxPosition();
-            
-            double startX = borderOffset + currentX * cellSize;
-            double startY = borderOffset + (currentY - 2) * cellSize;
-            brickPanel.setLayoutX(startX);
-            brickPanel.setLayoutY(startY);
-            drawBrick(brickPanel, brick.getBrickData(), rectangles);
+            framePulseScene = scene;
+            scene.addPreLayoutPulseListener(framePulseListener);
+        }
+        Platform.requestNextPulse();
+    }
+
+    /**
+     * Draws the regions flushed by the frame presenter with whichever board renderer is active.
+     */
+    private class FrameView implements FramePresenter.View {
+        @Override
+        public void drawBoard(int[][] boardMatrix) {
+            if (canvasRendering) {
+                canvasBoardRenderer.refreshGameBackground(boardMatrix);
+            } else if (gameBoardRenderer != null) {
+                gameBoardRenderer.refreshGameBackground(boardMatrix);
+            }
+        }
+
+        @Override
+        public void drawGhost(ViewData brick) {
+            if (canvasRendering) {
+                canvasBoardRenderer.updateBrick(brick.getxPosition(), brick.getyPosition(), ghostRow(brick), brick.getBrickShape());
+            } else {
+                updateGhostPiece(brick);
+            }
+        }
+
+        @Override
+        public void drawActivePiece(ViewData brick) {
+            GuiController.this.drawActivePiece(brick);
+        }
+
+        @Override
+        public void drawQueue(ViewData brick) {
+            if (nextPieceRenderer != null) {
+                nextPieceRenderer.updateNextPieces(brick);
+            }
+        }
+
+        @Override
+        public void drawHold(ViewData brick) {
             if (nextPieceRenderer != null) {
-                nextPieceRenderer.updateNextPieces(brick.getNextPieces());
-                nextPieceRenderer.updateHeldPiece(brick.getHeldBrickData());
+                nextPieceRenderer.updateHeldPiece(brick);
             }
         }
     }
 
     private void updateGhostPiece(ViewData brick) {
-        if (board == null || ghostPieceRenderer == null) {
+        if (ghostPieceRenderer == null || (board == null && brick.getGhostY() == ViewData.UNKNOWN_ROW)) {
             return;
         }
         
         int currentX = brick.getxPosition();
         int currentY = brick.getyPosition();
-        int[][] shape = board.getCurrentShape();
+        BrickShape shape = brick.getBrickShape();
         
-        ghostPieceRenderer.updateGhostPiece(board, currentX, currentY, shape);
+        ghostPieceRenderer.updateGhostPiece(ghostRow(brick), currentX, currentY, shape);
+    }
+
+    /**
+     * Gets where a brick would land, from the snapshot when it carries the row and otherwise from the board.
+     */
+    private int ghostRow(ViewData brick) {
+        if (brick.getGhostY() != ViewData.UNKNOWN_ROW) {
+            return brick.getGhostY();
+        }
+        return board != null ? board.getGhostY(brick.getxPosition(), brick.getyPosition()) : brick.getyPosition();
     }
 
     /**
@@ -450,20 +593,47 @@ public class GuiController implements Initializable {
      * @param board The current game board matrix
      */
     public void refreshGameBackground(int[][] board) {
-        if (gameBoardRenderer != null) {
-            gameBoardRenderer.refreshGameBackground(board);
-        }
+        framePresenter.submitBoard(board);
     }
 
     /**
      * Hides the ghost piece preview.
      */
     public void hideGhostPiece() {
-        if (ghostPieceRenderer != null) {
+        framePresenter.discard(FramePresenter.GHOST);
+        if (canvasRendering) {
+            canvasBoardRenderer.hideGhostPiece();
+        } else if (ghostPieceRenderer != null) {
             ghostPieceRenderer.hideGhostPiece();
         }
     }
 
+    /**
+     * Outlines a suggested placement for the falling brick until {@link #hideHint()} is called.
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @param shape The shape to outline
+     */
+    public void showHint(int x, int y, BrickShape shape) {
+        if (canvasRendering) {
+            canvasBoardRenderer.showHint(x, y, shape);
+        } else if (hintRenderer != null) {
+            hintRenderer.showOutline(x, y, shape);
+        }
+    }
+
+    /**
+     * Removes the hint outline.
+     */
+    public void hideHint() {
+        if (canvasBoardRenderer != null) {
+            canvasBoardRenderer.hideHint();
+        }
+        if (hintRenderer != null) {
+            hintRenderer.hideGhostPiece();
+        }
+    }
+
     /**
      * Hides the falling brick display.
      */
@@ -471,6 +641,9 @@ public class GuiController implements Initializable {
         if (brickPanel != null) {
             brickPanel.setVisible(false);
         }
+        if (canvasRendering) {
+            canvasBoardRenderer.setBrickVisible(false);
+        }
     }
 
     /**
@@ -480,6 +653,9 @@ public class GuiController implements Initializable {
         if (brickPanel != null) {
             brickPanel.setVisible(true);
         }
+        if (canvasRendering) {
+            canvasBoardRenderer.setBrickVisible(true);
+        }
     }
 
     /**
@@ -488,6 +664,7 @@ public class GuiController implements Initializable {
      * @param onFinished Callback to execute when animation completes
      */
     public void animateClear(List<Integer> rows, Runnable onFinished) {
+        framePresenter.flush();
         if (rows == null || rows.isEmpty() || gameBoardRenderer == null) {
             if (onFinished != null) {
                 onFinished.run();
@@ -502,6 +679,8 @@ public class GuiController implements Initializable {
             return;
         }
 
+        emitClearParticles(rows);
+
         Rectangle[][] displayMatrix = gameBoardRenderer.getDisplayMatrix();
         if (displayMatrix == null) {
             if (onFinished != null) {
@@ -519,20 +698,6 @@ public class GuiController implements Initializable {
                     if (rect != null && rect.isVisible() && rect.getOpacity() > 0.1) {
                         Color originalColor = (Color) rect.getFill();
                         
-                        double cellSize = GameConstants.BRICK_SIZE + GameConstants.CELL_GAP;
-                        double blockX = (gameAreaPane != null ? gameAreaPane.getLayoutX() : 250) + GameConstants.BORDER_OFFSET + col * cellSize + cellSize / 2;
-                        double blockY = (gameAreaPane != null ? gameAreaPane.getLayoutY() : 50) + GameConstants.BORDER_OFFSET + (rowIndex - 2) * cellSize + cellSize / 2;
-                        
-                        int particleCount = 5 + (int)(Math.random() * 6);
-                        for (int i = 0; i < particleCount; i++) {
-                            Particle particle = new Particle(blockX, blockY, originalColor);
-                            if (rootPane != null) {
-                                rootPane.getChildren().add(particle);
-                            } else if (groupNotification != null) {
-                                groupNotification.getChildren().add(particle);
-                            }
-                        }
-                        
                         FillTransition flash = new FillTransition(Duration.millis(100), rect);
                         flash.setFromValue(originalColor);
                         flash.setToValue(Color.WHITE);
@@ -556,13 +721,16 @@ public class GuiController implements Initializable {
         }
 
         parallelTransition.setOnFinished(e -> {
-            for (int i = 2; i < displayMatrix.length; i++) {
-                for (int j = 0; j < displayMatrix[i].length; j++) {
-                    if (displayMatrix[i][j] != null) {
-                        displayMatrix[i][j].setOpacity(1.0);
+            for (Integer rowIndex : rows) {
+                if (rowIndex >= 2 && rowIndex < displayMatrix.length) {
+                    for (Rectangle rect : displayMatrix[rowIndex]) {
+                        if (rect != null) {
+                            rect.setOpacity(1.0);
+                        }
                     }
                 }
             }
+            gameBoardRenderer.invalidateRows(rows);
             if (onFinished != null) {
                 onFinished.run();
             }
@@ -571,7 +739,41 @@ public class GuiController implements Initializable {
         parallelTransition.play();
     }
 
+    private void emitClearParticles(List<Integer> rows) {
+        if (particleSystem == null || board == null) {
+            return;
+        }
+        int[][] matrix = board.getBoardMatrix();
+        double cellSize = GameConstants.BRICK_SIZE + GameConstants.CELL_GAP;
+        double originX = (gameAreaPane != null ? gameAreaPane.getLayoutX() : 250) + GameConstants.BORDER_OFFSET + cellSize / 2;
+        double originY = (gameAreaPane != null ? gameAreaPane.getLayoutY() : 50) + GameConstants.BORDER_OFFSET + cellSize / 2;
+
+        for (Integer rowIndex : rows) {
+            if (rowIndex < 2 || rowIndex >= matrix.length) {
+                continue;
+            }
+            for (int col = 0; col < matrix[rowIndex].length; col++) {
+                int colorCode = matrix[rowIndex][col];
+                if (colorCode != 0) {
+                    int particleCount = 5 + (int) (Math.random() * 6);
+                    particleSystem.emit(originX + col * cellSize, originY + (rowIndex - 2) * cellSize,
+                            colorCode, particleCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the particles still in flight, so they do not outlive the game that emitted them.
+     */
+    private void clearParticles() {
+        if (particleSystem != null) {
+            particleSystem.clear();
+        }
+    }
+
     public void animatePlacedBlocks(ViewData lastBrick) {
+        framePresenter.flush();
         if (lastBrick == null || gameBoardRenderer == null) {
             return;
         }
@@ -581,13 +783,13 @@ public class GuiController implements Initializable {
             return;
         }
 
-        int[][] shape = lastBrick.getBrickData();
+        BrickShape shape = lastBrick.getBrickShape();
         int xPos = lastBrick.getxPosition();
         int yPos = lastBrick.getyPosition();
 
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
-                if (shape[j][i] != 0) {
+        for (int i = 0; i < shape.getColumns(); i++) {
+            for (int j = 0; j < shape.getRows(); j++) {
+                if (shape.getCell(j, i) != 0) {
                     int boardRow = yPos + j;
                     int boardCol = xPos + i;
 
@@ -641,6 +843,23 @@ public class GuiController implements Initializable {
         showFloatingText(scoreText, relativeX, relativeY, Color.YELLOW);
     }
 
+    /**
+     * Tells the player that the hint outline is for the brick they get by holding.
+     */
+    public void showHoldFirstNotice() {
+        if (gameAreaPane == null || groupNotification == null) {
+            return;
+        }
+
+        double boardCenterX = gameAreaPane.getLayoutX() + (gameAreaPane.getWidth() / 2);
+        double boardCenterY = gameAreaPane.getLayoutY() + (gameAreaPane.getHeight() / 2);
+
+        double relativeX = boardCenterX - groupNotification.getLayoutX();
+        double relativeY = boardCenterY - groupNotification.getLayoutY();
+
+        showFloatingText("HOLD FIRST", relativeX, relativeY, Color.WHITE);
+    }
+
     public void showNewHighScoreAnimation() {
         if (gameAreaPane == null || groupNotification == null) {
             return;
@@ -684,16 +903,16 @@ public class GuiController implements Initializable {
         return rectangles;
     }
 
-    private void drawBrick(GridPane targetPanel, int[][] shapeData, Rectangle[][] rectArray) {
-        if (targetPanel == null || shapeData == null || shapeData.length == 0) {
+    private void drawBrick(GridPane targetPanel, BrickShape shape, Rectangle[][] rectArray) {
+        if (targetPanel == null || shape == null || shape.getRows() == 0) {
             return;
         }
 
-        for (int i = 0; i < shapeData.length; i++) {
-            if (shapeData[i] != null && rectArray != null && rectArray[i] != null) {
-                for (int j = 0; j < shapeData[i].length; j++) {
+        for (int i = 0; i < shape.getRows(); i++) {
+            if (rectArray != null && i < rectArray.length && rectArray[i] != null) {
+                for (int j = 0; j < shape.getColumns() && j < rectArray[i].length; j++) {
                     if (rectArray[i][j] != null) {
-                        setRectangleData(shapeData[i][j], rectArray[i][j]);
+                        setRectangleData(shape.getCell(i, j), rectArray[i][j]);
                         rectArray[i][j].setOpacity(1.0);
                     }
                 }
@@ -716,10 +935,18 @@ public class GuiController implements Initializable {
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
         if (eventListener instanceof GameController) {
-            this.gameController = (GameController) eventListener;
-            if (gameController != null) {
-                setCurrentGameMode(gameController.getGameMode());
-            }
+            setGameController((GameController) eventListener);
+        }
+    }
+
+    /**
+     * Sets the game controller, for when input reaches it through another listener such as a replay recorder.
+     * @param gameController The controller of the current game
+     */
+    public void setGameController(GameController gameController) {
+        this.gameController = gameController;
+        if (gameController != null) {
+            setCurrentGameMode(gameController.getGameMode());
         }
     }
 
@@ -752,7 +979,7 @@ public class GuiController implements Initializable {
         linesLabel.textProperty().bind(integerProperty.asString("%d"));
 
         int initialLines = integerProperty.get();
-        int initialLevel = (initialLines / 10) + 1;
+        int initialLevel = LevelProgression.levelForLines(initialLines);
         if (currentGameMode != GameMode.PUZZLE) {
             levelLabel.setText(String.valueOf(initialLevel));
         }
@@ -763,8 +990,8 @@ public class GuiController implements Initializable {
         integerProperty.addListener((obs, oldVal, newVal) -> {
             int oldLines = oldVal.intValue();
             int newLines = newVal.intValue();
-            int oldLevel = (oldLines / 10) + 1;
-            int newLevel = (newLines / 10) + 1;
+            int oldLevel = LevelProgression.levelForLines(oldLines);
+            int newLevel = LevelProgression.levelForLines(newLines);
             
             if (currentGameMode != GameMode.PUZZLE) {
                 levelLabel.setText(String.valueOf(newLevel));
@@ -820,8 +1047,17 @@ public class GuiController implements Initializable {
      * @param lineGoal The target number of lines to clear
      */
     public void configurePuzzleMode(int lineGoal) {
+        configurePuzzleMode(lineGoal, 0);
+    }
+
+    /**
+     * Configures the UI for Puzzle mode, showing the puzzle's par next to the goal.
+     * @param lineGoal The target number of lines to clear
+     * @param parPieces Bricks the solver needed for the goal, or 0 if unknown
+     */
+    public void configurePuzzleMode(int lineGoal, int parPieces) {
         if (levelHeaderLabel != null) {
-            levelHeaderLabel.setText("GOAL");
+            levelHeaderLabel.setText(parPieces > 0 ? "GOAL (PAR " + parPieces + ")" : "GOAL");
         }
         if (levelLabel != null) {
             levelLabel.textProperty().unbind();
@@ -866,9 +1102,7 @@ public class GuiController implements Initializable {
         if (gameOverOverlay != null) {
             gameOverOverlay.setVisible(false);
         }
-        if (brickPanel != null) {
-            brickPanel.setVisible(true);
-        }
+        showFallingBrick();
 
         if (board != null) {
             board.newGame();
@@ -902,9 +1136,8 @@ public class GuiController implements Initializable {
      */
     public void gameOver(SoundController soundController) {
         hideGhostPiece();
-        if (brickPanel != null) {
-            brickPanel.setVisible(false);
-        }
+        hideFallingBrick();
+        clearParticles();
 
         if (gameOverPanel != null) {
             gameOverPanel.setMessage("GAME OVER");
@@ -945,9 +1178,8 @@ public class GuiController implements Initializable {
      */
     public void gameWin(SoundController soundController) {
         hideGhostPiece();
-        if (brickPanel != null) {
-            brickPanel.setVisible(false);
-        }
+        hideFallingBrick();
+        clearParticles();
 
         if (gameOverPanel != null) {
             gameOverPanel.setMessage("YOU WIN");
@@ -979,9 +1211,8 @@ public class GuiController implements Initializable {
         if (gameOverOverlay != null) {
             gameOverOverlay.setVisible(false);
         }
-        if (brickPanel != null) {
-            brickPanel.setVisible(true);
-        }
+        showFallingBrick();
+        clearParticles();
         eventListener.createNewGame();
         gamePanel.requestFocus();
         isPause.setValue(Boolean.FALSE);
@@ -1001,6 +1232,9 @@ public class GuiController implements Initializable {
             if (animationController != null) {
                 animationController.pause();
             }
+            if (inputHandler != null) {
+                inputHandler.releaseAll();
+            }
             if (gameController != null) {
                 gameController.pauseTimer();
             }
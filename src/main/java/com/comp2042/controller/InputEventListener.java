@@ -11,11 +11,27 @@ public interface InputEventListener {
 
     ViewData onRightEvent(MoveEvent event);
 
+    /**
+     * Shifts the brick sideways by several cells as one input, as auto-repeat does.
+     * @param event A LEFT or RIGHT move event
+     * @param maxCells Most cells to shift; {@code Integer.MAX_VALUE} shifts to the wall
+     * @return Number of cells the brick actually moved, or 0 if that is not known yet because
+     *         the moves were queued for another thread
+     */
+    int onShiftEvent(MoveEvent event, int maxCells);
+
     ViewData onRotateEvent(MoveEvent event);
 
     DownData onHardDropEvent(MoveEvent event);
 
     ViewData onHoldEvent();
 
+    /**
+     * Shows a suggested placement for the falling brick, in modes that offer hints.
+     * Does not change the game.
+     */
+    default void onHintEvent() {
+    }
+
     void createNewGame();
 }
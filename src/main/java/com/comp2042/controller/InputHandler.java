@@ -1,24 +1,41 @@
 package com.comp2042.controller;
 
+import com.comp2042.logic.input.AutoShift;
 import com.comp2042.model.GameMode;
+import com.comp2042.model.GameSettings;
 import javafx.scene.input.KeyCode;
 
 /**
  * Handles keyboard input and maps keys to game actions.
  * Implements Reverted mode logic by inverting left/right controls when active.
+ * Holding left or right repeats through {@link AutoShift} stepped by the game loop,
+ * so operating system key-repeat events for those keys are ignored.
  */
 public class InputHandler {
     private final InputEventListener listener;
     private final GameMode gameMode;
+    private final AutoShift autoShift;
 
     /**
-     * Constructs an InputHandler with the specified event listener and game mode.
+     * Constructs an InputHandler with the specified event listener and game mode,
+     * using the DAS and ARR timings from {@link GameSettings}.
      * @param listener The event listener to notify of input events
      * @param gameMode The current game mode (affects control mapping)
      */
     public InputHandler(InputEventListener listener, GameMode gameMode) {
+        this(listener, gameMode, new AutoShift(GameSettings.getDasMillis(), GameSettings.getArrMillis()));
+    }
+
+    /**
+     * Constructs an InputHandler with explicit auto-shift timings.
+     * @param listener The event listener to notify of input events
+     * @param gameMode The current game mode (affects control mapping)
+     * @param autoShift The auto-shift state for held left and right keys
+     */
+    public InputHandler(InputEventListener listener, GameMode gameMode, AutoShift autoShift) {
         this.listener = listener;
         this.gameMode = gameMode;
+        this.autoShift = autoShift;
     }
 
     /**
@@ -27,18 +44,14 @@ public class InputHandler {
      * @param code The key code that was pressed
      */
     public void handleKey(KeyCode code) {
-        if (code == KeyCode.LEFT || code == KeyCode.A) {
-            if (gameMode == GameMode.REVERTED) {
-                listener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
-            } else {
-                listener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
-            }
-        }
-        else if (code == KeyCode.RIGHT || code == KeyCode.D) {
-            if (gameMode == GameMode.REVERTED) {
-                listener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
-            } else {
-                listener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+        int direction = horizontalDirection(code);
+        if (direction != 0) {
+            if (autoShift.press(direction)) {
+                if (direction == AutoShift.LEFT) {
+                    listener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                } else {
+                    listener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                }
             }
         }
         else if (code == KeyCode.UP || code == KeyCode.W) {
@@ -53,5 +66,51 @@ public class InputHandler {
         else if (code == KeyCode.H) {
             listener.onHoldEvent();
         }
+        else if (code == KeyCode.G) {
+            listener.onHintEvent();
+        }
+    }
+
+    /**
+     * Processes a key release, ending auto-shift for left and right keys.
+     * @param code The key code that was released
+     */
+    public void handleKeyReleased(KeyCode code) {
+        int direction = horizontalDirection(code);
+        if (direction != 0) {
+            autoShift.release(direction);
+        }
+    }
+
+    /**
+     * Advances auto-shift by one game loop step, shifting the brick if a held key is due to repeat.
+     * All cells due in the step are sent as one shift event so the brick is redrawn once.
+     * @param stepMillis Game time covered by the step in milliseconds
+     */
+    public void tick(double stepMillis) {
+        int cells = autoShift.tick(stepMillis);
+        if (cells > 0) {
+            EventType type = autoShift.getDirection() == AutoShift.LEFT ? EventType.LEFT : EventType.RIGHT;
+            listener.onShiftEvent(new MoveEvent(type, EventSource.USER), cells);
+        }
+    }
+
+    /**
+     * Forgets all held keys, for when their release events may be missed such as while paused.
+     */
+    public void releaseAll() {
+        autoShift.releaseAll();
+    }
+
+    private int horizontalDirection(KeyCode code) {
+        int direction;
+        if (code == KeyCode.LEFT || code == KeyCode.A) {
+            direction = AutoShift.LEFT;
+        } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
+            direction = AutoShift.RIGHT;
+        } else {
+            return 0;
+        }
+        return gameMode == GameMode.REVERTED ? -direction : direction;
     }
 }
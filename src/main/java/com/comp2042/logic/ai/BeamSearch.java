@@ -0,0 +1,223 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.board.ZobristKeys;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Beam search over the current brick, the hold and the next queue.
+ * Each level expands every kept node by all placements of the brick it plays (and of the
+ * brick the hold would give it), scores the resulting boards in parallel on a
+ * {@link ForkJoinPool}, and keeps the best {@code beamWidth} nodes. The answer is the first
+ * placement on the path to the best node at the deepest level reached.
+ * Scores are collected by candidate index and ties keep generation order, so the result does
+ * not depend on how the pool schedules the work.
+ * States reached by different move orders (the same board, held brick and queue position)
+ * are kept only once per level, found through their Zobrist keys in a {@link TranspositionTable}.
+ */
+public final class BeamSearch {
+
+    /** Candidates scored by one fork/join leaf task. */
+    private static final int LEAF_SIZE = 32;
+
+    /** Transposition slots per kept node, so the table rarely evicts a state seen this level. */
+    private static final int SLOTS_PER_NODE = 64;
+
+    private final PlacementGenerator generator;
+    private final Heuristic heuristic;
+    private final int beamWidth;
+    private final int depth;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a beam search.
+     * @param generator Lists the placements of each brick
+     * @param heuristic Scores the boards placements produce
+     * @param beamWidth Nodes kept per level
+     * @param depth Most bricks to look ahead, including the current one
+     * @param pool The pool candidate scoring runs on
+     * @throws IllegalArgumentException if the beam width or depth is not positive
+     */
+    public BeamSearch(PlacementGenerator generator, Heuristic heuristic, int beamWidth, int depth, ForkJoinPool pool) {
+        if (beamWidth <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Beam width and depth must be positive");
+        }
+        this.generator = generator;
+        this.heuristic = heuristic;
+        this.beamWidth = beamWidth;
+        this.depth = depth;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds the best placement for the current brick.
+     * @param board The board
+     * @param current The falling brick
+     * @param held The held brick, or null if none
+     * @param queue The next bricks, in order
+     * @param canHold true if the hold may be used for the current brick
+     * @param spawnX Column bricks spawn in
+     * @param spawnY Row bricks spawn in
+     * @return The placement to play, with the hold flag set if the hold must be used first;
+     *         null if no brick can be placed
+     */
+    public Placement findBest(SearchBoard board, BrickType current, BrickType held, List<BrickType> queue,
+                              boolean canHold, int spawnX, int spawnY) {
+        BrickType[] upcoming = queue.toArray(new BrickType[0]);
+        ZobristKeys keys = ZobristKeys.of(board.getRowCount(), board.getColumnCount());
+        TranspositionTable seen = new TranspositionTable(beamWidth * SLOTS_PER_NODE,
+                TranspositionTable.ReplacementPolicy.ALWAYS);
+        List<Node> beam = List.of(new Node(board, 0, null, current, held, 0, canHold));
+        Placement best = null;
+        for (int level = 0; level < depth; level++) {
+            List<Candidate> candidates = expand(beam, upcoming, spawnX, spawnY);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Candidate[] scored = candidates.toArray(new Candidate[0]);
+            pool.invoke(new ScoreTask(scored, 0, scored.length));
+            Arrays.sort(scored, Comparator.comparingDouble((Candidate c) -> c.score).reversed());
+
+            List<Node> next = new ArrayList<>(Math.min(beamWidth, scored.length));
+            for (int i = 0; i < scored.length && next.size() < beamWidth; i++) {
+                long state = scored[i].stateKey(keys);
+                if (seen.contains(state)) {
+                    continue;
+                }
+                seen.store(state, level, scored[i].score);
+                next.add(scored[i].toNode(upcoming));
+            }
+            beam = next;
+            best = beam.get(0).root;
+            if (beam.get(0).current == null) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    private List<Candidate> expand(List<Node> beam, BrickType[] upcoming, int spawnX, int spawnY) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (Node node : beam) {
+            if (node.current == null) {
+                continue;
+            }
+            addCandidates(candidates, node, node.current, node.held, node.queueIndex, false, spawnX, spawnY);
+            if (!node.canHold) {
+                continue;
+            }
+            if (node.held != null) {
+                if (node.held != node.current) {
+                    addCandidates(candidates, node, node.held, node.current, node.queueIndex, true, spawnX, spawnY);
+                }
+            } else if (node.queueIndex < upcoming.length) {
+                addCandidates(candidates, node, upcoming[node.queueIndex], node.current, node.queueIndex + 1, true,
+                        spawnX, spawnY);
+            }
+        }
+        return candidates;
+    }
+
+    private void addCandidates(List<Candidate> candidates, Node parent, BrickType piece, BrickType heldAfter,
+                               int queueIndex, boolean hold, int spawnX, int spawnY) {
+        for (Placement placement : generator.generate(parent.board, piece, spawnX, spawnY)) {
+            candidates.add(new Candidate(parent, hold ? placement.withHold() : placement, heldAfter, queueIndex));
+        }
+    }
+
+    /**
+     * A kept search state: the board so far and the bricks still to come.
+     */
+    private static final class Node {
+        final SearchBoard board;
+        final double lineReward;
+        final Placement root;
+        final BrickType current;
+        final BrickType held;
+        final int queueIndex;
+        final boolean canHold;
+
+        Node(SearchBoard board, double lineReward, Placement root, BrickType current, BrickType held,
+             int queueIndex, boolean canHold) {
+            this.board = board;
+            this.lineReward = lineReward;
+            this.root = root;
+            this.current = current;
+            this.held = held;
+            this.queueIndex = queueIndex;
+            this.canHold = canHold;
+        }
+    }
+
+    /**
+     * One placement of a node's brick, scored by a fork/join task.
+     */
+    private final class Candidate {
+        final Node parent;
+        final Placement placement;
+        final BrickType heldAfter;
+        final int queueIndex;
+        SearchBoard board;
+        double lineReward;
+        double score;
+
+        Candidate(Node parent, Placement placement, BrickType heldAfter, int queueIndex) {
+            this.parent = parent;
+            this.placement = placement;
+            this.heldAfter = heldAfter;
+            this.queueIndex = queueIndex;
+        }
+
+        void score() {
+            ShapeTable table = ShapeTable.of(placement.getType());
+            board = parent.board.place(table, placement.getRotation(), placement.getX(), placement.getY());
+            lineReward = parent.lineReward + heuristic.lineReward(board.getLinesCleared());
+            score = lineReward + heuristic.evaluate(board);
+        }
+
+        long stateKey(ZobristKeys keys) {
+            return board.getZobristHash() ^ keys.piece(heldAfter) ^ keys.queueIndex(queueIndex);
+        }
+
+        Node toNode(BrickType[] upcoming) {
+            BrickType nextCurrent = queueIndex < upcoming.length ? upcoming[queueIndex] : null;
+            Placement root = parent.root != null ? parent.root : placement;
+            return new Node(board, lineReward, root, nextCurrent, heldAfter, queueIndex + 1, true);
+        }
+    }
+
+    /**
+     * Scores a range of candidates, splitting it in half until it is small enough.
+     */
+    @SuppressWarnings("serial")
+    private static final class ScoreTask extends RecursiveAction {
+        private final Candidate[] candidates;
+        private final int from;
+        private final int to;
+
+        ScoreTask(Candidate[] candidates, int from, int to) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    candidates[i].score();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(candidates, from, mid), new ScoreTask(candidates, mid, to));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.board.rotation.WallKicks;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds every placement a brick can reach from its spawn position by a breadth-first search
+ * over (x, y, rotation) states, using single-cell left, right and down moves and rotations
+ * with the game's {@link WallKicks}. Tucks under overhangs and kicked spins are found, and
+ * each placement carries the shortest input path that reaches it, ending with a hard drop,
+ * or a soft drop when the brick already rests where it locks.
+ * Rotations that cover the same cells are listed once, under the lowest rotation index.
+ * The visited set, lock set and queue are primitive arrays reused per thread, so a search
+ * allocates little beyond the placements it returns.
+ */
+public final class BfsPlacementGenerator implements PlacementGenerator {
+
+    /** Shape cells sit in a 4 x 4 box. */
+    private static final int BOX = 4;
+    /** Positions are offset by this much so every state that fits has a non-negative index. */
+    private static final int MARGIN = BOX;
+    private static final int NO_PARENT = -1;
+
+    private static final byte MOVE_LEFT = 0;
+    private static final byte MOVE_RIGHT = 1;
+    private static final byte MOVE_ROTATE = 2;
+    private static final byte MOVE_DOWN = 3;
+    private static final EventType[] MOVE_EVENTS = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.DOWN};
+
+    /** Per type and rotation: the lowest rotation covering the same cells, and the shift to reach them. */
+    private static final int[][][] CANONICAL = buildCanonical();
+
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+    @Override
+    public List<Placement> generate(SearchBoard board, BrickType type, int spawnX, int spawnY) {
+        ShapeTable table = ShapeTable.of(type);
+        if (!board.fits(table, 0, spawnX, spawnY)) {
+            return List.of();
+        }
+        int width = board.getColumnCount() + MARGIN;
+        int height = board.getRowCount() + MARGIN;
+        int rotations = table.getRotationCount();
+        Workspace ws = workspaces.get();
+        ws.prepare(rotations * width * height);
+
+        List<Placement> placements = new ArrayList<>();
+        int head = 0;
+        int tail = 0;
+        int start = index(0, spawnX, spawnY, width, height);
+        ws.visit(start, NO_PARENT, (byte) 0);
+        ws.queue[tail++] = start;
+        while (head < tail) {
+            int state = ws.queue[head++];
+            int x = state % width - MARGIN;
+            int y = state / width % height - MARGIN;
+            int rotation = state / (width * height);
+
+            int landing = board.dropRow(table, rotation, x, y);
+            int[] canonical = CANONICAL[type.ordinal()][rotation];
+            int lock = index(canonical[0], x + canonical[1], landing + canonical[2], width, height);
+            if (ws.lock(lock)) {
+                EventType last = landing == y ? EventType.DOWN : EventType.HARD_DROP;
+                placements.add(new Placement(type, rotation, x, landing, false, ws.path(state, last)));
+            }
+
+            if (board.fits(table, rotation, x - 1, y)) {
+                tail = enqueue(ws, tail, index(rotation, x - 1, y, width, height), state, MOVE_LEFT);
+            }
+            if (board.fits(table, rotation, x + 1, y)) {
+                tail = enqueue(ws, tail, index(rotation, x + 1, y, width, height), state, MOVE_RIGHT);
+            }
+            if (rotations > 1) {
+                int next = (rotation + 1) % rotations;
+                for (int kick = 0; kick < WallKicks.count(); kick++) {
+                    int kx = x + WallKicks.getDx(kick);
+                    int ky = y + WallKicks.getDy(kick);
+                    if (board.fits(table, next, kx, ky)) {
+                        tail = enqueue(ws, tail, index(next, kx, ky, width, height), state, MOVE_ROTATE);
+                        break;
+                    }
+                }
+            }
+            if (landing > y) {
+                tail = enqueue(ws, tail, index(rotation, x, y + 1, width, height), state, MOVE_DOWN);
+            }
+        }
+        return placements;
+    }
+
+    private static int enqueue(Workspace ws, int tail, int state, int parent, byte move) {
+        if (ws.visit(state, parent, move)) {
+            ws.queue[tail++] = state;
+        }
+        return tail;
+    }
+
+    private static int index(int rotation, int x, int y, int width, int height) {
+        return (rotation * height + y + MARGIN) * width + x + MARGIN;
+    }
+
+    private static int[][][] buildCanonical() {
+        BrickType[] types = BrickType.values();
+        int[][][] canonical = new int[types.length][][];
+        for (BrickType type : types) {
+            ShapeTable table = ShapeTable.of(type);
+            int[][] byRotation = new int[table.getRotationCount()][];
+            for (int rotation = 0; rotation < byRotation.length; rotation++) {
+                int lowest = rotation;
+                for (int other = 0; other < rotation; other++) {
+                    if (normalizedCells(table, other) == normalizedCells(table, rotation)) {
+                        lowest = other;
+                        break;
+                    }
+                }
+                byRotation[rotation] = new int[] {
+                        lowest,
+                        table.getMinX(rotation) - table.getMinX(lowest),
+                        table.getMinY(rotation) - table.getMinY(lowest)
+                };
+            }
+            canonical[type.ordinal()] = byRotation;
+        }
+        return canonical;
+    }
+
+    /** Packs a rotation's cells, relative to its top-left filled corner, into one bitmask. */
+    private static int normalizedCells(ShapeTable table, int rotation) {
+        int mask = 0;
+        for (int i = 0, n = table.getCellCount(rotation); i < n; i++) {
+            int cx = table.getCellX(rotation, i) - table.getMinX(rotation);
+            int cy = table.getCellY(rotation, i) - table.getMinY(rotation);
+            mask |= 1 << (cy * BOX + cx);
+        }
+        return mask;
+    }
+
+    /**
+     * Search buffers for one thread, grown to the largest state space seen and cleared per search.
+     */
+    private static final class Workspace {
+        long[] visited = new long[0];
+        long[] locked = new long[0];
+        int[] queue = new int[0];
+        int[] parents = new int[0];
+        byte[] moves = new byte[0];
+
+        void prepare(int states) {
+            if (queue.length < states) {
+                visited = new long[(states + Long.SIZE - 1) / Long.SIZE];
+                locked = new long[visited.length];
+                queue = new int[states];
+                parents = new int[states];
+                moves = new byte[states];
+            } else {
+                int words = (states + Long.SIZE - 1) / Long.SIZE;
+                Arrays.fill(visited, 0, words, 0L);
+                Arrays.fill(locked, 0, words, 0L);
+            }
+        }
+
+        boolean visit(int state, int parent, byte move) {
+            if (!set(visited, state)) {
+                return false;
+            }
+            parents[state] = parent;
+            moves[state] = move;
+            return true;
+        }
+
+        boolean lock(int state) {
+            return set(locked, state);
+        }
+
+        List<EventType> path(int state, EventType last) {
+            int length = 1;
+            for (int s = state; parents[s] != NO_PARENT; s = parents[s]) {
+                length++;
+            }
+            EventType[] path = new EventType[length];
+            path[--length] = last;
+            for (int s = state; parents[s] != NO_PARENT; s = parents[s]) {
+                path[--length] = MOVE_EVENTS[moves[s]];
+            }
+            return List.of(path);
+        }
+
+        private static boolean set(long[] bits, int index) {
+            long bit = 1L << index;
+            int word = index >>> 6;
+            if ((bits[word] & bit) != 0) {
+                return false;
+            }
+            bits[word] |= bit;
+            return true;
+        }
+    }
+}
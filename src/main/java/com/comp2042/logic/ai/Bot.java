@@ -0,0 +1,142 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.model.Board;
+import com.comp2042.view.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plays the game by searching for the best placement of each brick and then sending the
+ * moves that reach it. Used for demo play, Time Attack balancing and benchmark load.
+ * A bot holds no per-game state, so one instance can play several games in turn; the
+ * search itself fans out over its fork/join pool.
+ */
+public final class Bot {
+
+    /** Nodes kept per search level by default. */
+    public static final int DEFAULT_BEAM_WIDTH = 8;
+
+    /** Bricks looked ahead by default, the current one included. */
+    public static final int DEFAULT_DEPTH = 3;
+
+    /** Guards against a rotation that never reaches the target, e.g. when blocked. */
+    private static final int MAX_ROTATIONS = 4;
+
+    private final BeamSearch search;
+
+    /**
+     * Constructs a bot with the default heuristic and search size on the common pool.
+     */
+    public Bot() {
+        this(new BeamSearch(new BfsPlacementGenerator(), Heuristic.DEFAULT, DEFAULT_BEAM_WIDTH, DEFAULT_DEPTH,
+                ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Constructs a bot around a configured search.
+     * @param search The search used to choose placements
+     */
+    public Bot(BeamSearch search) {
+        this.search = search;
+    }
+
+    /**
+     * Chooses a placement for the falling brick of a board.
+     * @param board The board to play on
+     * @param canHold true if the hold may be used for this brick
+     * @return The placement to play, or null if no brick can be placed
+     */
+    public Placement choose(Board board, boolean canHold) {
+        ViewData view = board.getViewData();
+        List<BrickType> queue = new ArrayList<>(view.getNextCount());
+        for (int i = 0; i < view.getNextCount(); i++) {
+            queue.add(view.getNextType(i));
+        }
+        return search.findBest(SearchBoard.fromMatrix(board.getBoardMatrix()), view.getBrickType(),
+                view.getHeldType(), queue, canHold, view.getxPosition(), view.getyPosition());
+    }
+
+    /**
+     * Plays one brick of a headless game: holds if the search says so, then sends the
+     * placement's input path, or rotates and shifts to the placement and drops when it has none.
+     * @param game The game, with a freshly spawned brick
+     * @return false if the game is finished or no placement was found
+     */
+    public boolean playPiece(HeadlessGame game) {
+        if (game.isFinished()) {
+            return false;
+        }
+        Board board = game.getBoard();
+        Placement target = choose(board, true);
+        if (target == null) {
+            return false;
+        }
+        if (target.isHold()) {
+            game.apply(EventType.HOLD);
+            if (board.getViewData().getBrickType() != target.getType()) {
+                target = choose(board, false);
+                if (target == null) {
+                    return false;
+                }
+            }
+        }
+
+        if (followPath(game, target)) {
+            return true;
+        }
+        for (int i = 0; i < MAX_ROTATIONS && board.getViewData().getRotation() != target.getRotation(); i++) {
+            if (!game.apply(EventType.ROTATE)) {
+                break;
+            }
+        }
+        while (board.getViewData().getxPosition() < target.getX() && game.apply(EventType.RIGHT)) {
+            // shift until the column matches or the brick is blocked
+        }
+        while (board.getViewData().getxPosition() > target.getX() && game.apply(EventType.LEFT)) {
+            // shift until the column matches or the brick is blocked
+        }
+        if (!game.apply(EventType.HARD_DROP)) {
+            game.apply(EventType.DOWN);
+        }
+        return true;
+    }
+
+    /**
+     * Sends a placement's input path. Every input before the last must move the brick; if one
+     * does not, the game no longer matches the search and the caller falls back to dropping.
+     * @return true if the whole path was sent and the brick locked
+     */
+    private static boolean followPath(HeadlessGame game, Placement target) {
+        List<EventType> path = target.getPath();
+        if (path.isEmpty()) {
+            return false;
+        }
+        int last = path.size() - 1;
+        for (int i = 0; i < last; i++) {
+            if (!game.apply(path.get(i))) {
+                return false;
+            }
+        }
+        game.apply(path.get(last));
+        return true;
+    }
+
+    /**
+     * Plays a headless game until it finishes or a number of bricks has been placed.
+     * @param game The started game
+     * @param maxPieces Most bricks to place
+     * @return Bricks placed by this call
+     */
+    public int playGame(HeadlessGame game, int maxPieces) {
+        int placed = 0;
+        while (placed < maxPieces && playPiece(game)) {
+            placed++;
+        }
+        return placed;
+    }
+}
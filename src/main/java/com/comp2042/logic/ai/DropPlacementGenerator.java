@@ -0,0 +1,58 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds placements reachable by rotating at the spawn position, sliding sideways along the
+ * spawn row and hard dropping. Tucks under overhangs and wall-kicked spins are not found.
+ * Rotations that cover the same cells, such as the two flat I rotations, are listed once.
+ */
+public final class DropPlacementGenerator implements PlacementGenerator {
+
+    @Override
+    public List<Placement> generate(SearchBoard board, BrickType type, int spawnX, int spawnY) {
+        ShapeTable table = ShapeTable.of(type);
+        List<Placement> placements = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int rotation = 0; rotation < table.getRotationCount(); rotation++) {
+            if (!board.fits(table, rotation, spawnX, spawnY)) {
+                continue;
+            }
+            addDrop(board, table, rotation, spawnX, spawnY, placements, seen);
+            for (int x = spawnX - 1; board.fits(table, rotation, x, spawnY); x--) {
+                addDrop(board, table, rotation, x, spawnY, placements, seen);
+            }
+            for (int x = spawnX + 1; board.fits(table, rotation, x, spawnY); x++) {
+                addDrop(board, table, rotation, x, spawnY, placements, seen);
+            }
+        }
+        return placements;
+    }
+
+    private static void addDrop(SearchBoard board, ShapeTable table, int rotation, int x, int y,
+                                List<Placement> placements, Set<Long> seen) {
+        int landing = board.dropRow(table, rotation, x, y);
+        if (seen.add(cellKey(board, table, rotation, x, landing))) {
+            placements.add(new Placement(table.getType(), rotation, x, landing, false));
+        }
+    }
+
+    /**
+     * Packs the board cells a placement covers into one key, so rotations that cover the
+     * same cells compare equal. Cells are listed in row-major order by the shape table.
+     */
+    static long cellKey(SearchBoard board, ShapeTable table, int rotation, int x, int y) {
+        long key = 0;
+        for (int i = 0, n = table.getCellCount(rotation); i < n; i++) {
+            int index = (y + table.getCellY(rotation, i)) * board.getColumnCount() + x + table.getCellX(rotation, i);
+            key = (key << 16) | index;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.logic.ai;
+
+/**
+ * Weighted feature score of a board after a placement; higher is better.
+ * Features are aggregate column height, holes (empty cells under a filled one), bumpiness
+ * (height difference between neighbouring columns), well depth (how far a column sits
+ * below both neighbours, walls counting as tall) and the lines the placement cleared.
+ * Instances are immutable and can be shared by search threads.
+ */
+public final class Heuristic {
+
+    /** Weights tuned for long single-player survival. */
+    public static final Heuristic DEFAULT = new Heuristic(-0.510066, -0.35663, -0.184483, -0.1, 0.760666);
+
+    private final double heightWeight;
+    private final double holeWeight;
+    private final double bumpinessWeight;
+    private final double wellWeight;
+    private final double lineWeight;
+
+    /**
+     * Constructs a heuristic; penalties should be negative and rewards positive.
+     * @param heightWeight Weight of the aggregate column height
+     * @param holeWeight Weight of the number of holes
+     * @param bumpinessWeight Weight of the bumpiness
+     * @param wellWeight Weight of the total well depth
+     * @param lineWeight Weight of each line cleared
+     */
+    public Heuristic(double heightWeight, double holeWeight, double bumpinessWeight, double wellWeight, double lineWeight) {
+        this.heightWeight = heightWeight;
+        this.holeWeight = holeWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.wellWeight = wellWeight;
+        this.lineWeight = lineWeight;
+    }
+
+    /**
+     * Scores a board without counting lines cleared.
+     * @param board The board to score
+     * @return The weighted shape score
+     */
+    public double evaluate(SearchBoard board) {
+        int columns = board.getColumnCount();
+        int rowCount = board.getRowCount();
+        int fullMask = (1 << columns) - 1;
+        int[] heights = new int[columns];
+        int covered = 0;
+        int holes = 0;
+        for (int row = 0; row < rowCount; row++) {
+            int cells = board.getRow(row);
+            holes += Integer.bitCount(~cells & covered & fullMask);
+            int newlyCovered = cells & ~covered;
+            while (newlyCovered != 0) {
+                int col = Integer.numberOfTrailingZeros(newlyCovered);
+                heights[col] = rowCount - row;
+                newlyCovered &= newlyCovered - 1;
+            }
+            covered |= cells;
+        }
+
+        int aggregate = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        for (int col = 0; col < columns; col++) {
+            aggregate += heights[col];
+            if (col + 1 < columns) {
+                bumpiness += Math.abs(heights[col] - heights[col + 1]);
+            }
+            int left = col > 0 ? heights[col - 1] : Integer.MAX_VALUE;
+            int right = col + 1 < columns ? heights[col + 1] : Integer.MAX_VALUE;
+            int depth = Math.min(left, right) - heights[col];
+            if (depth > 0 && depth != Integer.MAX_VALUE - heights[col]) {
+                wells += depth;
+            }
+        }
+        return heightWeight * aggregate + holeWeight * holes + bumpinessWeight * bumpiness + wellWeight * wells;
+    }
+
+    /**
+     * Scores a board reached by a placement, including the lines that placement cleared.
+     * @param board The board after the placement
+     * @return The weighted score
+     */
+    public double score(SearchBoard board) {
+        return evaluate(board) + lineWeight * board.getLinesCleared();
+    }
+
+    /**
+     * Scores cleared lines on their own, for accumulating over several placements.
+     * @param lines Lines cleared
+     * @return The weighted line reward
+     */
+    public double lineReward(int lines) {
+        return lineWeight * lines;
+    }
+}
@@ -0,0 +1,205 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.model.Board;
+import com.comp2042.view.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Suggests where to place the falling brick, searching in the background while the player thinks.
+ * Each spawn starts an iterative-deepening search on a snapshot of the board: a
+ * {@link BeamSearch} one brick deep, then two, and so on up to the bricks known, publishing
+ * the answer of each finished depth. {@link #getHint()} returns the deepest answer so far and
+ * never waits. A new spawn or {@link #cancel()} makes the running search stale; it stops at
+ * its next depth and its answers are ignored.
+ * <p>
+ * The search runs on a single daemon worker that rests after each depth in proportion to the
+ * time the depth took, even when the next search is already waiting, so on average it uses at
+ * most the configured fraction of one core.
+ */
+public final class HintService implements AutoCloseable {
+
+    /** Share of one core used by default. */
+    public static final double DEFAULT_CPU_FRACTION = 0.25;
+
+    /** Nodes kept per search level by default. */
+    public static final int DEFAULT_BEAM_WIDTH = Bot.DEFAULT_BEAM_WIDTH;
+
+    /**
+     * A suggested placement and the number of bricks the search looked ahead to find it.
+     */
+    public static final class Hint {
+        private final Placement placement;
+        private final int depth;
+
+        Hint(Placement placement, int depth) {
+            this.placement = placement;
+            this.depth = depth;
+        }
+
+        public Placement getPlacement() {
+            return placement;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+    }
+
+    private static HintService shared;
+
+    private final PlacementGenerator generator;
+    private final Heuristic heuristic;
+    private final int beamWidth;
+    private final double cpuFraction;
+    private final ForkJoinPool worker = new ForkJoinPool(1);
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Hint hint;
+    /** When the worker may search again; only touched by the worker. */
+    private long resumeAt = System.nanoTime();
+
+    /**
+     * Constructs a hint service with the default search using the given share of one core.
+     * @param cpuFraction Share of one core to use, above 0 and at most 1
+     */
+    public HintService(double cpuFraction) {
+        this(new BfsPlacementGenerator(), Heuristic.DEFAULT, DEFAULT_BEAM_WIDTH, cpuFraction);
+    }
+
+    /**
+     * Constructs a hint service.
+     * @param generator Lists the placements of each brick
+     * @param heuristic Scores the boards placements produce
+     * @param beamWidth Nodes kept per search level
+     * @param cpuFraction Share of one core to use, above 0 and at most 1
+     * @throws IllegalArgumentException if the beam width or CPU fraction is out of range
+     */
+    public HintService(PlacementGenerator generator, Heuristic heuristic, int beamWidth, double cpuFraction) {
+        if (beamWidth <= 0) {
+            throw new IllegalArgumentException("Beam width must be positive");
+        }
+        if (!(cpuFraction > 0 && cpuFraction <= 1)) {
+            throw new IllegalArgumentException("CPU fraction must be in (0, 1]: " + cpuFraction);
+        }
+        this.generator = generator;
+        this.heuristic = heuristic;
+        this.beamWidth = beamWidth;
+        this.cpuFraction = cpuFraction;
+    }
+
+    /**
+     * Gets the hint service used by the game, creating it on first use.
+     * Games share it so only one worker ever exists; each game's first spawn replaces the
+     * search of the game before.
+     * @return The shared service, using {@link #DEFAULT_CPU_FRACTION} of one core
+     */
+    public static synchronized HintService getDefault() {
+        if (shared == null) {
+            shared = new HintService(DEFAULT_CPU_FRACTION);
+        }
+        return shared;
+    }
+
+    /**
+     * Starts searching for the brick that just spawned on a board, replacing any earlier search.
+     * Only copies the board, so it is cheap enough for the JavaFX thread.
+     * @param board The board, with its new brick
+     * @param canHold true if the hold may still be used for this brick
+     */
+    public void onSpawn(Board board, boolean canHold) {
+        ViewData view = board.getViewData();
+        List<BrickType> queue = new ArrayList<>(view.getNextCount());
+        for (int i = 0; i < view.getNextCount(); i++) {
+            queue.add(view.getNextType(i));
+        }
+        onSpawn(SearchBoard.fromMatrix(board.getBoardMatrix()), view.getBrickType(), view.getHeldType(), queue,
+                canHold, view.getxPosition(), view.getyPosition());
+    }
+
+    /**
+     * Starts searching for a brick on a board snapshot, replacing any earlier search.
+     * @param board The board snapshot
+     * @param current The falling brick
+     * @param held The held brick, or null if none
+     * @param queue The next bricks, in order
+     * @param canHold true if the hold may be used for the current brick
+     * @param spawnX Column bricks spawn in
+     * @param spawnY Row bricks spawn in
+     */
+    public void onSpawn(SearchBoard board, BrickType current, BrickType held, List<BrickType> queue,
+                        boolean canHold, int spawnX, int spawnY) {
+        long id = restart();
+        List<BrickType> upcoming = List.copyOf(queue);
+        worker.execute(() -> search(id, board, current, held, upcoming, canHold, spawnX, spawnY));
+    }
+
+    /**
+     * Drops the current search, e.g. because its brick locked.
+     */
+    public void cancel() {
+        restart();
+    }
+
+    /**
+     * Gets the best placement found so far for the latest spawn.
+     * @return The deepest finished answer, or null if none is ready yet or the search was cancelled
+     */
+    public Hint getHint() {
+        return hint;
+    }
+
+    /**
+     * Cancels any search and stops the worker.
+     */
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    /** Makes every running search stale and forgets its answer. */
+    private synchronized long restart() {
+        hint = null;
+        return generation.incrementAndGet();
+    }
+
+    private void search(long id, SearchBoard board, BrickType current, BrickType held, List<BrickType> queue,
+                        boolean canHold, int spawnX, int spawnY) {
+        int maxDepth = queue.size() + 1;
+        for (int depth = 1; depth <= maxDepth && awaitTurn(id); depth++) {
+            long start = System.nanoTime();
+            BeamSearch search = new BeamSearch(generator, heuristic, beamWidth, depth, worker);
+            Placement best = search.findBest(board, current, held, queue, canHold, spawnX, spawnY);
+            long end = System.nanoTime();
+            resumeAt = end + (long) ((end - start) * (1 - cpuFraction) / cpuFraction);
+            if (best == null) {
+                return;
+            }
+            synchronized (this) {
+                if (generation.get() != id) {
+                    return;
+                }
+                hint = new Hint(best, depth);
+            }
+        }
+    }
+
+    /**
+     * Waits out the rest owed for earlier work, across searches, so a burst of spawns
+     * cannot push the worker over its share of the core.
+     * @return false if the search went stale while waiting
+     */
+    private boolean awaitTurn(long id) {
+        long left;
+        while (generation.get() == id && (left = resumeAt - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, Math.min(left, TimeUnit.MILLISECONDS.toNanos(5)));
+        }
+        return generation.get() == id;
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.bricks.BrickType;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Where a brick is locked: its type, rotation and final position, and whether the hold
+ * had to be used to play it. Generators that track inputs also attach the shortest input path
+ * from the spawn position; placements compare equal by lock position alone.
+ */
+public final class Placement {
+
+    private final BrickType type;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final boolean hold;
+    private final List<EventType> path;
+
+    /**
+     * Constructs a placement without an input path.
+     * @param type The brick type
+     * @param rotation Rotation index within the brick's shape table
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge where it locks
+     * @param hold true if the brick is played by using the hold
+     */
+    public Placement(BrickType type, int rotation, int x, int y, boolean hold) {
+        this(type, rotation, x, y, hold, List.of());
+    }
+
+    /**
+     * Constructs a placement with the inputs that reach it.
+     * @param type The brick type
+     * @param rotation Rotation index within the brick's shape table
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge where it locks
+     * @param hold true if the brick is played by using the hold
+     * @param path Inputs from the spawn position, ending with the one that locks the brick;
+     *             a needed hold is not included
+     */
+    public Placement(BrickType type, int rotation, int x, int y, boolean hold, List<EventType> path) {
+        this.type = type;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.hold = hold;
+        this.path = List.copyOf(path);
+    }
+
+    public BrickType getType() {
+        return type;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public boolean isHold() {
+        return hold;
+    }
+
+    /**
+     * Gets the inputs that play this placement from the spawn position.
+     * @return The input path, empty if the generator did not track one
+     */
+    public List<EventType> getPath() {
+        return path;
+    }
+
+    /**
+     * Copies this placement as one reached through the hold.
+     * @return The same placement with the hold flag set
+     */
+    public Placement withHold() {
+        return hold ? this : new Placement(type, rotation, x, y, true, path);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Placement)) {
+            return false;
+        }
+        Placement other = (Placement) o;
+        return type == other.type && rotation == other.rotation && x == other.x && y == other.y && hold == other.hold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, rotation, x, y, hold);
+    }
+
+    @Override
+    public String toString() {
+        return type + " r" + rotation + " (" + x + ", " + y + ")" + (hold ? " hold" : "");
+    }
+}
@@ -0,0 +1,22 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BrickType;
+
+import java.util.List;
+
+/**
+ * Lists the placements a brick can reach from its spawn position.
+ * Implementations must be safe to call from several search threads at once.
+ */
+public interface PlacementGenerator {
+
+    /**
+     * Lists the distinct lock positions a brick can reach.
+     * @param board The board the brick is played on
+     * @param type The brick type
+     * @param spawnX Column the brick starts in
+     * @param spawnY Row the brick starts in
+     * @return The reachable placements, none with the hold flag set; empty if the brick cannot spawn
+     */
+    List<Placement> generate(SearchBoard board, BrickType type, int spawnX, int spawnY);
+}
@@ -0,0 +1,216 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.board.ZobristKeys;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.Arrays;
+
+/**
+ * Compact, immutable board for search: occupancy only, one int bitmask per row with bit
+ * {@code c} set when column {@code c} is filled. Placing a brick returns a new board with full
+ * rows already cleared, so search nodes can share boards safely across threads.
+ * Uses the same coordinates and collision rules as the game boards: a brick at (x, y) covers
+ * row {@code y + cellY} and column {@code x + cellX} of each of its cells.
+ * Each board carries the same Zobrist hash a game board with the same filled cells reports,
+ * updated incrementally as bricks are placed.
+ */
+public final class SearchBoard {
+
+    private final int columns;
+    private final int fullMask;
+    private final int[] rows;
+    private final int linesCleared;
+    private final ZobristKeys keys;
+    private final long zobristHash;
+
+    private SearchBoard(int columns, int[] rows, int linesCleared, ZobristKeys keys, long zobristHash) {
+        this.columns = columns;
+        this.fullMask = (1 << columns) - 1;
+        this.rows = rows;
+        this.linesCleared = linesCleared;
+        this.keys = keys;
+        this.zobristHash = zobristHash;
+    }
+
+    /**
+     * Builds a search board from a board matrix.
+     * @param matrix The board matrix, rows by columns, where non-zero cells are filled
+     * @return The search board
+     * @throws IllegalArgumentException if the board is wider than an int bitmask allows
+     */
+    public static SearchBoard fromMatrix(int[][] matrix) {
+        int columns = matrix[0].length;
+        if (columns >= Integer.SIZE) {
+            throw new IllegalArgumentException("Board too wide for search: " + columns);
+        }
+        int[] rows = new int[matrix.length];
+        for (int row = 0; row < matrix.length; row++) {
+            int mask = 0;
+            for (int col = 0; col < columns; col++) {
+                if (matrix[row][col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            rows[row] = mask;
+        }
+        ZobristKeys keys = ZobristKeys.of(rows.length, columns);
+        return new SearchBoard(columns, rows, 0, keys, keys.hash(matrix));
+    }
+
+    /**
+     * Builds an empty search board.
+     * @param rowCount Number of rows
+     * @param columns Number of columns
+     * @return The empty board
+     */
+    public static SearchBoard empty(int rowCount, int columns) {
+        return new SearchBoard(columns, new int[rowCount], 0, ZobristKeys.of(rowCount, columns), 0L);
+    }
+
+    /**
+     * Checks whether a brick fits at a position.
+     * @param table The brick's shape table
+     * @param rotation Rotation index
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @return true if every cell is inside the board and empty
+     */
+    public boolean fits(ShapeTable table, int rotation, int x, int y) {
+        if (x + table.getMinX(rotation) < 0 || x + table.getMaxX(rotation) >= columns
+                || y + table.getMinY(rotation) < 0 || y + table.getMaxY(rotation) >= rows.length) {
+            return false;
+        }
+        for (int r = table.getMinY(rotation), last = table.getMaxY(rotation); r <= last; r++) {
+            if ((rows[y + r] & shift(table.getRowMask(rotation, r), x)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds where a brick would land when dropped straight down.
+     * @param table The brick's shape table
+     * @param rotation Rotation index
+     * @param x Column of the shape's left edge
+     * @param y Starting row, where the brick must fit
+     * @return The lowest row the brick can reach from {@code y}
+     */
+    public int dropRow(ShapeTable table, int rotation, int x, int y) {
+        while (fits(table, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Locks a brick into a copy of this board and clears any full rows.
+     * The brick must fit; use {@link #fits} first.
+     * @param table The brick's shape table
+     * @param rotation Rotation index
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @return The resulting board, whose {@link #getLinesCleared()} counts the rows this placement cleared
+     */
+    public SearchBoard place(ShapeTable table, int rotation, int x, int y) {
+        int[] next = rows.clone();
+        long hash = zobristHash;
+        int full = 0;
+        int movedRows = 0;
+        for (int r = table.getMinY(rotation), last = table.getMaxY(rotation); r <= last; r++) {
+            int cells = shift(table.getRowMask(rotation, r), x);
+            hash ^= keys.hashRow(y + r, cells & ~next[y + r]);
+            next[y + r] |= cells;
+            if (next[y + r] == fullMask) {
+                full++;
+                movedRows = y + r + 1;
+            }
+        }
+        if (full > 0) {
+            hash ^= hashRows(next, movedRows);
+            int write = next.length - 1;
+            for (int read = next.length - 1; read >= 0; read--) {
+                if (next[read] != fullMask) {
+                    next[write--] = next[read];
+                }
+            }
+            while (write >= 0) {
+                next[write--] = 0;
+            }
+            hash ^= hashRows(next, movedRows);
+        }
+        return new SearchBoard(columns, next, full, keys, hash);
+    }
+
+    /**
+     * Gets the number of rows cleared by the placement that produced this board.
+     * @return Rows cleared, 0 for boards built directly
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the Zobrist hash of the filled cells.
+     * @return The board hash, equal to that of a game board with the same filled cells
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    public int getColumnCount() {
+        return columns;
+    }
+
+    /**
+     * Gets the occupancy bitmask of a row.
+     * @param row Row index
+     * @return Bit {@code c} is set when column {@code c} is filled
+     */
+    public int getRow(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Checks whether a cell is filled.
+     * @param row Row index
+     * @param column Column index
+     * @return true if the cell is filled
+     */
+    public boolean isFilled(int row, int column) {
+        return (rows[row] & (1 << column)) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SearchBoard)) {
+            return false;
+        }
+        SearchBoard other = (SearchBoard) o;
+        return zobristHash == other.zobristHash && columns == other.columns && Arrays.equals(rows, other.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristHash);
+    }
+
+    private long hashRows(int[] masks, int rowCount) {
+        long hash = 0L;
+        for (int row = 0; row < rowCount; row++) {
+            hash ^= keys.hashRow(row, masks[row]);
+        }
+        return hash;
+    }
+
+    private static int shift(int mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+}
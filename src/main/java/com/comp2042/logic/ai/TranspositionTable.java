@@ -0,0 +1,176 @@
+package com.comp2042.logic.ai;
+
+/**
+ * Bounded cache of search results keyed by 64-bit state hashes, such as the Zobrist hashes
+ * boards report. Entries live in parallel primitive arrays indexed by the low bits of the key,
+ * one entry per slot, so storing and probing never allocate or box. When two keys share a
+ * slot the {@link ReplacementPolicy} decides which entry is kept.
+ * Each entry stores a value and the depth it was searched to. Not thread-safe; give each
+ * search thread its own table.
+ */
+public final class TranspositionTable {
+
+    /**
+     * Decides whether a new entry may overwrite a different key already in its slot.
+     */
+    public enum ReplacementPolicy {
+        /** The newest entry always wins. */
+        ALWAYS,
+        /** An entry is only replaced by one searched at least as deep. */
+        DEPTH_PREFERRED,
+        /** Like {@link #DEPTH_PREFERRED}, but entries left over from an earlier search are always replaced. */
+        AGING
+    }
+
+    /** Returned by {@link #getDepth(long)} for keys that are not stored. */
+    public static final int NOT_FOUND = -1;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final ReplacementPolicy policy;
+    private final int mask;
+    private final long[] keys;
+    private final double[] values;
+    private final int[] depths;
+    private final int[] generations;
+    private int generation = 1;
+    private int size;
+
+    /**
+     * Constructs a table.
+     * @param capacity Most entries kept; rounded up to a power of two
+     * @param policy How colliding entries are replaced
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public TranspositionTable(int capacity, ReplacementPolicy policy) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) {
+            slots <<= 1;
+        }
+        this.policy = policy;
+        this.mask = slots - 1;
+        this.keys = new long[slots];
+        this.values = new double[slots];
+        this.depths = new int[slots];
+        this.generations = new int[slots];
+    }
+
+    /**
+     * Stores a result, subject to the replacement policy when the slot holds another key.
+     * A key already stored is always updated.
+     * @param key The state hash
+     * @param depth Depth the value was searched to, zero or more
+     * @param value The value
+     * @return true if the entry was stored
+     */
+    public boolean store(long key, int depth, double value) {
+        int slot = slot(key);
+        if (generations[slot] == 0) {
+            size++;
+        } else if (keys[slot] != key && !replaces(slot, depth)) {
+            return false;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        depths[slot] = depth;
+        generations[slot] = generation;
+        return true;
+    }
+
+    /**
+     * Checks whether a key is stored.
+     * @param key The state hash
+     * @return true if the key has an entry
+     */
+    public boolean contains(long key) {
+        int slot = slot(key);
+        return generations[slot] != 0 && keys[slot] == key;
+    }
+
+    /**
+     * Gets the value stored for a key.
+     * @param key The state hash
+     * @param missing Value returned when the key is not stored
+     * @return The stored value, or {@code missing}
+     */
+    public double getValue(long key, double missing) {
+        int slot = slot(key);
+        return generations[slot] != 0 && keys[slot] == key ? values[slot] : missing;
+    }
+
+    /**
+     * Gets the depth stored for a key.
+     * @param key The state hash
+     * @return The stored depth, or {@link #NOT_FOUND}
+     */
+    public int getDepth(long key) {
+        int slot = slot(key);
+        return generations[slot] != 0 && keys[slot] == key ? depths[slot] : NOT_FOUND;
+    }
+
+    /**
+     * Starts a new search. Entries are kept, but under {@link ReplacementPolicy#AGING} the
+     * ones stored before this call give way to any new entry.
+     */
+    public void newSearch() {
+        generation++;
+        if (generation == 0) {
+            // wrapped around: restart the ages without forgetting the entries
+            for (int i = 0; i < generations.length; i++) {
+                if (generations[i] != 0) {
+                    generations[i] = 1;
+                }
+            }
+            generation = 2;
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        java.util.Arrays.fill(generations, 0);
+        generation = 1;
+        size = 0;
+    }
+
+    /**
+     * Gets the number of stored entries.
+     * @return The entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of slots.
+     * @return The most entries the table can hold
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    public ReplacementPolicy getPolicy() {
+        return policy;
+    }
+
+    private boolean replaces(int slot, int depth) {
+        switch (policy) {
+            case ALWAYS:
+                return true;
+            case DEPTH_PREFERRED:
+                return depth >= depths[slot];
+            case AGING:
+                return generations[slot] != generation || depth >= depths[slot];
+            default:
+                throw new IllegalStateException("Unknown policy: " + policy);
+        }
+    }
+
+    private int slot(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
@@ -1,12 +1,14 @@
 package com.comp2042.logic.board;
 
 import com.comp2042.logic.board.rotation.RotationStrategy;
+import com.comp2042.logic.bricks.ShapeTable;
 import com.comp2042.view.NextShapeInfo;
 import com.comp2042.logic.bricks.Brick;
 
 public class BrickRotator {
 
     private Brick brick;
+    private ShapeTable shapeTable;
     private int currentShape = 0;
     private RotationStrategy rotationStrategy;
 
@@ -16,12 +18,41 @@ public class BrickRotator {
 
 
     public NextShapeInfo getNextShape() {
-        int nextShape = rotationStrategy.getNextRotationIndex(brick, currentShape);
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextRotation();
+        return new NextShapeInfo(shapeTable.getMatrix(nextShape), nextShape);
     }
 
+    /**
+     * Gets the rotation index the brick would move to on the next rotation.
+     * @return The next rotation index according to the rotation strategy
+     */
+    public int getNextRotation() {
+        return rotationStrategy.getNextRotationIndex(brick, currentShape);
+    }
+
+    /**
+     * Gets the shared matrix of the current rotation.
+     * The array comes from the brick's {@link ShapeTable} and must not be modified.
+     * @return The current shape matrix
+     */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return shapeTable.getMatrix(currentShape);
+    }
+
+    /**
+     * Gets the current rotation index.
+     * @return The current rotation index
+     */
+    public int getCurrentRotation() {
+        return currentShape;
+    }
+
+    /**
+     * Gets the shape table of the current brick.
+     * @return The shared shape table for the current brick type
+     */
+    public ShapeTable getShapeTable() {
+        return shapeTable;
     }
 
     public void setCurrentShape(int currentShape) {
@@ -30,6 +61,7 @@ public class BrickRotator {
 
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.shapeTable = ShapeTable.of(brick.getType());
         currentShape = 0;
     }
 
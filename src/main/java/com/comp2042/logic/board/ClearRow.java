@@ -1,28 +1,106 @@
 package com.comp2042.logic.board;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public final class ClearRow {
 
+    /** Shared result for the common case where a lock clears nothing. */
+    public static final ClearRow NONE = new ClearRow(0, new int[0]);
+
     private final int linesRemoved;
     private final int[][] newMatrix;
-    private final List<Integer> clearedIndices;
+    private final int[] clearedRows;
 
     public ClearRow(int linesRemoved, int[][] newMatrix, List<Integer> clearedIndices) {
+        this(linesRemoved, newMatrix, toArray(clearedIndices));
+    }
+
+    /**
+     * Creates a result without a precomputed matrix.
+     * The board that produced it compacts its own rows in place when the clear is committed.
+     * @param linesRemoved Number of full rows found
+     * @param clearedIndices Row indices of the full rows, in ascending order
+     */
+    public ClearRow(int linesRemoved, List<Integer> clearedIndices) {
+        this(linesRemoved, null, toArray(clearedIndices));
+    }
+
+    /**
+     * Creates a result without a precomputed matrix from row indices that are already primitive.
+     * The result keeps the array, so the caller must not change it afterwards.
+     * @param linesRemoved Number of full rows found
+     * @param clearedRows Row indices of the full rows, in ascending order
+     */
+    public ClearRow(int linesRemoved, int[] clearedRows) {
+        this(linesRemoved, null, clearedRows);
+    }
+
+    private ClearRow(int linesRemoved, int[][] newMatrix, int[] clearedRows) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
-        this.clearedIndices = clearedIndices;
+        this.clearedRows = clearedRows;
+    }
+
+    private static int[] toArray(List<Integer> indices) {
+        int[] rows = new int[indices.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = indices.get(i);
+        }
+        return rows;
     }
 
     public int getLinesRemoved() {
         return linesRemoved;
     }
 
+    /**
+     * Gets a copy of the board matrix after clearing.
+     * @return The new matrix, or null if this result is applied in place by the board
+     */
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return newMatrix != null ? MatrixOperations.copy(newMatrix) : null;
+    }
+
+    /**
+     * Checks whether this result carries a precomputed matrix.
+     * @return true if {@link #getNewMatrix()} returns a matrix
+     */
+    public boolean hasNewMatrix() {
+        return newMatrix != null;
+    }
+
+    /**
+     * Gets the number of cleared row indices, for reading them without boxing.
+     * @return Number of indices available through {@link #getClearedRow(int)}
+     */
+    public int getClearedRowCount() {
+        return clearedRows.length;
+    }
+
+    /**
+     * Gets one cleared row index.
+     * @param i Position among the cleared rows, in ascending row order
+     * @return The row index
+     */
+    public int getClearedRow(int i) {
+        return clearedRows[i];
     }
 
+    /**
+     * Gets the cleared row indices as a new list, for callers such as animations that need one.
+     * The boards read them through {@link #getClearedRow(int)} instead.
+     * @return The row indices in ascending order
+     */
     public List<Integer> getClearedIndices() {
-        return clearedIndices;
+        if (clearedRows.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Integer> indices = new ArrayList<>(clearedRows.length);
+        for (int row : clearedRows) {
+            indices.add(row);
+        }
+        return indices;
     }
 }
@@ -1,9 +1,13 @@
 package com.comp2042.logic.board;
 
+import com.comp2042.logic.bricks.ShapeTable;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
@@ -13,6 +17,9 @@ import java.util.stream.Collectors;
  */
 public class MatrixOperations {
 
+    /** Returned by {@link #landingRow} when the surface alone cannot decide the landing row. */
+    public static final int UNKNOWN_LANDING_ROW = Integer.MIN_VALUE;
+
     //We don't want to instantiate this utility class
     private MatrixOperations(){
 
@@ -149,6 +156,164 @@ public class MatrixOperations {
         return new ClearRow(clearedRows.size(), tmp, clearedRows);
     }
 
+    /**
+     * Merges a brick shape directly into the board matrix without copying it,
+     * keeping the per-row fill counts in step with the newly occupied cells.
+     * @param matrix The board matrix to modify
+     * @param rowFillCounts Number of non-empty cells per row, updated in place
+     * @param brick The brick shape matrix to merge
+     * @param x X coordinate where the brick should be placed
+     * @param y Y coordinate where the brick should be placed
+     */
+    public static void mergeInPlace(int[][] matrix, int[] rowFillCounts, int[][] brick, int x, int y) {
+        for (int row = 0; row < brick.length; row++) {
+            for (int col = 0; col < brick[row].length; col++) {
+                if (brick[row][col] != 0) {
+                    int targetRow = y + row;
+                    int targetCol = x + col;
+                    if (matrix[targetRow][targetCol] == 0) {
+                        rowFillCounts[targetRow]++;
+                    }
+                    matrix[targetRow][targetCol] = brick[row][col];
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes the number of non-empty cells in every row of the matrix.
+     * @param matrix The board matrix
+     * @param rowFillCounts Array receiving one count per row
+     */
+    public static void countFilledCells(int[][] matrix, int[] rowFillCounts) {
+        for (int row = 0; row < matrix.length; row++) {
+            int filled = 0;
+            for (int cell : matrix[row]) {
+                if (cell != 0) {
+                    filled++;
+                }
+            }
+            rowFillCounts[row] = filled;
+        }
+    }
+
+    /**
+     * Collects the full rows within a row range using the per-row fill counts,
+     * so only the rows touched by the last merge need to be inspected.
+     * @param rowFillCounts Number of non-empty cells per row
+     * @param width Number of cells in a full row
+     * @param fromRow First row to inspect (inclusive, clamped to the board)
+     * @param toRow Last row to inspect (inclusive, clamped to the board)
+     * @param fullRows Buffer that is cleared and then filled with full row indices in ascending order
+     * @return The number of full rows found
+     */
+    public static int findFullRows(int[] rowFillCounts, int width, int fromRow, int toRow, RowIndexBuffer fullRows) {
+        fullRows.clear();
+        int start = Math.max(0, fromRow);
+        int end = Math.min(rowFillCounts.length - 1, toRow);
+        for (int row = start; row <= end; row++) {
+            if (rowFillCounts[row] == width) {
+                fullRows.add(row);
+            }
+        }
+        return fullRows.size();
+    }
+
+    /**
+     * Removes the given rows from the matrix in place, shifting the rows above them down.
+     * Surviving row arrays are swapped into position rather than copied, and the removed
+     * row arrays are zeroed and reused as the new empty rows at the top.
+     * @param matrix The board matrix to compact
+     * @param rowFillCounts Number of non-empty cells per row, kept in step with the rows
+     * @param clearedRows Row indices to remove, in ascending order
+     */
+    public static void removeRowsInPlace(int[][] matrix, int[] rowFillCounts, RowIndexBuffer clearedRows) {
+        int removed = clearedRows.size();
+        if (removed == 0) {
+            return;
+        }
+        int next = removed - 1;
+        int write = matrix.length - 1;
+        for (int read = matrix.length - 1; read >= 0; read--) {
+            if (next >= 0 && clearedRows.get(next) == read) {
+                next--;
+                continue;
+            }
+            if (read != write) {
+                int[] row = matrix[write];
+                matrix[write] = matrix[read];
+                matrix[read] = row;
+                rowFillCounts[write] = rowFillCounts[read];
+            }
+            write--;
+        }
+        for (int row = 0; row < removed; row++) {
+            java.util.Arrays.fill(matrix[row], 0);
+            rowFillCounts[row] = 0;
+        }
+    }
+
+    /**
+     * Recomputes the surface of every column: the index of its topmost non-empty cell.
+     * @param matrix The board matrix
+     * @param surfaceRows Array receiving one row index per column, or the row count if the column is empty
+     */
+    public static void computeSurface(int[][] matrix, int[] surfaceRows) {
+        for (int col = 0; col < surfaceRows.length; col++) {
+            int row = 0;
+            while (row < matrix.length && matrix[row][col] == 0) {
+                row++;
+            }
+            surfaceRows[col] = row;
+        }
+    }
+
+    /**
+     * Raises the column surfaces to cover the cells of a brick that was just merged.
+     * @param surfaceRows Topmost non-empty row per column, updated in place
+     * @param shapeTable The shape table of the merged brick
+     * @param rotation Rotation index of the merged brick
+     * @param x X coordinate of the brick's top-left corner
+     * @param y Y coordinate of the brick's top-left corner
+     */
+    public static void raiseSurface(int[] surfaceRows, ShapeTable shapeTable, int rotation, int x, int y) {
+        for (int i = 0, n = shapeTable.getCellCount(rotation); i < n; i++) {
+            int col = x + shapeTable.getCellX(rotation, i);
+            int row = y + shapeTable.getCellY(rotation, i);
+            if (row < surfaceRows[col]) {
+                surfaceRows[col] = row;
+            }
+        }
+    }
+
+    /**
+     * Computes where a brick would land if dropped straight down, using only the column surfaces.
+     * This holds when every column of the brick is still above the surface of its board column;
+     * a brick that has been tucked under an overhang gets {@link #UNKNOWN_LANDING_ROW} and the
+     * caller must fall back to stepping down row by row.
+     * @param surfaceRows Topmost non-empty row per column, or the row count for empty columns
+     * @param shapeTable The shape table of the brick
+     * @param rotation Rotation index of the brick
+     * @param x X coordinate of the brick's top-left corner
+     * @param y Y coordinate of the brick's top-left corner
+     * @return The Y coordinate the brick would land at, or {@link #UNKNOWN_LANDING_ROW}
+     */
+    public static int landingRow(int[] surfaceRows, ShapeTable shapeTable, int rotation, int x, int y) {
+        int landing = Integer.MAX_VALUE;
+        for (int c = shapeTable.getMinX(rotation), maxX = shapeTable.getMaxX(rotation); c <= maxX; c++) {
+            int lowest = shapeTable.getLowestCell(rotation, c);
+            if (lowest < 0) {
+                continue;
+            }
+            int col = x + c;
+            if (col < 0 || col >= surfaceRows.length || y + lowest >= surfaceRows[col]) {
+                return UNKNOWN_LANDING_ROW;
+            }
+            landing = Math.min(landing, surfaceRows[col] - 1 - lowest);
+        }
+        return landing;
+    }
+
     /**
      * Creates a deep copy of a list of 2D integer arrays.
      * @param list The list of matrices to copy
@@ -167,8 +332,20 @@ public class MatrixOperations {
      * @return A new matrix with garbage rows at the bottom
      */
     public static int[][] generateGarbage(int width, int height, int garbageHeight) {
+        return generateGarbage(width, height, garbageHeight, new SplittableRandom());
+    }
+
+    /**
+     * Generates a garbage-filled matrix for Puzzle mode from the given random stream,
+     * so the same stream state always yields the same garbage.
+     * @param width Width of the matrix
+     * @param height Height of the matrix
+     * @param garbageHeight Number of rows from the bottom to fill with garbage
+     * @param random Random number generator to draw colors and holes from
+     * @return A new matrix with garbage rows at the bottom
+     */
+    public static int[][] generateGarbage(int width, int height, int garbageHeight, RandomGenerator random) {
         int[][] matrix = new int[width][height];
-        java.util.Random random = new java.util.Random();
         
         for (int row = width - 1; row >= width - garbageHeight && row >= 0; row--) {
             for (int col = 0; col < height; col++) {
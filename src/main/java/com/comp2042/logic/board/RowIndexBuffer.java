@@ -0,0 +1,78 @@
+package com.comp2042.logic.board;
+
+import java.util.Arrays;
+
+/**
+ * Reusable, growable buffer of row indices backed by a primitive array.
+ * Used by the in-place line clearing path so that detecting and removing full rows
+ * does not allocate on every brick lock.
+ */
+public final class RowIndexBuffer {
+
+    private int[] indices;
+    private int size;
+
+    /**
+     * Constructs a buffer with room for the given number of rows before it needs to grow.
+     * @param initialCapacity Initial capacity of the buffer
+     */
+    public RowIndexBuffer(int initialCapacity) {
+        indices = new int[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Removes all indices while keeping the backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Appends a row index to the buffer.
+     * @param row The row index to add
+     */
+    public void add(int row) {
+        if (size == indices.length) {
+            int[] grown = new int[indices.length * 2];
+            System.arraycopy(indices, 0, grown, 0, size);
+            indices = grown;
+        }
+        indices[size++] = row;
+    }
+
+    /**
+     * Gets the row index at the given position.
+     * @param i Position in the buffer
+     * @return The row index stored at that position
+     */
+    public int get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for size " + size);
+        }
+        return indices[i];
+    }
+
+    /**
+     * Gets the number of indices currently stored.
+     * @return Number of stored row indices
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the buffer holds no indices.
+     * @return true if the buffer is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the stored indices into a new array of exactly their number.
+     * @return A new array containing the stored row indices in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(indices, size);
+    }
+}
@@ -0,0 +1,158 @@
+package com.comp2042.logic.board;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Random 64-bit keys for Zobrist hashing of board states.
+ * A board's hash is the XOR of the keys of its filled cells, so filling or emptying a cell
+ * toggles one key and a merged brick toggles one key per cell. Only occupancy is hashed;
+ * cell colors do not affect the hash.
+ * Keys come from a fixed seed, so the same board has the same hash in every run, and are
+ * shared per board size through {@link #of(int, int)}. Instances are immutable.
+ */
+public final class ZobristKeys {
+
+    private static final long SEED = 0x2042_7E7215L;
+    private static final long QUEUE_INDEX_MULTIPLIER = 0x9E37_79B9_7F4A_7C15L;
+    private static final Map<Long, ZobristKeys> BY_SIZE = new ConcurrentHashMap<>();
+
+    private final int rows;
+    private final int columns;
+    private final long[] cellKeys;
+    private final long[] pieceKeys;
+
+    private ZobristKeys(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        SplittableRandom random = new SplittableRandom(SEED);
+        cellKeys = new long[rows * columns];
+        for (int i = 0; i < cellKeys.length; i++) {
+            cellKeys[i] = random.nextLong();
+        }
+        pieceKeys = new long[BrickType.values().length];
+        for (int i = 0; i < pieceKeys.length; i++) {
+            pieceKeys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Gets the keys for a board size.
+     * @param rows Number of rows
+     * @param columns Number of columns
+     * @return The shared keys for that size
+     */
+    public static ZobristKeys of(int rows, int columns) {
+        return BY_SIZE.computeIfAbsent(((long) rows << Integer.SIZE) | columns, size -> new ZobristKeys(rows, columns));
+    }
+
+    /**
+     * Gets the key of one cell.
+     * @param row Row index
+     * @param column Column index
+     * @return The cell's key
+     */
+    public long cell(int row, int column) {
+        return cellKeys[row * columns + column];
+    }
+
+    /**
+     * Gets a key for a brick type, for folding the falling or held brick into a state key.
+     * @param type The brick type, or null for none
+     * @return The type's key, 0 for null
+     */
+    public long piece(BrickType type) {
+        return type == null ? 0L : pieceKeys[type.ordinal()];
+    }
+
+    /**
+     * Gets a key for a position in the next queue, for telling apart states that have used
+     * up a different number of queued bricks.
+     * @param index Index of the next brick to be played
+     * @return The index's key
+     */
+    public long queueIndex(int index) {
+        return index * QUEUE_INDEX_MULTIPLIER;
+    }
+
+    /**
+     * Hashes a whole board matrix.
+     * @param matrix The board matrix, where non-zero cells are filled
+     * @return The hash of its filled cells
+     */
+    public long hash(int[][] matrix) {
+        return hashRows(matrix, 0, matrix.length);
+    }
+
+    /**
+     * Hashes a range of rows of a board matrix.
+     * @param matrix The board matrix
+     * @param fromRow First row, inclusive
+     * @param toRow Last row, exclusive
+     * @return The XOR of the keys of the filled cells in those rows
+     */
+    public long hashRows(int[][] matrix, int fromRow, int toRow) {
+        long hash = 0L;
+        for (int row = fromRow; row < toRow; row++) {
+            int[] cells = matrix[row];
+            int base = row * columns;
+            for (int col = 0; col < columns; col++) {
+                if (cells[col] != 0) {
+                    hash ^= cellKeys[base + col];
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes one row given as an occupancy bitmask.
+     * @param row Row index
+     * @param mask Bit {@code c} is set when column {@code c} is filled
+     * @return The XOR of the keys of the filled cells
+     */
+    public long hashRow(int row, long mask) {
+        long hash = 0L;
+        int base = row * columns;
+        while (mask != 0) {
+            hash ^= cellKeys[base + Long.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the cells a brick would newly fill when merged into a board matrix, so that
+     * XOR-ing the result into the board's hash accounts for the merge.
+     * Every cell must be on the board; cells that are already filled are skipped.
+     * @param matrix The board matrix before the merge
+     * @param table The brick's shape table
+     * @param rotation Rotation index
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @return The XOR of the keys of the newly filled cells
+     */
+    public long mergeDelta(int[][] matrix, ShapeTable table, int rotation, int x, int y) {
+        long hash = 0L;
+        for (int i = 0, n = table.getCellCount(rotation); i < n; i++) {
+            int row = y + table.getCellY(rotation, i);
+            int col = x + table.getCellX(rotation, i);
+            if (matrix[row][col] == 0) {
+                hash ^= cell(row, col);
+            }
+        }
+        return hash;
+    }
+
+    public int getRowCount() {
+        return rows;
+    }
+
+    public int getColumnCount() {
+        return columns;
+    }
+}
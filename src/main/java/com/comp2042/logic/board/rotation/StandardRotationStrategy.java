@@ -1,10 +1,11 @@
 package com.comp2042.logic.board.rotation;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
 
 public class StandardRotationStrategy implements RotationStrategy {
 
     @Override
     public int getNextRotationIndex(Brick brick, int currentIndex) {
-        return (currentIndex + 1) % brick.getShapeMatrix().size();
+        return (currentIndex + 1) % ShapeTable.of(brick.getType()).getRotationCount();
     }
 }
@@ -0,0 +1,41 @@
+package com.comp2042.logic.board.rotation;
+
+/**
+ * Offsets tried, in order, when rotating a brick: the first offset at which the rotated
+ * brick fits is where it ends up, and the rotation fails if none fits.
+ * Shared by the game boards and the move generators so they agree on which spins exist.
+ */
+public final class WallKicks {
+
+    private static final int[] DX = {0, 1, -1, 0, 2, -2};
+    private static final int[] DY = {0, 0, 0, -1, 0, 0};
+
+    private WallKicks() {
+    }
+
+    /**
+     * Gets the number of offsets tried per rotation.
+     * @return The offset count
+     */
+    public static int count() {
+        return DX.length;
+    }
+
+    /**
+     * Gets the column offset of a kick.
+     * @param index Kick index, in the order kicks are tried
+     * @return Columns to move, positive to the right
+     */
+    public static int getDx(int index) {
+        return DX[index];
+    }
+
+    /**
+     * Gets the row offset of a kick.
+     * @param index Kick index, in the order kicks are tried
+     * @return Rows to move, negative upwards
+     */
+    public static int getDy(int index) {
+        return DY[index];
+    }
+}
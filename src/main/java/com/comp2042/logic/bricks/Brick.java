@@ -5,4 +5,10 @@ import java.util.List;
 public interface Brick {
 
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the type of this brick, used to look up its shared {@link ShapeTable}.
+     * @return The brick type
+     */
+    BrickType getType();
 }
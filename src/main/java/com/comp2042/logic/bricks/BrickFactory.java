@@ -1,9 +1,9 @@
 package com.comp2042.logic.bricks;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Factory for creating Tetris bricks using the 7-Bag randomizer system.
@@ -12,22 +12,23 @@ import java.util.Random;
  */
 public class BrickFactory {
 
-    private final Random random;
+    private final RandomGenerator random;
     private final List<BrickType> bag = new ArrayList<>();
 
     /**
-     * Constructs a BrickFactory with a new Random instance.
+     * Constructs a BrickFactory with an unseeded random generator.
      */
     public BrickFactory() {
-        this.random = new Random();
+        this.random = new SplittableRandom();
         refillBag();
     }
 
     /**
-     * Constructs a BrickFactory with a specified Random instance for testing.
+     * Constructs a BrickFactory drawing from the given generator,
+     * typically a game's {@link com.comp2042.logic.random.GameSeed} brick stream.
      * @param random Random number generator to use
      */
-    public BrickFactory(Random random) {
+    public BrickFactory(RandomGenerator random) {
         this.random = random;
         refillBag();
     }
@@ -42,7 +43,10 @@ public class BrickFactory {
         for (BrickType type : types) {
             bag.add(type);
         }
-        Collections.shuffle(bag, random);
+        for (int i = bag.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            bag.set(i, bag.set(j, bag.get(i)));
+        }
     }
 
     /**
@@ -52,6 +56,16 @@ public class BrickFactory {
      * @throws IllegalArgumentException if the brick type is unknown
      */
     public Brick createBrick(BrickType type) {
+        return newBrick(type);
+    }
+
+    /**
+     * Creates a brick of the specified type without needing a factory instance.
+     * @param type The type of brick to create
+     * @return A new Brick instance of the specified type
+     * @throws IllegalArgumentException if the brick type is unknown
+     */
+    static Brick newBrick(BrickType type) {
         switch (type) {
             case I:
                 return new IBrick();
@@ -29,4 +29,9 @@ final class IBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    @Override
+    public BrickType getType() {
+        return BrickType.I;
+    }
+
 }
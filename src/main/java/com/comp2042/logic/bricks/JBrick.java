@@ -40,4 +40,9 @@ final class JBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    @Override
+    public BrickType getType() {
+        return BrickType.J;
+    }
 }
@@ -40,4 +40,9 @@ final class LBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    @Override
+    public BrickType getType() {
+        return BrickType.L;
+    }
 }
@@ -23,4 +23,9 @@ public final class OBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    @Override
+    public BrickType getType() {
+        return BrickType.O;
+    }
+
 }
@@ -0,0 +1,224 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+/**
+ * Precomputed, shared shape data for one brick type.
+ * Built once per {@link BrickType} from the brick's rotation matrices and then only read,
+ * so rotation, collision and rendering code can use it on every move without copying.
+ * For each rotation the table holds the occupied cell offsets, the bounding box,
+ * the lowest occupied cell per column and one bitmask per shape row.
+ */
+public final class ShapeTable {
+
+    /** Width and height of every shape matrix. */
+    public static final int SIZE = 4;
+
+    private static final ShapeTable[] TABLES = buildTables();
+
+    private final BrickType type;
+    private final int color;
+    private final int[][][] matrices;
+    private final int[][] cellX;
+    private final int[][] cellY;
+    private final int[] minX;
+    private final int[] maxX;
+    private final int[] minY;
+    private final int[] maxY;
+    private final int[][] lowestCell;
+    private final int[][] rowMasks;
+
+    private ShapeTable(BrickType type, List<int[][]> rotations) {
+        this.type = type;
+        int count = rotations.size();
+        matrices = new int[count][][];
+        cellX = new int[count][];
+        cellY = new int[count][];
+        minX = new int[count];
+        maxX = new int[count];
+        minY = new int[count];
+        maxY = new int[count];
+        lowestCell = new int[count][SIZE];
+        rowMasks = new int[count][SIZE];
+
+        int shapeColor = 0;
+        for (int r = 0; r < count; r++) {
+            int[][] matrix = rotations.get(r);
+            matrices[r] = matrix;
+
+            int cells = 0;
+            for (int[] row : matrix) {
+                for (int cell : row) {
+                    if (cell != 0) {
+                        cells++;
+                    }
+                }
+            }
+            cellX[r] = new int[cells];
+            cellY[r] = new int[cells];
+            minX[r] = SIZE;
+            minY[r] = SIZE;
+            maxX[r] = -1;
+            maxY[r] = -1;
+            java.util.Arrays.fill(lowestCell[r], -1);
+
+            int i = 0;
+            for (int y = 0; y < matrix.length; y++) {
+                for (int x = 0; x < matrix[y].length; x++) {
+                    if (matrix[y][x] == 0) {
+                        continue;
+                    }
+                    shapeColor = matrix[y][x];
+                    cellX[r][i] = x;
+                    cellY[r][i] = y;
+                    i++;
+                    minX[r] = Math.min(minX[r], x);
+                    maxX[r] = Math.max(maxX[r], x);
+                    minY[r] = Math.min(minY[r], y);
+                    maxY[r] = Math.max(maxY[r], y);
+                    lowestCell[r][x] = Math.max(lowestCell[r][x], y);
+                    rowMasks[r][y] |= 1 << x;
+                }
+            }
+        }
+        this.color = shapeColor;
+    }
+
+    private static ShapeTable[] buildTables() {
+        BrickType[] types = BrickType.values();
+        ShapeTable[] tables = new ShapeTable[types.length];
+        for (BrickType type : types) {
+            tables[type.ordinal()] = new ShapeTable(type, BrickFactory.newBrick(type).getShapeMatrix());
+        }
+        return tables;
+    }
+
+    /**
+     * Gets the shared table for a brick type.
+     * @param type The brick type
+     * @return The precomputed shape table for that type
+     */
+    public static ShapeTable of(BrickType type) {
+        return TABLES[type.ordinal()];
+    }
+
+    /**
+     * Gets the brick type this table describes.
+     * @return The brick type
+     */
+    public BrickType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the color code used by every cell of this brick.
+     * @return The color code (1-7)
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Gets the number of distinct rotations of this brick.
+     * @return Number of rotations
+     */
+    public int getRotationCount() {
+        return matrices.length;
+    }
+
+    /**
+     * Gets the shared shape matrix for a rotation.
+     * The returned array is owned by the table and must not be modified;
+     * callers that hand it outside the game logic should copy it.
+     * @param rotation Rotation index
+     * @return The shape matrix for that rotation
+     */
+    public int[][] getMatrix(int rotation) {
+        return matrices[rotation];
+    }
+
+    /**
+     * Gets the number of occupied cells in a rotation.
+     * @param rotation Rotation index
+     * @return Number of occupied cells
+     */
+    public int getCellCount(int rotation) {
+        return cellX[rotation].length;
+    }
+
+    /**
+     * Gets the column offset of an occupied cell.
+     * @param rotation Rotation index
+     * @param cell Cell index, from 0 to {@link #getCellCount(int)} - 1
+     * @return Column offset within the shape matrix
+     */
+    public int getCellX(int rotation, int cell) {
+        return cellX[rotation][cell];
+    }
+
+    /**
+     * Gets the row offset of an occupied cell.
+     * @param rotation Rotation index
+     * @param cell Cell index, from 0 to {@link #getCellCount(int)} - 1
+     * @return Row offset within the shape matrix
+     */
+    public int getCellY(int rotation, int cell) {
+        return cellY[rotation][cell];
+    }
+
+    /**
+     * Gets the leftmost occupied column of a rotation.
+     * @param rotation Rotation index
+     * @return Smallest column offset with a cell
+     */
+    public int getMinX(int rotation) {
+        return minX[rotation];
+    }
+
+    /**
+     * Gets the rightmost occupied column of a rotation.
+     * @param rotation Rotation index
+     * @return Largest column offset with a cell
+     */
+    public int getMaxX(int rotation) {
+        return maxX[rotation];
+    }
+
+    /**
+     * Gets the topmost occupied row of a rotation.
+     * @param rotation Rotation index
+     * @return Smallest row offset with a cell
+     */
+    public int getMinY(int rotation) {
+        return minY[rotation];
+    }
+
+    /**
+     * Gets the bottom occupied row of a rotation.
+     * @param rotation Rotation index
+     * @return Largest row offset with a cell
+     */
+    public int getMaxY(int rotation) {
+        return maxY[rotation];
+    }
+
+    /**
+     * Gets the lowest occupied row within one column of a rotation.
+     * @param rotation Rotation index
+     * @param column Column offset within the shape matrix
+     * @return Largest row offset with a cell in that column, or -1 if the column is empty
+     */
+    public int getLowestCell(int rotation, int column) {
+        return lowestCell[rotation][column];
+    }
+
+    /**
+     * Gets the occupancy bitmask of one shape row, where bit {@code x} is set for column {@code x}.
+     * @param rotation Rotation index
+     * @param row Row offset within the shape matrix
+     * @return Bitmask of occupied columns in that row
+     */
+    public int getRowMask(int rotation, int row) {
+        return rowMasks[rotation][row];
+    }
+}
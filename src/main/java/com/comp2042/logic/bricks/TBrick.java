@@ -40,4 +40,9 @@ final class TBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    @Override
+    public BrickType getType() {
+        return BrickType.T;
+    }
 }
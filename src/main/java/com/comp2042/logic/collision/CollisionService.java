@@ -1,6 +1,7 @@
 package com.comp2042.logic.collision;
 
 import com.comp2042.logic.board.MatrixOperations;
+import com.comp2042.logic.bricks.ShapeTable;
 
 public class CollisionService {
     public boolean intersects(int[][] board, int[][] shape, int x, int y) {
@@ -11,4 +12,27 @@ public class CollisionService {
         return !MatrixOperations.intersect(board, shape, x, y);
     }
 
+    /**
+     * Checks whether a brick rotation fits at a position using the precomputed cell offsets,
+     * visiting only the occupied cells instead of the whole shape matrix.
+     * @param board The game board matrix
+     * @param shapeTable The shared shape table of the brick
+     * @param rotation Rotation index within the table
+     * @param x X coordinate of the shape's top-left corner
+     * @param y Y coordinate of the shape's top-left corner
+     * @return true if every cell is inside the board and empty
+     */
+    public boolean canPlaceAt(int[][] board, ShapeTable shapeTable, int rotation, int x, int y) {
+        int rows = board.length;
+        int cols = board[0].length;
+        for (int i = 0, n = shapeTable.getCellCount(rotation); i < n; i++) {
+            int row = y + shapeTable.getCellY(rotation, i);
+            int col = x + shapeTable.getCellX(rotation, i);
+            if (row < 0 || row >= rows || col < 0 || col >= cols || board[row][col] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
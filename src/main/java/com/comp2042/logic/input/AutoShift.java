@@ -0,0 +1,136 @@
+package com.comp2042.logic.input;
+
+/**
+ * Delayed Auto Shift (DAS) and Auto Repeat Rate (ARR) for holding left or right.
+ * Tracks which horizontal keys are down and, stepped by the game loop, works out how many
+ * extra cells the brick should shift: nothing until the key has been held for the DAS delay,
+ * then one cell every ARR interval. An ARR of 0 shifts straight to the wall.
+ * The most recently pressed direction wins while both keys are held; releasing it hands
+ * control back to the other key, which charges its DAS again from zero.
+ * The initial single-cell tap on key press is left to the caller.
+ */
+public final class AutoShift {
+
+    /** Direction value for left. */
+    public static final int LEFT = -1;
+
+    /** Direction value for right. */
+    public static final int RIGHT = 1;
+
+    /** Shift count meaning "as far as the brick can go". */
+    public static final int TO_WALL = Integer.MAX_VALUE;
+
+    private double dasMillis;
+    private double arrMillis;
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private int direction;
+    private double heldMillis;
+    private double nextShiftMillis;
+
+    /**
+     * Constructs an auto shift with the given timings.
+     * @param dasMillis Delay before auto-repeat starts, in milliseconds
+     * @param arrMillis Interval between repeated shifts in milliseconds, or 0 to shift to the wall
+     */
+    public AutoShift(double dasMillis, double arrMillis) {
+        setTimings(dasMillis, arrMillis);
+    }
+
+    /**
+     * Changes the timings; negative values are treated as 0.
+     * @param dasMillis Delay before auto-repeat starts, in milliseconds
+     * @param arrMillis Interval between repeated shifts in milliseconds, or 0 to shift to the wall
+     */
+    public void setTimings(double dasMillis, double arrMillis) {
+        this.dasMillis = Math.max(0, dasMillis);
+        this.arrMillis = Math.max(0, arrMillis);
+    }
+
+    /**
+     * Records a key press.
+     * @param dir {@link #LEFT} or {@link #RIGHT}
+     * @return true if the key was not already held, so the caller should apply the initial tap
+     */
+    public boolean press(int dir) {
+        if (isHeld(dir)) {
+            return false;
+        }
+        if (dir == LEFT) {
+            leftHeld = true;
+        } else {
+            rightHeld = true;
+        }
+        charge(dir);
+        return true;
+    }
+
+    /**
+     * Records a key release.
+     * @param dir {@link #LEFT} or {@link #RIGHT}
+     */
+    public void release(int dir) {
+        if (dir == LEFT) {
+            leftHeld = false;
+        } else {
+            rightHeld = false;
+        }
+        if (direction == dir) {
+            int other = -dir;
+            charge(isHeld(other) ? other : 0);
+        }
+    }
+
+    /**
+     * Forgets every held key, for when key releases may be missed such as on pause.
+     */
+    public void releaseAll() {
+        leftHeld = false;
+        rightHeld = false;
+        charge(0);
+    }
+
+    /**
+     * Advances the held key by one game loop step.
+     * @param stepMillis Game time covered by the step in milliseconds
+     * @return Cells to shift in {@link #getDirection()} this step, or {@link #TO_WALL}
+     */
+    public int tick(double stepMillis) {
+        if (direction == 0) {
+            return 0;
+        }
+        heldMillis += stepMillis;
+        if (heldMillis < nextShiftMillis) {
+            return 0;
+        }
+        if (arrMillis == 0) {
+            return TO_WALL;
+        }
+        int shifts = 1 + (int) ((heldMillis - nextShiftMillis) / arrMillis);
+        nextShiftMillis += shifts * arrMillis;
+        return shifts;
+    }
+
+    /**
+     * Gets the direction currently being shifted.
+     * @return {@link #LEFT}, {@link #RIGHT} or 0 if no horizontal key is held
+     */
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Checks whether a direction's key is held.
+     * @param dir {@link #LEFT} or {@link #RIGHT}
+     * @return true if the key is down
+     */
+    public boolean isHeld(int dir) {
+        return dir == LEFT ? leftHeld : rightHeld;
+    }
+
+    private void charge(int dir) {
+        direction = dir;
+        heldMillis = 0;
+        nextShiftMillis = dasMillis;
+    }
+}
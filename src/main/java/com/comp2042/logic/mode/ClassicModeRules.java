@@ -0,0 +1,14 @@
+package com.comp2042.logic.mode;
+
+import com.comp2042.model.Score;
+
+/**
+ * Rules of Classic and Reverted mode: play until the board tops out.
+ */
+final class ClassicModeRules implements ModeRules {
+
+    @Override
+    public boolean isWon(Score score) {
+        return false;
+    }
+}
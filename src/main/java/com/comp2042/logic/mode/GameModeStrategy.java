@@ -43,6 +43,28 @@ public interface GameModeStrategy {
      */
     void reset(Board board, GuiController guiController);
     
+    /**
+     * Advances mode-specific timers by one step of the game loop.
+     * Called only while the game is running, so time spent paused or counting down is never seen.
+     * @param stepMillis Game time covered by this step in milliseconds
+     */
+    default void tick(double stepMillis) {
+    }
+
+    /**
+     * Called on the JavaFX thread when a brick starts falling, including after a hold swap.
+     * @param board The game board instance, with the new brick
+     * @param canHold true if the hold may still be used for this brick
+     */
+    default void onBrickSpawned(Board board, boolean canHold) {
+    }
+
+    /**
+     * Called on the JavaFX thread when the falling brick locks into the board.
+     */
+    default void onBrickLocked() {
+    }
+    
     /**
      * Pauses mode-specific timers or processes.
      */
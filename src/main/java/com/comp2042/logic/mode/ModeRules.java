@@ -0,0 +1,66 @@
+package com.comp2042.logic.mode;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.GameMode;
+import com.comp2042.model.Score;
+
+/**
+ * Toolkit-free win, loss and timer rules of a game mode.
+ * The GUI strategies and the headless engine both judge games through these objects, so a
+ * rule change applies to the GUI, the logic thread, tournaments and calibration alike.
+ * A blocked spawn ends the game in every mode and is left to the caller.
+ */
+public interface ModeRules {
+
+    /**
+     * Creates the rules of a game mode.
+     * @param gameMode The game mode, or null for Classic
+     * @return New rules for one game at a time
+     */
+    static ModeRules forMode(GameMode gameMode) {
+        if (gameMode == null) {
+            return new ClassicModeRules();
+        }
+        switch (gameMode) {
+            case TIME_ATTACK:
+                return new TimeAttackModeRules();
+            case PUZZLE:
+                return new PuzzleModeRules();
+            case REVERTED:
+            case CLASSIC:
+            default:
+                return new ClassicModeRules();
+        }
+    }
+
+    /**
+     * Starts the rules for a new game; mode setup such as the Time Attack limits is drawn
+     * from the board's seed.
+     * @param board The board, after its new game has been set up
+     */
+    default void reset(Board board) {
+    }
+
+    /**
+     * Advances the mode's clock by game time that passed while the game was running.
+     * @param stepMillis Game time in milliseconds
+     */
+    default void tick(double stepMillis) {
+    }
+
+    /**
+     * Checks whether the game has been won.
+     * @param score The game's score
+     * @return true once the win condition is met
+     */
+    boolean isWon(Score score);
+
+    /**
+     * Checks whether the mode has ended the game without a win, such as a Time Attack timeout.
+     * @param score The game's score
+     * @return true once the loss condition is met
+     */
+    default boolean isLost(Score score) {
+        return false;
+    }
+}
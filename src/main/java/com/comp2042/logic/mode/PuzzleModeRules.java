@@ -0,0 +1,18 @@
+package com.comp2042.logic.mode;
+
+import com.comp2042.model.Score;
+import com.comp2042.util.GameConstants;
+
+/**
+ * Rules of Puzzle mode: clearing {@link GameConstants#PUZZLE_MODE_TARGET_LINES} lines wins.
+ */
+public final class PuzzleModeRules implements ModeRules {
+
+    /** Lines to clear to win. */
+    public static final int TARGET_LINES = GameConstants.PUZZLE_MODE_TARGET_LINES;
+
+    @Override
+    public boolean isWon(Score score) {
+        return score.getLinesValue() >= TARGET_LINES;
+    }
+}
@@ -2,30 +2,57 @@ package com.comp2042.logic.mode;
 
 import com.comp2042.controller.GuiController;
 import com.comp2042.controller.SoundController;
+import com.comp2042.logic.ai.HintService;
+import com.comp2042.logic.puzzle.Puzzle;
+import com.comp2042.logic.puzzle.PuzzleLibrary;
+import com.comp2042.logic.random.GameSeed;
 import com.comp2042.model.Board;
-import com.comp2042.util.GameConstants;
 
 /**
  * Strategy for Puzzle mode.
  * Player starts with garbage rows and must clear a target number of lines.
+ * Each game plays the next solver-verified puzzle from the {@link PuzzleLibrary}, and shows
+ * its par; when the library is empty the board falls back to random garbage.
+ * A {@link HintService} searches for the best placement of each brick in the background,
+ * ready for {@link #getHint()} when the player asks for a hint.
  */
 public class PuzzleModeStrategy implements GameModeStrategy {
     
-    private static final int TARGET_LINES = GameConstants.PUZZLE_MODE_TARGET_LINES;
+    private static final int TARGET_LINES = PuzzleModeRules.TARGET_LINES;
+    private final PuzzleModeRules rules = new PuzzleModeRules();
     private boolean gameWon = false;
     private boolean gameLost = false;
+    private final PuzzleLibrary library;
+    private final HintService hints;
+
+    /**
+     * Constructs the strategy around the game's shared puzzle library and hint service.
+     */
+    public PuzzleModeStrategy() {
+        this(PuzzleLibrary.getDefault(), HintService.getDefault());
+    }
+
+    /**
+     * Constructs the strategy around a puzzle library and hint service.
+     * @param library Supplies the puzzles, or null to always use random garbage
+     * @param hints Searches for hints, or null for no hints
+     */
+    public PuzzleModeStrategy(PuzzleLibrary library, HintService hints) {
+        this.library = library;
+        this.hints = hints;
+    }
     
     @Override
     public void initialize(Board board, GuiController guiController, SoundController soundController) {
-        board.setupPuzzleMode();
+        int par = setupPuzzle(board);
         guiController.bindLines(board.getScore().linesProperty(), soundController);
-        guiController.configurePuzzleMode(TARGET_LINES);
+        guiController.configurePuzzleMode(TARGET_LINES, par);
         guiController.refreshGameBackground(board.getBoardMatrix());
     }
     
     @Override
     public boolean checkWinCondition(Board board, GuiController guiController, SoundController soundController) {
-        if (board.getScore().getLinesValue() >= TARGET_LINES && !gameWon && !gameLost) {
+        if (rules.isWon(board.getScore()) && !gameWon && !gameLost) {
             gameWon = true;
             return true;
         }
@@ -41,10 +68,46 @@ public class PuzzleModeStrategy implements GameModeStrategy {
     public void reset(Board board, GuiController guiController) {
         gameWon = false;
         gameLost = false;
-        board.setupPuzzleMode();
-        guiController.configurePuzzleMode(TARGET_LINES);
+        int par = setupPuzzle(board);
+        guiController.configurePuzzleMode(TARGET_LINES, par);
         guiController.refreshGameBackground(board.getBoardMatrix());
     }
+
+    /**
+     * Sets up the next verified puzzle, or random garbage if none is ready.
+     * @return The puzzle's par, or 0 for random garbage
+     */
+    private int setupPuzzle(Board board) {
+        Puzzle puzzle = library != null ? library.next() : null;
+        if (puzzle == null) {
+            board.setupPuzzleMode();
+            return 0;
+        }
+        board.setupPuzzleMode(new GameSeed(puzzle.getSeed()));
+        return puzzle.getPar();
+    }
+    
+    @Override
+    public void onBrickSpawned(Board board, boolean canHold) {
+        if (hints != null) {
+            hints.onSpawn(board, canHold);
+        }
+    }
+
+    @Override
+    public void onBrickLocked() {
+        if (hints != null) {
+            hints.cancel();
+        }
+    }
+
+    /**
+     * Gets the best placement found so far for the falling brick. Never waits for the search.
+     * @return The hint, or null if none is ready
+     */
+    public HintService.Hint getHint() {
+        return hints != null ? hints.getHint() : null;
+    }
     
     @Override
     public void pause() {
@@ -56,6 +119,9 @@ public class PuzzleModeStrategy implements GameModeStrategy {
     
     @Override
     public void stop() {
+        if (hints != null) {
+            hints.cancel();
+        }
     }
 }
 
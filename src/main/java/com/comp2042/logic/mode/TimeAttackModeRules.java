@@ -0,0 +1,63 @@
+package com.comp2042.logic.mode;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.Score;
+
+/**
+ * Rules of Time Attack mode: reaching the target score wins, running out of time loses.
+ * The limits are rolled by {@link TimeAttackRules} from the board's seed on every reset, and
+ * the clock only moves through {@link #tick(double)}, so callers decide when time counts.
+ */
+public final class TimeAttackModeRules implements ModeRules {
+
+    private int targetScore;
+    private long timeLimitMillis;
+    private double elapsedMillis;
+
+    @Override
+    public void reset(Board board) {
+        TimeAttackRules rules = TimeAttackRules.roll(board.getSeed().getModeRandom());
+        timeLimitMillis = rules.getTimeLimitSeconds() * 1000L;
+        targetScore = rules.getTargetScore();
+        elapsedMillis = 0;
+    }
+
+    @Override
+    public void tick(double stepMillis) {
+        elapsedMillis += stepMillis;
+    }
+
+    @Override
+    public boolean isWon(Score score) {
+        return score.getValue() >= targetScore;
+    }
+
+    @Override
+    public boolean isLost(Score score) {
+        return (long) elapsedMillis >= timeLimitMillis;
+    }
+
+    /**
+     * Gets the score needed to win.
+     * @return Target score
+     */
+    public int getTargetScore() {
+        return targetScore;
+    }
+
+    /**
+     * Gets the time limit.
+     * @return Time limit in milliseconds
+     */
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    /**
+     * Gets the whole seconds left on the clock, rounded up as displayed.
+     * @return Seconds remaining, 0 once time is up
+     */
+    public int getSecondsRemaining() {
+        return (int) Math.max(0, (timeLimitMillis - (long) elapsedMillis + 999) / 1000);
+    }
+}
@@ -3,144 +3,107 @@ package com.comp2042.logic.mode;
 import com.comp2042.controller.GuiController;
 import com.comp2042.controller.SoundController;
 import com.comp2042.model.Board;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
-
-import java.util.Random;
 
 /**
  * Strategy for Time Attack mode.
  * Player must reach a target score within a time limit.
+ * The countdown is driven by the game loop through {@link #tick(double)}, so it shares
+ * the loop's clock and stands still while the game is paused. Winning and losing are judged
+ * by {@link TimeAttackModeRules}, as in the headless engine.
  */
 public class TimeAttackModeStrategy implements GameModeStrategy {
-    
-    private int targetScore;
+
+    private final TimeAttackModeRules rules = new TimeAttackModeRules();
     private int secondsRemaining;
-    private Timeline gameTimer;
     private boolean isActive = false;
+    private boolean timerStarted = false;
+    private boolean paused = false;
     private boolean gameWon = false;
     private boolean gameLost = false;
     private GuiController guiController;
-    
+
     @Override
     public void initialize(Board board, GuiController guiController, SoundController soundController) {
         this.guiController = guiController;
-        Random random = new Random();
-        
-        secondsRemaining = 30 + random.nextInt(91);
-        
-        int pointsPerSecond = 30 + random.nextInt(21);
-        
-        targetScore = secondsRemaining * pointsPerSecond;
-        targetScore = ((targetScore + 50) / 100) * 100;
-        
-        if (targetScore == 0) {
-            targetScore = 100;
-        }
-        
-        guiController.configureTimeAttackMode(secondsRemaining, targetScore);
-        
-        gameTimer = new Timeline(new KeyFrame(
-            Duration.seconds(1),
-            e -> {
-                secondsRemaining--;
-                guiController.updateTimer(secondsRemaining);
-                
-                if (secondsRemaining <= 0) {
-                    gameLost = true;
-                }
-            }
-        ));
-        gameTimer.setCycleCount(Timeline.INDEFINITE);
-        isActive = true;
+        reset(board, guiController);
     }
-    
+
     @Override
     public boolean checkWinCondition(Board board, GuiController guiController, SoundController soundController) {
-        if (board.getScore().getValue() >= targetScore && !gameWon && !gameLost) {
+        if (rules.isWon(board.getScore()) && !gameWon && !gameLost) {
             gameWon = true;
             return true;
         }
         return false;
     }
-    
+
     @Override
     public boolean checkLossCondition(Board board, GuiController guiController, SoundController soundController) {
-        if (secondsRemaining <= 0 && !gameWon && !gameLost) {
+        if (rules.isLost(board.getScore()) && !gameWon && !gameLost) {
             gameLost = true;
             return true;
         }
         return false;
     }
-    
+
     @Override
     public void reset(Board board, GuiController guiController) {
+        this.guiController = guiController;
         gameWon = false;
         gameLost = false;
-        Random random = new Random();
-        
-        secondsRemaining = 30 + random.nextInt(91);
-        
-        int pointsPerSecond = 30 + random.nextInt(21);
-        
-        targetScore = secondsRemaining * pointsPerSecond;
-        targetScore = ((targetScore + 50) / 100) * 100;
-        
-        if (targetScore == 0) {
-            targetScore = 100;
-        }
-        
-        guiController.configureTimeAttackMode(secondsRemaining, targetScore);
-        
-        if (gameTimer != null) {
-            gameTimer.stop();
+        rules.reset(board);
+        secondsRemaining = rules.getSecondsRemaining();
+        timerStarted = false;
+        paused = false;
+
+        guiController.configureTimeAttackMode(secondsRemaining, rules.getTargetScore());
+        isActive = true;
+    }
+
+    @Override
+    public void tick(double stepMillis) {
+        if (!isActive || !timerStarted || paused || secondsRemaining <= 0) {
+            return;
         }
-        
-        gameTimer = new Timeline(new KeyFrame(
-            Duration.seconds(1),
-            e -> {
-                secondsRemaining--;
+        rules.tick(stepMillis);
+        int remaining = rules.getSecondsRemaining();
+        if (remaining != secondsRemaining) {
+            secondsRemaining = remaining;
+            if (guiController != null) {
                 guiController.updateTimer(secondsRemaining);
-                
-                if (secondsRemaining <= 0) {
-                    gameLost = true;
-                }
             }
-        ));
-        gameTimer.setCycleCount(Timeline.INDEFINITE);
-        isActive = true;
+        }
     }
-    
+
     @Override
     public void pause() {
-        if (gameTimer != null && isActive) {
-            gameTimer.pause();
-        }
+        paused = true;
     }
-    
+
     @Override
     public void resume() {
-        if (gameTimer != null && isActive) {
-            gameTimer.play();
-        }
+        paused = false;
     }
-    
+
     @Override
     public void stop() {
-        if (gameTimer != null) {
-            gameTimer.stop();
-        }
         isActive = false;
     }
-    
+
     /**
      * Starts the timer (called after countdown completes).
      */
     public void startTimer() {
-        if (gameTimer != null && isActive) {
-            gameTimer.play();
+        if (isActive) {
+            timerStarted = true;
         }
     }
-}
 
+    /**
+     * Gets the whole seconds left on the clock, as displayed.
+     * @return Seconds remaining
+     */
+    public int getSecondsRemaining() {
+        return secondsRemaining;
+    }
+}
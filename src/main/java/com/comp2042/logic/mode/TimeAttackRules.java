@@ -0,0 +1,89 @@
+package com.comp2042.logic.mode;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Toolkit-independent rules for Time Attack mode.
+ * Rolls a time limit of 30-120 seconds and a difficulty. With the calibrated
+ * {@link TimeAttackTable} the difficulty picks a percentile of simulated scores for that
+ * time limit; without it the target falls back to 30-50 points per second. Targets are
+ * rounded to the nearest hundred.
+ */
+public final class TimeAttackRules {
+
+    private static final int MIN_SECONDS = 30;
+    private static final int SECONDS_RANGE = 91;
+    private static final int MIN_POINTS_PER_SECOND = 30;
+    private static final int POINTS_PER_SECOND_RANGE = 21;
+
+    /** Loaded once, the first time a Time Attack game is set up; null if unavailable. */
+    private static final TimeAttackTable DEFAULT_TABLE = TimeAttackTable.loadDefault();
+
+    private final int timeLimitSeconds;
+    private final int targetScore;
+
+    private TimeAttackRules(int timeLimitSeconds, int targetScore) {
+        this.timeLimitSeconds = timeLimitSeconds;
+        this.targetScore = targetScore;
+    }
+
+    /**
+     * Rolls a new time limit and target score from the shipped calibration, if any.
+     * @param random Random number generator to draw from
+     * @return The rolled rules
+     */
+    public static TimeAttackRules roll(RandomGenerator random) {
+        return roll(random, DEFAULT_TABLE);
+    }
+
+    /**
+     * Rolls a new time limit and target score.
+     * The same two values are drawn with or without a table, so a seed always yields the
+     * same time limit.
+     * @param random Random number generator to draw from
+     * @param table Calibrated targets, or null for the uniform 30-50 points per second
+     * @return The rolled rules
+     */
+    public static TimeAttackRules roll(RandomGenerator random, TimeAttackTable table) {
+        int seconds = MIN_SECONDS + random.nextInt(SECONDS_RANGE);
+        int difficulty = random.nextInt(POINTS_PER_SECOND_RANGE);
+        if (table == null) {
+            return new TimeAttackRules(seconds, targetScoreFor(seconds, MIN_POINTS_PER_SECOND + difficulty));
+        }
+        double fraction = difficulty / (double) (POINTS_PER_SECOND_RANGE - 1);
+        double percentile = table.getLowestPercentile()
+                + fraction * (table.getHighestPercentile() - table.getLowestPercentile());
+        return new TimeAttackRules(seconds, roundTarget(table.scoreAt(seconds, percentile)));
+    }
+
+    /**
+     * Computes the target score for a time limit and scoring rate, rounded to the nearest hundred.
+     * @param seconds Time limit in seconds
+     * @param pointsPerSecond Required scoring rate
+     * @return The target score, at least 100
+     */
+    public static int targetScoreFor(int seconds, int pointsPerSecond) {
+        return roundTarget(seconds * pointsPerSecond);
+    }
+
+    private static int roundTarget(double score) {
+        int target = (int) ((Math.round(score) + 50) / 100) * 100;
+        return target == 0 ? 100 : target;
+    }
+
+    /**
+     * Gets the time limit.
+     * @return Time limit in seconds
+     */
+    public int getTimeLimitSeconds() {
+        return timeLimitSeconds;
+    }
+
+    /**
+     * Gets the score needed to win.
+     * @return Target score
+     */
+    public int getTargetScore() {
+        return targetScore;
+    }
+}
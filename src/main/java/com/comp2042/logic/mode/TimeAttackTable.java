@@ -0,0 +1,209 @@
+package com.comp2042.logic.mode;
+
+import com.comp2042.util.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Calibrated Time Attack targets: for each time limit bucket, the score reached by a given
+ * percentile of simulated games. Produced offline by {@code TimeAttackCalibrator} and shipped
+ * as a text resource, so looking up a target costs nothing at runtime.
+ * <p>
+ * The text format is a header line {@code percentiles,p1,p2,...} followed by one line
+ * {@code seconds,score1,score2,...} per bucket, in ascending order of seconds. Blank lines
+ * and lines starting with {@code #} are ignored. Instances are immutable.
+ */
+public final class TimeAttackTable {
+
+    /** Classpath location of the table shipped with the game. */
+    public static final String RESOURCE = "calibration/timeattack.csv";
+
+    private static final String HEADER = "percentiles";
+
+    private final int[] seconds;
+    private final int[] percentiles;
+    private final int[][] scores;
+
+    /**
+     * Constructs a table.
+     * @param seconds Time limit of each bucket, strictly ascending
+     * @param percentiles Percentile of each column, strictly ascending within 0-100
+     * @param scores Score per bucket and percentile, {@code scores[bucket][column]}
+     * @throws IllegalArgumentException if the axes are empty, unordered or do not match the scores
+     */
+    public TimeAttackTable(int[] seconds, int[] percentiles, int[][] scores) {
+        if (seconds.length == 0 || percentiles.length == 0 || scores.length != seconds.length) {
+            throw new IllegalArgumentException("Table needs at least one bucket and percentile");
+        }
+        for (int i = 0; i < seconds.length; i++) {
+            if (scores[i].length != percentiles.length) {
+                throw new IllegalArgumentException("Bucket " + seconds[i] + "s has " + scores[i].length + " scores");
+            }
+            if (i > 0 && seconds[i] <= seconds[i - 1]) {
+                throw new IllegalArgumentException("Buckets must be in ascending order");
+            }
+        }
+        for (int i = 0; i < percentiles.length; i++) {
+            if (percentiles[i] < 0 || percentiles[i] > 100 || (i > 0 && percentiles[i] <= percentiles[i - 1])) {
+                throw new IllegalArgumentException("Percentiles must be ascending within 0-100");
+            }
+        }
+        this.seconds = seconds.clone();
+        this.percentiles = percentiles.clone();
+        this.scores = new int[scores.length][];
+        for (int i = 0; i < scores.length; i++) {
+            this.scores[i] = scores[i].clone();
+        }
+    }
+
+    /**
+     * Loads the table shipped with the game.
+     * @return The table, or null if the resource is missing or invalid
+     */
+    public static TimeAttackTable loadDefault() {
+        InputStream in = TimeAttackTable.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (in == null) {
+            Logger.warn("No Time Attack calibration found; using uniform targets");
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            Logger.error("Could not load Time Attack calibration: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads a table in the text format.
+     * @param reader The source; not closed
+     * @return The table
+     * @throws IOException if reading fails
+     * @throws IllegalArgumentException if the text is not a valid table
+     */
+    public static TimeAttackTable parse(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        int[] percentiles = null;
+        List<int[]> rows = new ArrayList<>();
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (percentiles == null) {
+                if (!HEADER.equals(fields[0].trim())) {
+                    throw new IllegalArgumentException("Missing percentiles header");
+                }
+                percentiles = parseInts(fields, 1);
+            } else {
+                rows.add(parseInts(fields, 0));
+            }
+        }
+        if (percentiles == null) {
+            throw new IllegalArgumentException("Empty calibration table");
+        }
+        int[] seconds = new int[rows.size()];
+        int[][] scores = new int[rows.size()][];
+        for (int i = 0; i < rows.size(); i++) {
+            int[] row = rows.get(i);
+            seconds[i] = row[0];
+            scores[i] = Arrays.copyOfRange(row, 1, row.length);
+        }
+        return new TimeAttackTable(seconds, percentiles, scores);
+    }
+
+    /**
+     * Writes the table in the text format.
+     * @param writer The destination; not closed
+     * @param comment Optional first line describing how the table was made, or null
+     * @throws IOException if writing fails
+     */
+    public void write(Writer writer, String comment) throws IOException {
+        if (comment != null) {
+            writer.write("# " + comment + "\n");
+        }
+        StringBuilder header = new StringBuilder(HEADER);
+        for (int percentile : percentiles) {
+            header.append(',').append(percentile);
+        }
+        writer.write(header.append('\n').toString());
+        for (int i = 0; i < seconds.length; i++) {
+            StringBuilder row = new StringBuilder().append(seconds[i]);
+            for (int score : scores[i]) {
+                row.append(',').append(score);
+            }
+            writer.write(row.append('\n').toString());
+        }
+    }
+
+    /**
+     * Looks up the score reached by a percentile of games within a time limit, interpolating
+     * linearly between buckets and between percentiles and clamping outside the table.
+     * @param timeLimitSeconds The time limit
+     * @param percentile The percentile, 0-100
+     * @return The interpolated score
+     */
+    public double scoreAt(int timeLimitSeconds, double percentile) {
+        int bucket = lowerIndex(seconds, timeLimitSeconds);
+        double bucketWeight = weight(seconds, bucket, timeLimitSeconds);
+        int column = lowerIndex(percentiles, percentile);
+        double columnWeight = weight(percentiles, column, percentile);
+        double low = lerp(scores[bucket], column, columnWeight);
+        double high = bucket + 1 < seconds.length ? lerp(scores[bucket + 1], column, columnWeight) : low;
+        return low + (high - low) * bucketWeight;
+    }
+
+    public int getLowestPercentile() {
+        return percentiles[0];
+    }
+
+    public int getHighestPercentile() {
+        return percentiles[percentiles.length - 1];
+    }
+
+    private static double lerp(int[] row, int column, double weight) {
+        double low = row[column];
+        double high = column + 1 < row.length ? row[column + 1] : low;
+        return low + (high - low) * weight;
+    }
+
+    /** Index of the last axis value at or below {@code value}, or 0 below the axis. */
+    private static int lowerIndex(int[] axis, double value) {
+        int index = 0;
+        while (index + 1 < axis.length && axis[index + 1] <= value) {
+            index++;
+        }
+        return index;
+    }
+
+    /** How far {@code value} lies from {@code axis[index]} towards the next value, clamped to 0-1. */
+    private static double weight(int[] axis, int index, double value) {
+        if (index + 1 >= axis.length || value <= axis[index]) {
+            return 0;
+        }
+        return Math.min(1, (value - axis[index]) / (axis[index + 1] - axis[index]));
+    }
+
+    private static int[] parseInts(String[] fields, int from) {
+        int[] values = new int[fields.length - from];
+        for (int i = from; i < fields.length; i++) {
+            try {
+                values[i - from] = Integer.parseInt(fields[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number: " + fields[i].trim());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.logic.puzzle;
+
+/**
+ * A verified Puzzle mode game: the seed that generates its garbage and bricks, and the
+ * number of bricks the solver needed to reach the line goal.
+ */
+public final class Puzzle {
+
+    private final long seed;
+    private final int par;
+
+    /**
+     * Constructs a puzzle.
+     * @param seed The game seed value
+     * @param par Bricks the solver placed to reach the line goal
+     */
+    public Puzzle(long seed, int par) {
+        this.seed = seed;
+        this.par = par;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getPar() {
+        return par;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Puzzle)) {
+            return false;
+        }
+        Puzzle other = (Puzzle) o;
+        return seed == other.seed && par == other.par;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(seed) + par;
+    }
+
+    @Override
+    public String toString() {
+        return "Puzzle{seed=" + seed + ", par=" + par + "}";
+    }
+}
@@ -0,0 +1,56 @@
+package com.comp2042.logic.puzzle;
+
+import com.comp2042.logic.random.GameSeed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Generates verified puzzles from a master seed. Candidate seeds are derived in rounds and
+ * solved in parallel on a fork/join pool; the solvable ones are kept in candidate order,
+ * so the same master seed always yields the same puzzles however many threads run.
+ */
+public final class PuzzleGenerator {
+
+    /** Gives up after this many rounds when too few candidates can be solved. */
+    private static final int MAX_ROUNDS = 8;
+
+    private final PuzzleSolver solver;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a generator.
+     * @param solver Verifies candidates and computes their par
+     * @param pool The pool candidates are solved on
+     */
+    public PuzzleGenerator(PuzzleSolver solver, ForkJoinPool pool) {
+        this.solver = solver;
+        this.pool = pool;
+    }
+
+    /**
+     * Generates puzzles.
+     * @param masterSeed Seed the candidate seeds are derived from
+     * @param count Puzzles wanted
+     * @return Up to {@code count} solvable puzzles; fewer only if most candidates fail
+     */
+    public List<Puzzle> generate(long masterSeed, int count) {
+        List<Puzzle> puzzles = new ArrayList<>(count);
+        SplittableRandom rounds = new SplittableRandom(masterSeed);
+        for (int round = 0; round < MAX_ROUNDS && puzzles.size() < count; round++) {
+            long[] candidates = GameSeed.batchValues(rounds.nextLong(), count - puzzles.size());
+            int[] pars = new int[candidates.length];
+            pool.submit(() -> IntStream.range(0, candidates.length).parallel()
+                    .forEach(i -> pars[i] = solver.solve(candidates[i]))).join();
+            for (int i = 0; i < candidates.length; i++) {
+                if (pars[i] != PuzzleSolver.UNSOLVED) {
+                    puzzles.add(new Puzzle(candidates[i], pars[i]));
+                }
+            }
+        }
+        return puzzles;
+    }
+}
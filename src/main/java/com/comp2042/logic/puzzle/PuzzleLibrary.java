@@ -0,0 +1,226 @@
+package com.comp2042.logic.puzzle;
+
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.BfsPlacementGenerator;
+import com.comp2042.logic.ai.Bot;
+import com.comp2042.logic.ai.Heuristic;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves verified puzzles to Puzzle mode from a pack file, refilling it in the background.
+ * The pack is read once into memory, so {@link #next()} only takes a record and queues a
+ * four-byte index update for the writer thread. When fewer than {@link #LOW_WATER} puzzles
+ * are left, a refill generates more on a fork/join pool and rewrites the pack without the
+ * played ones. Without a pack file the starter pack shipped as {@link #STARTER_RESOURCE}
+ * is used and written out on the first take. All file access happens on one writer thread,
+ * in the order the changes were made. {@link #close()} waits for the writes and stops both threads.
+ */
+public final class PuzzleLibrary implements AutoCloseable {
+
+    /** Pack file kept next to the high scores. */
+    public static final String PACK_FILE = "puzzles.dat";
+
+    /** Classpath location of the pack shipped with the game. */
+    public static final String STARTER_RESOURCE = "puzzles/starter.dat";
+
+    /** A refill starts once this few puzzles are left. */
+    public static final int LOW_WATER = 4;
+
+    /** Puzzles generated per refill. */
+    public static final int REFILL_COUNT = 16;
+
+    /** Solver budget: about twice the bricks a perfect solve needs. */
+    public static final int MAX_PIECES = 160;
+
+    /** Longest {@link #close()} waits for queued writes, in seconds. */
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private static PuzzleLibrary shared;
+
+    private final Path file;
+    private final PuzzleGenerator generator;
+    private final ExecutorService writer;
+    private final ExecutorService refiller;
+    private final PuzzlePack pack;
+    private boolean onDisk;
+    private boolean closed;
+    private CompletableFuture<Void> pending;
+
+    /**
+     * Constructs a library.
+     * @param file The pack file, created on the first take or refill if missing
+     * @param generator Generates puzzles for refills
+     * @param starter Pack used while the file does not exist, or null
+     */
+    public PuzzleLibrary(Path file, PuzzleGenerator generator, PuzzlePack starter) {
+        this.file = file;
+        this.generator = generator;
+        this.writer = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("puzzle-writer").daemon().factory());
+        this.refiller = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("puzzle-refill").daemon().factory());
+        PuzzlePack loaded = load(file);
+        this.onDisk = loaded != null;
+        this.pack = loaded != null ? loaded
+                : starter != null && starter.getTargetLines() == GameConstants.PUZZLE_MODE_TARGET_LINES ? starter
+                : new PuzzlePack(GameConstants.PUZZLE_MODE_TARGET_LINES);
+    }
+
+    /**
+     * Gets the library used by the game, creating it on first use.
+     * Its generator solves on a pool using half the processors, so refills leave room for play.
+     * @return The shared library
+     */
+    public static synchronized PuzzleLibrary getDefault() {
+        if (shared == null) {
+            ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+            BeamSearch search = new BeamSearch(new BfsPlacementGenerator(), Heuristic.DEFAULT,
+                    Bot.DEFAULT_BEAM_WIDTH, Bot.DEFAULT_DEPTH, pool);
+            PuzzleSolver solver = new PuzzleSolver(new Bot(search)::playPiece, MAX_PIECES);
+            shared = new PuzzleLibrary(Paths.get(PACK_FILE), new PuzzleGenerator(solver, pool), loadStarter());
+        }
+        return shared;
+    }
+
+    /**
+     * Takes the next unplayed puzzle and starts a refill if the pack runs low.
+     * @return The puzzle, or null if none is left until the refill completes
+     */
+    public synchronized Puzzle next() {
+        Puzzle puzzle = pack.take();
+        if (puzzle != null && onDisk) {
+            int index = pack.getNext();
+            writer.execute(() -> writeNext(index));
+        } else if (puzzle != null) {
+            save();
+        }
+        if (pack.remaining() < LOW_WATER) {
+            refill();
+        }
+        return puzzle;
+    }
+
+    /**
+     * Generates {@link #REFILL_COUNT} puzzles in the background and adds them to the pack,
+     * unless a refill is already running.
+     * @return Completes once the puzzles are added and the pack write is queued
+     */
+    public synchronized CompletableFuture<Void> refill() {
+        if (pending != null && !pending.isDone()) {
+            return pending;
+        }
+        long masterSeed = ThreadLocalRandom.current().nextLong();
+        pending = CompletableFuture.supplyAsync(() -> generator.generate(masterSeed, REFILL_COUNT), refiller)
+                .thenAccept(this::addAll)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        Logger.error("Puzzle refill failed: " + error.getMessage());
+                    }
+                });
+        return pending;
+    }
+
+    /**
+     * Gets the number of unplayed puzzles.
+     * @return Puzzles left
+     */
+    public synchronized int remaining() {
+        return pack.remaining();
+    }
+
+    /**
+     * Stops any running refill, waits for the file writes queued so far and stops both threads.
+     * The library must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        refiller.shutdownNow();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Logger.warn("Puzzle pack writes did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void addAll(List<Puzzle> puzzles) {
+        if (closed) {
+            return;
+        }
+        pack.compact();
+        for (Puzzle puzzle : puzzles) {
+            pack.add(puzzle);
+        }
+        save();
+    }
+
+    private void save() {
+        byte[] bytes = pack.toBytes();
+        onDisk = true;
+        writer.execute(() -> writeAll(bytes));
+    }
+
+    private void writeNext(int index) {
+        try {
+            PuzzlePack.writeNext(file, index);
+        } catch (IOException e) {
+            Logger.error("Error saving puzzle pack: " + e.getMessage());
+        }
+    }
+
+    private void writeAll(byte[] bytes) {
+        try {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Logger.error("Error saving puzzle pack: " + e.getMessage());
+        }
+    }
+
+    private static PuzzlePack load(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            PuzzlePack pack = PuzzlePack.fromBytes(Files.readAllBytes(file));
+            if (pack.getTargetLines() != GameConstants.PUZZLE_MODE_TARGET_LINES) {
+                Logger.warn("Puzzle pack was solved for " + pack.getTargetLines() + " lines; regenerating");
+                return null;
+            }
+            return pack;
+        } catch (IOException | IllegalArgumentException e) {
+            Logger.error("Error loading puzzle pack: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static PuzzlePack loadStarter() {
+        try (InputStream in = PuzzleLibrary.class.getClassLoader().getResourceAsStream(STARTER_RESOURCE)) {
+            return in == null ? null : PuzzlePack.fromBytes(in.readAllBytes());
+        } catch (IOException | IllegalArgumentException e) {
+            Logger.error("Error loading starter puzzles: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.logic.puzzle;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A queue of verified puzzles with a compact binary form.
+ * <p>
+ * Binary layout: the magic bytes {@code TPZ}, a version byte, the line goal the puzzles were
+ * solved for as 2 bytes, the record count and the index of the next unplayed record as
+ * 4 bytes each, then one fixed-width record per puzzle: the seed as 8 bytes and the par as
+ * 2 bytes, all big-endian. Fixed-width records make the next-record index enough to find a
+ * puzzle, and taking one only rewrites that index in place ({@link #writeNext(Path, int)}).
+ * Not thread-safe.
+ */
+public final class PuzzlePack {
+
+    /** Bytes before the first record. */
+    static final int HEADER_BYTES = 14;
+    /** Bytes per puzzle record. */
+    static final int RECORD_BYTES = 10;
+
+    private static final byte[] MAGIC = {'T', 'P', 'Z'};
+    private static final int VERSION = 1;
+    private static final int NEXT_OFFSET = 10;
+
+    private final int targetLines;
+    private long[] seeds;
+    private short[] pars;
+    private int size;
+    private int next;
+
+    /**
+     * Constructs an empty pack.
+     * @param targetLines The line goal its puzzles are solved for
+     */
+    public PuzzlePack(int targetLines) {
+        this(targetLines, new long[8], new short[8], 0, 0);
+    }
+
+    private PuzzlePack(int targetLines, long[] seeds, short[] pars, int size, int next) {
+        this.targetLines = targetLines;
+        this.seeds = seeds;
+        this.pars = pars;
+        this.size = size;
+        this.next = next;
+    }
+
+    /**
+     * Appends a puzzle behind the unplayed ones.
+     * @param puzzle The puzzle
+     * @throws IllegalArgumentException if its par does not fit a record
+     */
+    public void add(Puzzle puzzle) {
+        if (puzzle.getPar() < 0 || puzzle.getPar() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Par out of range: " + puzzle.getPar());
+        }
+        if (size == seeds.length) {
+            seeds = Arrays.copyOf(seeds, size * 2);
+            pars = Arrays.copyOf(pars, size * 2);
+        }
+        seeds[size] = puzzle.getSeed();
+        pars[size] = (short) puzzle.getPar();
+        size++;
+    }
+
+    /**
+     * Takes the next unplayed puzzle.
+     * @return The puzzle, or null if every puzzle has been played
+     */
+    public Puzzle take() {
+        if (next == size) {
+            return null;
+        }
+        Puzzle puzzle = new Puzzle(seeds[next], pars[next]);
+        next++;
+        return puzzle;
+    }
+
+    /**
+     * Drops the played puzzles, so the next unplayed one becomes the first record.
+     */
+    public void compact() {
+        System.arraycopy(seeds, next, seeds, 0, size - next);
+        System.arraycopy(pars, next, pars, 0, size - next);
+        size -= next;
+        next = 0;
+    }
+
+    /**
+     * Gets the number of unplayed puzzles.
+     * @return Puzzles left to take
+     */
+    public int remaining() {
+        return size - next;
+    }
+
+    /**
+     * Gets the index of the next unplayed record.
+     * @return The record index
+     */
+    public int getNext() {
+        return next;
+    }
+
+    public int getTargetLines() {
+        return targetLines;
+    }
+
+    /**
+     * Encodes the pack in its binary format.
+     * @return The encoded bytes
+     */
+    public byte[] toBytes() {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + size * RECORD_BYTES);
+        out.put(MAGIC);
+        out.put((byte) VERSION);
+        out.putShort((short) targetLines);
+        out.putInt(size);
+        out.putInt(next);
+        for (int i = 0; i < size; i++) {
+            out.putLong(seeds[i]);
+            out.putShort(pars[i]);
+        }
+        return out.array();
+    }
+
+    /**
+     * Decodes a pack from its binary format.
+     * @param data The encoded bytes
+     * @return The decoded pack
+     * @throws IllegalArgumentException if the data is not a supported pack
+     */
+    public static PuzzlePack fromBytes(byte[] data) {
+        if (data.length < HEADER_BYTES) {
+            throw new IllegalArgumentException("Truncated puzzle pack");
+        }
+        ByteBuffer in = ByteBuffer.wrap(data);
+        for (byte b : MAGIC) {
+            if (in.get() != b) {
+                throw new IllegalArgumentException("Not a puzzle pack");
+            }
+        }
+        int version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported puzzle pack version: " + version);
+        }
+        int targetLines = in.getShort();
+        int size = in.getInt();
+        int next = in.getInt();
+        if (size < 0 || (long) size * RECORD_BYTES != in.remaining() || next < 0 || next > size) {
+            throw new IllegalArgumentException("Corrupt puzzle pack");
+        }
+        long[] seeds = new long[Math.max(size, 1)];
+        short[] pars = new short[seeds.length];
+        for (int i = 0; i < size; i++) {
+            seeds[i] = in.getLong();
+            pars[i] = in.getShort();
+        }
+        return new PuzzlePack(targetLines, seeds, pars, size, next);
+    }
+
+    /**
+     * Records in a pack file which record is played next, without rewriting the records.
+     * @param path A file written from {@link #toBytes()}
+     * @param next The record index
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeNext(Path path, int next) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(NEXT_OFFSET);
+            file.writeInt(next);
+        }
+    }
+}
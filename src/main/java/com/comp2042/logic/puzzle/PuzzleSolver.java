@@ -0,0 +1,53 @@
+package com.comp2042.logic.puzzle;
+
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.simulation.GamePlayer;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.logic.simulation.TournamentRunner;
+import com.comp2042.model.GameMode;
+
+/**
+ * Decides whether a Puzzle mode seed can be solved, by letting a player search its way
+ * through the puzzle with a budget of bricks. The game is set up exactly as Puzzle mode
+ * sets it up, so the same garbage and brick sequence are played; the bricks placed when
+ * the line goal is reached become the puzzle's par.
+ */
+public final class PuzzleSolver {
+
+    /** Returned by {@link #solve(long)} when the budget runs out or the game tops out. */
+    public static final int UNSOLVED = -1;
+
+    private final GamePlayer player;
+    private final int maxPieces;
+
+    /**
+     * Constructs a solver.
+     * @param player Plays the puzzle; must be safe to call from several threads at once
+     * @param maxPieces Most bricks the player may place
+     */
+    public PuzzleSolver(GamePlayer player, int maxPieces) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("maxPieces must be positive");
+        }
+        this.player = player;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays a puzzle to its line goal.
+     * @param seed The puzzle's seed value
+     * @return Bricks placed when the goal was reached, or {@link #UNSOLVED}
+     */
+    public int solve(long seed) {
+        HeadlessGame game = new HeadlessGame(TournamentRunner.standardBoard(new GameSeed(seed)), GameMode.PUZZLE);
+        game.start();
+        while (!game.isFinished() && game.getPiecesPlaced() < maxPieces && player.playPiece(game)) {
+            // the player locks one brick per call
+        }
+        return game.isWon() ? game.getPiecesPlaced() : UNSOLVED;
+    }
+
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+}
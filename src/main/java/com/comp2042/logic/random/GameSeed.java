@@ -0,0 +1,132 @@
+package com.comp2042.logic.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The single source of randomness for one game.
+ * A seed is split into independent {@link SplittableRandom} streams for the 7-Bag,
+ * Puzzle mode garbage and mode setup (such as the Time Attack limits), so the same seed
+ * always produces the same game regardless of how often each stream is drawn from.
+ * A further stream yields the seeds of the games that follow on the same board.
+ * Streams are not thread-safe; a game and its seed belong to one thread at a time.
+ */
+public final class GameSeed {
+
+    /** Odd constant spacing the batch indices apart (the 64-bit golden ratio). */
+    private static final long BATCH_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final SplittableRandom brickRandom;
+    private final SplittableRandom garbageRandom;
+    private final SplittableRandom modeRandom;
+    private final SplittableRandom successorRandom;
+
+    /**
+     * Constructs the streams for a seed.
+     * @param seed The seed value
+     */
+    public GameSeed(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.brickRandom = root.split();
+        this.garbageRandom = root.split();
+        this.modeRandom = root.split();
+        this.successorRandom = root.split();
+    }
+
+    /**
+     * Creates a seed from an unpredictable value, for normal play.
+     * @return A new game seed
+     */
+    public static GameSeed random() {
+        return new GameSeed(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Derives seeds for a batch of games from one master seed.
+     * The derived games draw from statistically independent streams, so they can be
+     * simulated in parallel and the whole batch is reproduced by the master seed.
+     * @param masterSeed Seed of the batch
+     * @param count Number of game seeds to derive
+     * @return The derived seeds in order
+     */
+    public static List<GameSeed> batch(long masterSeed, int count) {
+        List<GameSeed> seeds = new ArrayList<>(count);
+        for (long value : batchValues(masterSeed, count)) {
+            seeds.add(new GameSeed(value));
+        }
+        return seeds;
+    }
+
+    /**
+     * Derives the seed values of a batch without building the seeds themselves, so large
+     * batches can create each {@link GameSeed} only when its game is played.
+     * @param masterSeed Seed of the batch
+     * @param count Number of game seeds to derive
+     * @return The same values {@link #batch(long, int)} would seed its games with, in order
+     */
+    public static long[] batchValues(long masterSeed, int count) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = batchValue(masterSeed, i);
+        }
+        return values;
+    }
+
+    /**
+     * Derives the seed value of one game of a batch from its index alone, so parts of a
+     * batch can be seeded independently without deriving the games before them.
+     * @param masterSeed Seed of the batch
+     * @param index Index of the game in the batch
+     * @return The value {@link #batch(long, int)} seeds that game with
+     */
+    public static long batchValue(long masterSeed, long index) {
+        return new SplittableRandom(masterSeed + BATCH_GAMMA * (index + 1)).split().nextLong();
+    }
+
+    /**
+     * Derives the seed of the next game played on the same board.
+     * Each call yields a new seed, so consecutive games differ but the whole
+     * session is still reproduced by the first seed.
+     * @return The next game's seed
+     */
+    public GameSeed next() {
+        return new GameSeed(successorRandom.nextLong());
+    }
+
+    /**
+     * Gets the seed value, e.g. to record it for a replay.
+     * @return The seed value
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the stream used to shuffle the 7-Bag.
+     * @return The brick stream
+     */
+    public RandomGenerator getBrickRandom() {
+        return brickRandom;
+    }
+
+    /**
+     * Gets the stream used to generate Puzzle mode garbage.
+     * @return The garbage stream
+     */
+    public RandomGenerator getGarbageRandom() {
+        return garbageRandom;
+    }
+
+    /**
+     * Gets the stream used for game mode setup.
+     * @return The mode stream
+     */
+    public RandomGenerator getModeRandom() {
+        return modeRandom;
+    }
+}
@@ -0,0 +1,143 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.model.GameMode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * An immutable recording of one game: the game seed, the mode and the delta-timed actions.
+ * <p>
+ * Binary layout: the magic bytes {@code TRP}, a version byte, the mode ordinal and event count
+ * as varints, the seed as 8 big-endian bytes, the event payload length as a varint and then
+ * the payload. Each event is one unsigned LEB128 varint holding
+ * {@code (deltaTicks << 3) | actionCode}, with time measured in {@link #TICKS_PER_SECOND}
+ * ticks since the previous event, so most events take one or two bytes.
+ */
+public final class Replay {
+
+    /** Time resolution of the event deltas. */
+    public static final int TICKS_PER_SECOND = 100;
+
+    static final int ACTION_BITS = 3;
+    static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+
+    private static final byte[] MAGIC = {'T', 'R', 'P'};
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final GameMode gameMode;
+    private final byte[] events;
+    private final int eventCount;
+
+    Replay(long seed, GameMode gameMode, byte[] events, int eventCount) {
+        this.seed = seed;
+        this.gameMode = gameMode;
+        this.events = events;
+        this.eventCount = eventCount;
+    }
+
+    /**
+     * Gets the seed the recorded game was played with.
+     * @return The game seed value
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the mode the recorded game was played in.
+     * @return The game mode
+     */
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * Gets the number of recorded events, including the closing {@link ReplayAction#END}.
+     * @return Number of events
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Creates a reader positioned before the first event.
+     * @return A new reader over the events
+     */
+    public ReplayReader reader() {
+        return new ReplayReader(events, 0, events.length);
+    }
+
+    /**
+     * Encodes the replay in its binary format.
+     * @return The encoded bytes
+     */
+    public byte[] toBytes() {
+        VarintBuffer out = new VarintBuffer(events.length + 24);
+        for (byte b : MAGIC) {
+            out.writeByte(b);
+        }
+        out.writeByte(VERSION);
+        out.writeVarint(gameMode.ordinal());
+        out.writeVarint(eventCount);
+        out.writeLong(seed);
+        out.writeVarint(events.length);
+        out.writeBytes(events);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a replay from its binary format.
+     * @param data The encoded bytes
+     * @return The decoded replay
+     * @throws IllegalArgumentException if the data is not a supported replay
+     */
+    public static Replay fromBytes(byte[] data) {
+        ReplayReader in = new ReplayReader(data, 0, data.length);
+        for (byte b : MAGIC) {
+            if (in.readByte() != b) {
+                throw new IllegalArgumentException("Not a replay file");
+            }
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version: " + version);
+        }
+        int modeOrdinal = (int) in.readVarint();
+        GameMode[] modes = GameMode.values();
+        if (modeOrdinal < 0 || modeOrdinal >= modes.length) {
+            throw new IllegalArgumentException("Unknown game mode: " + modeOrdinal);
+        }
+        int eventCount = (int) in.readVarint();
+        long seed = in.readLong();
+        int length = (int) in.readVarint();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Truncated replay");
+        }
+        byte[] events = Arrays.copyOfRange(data, in.position(), in.position() + length);
+        return new Replay(seed, modes[modeOrdinal], events, eventCount);
+    }
+
+    /**
+     * Writes the encoded replay to a file, replacing any existing file.
+     * @param path The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path path) throws IOException {
+        Files.write(path, toBytes());
+    }
+
+    /**
+     * Reads a replay file.
+     * @param path The file to read
+     * @return The decoded replay
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a supported replay
+     */
+    public static Replay readFrom(Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+}
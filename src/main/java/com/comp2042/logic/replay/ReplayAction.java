@@ -0,0 +1,20 @@
+package com.comp2042.logic.replay;
+
+/**
+ * Actions stored in a replay, one per recorded listener call or timer drop.
+ * The ordinal is the 3-bit code written to the event stream, so constants must only be appended.
+ */
+public enum ReplayAction {
+    LEFT, RIGHT, ROTATE, HOLD, SOFT_DROP, HARD_DROP, GRAVITY, END;
+
+    private static final ReplayAction[] BY_CODE = values();
+
+    /**
+     * Gets the action stored under a code.
+     * @param code The 3-bit action code
+     * @return The matching action
+     */
+    static ReplayAction fromCode(int code) {
+        return BY_CODE[code];
+    }
+}
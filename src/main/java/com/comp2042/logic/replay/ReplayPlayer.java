@@ -0,0 +1,72 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.logic.simulation.TickClock;
+import com.comp2042.model.GameBoard;
+
+/**
+ * Re-executes a {@link Replay} against a fresh headless game as fast as possible.
+ * The board is rebuilt from the recorded seed, clock-driven gravity is turned off and the
+ * recorded gravity drops are applied instead, so the game follows the recording exactly.
+ */
+public final class ReplayPlayer {
+
+    private ReplayPlayer() {
+    }
+
+    /**
+     * Plays a replay to its end, or until the game finishes.
+     * @param replay The replay to play
+     * @return The headless game in its final state
+     */
+    public static HeadlessGame play(Replay replay) {
+        GameBoard board = new GameBoard(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, new GameSeed(replay.getSeed()));
+        HeadlessGame game = new HeadlessGame(board, replay.getGameMode(), new TickClock(Replay.TICKS_PER_SECOND));
+        game.setAutoGravity(false);
+        game.start();
+
+        ReplayReader reader = replay.reader();
+        while (!game.isFinished() && reader.next()) {
+            game.advance(reader.getDeltaTicks());
+            switch (reader.getAction()) {
+                case LEFT:
+                    game.apply(EventType.LEFT);
+                    break;
+                case RIGHT:
+                    game.apply(EventType.RIGHT);
+                    break;
+                case ROTATE:
+                    game.apply(EventType.ROTATE);
+                    break;
+                case HOLD:
+                    game.apply(EventType.HOLD);
+                    break;
+                case SOFT_DROP:
+                    game.apply(EventType.DOWN);
+                    break;
+                case HARD_DROP:
+                    game.apply(EventType.HARD_DROP);
+                    break;
+                case GRAVITY:
+                    game.applyGravity();
+                    break;
+                case END:
+                default:
+                    break;
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Checks a claimed score against the score the replay actually produces.
+     * @param replay The replay backing the claim
+     * @param claimedScore The score that was reported
+     * @return true if replaying yields exactly the claimed score
+     */
+    public static boolean verifyScore(Replay replay, int claimedScore) {
+        return play(replay).getScore().getValue() == claimedScore;
+    }
+}
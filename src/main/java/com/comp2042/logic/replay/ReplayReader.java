@@ -0,0 +1,91 @@
+package com.comp2042.logic.replay;
+
+/**
+ * Forward-only cursor over a replay's events.
+ * Decodes one varint per {@link #next()} straight from the byte array without allocating,
+ * exposing the current action and its delta through plain accessors.
+ */
+public final class ReplayReader {
+
+    private final byte[] data;
+    private final int end;
+    private int position;
+    private ReplayAction action;
+    private long deltaTicks;
+
+    ReplayReader(byte[] data, int offset, int end) {
+        this.data = data;
+        this.position = offset;
+        this.end = end;
+    }
+
+    /**
+     * Advances to the next event.
+     * @return true if an event was read, false at the end of the stream
+     * @throws IllegalArgumentException if the stream is truncated
+     */
+    public boolean next() {
+        if (position >= end) {
+            return false;
+        }
+        long value = readVarint();
+        action = ReplayAction.fromCode((int) (value & Replay.ACTION_MASK));
+        deltaTicks = value >>> Replay.ACTION_BITS;
+        return true;
+    }
+
+    /**
+     * Gets the action of the current event.
+     * @return The current action
+     */
+    public ReplayAction getAction() {
+        return action;
+    }
+
+    /**
+     * Gets the time since the previous event.
+     * @return Delta in {@link Replay#TICKS_PER_SECOND} ticks
+     */
+    public long getDeltaTicks() {
+        return deltaTicks;
+    }
+
+    long readVarint() {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (position >= end || shift > 63) {
+                throw new IllegalArgumentException("Truncated replay");
+            }
+            byte b = data[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    int readByte() {
+        if (position >= end) {
+            throw new IllegalArgumentException("Truncated replay");
+        }
+        return data[position++];
+    }
+
+    long readLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (readByte() & 0xFF);
+        }
+        return value;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int remaining() {
+        return end - position;
+    }
+}
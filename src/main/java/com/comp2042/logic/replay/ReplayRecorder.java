@@ -0,0 +1,200 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.controller.EventSource;
+import com.comp2042.controller.EventType;
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.controller.MoveEvent;
+import com.comp2042.logic.board.DownData;
+import com.comp2042.model.GameMode;
+import com.comp2042.view.ViewData;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Records a game by sitting between the view and the game's {@link InputEventListener}.
+ * Every call is forwarded unchanged; calls made while the game accepts input are also
+ * appended to a delta-timed event stream, with timer drops ({@link EventSource#THREAD})
+ * stored as {@link ReplayAction#GRAVITY}. Time spent paused is left out of the deltas.
+ */
+public final class ReplayRecorder implements InputEventListener {
+
+    private static final long NANOS_PER_TICK = 1_000_000_000L / Replay.TICKS_PER_SECOND;
+
+    private final InputEventListener delegate;
+    private final BooleanSupplier accepting;
+    private final LongSupplier nanoClock;
+    private final VarintBuffer events = new VarintBuffer(4096);
+
+    private boolean recording;
+    private long seed;
+    private GameMode gameMode;
+    private int eventCount;
+    private long startNanos;
+    private long pausedNanos;
+    private long pausedAtNanos = -1;
+    private long lastTick;
+
+    /**
+     * Constructs a recorder using the system clock.
+     * @param delegate The listener that actually handles the input
+     * @param accepting Whether the delegate currently acts on input (e.g. not during animations)
+     */
+    public ReplayRecorder(InputEventListener delegate, BooleanSupplier accepting) {
+        this(delegate, accepting, System::nanoTime);
+    }
+
+    /**
+     * Constructs a recorder with an explicit clock.
+     * @param delegate The listener that actually handles the input
+     * @param accepting Whether the delegate currently acts on input (e.g. not during animations)
+     * @param nanoClock Source of monotonic time in nanoseconds
+     */
+    public ReplayRecorder(InputEventListener delegate, BooleanSupplier accepting, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.accepting = accepting;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Starts a new recording, discarding any unfinished one.
+     * @param seed The seed of the game being played
+     * @param gameMode The mode of the game being played
+     */
+    public void begin(long seed, GameMode gameMode) {
+        this.seed = seed;
+        this.gameMode = gameMode;
+        events.clear();
+        eventCount = 0;
+        startNanos = nanoClock.getAsLong();
+        pausedNanos = 0;
+        pausedAtNanos = -1;
+        lastTick = 0;
+        recording = true;
+    }
+
+    /**
+     * Stops the recording clock while the game is paused.
+     */
+    public void pause() {
+        if (recording && pausedAtNanos < 0) {
+            pausedAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * Restarts the recording clock after a pause.
+     */
+    public void resume() {
+        if (pausedAtNanos >= 0) {
+            pausedNanos += nanoClock.getAsLong() - pausedAtNanos;
+            pausedAtNanos = -1;
+        }
+    }
+
+    /**
+     * Ends the recording, closing it with an {@link ReplayAction#END} event at the current time.
+     * @return The finished replay, or null if nothing was being recorded
+     */
+    public Replay finish() {
+        if (!recording) {
+            return null;
+        }
+        append(ReplayAction.END);
+        recording = false;
+        return new Replay(seed, gameMode, events.toByteArray(), eventCount);
+    }
+
+    /**
+     * Checks whether a recording is in progress.
+     * @return true between {@link #begin} and {@link #finish()}
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    private void record(ReplayAction action) {
+        if (recording && pausedAtNanos < 0 && accepting.getAsBoolean()) {
+            append(action);
+        }
+    }
+
+    private void append(ReplayAction action) {
+        long now = pausedAtNanos >= 0 ? pausedAtNanos : nanoClock.getAsLong();
+        long tick = Math.max(lastTick, (now - startNanos - pausedNanos) / NANOS_PER_TICK);
+        events.writeVarint(((tick - lastTick) << Replay.ACTION_BITS) | action.ordinal());
+        lastTick = tick;
+        eventCount++;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event.getEventSource() == EventSource.USER ? ReplayAction.SOFT_DROP : ReplayAction.GRAVITY);
+        return delegate.onDownEvent(event);
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(ReplayAction.LEFT);
+        return delegate.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(ReplayAction.RIGHT);
+        return delegate.onRightEvent(event);
+    }
+
+    /**
+     * Records a multi-cell shift as one LEFT or RIGHT event per cell actually moved,
+     * so playback needs no notion of auto-repeat timing.
+     */
+    @Override
+    public int onShiftEvent(MoveEvent event, int maxCells) {
+        boolean record = recording && pausedAtNanos < 0 && accepting.getAsBoolean();
+        int moved = delegate.onShiftEvent(event, maxCells);
+        if (record) {
+            ReplayAction action = event.getEventType() == EventType.LEFT ? ReplayAction.LEFT : ReplayAction.RIGHT;
+            for (int i = 0; i < moved; i++) {
+                append(action);
+            }
+        }
+        return moved;
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(ReplayAction.ROTATE);
+        return delegate.onRotateEvent(event);
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(ReplayAction.HARD_DROP);
+        return delegate.onHardDropEvent(event);
+    }
+
+    @Override
+    public ViewData onHoldEvent() {
+        record(ReplayAction.HOLD);
+        return delegate.onHoldEvent();
+    }
+
+    /**
+     * Forwards the hint request without recording it, since it does not change the game.
+     */
+    @Override
+    public void onHintEvent() {
+        delegate.onHintEvent();
+    }
+
+    /**
+     * Forwards the restart and drops the unfinished recording; the caller begins a new one
+     * once the new game actually starts.
+     */
+    @Override
+    public void createNewGame() {
+        recording = false;
+        delegate.createNewGame();
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.logic.replay;
+
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer with unsigned LEB128 varint writes, used to build replay streams.
+ */
+final class VarintBuffer {
+
+    private byte[] bytes;
+    private int size;
+
+    VarintBuffer(int initialCapacity) {
+        bytes = new byte[Math.max(16, initialCapacity)];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+    }
+
+    void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    void writeBytes(byte[] data) {
+        ensureCapacity(data.length);
+        System.arraycopy(data, 0, bytes, size, data.length);
+        size += data.length;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
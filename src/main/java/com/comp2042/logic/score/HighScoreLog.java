@@ -0,0 +1,250 @@
+package com.comp2042.logic.score;
+
+import com.comp2042.util.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only high score log, written behind the caller's back by one daemon thread per file.
+ * {@link #append(String)} only queues a record; the writer appends everything queued in one
+ * write, then calls {@code fsync} once no record has arrived for {@link #SYNC_DEBOUNCE_MILLIS},
+ * or at the latest {@link #SYNC_MAX_DELAY_MILLIS} after the first unsynced write. Every
+ * {@link #COMPACT_THRESHOLD} records the writer replays the file through {@link TopScores} and
+ * atomically replaces it with the live entries only. A shutdown hook flushes the log.
+ * <p>
+ * All managers of one file share its log, so their records are ordered by one thread, and
+ * {@link #load()} runs on that thread after the records queued before it.
+ */
+final class HighScoreLog {
+
+    /** Quiet time after the last write before it is synced. */
+    static final long SYNC_DEBOUNCE_MILLIS = 500;
+
+    /** Longest a written record may stay unsynced. */
+    static final long SYNC_MAX_DELAY_MILLIS = 2000;
+
+    /** Records in the file that trigger a compaction. */
+    static final int COMPACT_THRESHOLD = 256;
+
+    private static final Map<Path, HighScoreLog> LOGS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final int capacity;
+    private final ScheduledExecutorService writer;
+    private final List<String> pending = new ArrayList<>();
+
+    // writer thread only
+    private FileChannel channel;
+    private int records;
+    private long firstUnsyncedNanos = -1;
+    private ScheduledFuture<?> syncTask;
+
+    private HighScoreLog(Path path, int capacity) {
+        this.path = path;
+        this.capacity = capacity;
+        this.writer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("highscore-writer").daemon().factory());
+        Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(this::flushOnExit));
+    }
+
+    /**
+     * Gets the log of a file, creating it on first use.
+     * @param path The log file
+     * @param capacity Entries kept per mode when compacting
+     * @return The shared log
+     */
+    static HighScoreLog of(Path path, int capacity) {
+        return LOGS.computeIfAbsent(path.toAbsolutePath().normalize(), p -> new HighScoreLog(p, capacity));
+    }
+
+    /**
+     * Reads every record in the file, after the records queued so far have been written.
+     * Blocks the caller; meant for start-up. A missing file is created empty.
+     * @return The records in order
+     */
+    List<String> load() {
+        return CompletableFuture.supplyAsync(this::readAll, writer).join();
+    }
+
+    /**
+     * Queues a record for the writer.
+     * @param record One line, without a line break
+     */
+    void append(String record) {
+        boolean first;
+        synchronized (pending) {
+            first = pending.isEmpty();
+            pending.add(record);
+        }
+        if (first) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Writes and syncs every record queued so far.
+     * @return Completes once they are on disk
+     */
+    CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(() -> {
+            drain();
+            sync();
+        }, writer);
+    }
+
+    private List<String> readAll() {
+        drain();
+        List<String> lines = new ArrayList<>();
+        try {
+            if (Files.exists(path)) {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        lines.add(line);
+                    }
+                }
+            }
+            // reopen so a file replaced or deleted since the last load is followed
+            reopen();
+        } catch (IOException e) {
+            Logger.error("Failed to load highscores: " + e.getMessage());
+        }
+        records = lines.size();
+        if (records >= COMPACT_THRESHOLD) {
+            writer.execute(this::compact);
+        }
+        return lines;
+    }
+
+    private void drain() {
+        List<String> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+        StringBuilder text = new StringBuilder();
+        for (String record : batch) {
+            text.append(record).append('\n');
+        }
+        try {
+            if (channel == null) {
+                reopen();
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            Logger.error("Failed to save highscores: " + e.getMessage());
+            return;
+        }
+        records += batch.size();
+        scheduleSync();
+        if (records >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+
+    private void scheduleSync() {
+        long now = System.nanoTime();
+        if (firstUnsyncedNanos < 0) {
+            firstUnsyncedNanos = now;
+        }
+        if (syncTask != null) {
+            syncTask.cancel(false);
+        }
+        long latest = firstUnsyncedNanos + TimeUnit.MILLISECONDS.toNanos(SYNC_MAX_DELAY_MILLIS) - now;
+        long delay = Math.max(0, Math.min(TimeUnit.MILLISECONDS.toNanos(SYNC_DEBOUNCE_MILLIS), latest));
+        syncTask = writer.schedule(this::sync, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void sync() {
+        if (firstUnsyncedNanos < 0 || channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            Logger.error("Failed to sync highscores: " + e.getMessage());
+        }
+        firstUnsyncedNanos = -1;
+    }
+
+    /**
+     * Replaces the file with the records of its live entries.
+     */
+    private void compact() {
+        if (!Files.exists(path)) {
+            records = 0;
+            return;
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            TopScores scores = new TopScores(capacity);
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    scores.apply(line.trim());
+                }
+            }
+            List<String> live = scores.toRecords();
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                StringBuilder text = new StringBuilder();
+                for (String record : live) {
+                    text.append(record).append('\n');
+                }
+                ByteBuffer bytes = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining()) {
+                    out.write(bytes);
+                }
+                out.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            reopen();
+            records = live.size();
+            firstUnsyncedNanos = -1;
+        } catch (IOException e) {
+            Logger.error("Failed to compact highscores: " + e.getMessage());
+        }
+    }
+
+    private void reopen() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void flushOnExit() {
+        try {
+            flush().get(SYNC_MAX_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            Logger.error("Failed to flush highscores: " + e.getMessage());
+        }
+    }
+}
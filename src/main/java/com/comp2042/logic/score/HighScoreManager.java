@@ -4,23 +4,33 @@ import com.comp2042.model.GameMode;
 import com.comp2042.model.HighScoreEntry;
 import com.comp2042.util.Logger;
 
-import java.io.*;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.*;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Keeps the best scores of each game mode in memory and persists every change to an
+ * append-only log. Adding a score costs O(log k) in memory and queues one record for the
+ * log's writer thread; loading replays the log once, in O(n log k) for n records.
+ */
 public class HighScoreManager {
     private static final String HIGHSCORE_FILE = "highscores.dat";
     private static final int MAX_SCORES_PER_MODE = 10;
-    
-    private final Map<GameMode, List<HighScoreEntry>> scoresByMode;
+
+    private final TopScores topScores = new TopScores(MAX_SCORES_PER_MODE);
+    private final HighScoreLog log;
 
     public HighScoreManager() {
-        scoresByMode = new HashMap<>();
-        for (GameMode mode : GameMode.values()) {
-            scoresByMode.put(mode, new ArrayList<>());
-        }
+        this(Paths.get(HIGHSCORE_FILE));
+    }
+
+    /**
+     * Constructs a manager backed by the given log file.
+     * @param file The log file, created if missing
+     */
+    public HighScoreManager(Path file) {
+        log = HighScoreLog.of(file, MAX_SCORES_PER_MODE);
         loadScores();
     }
 
@@ -28,55 +38,21 @@ public class HighScoreManager {
         if (mode == null) {
             mode = GameMode.CLASSIC;
         }
-        
-        List<HighScoreEntry> scores = scoresByMode.get(mode);
-        if (scores == null) {
-            scores = new ArrayList<>();
-            scoresByMode.put(mode, scores);
-        }
-        
-        boolean found = false;
-        for (int i = 0; i < scores.size(); i++) {
-            HighScoreEntry entry = scores.get(i);
-            if (entry.getName().equalsIgnoreCase(name)) {
-                if (score > entry.getScore()) {
-                    scores.set(i, new HighScoreEntry(name, score));
-                }
-                found = true;
-                break;
-            }
-        }
-        
-        if (!found) {
-            scores.add(new HighScoreEntry(name, score));
+        if (topScores.add(mode, name, score)) {
+            log.append(TopScores.scoreRecord(mode, name, score));
         }
-        
-        scores.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
-        
-        while (scores.size() > MAX_SCORES_PER_MODE) {
-            scores.remove(scores.size() - 1);
-        }
-        
-        saveScores();
     }
 
     public List<HighScoreEntry> getTopScores(GameMode mode) {
         if (mode == null) {
             mode = GameMode.CLASSIC;
         }
-        List<HighScoreEntry> scores = scoresByMode.get(mode);
-        return scores != null ? new ArrayList<>(scores) : new ArrayList<>();
+        return topScores.get(mode);
     }
 
     public HighScoreEntry getHighestScore(GameMode mode) {
-        if (mode == null) {
-            mode = GameMode.CLASSIC;
-        }
-        List<HighScoreEntry> scores = scoresByMode.get(mode);
-        if (scores != null && !scores.isEmpty()) {
-            return scores.get(0);
-        }
-        return null;
+        List<HighScoreEntry> scores = getTopScores(mode);
+        return scores.isEmpty() ? null : scores.get(0);
     }
 
     public int getHighestScoreValue(GameMode mode) {
@@ -84,79 +60,28 @@ public class HighScoreManager {
         return entry != null ? entry.getScore() : 0;
     }
 
-    private void loadScores() {
-        Path filePath = Paths.get(HIGHSCORE_FILE);
-        if (!Files.exists(filePath)) {
-            return;
-        }
-
-        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                
-                String[] parts = line.split(":");
-                if (parts.length >= 3) {
-                    try {
-                        GameMode mode = GameMode.valueOf(parts[0]);
-                        String name = parts[1];
-                        int score = Integer.parseInt(parts[2]);
-                        addScoreInternal(mode, name, score);
-                    } catch (IllegalArgumentException e) {
-                        Logger.warn("Invalid high score line: " + line);
-                    }
-                }
-            }
-        } catch (IOException e) {
-            Logger.error("Failed to load highscores: " + e.getMessage());
-        }
-    }
-
-    private void addScoreInternal(GameMode mode, String name, int score) {
-        List<HighScoreEntry> scores = scoresByMode.get(mode);
-        if (scores == null) {
-            scores = new ArrayList<>();
-            scoresByMode.put(mode, scores);
-        }
-        scores.add(new HighScoreEntry(name, score));
-        scores.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
-        while (scores.size() > MAX_SCORES_PER_MODE) {
-            scores.remove(scores.size() - 1);
-        }
+    /**
+     * Writes and syncs every change made so far.
+     * @return Completes once the changes are on disk
+     */
+    public CompletableFuture<Void> flush() {
+        return log.flush();
     }
 
-    private void saveScores() {
-        Path filePath = Paths.get(HIGHSCORE_FILE);
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
-            for (Map.Entry<GameMode, List<HighScoreEntry>> entry : scoresByMode.entrySet()) {
-                GameMode mode = entry.getKey();
-                for (HighScoreEntry scoreEntry : entry.getValue()) {
-                    writer.write(mode.name() + ":" + scoreEntry.getName() + ":" + scoreEntry.getScore());
-                    writer.newLine();
-                }
+    private void loadScores() {
+        for (String line : log.load()) {
+            if (!topScores.apply(line)) {
+                Logger.warn("Invalid high score line: " + line);
             }
-        } catch (IOException e) {
-            Logger.error("Failed to save highscores: " + e.getMessage());
         }
     }
 
     public void resetHighScore(GameMode mode) {
-        if (mode != null) {
-            scoresByMode.put(mode, new ArrayList<>());
-        } else {
-            scoresByMode.clear();
-            for (GameMode m : GameMode.values()) {
-                scoresByMode.put(m, new ArrayList<>());
-            }
-        }
-        saveScores();
+        topScores.clear(mode);
+        log.append(TopScores.resetRecord(mode));
     }
 
     public void resetAllHighScores() {
         resetHighScore(null);
     }
 }
-
@@ -0,0 +1,51 @@
+package com.comp2042.logic.score;
+
+/**
+ * Level and gravity rules shared by the JavaFX game loop and the headless engine.
+ * A new level starts every 10 lines, and each level shortens the automatic drop interval
+ * by 25 ms from 400 ms down to a floor of 50 ms.
+ */
+public final class LevelProgression {
+
+    /** Lines needed to advance one level. */
+    public static final int LINES_PER_LEVEL = 10;
+
+    /** Fastest supported gravity: 20 cells per logic step, the whole visible board at once. */
+    public static final double MAX_GRAVITY = 20;
+
+    private static final double BASE_DROP_SPEED_MILLIS = 400;
+    private static final double MIN_DROP_SPEED_MILLIS = 50;
+    private static final double SPEED_INCREASE_PER_LEVEL = 25;
+
+    private LevelProgression() {
+    }
+
+    /**
+     * Gets the level reached after clearing the given number of lines.
+     * @param lines Total lines cleared
+     * @return The level, starting at 1
+     */
+    public static int levelForLines(int lines) {
+        return (lines / LINES_PER_LEVEL) + 1;
+    }
+
+    /**
+     * Gets the time between automatic drops at a level.
+     * @param level The current level, starting at 1
+     * @return Drop interval in milliseconds
+     */
+    public static double dropIntervalMillis(int level) {
+        return Math.max(MIN_DROP_SPEED_MILLIS, BASE_DROP_SPEED_MILLIS - (level - 1) * SPEED_INCREASE_PER_LEVEL);
+    }
+
+    /**
+     * Gets the gravity at a level as cells fallen per logic step of a fixed-rate loop.
+     * @param level The current level, starting at 1
+     * @param stepsPerSecond Logic steps per second of the loop
+     * @return Cells per step, at most {@link #MAX_GRAVITY}
+     */
+    public static double gravityCellsPerStep(int level, int stepsPerSecond) {
+        double stepMillis = 1000.0 / stepsPerSecond;
+        return Math.min(MAX_GRAVITY, stepMillis / dropIntervalMillis(level));
+    }
+}
@@ -0,0 +1,175 @@
+package com.comp2042.logic.score;
+
+import com.comp2042.model.GameMode;
+import com.comp2042.model.HighScoreEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The best {@code k} scores per game mode, one entry per player name (ignoring case).
+ * Each mode keeps a min-heap of its entries, so adding a score costs O(log k) and replaying a
+ * log of n records costs O(n log k). When a mode is full, a new score must beat the lowest one
+ * to get in; of several entries tied for lowest, the newest is dropped first.
+ * <p>
+ * Records are the lines of the high score log: {@code MODE:NAME:SCORE} adds a score,
+ * {@code RESET:MODE} or {@code RESET:*} clears one or every mode. Not thread-safe.
+ */
+final class TopScores {
+
+    static final String RESET = "RESET";
+    static final String ALL_MODES = "*";
+
+    private static final String SEPARATOR = ":";
+
+    /** Lowest score first; of equal scores, the newest first, since it is dropped first. */
+    private static final Comparator<Slot> EVICTION_ORDER =
+            Comparator.comparingInt((Slot s) -> s.score).thenComparingLong(s -> -s.sequence);
+
+    /** Highest score first; of equal scores, the oldest first. */
+    private static final Comparator<Slot> RANKING_ORDER =
+            Comparator.comparingInt((Slot s) -> -s.score).thenComparingLong(s -> s.sequence);
+
+    private final int capacity;
+    private final Map<GameMode, Table> tables = new EnumMap<>(GameMode.class);
+    private long sequence;
+
+    /**
+     * Constructs empty tables.
+     * @param capacity Entries kept per mode
+     */
+    TopScores(int capacity) {
+        this.capacity = capacity;
+        for (GameMode mode : GameMode.values()) {
+            tables.put(mode, new Table());
+        }
+    }
+
+    /**
+     * Records a score; a player already listed keeps the better of the two.
+     * @return true if the tables changed
+     */
+    boolean add(GameMode mode, String name, int score) {
+        Table table = tables.get(mode);
+        String key = name.toLowerCase(Locale.ROOT);
+        Slot slot = table.byName.get(key);
+        if (slot != null) {
+            if (score <= slot.score) {
+                return false;
+            }
+            table.heap.remove(slot);
+            slot.name = name;
+            slot.score = score;
+            table.heap.add(slot);
+            return true;
+        }
+        if (table.heap.size() >= capacity) {
+            Slot lowest = table.heap.peek();
+            if (score <= lowest.score) {
+                return false;
+            }
+            table.heap.poll();
+            table.byName.remove(lowest.key);
+        }
+        slot = new Slot(key, name, score, sequence++);
+        table.heap.add(slot);
+        table.byName.put(key, slot);
+        return true;
+    }
+
+    /**
+     * Removes every entry of a mode.
+     * @param mode The mode, or null for all modes
+     */
+    void clear(GameMode mode) {
+        for (Map.Entry<GameMode, Table> entry : tables.entrySet()) {
+            if (mode == null || entry.getKey() == mode) {
+                entry.setValue(new Table());
+            }
+        }
+    }
+
+    /**
+     * Gets a mode's entries, best first.
+     * @param mode The mode
+     * @return A new list of at most {@code capacity} entries
+     */
+    List<HighScoreEntry> get(GameMode mode) {
+        List<Slot> slots = new ArrayList<>(tables.get(mode).heap);
+        slots.sort(RANKING_ORDER);
+        List<HighScoreEntry> entries = new ArrayList<>(slots.size());
+        for (Slot slot : slots) {
+            entries.add(new HighScoreEntry(slot.name, slot.score));
+        }
+        return entries;
+    }
+
+    /**
+     * Applies one log record.
+     * @param record The record
+     * @return false if the record could not be parsed
+     */
+    boolean apply(String record) {
+        String[] parts = record.split(SEPARATOR);
+        try {
+            if (parts.length == 2 && RESET.equals(parts[0])) {
+                clear(ALL_MODES.equals(parts[1]) ? null : GameMode.valueOf(parts[1]));
+                return true;
+            }
+            if (parts.length >= 3) {
+                add(GameMode.valueOf(parts[0]), parts[1], Integer.parseInt(parts[2]));
+                return true;
+            }
+        } catch (IllegalArgumentException e) {
+            // unknown mode or malformed score
+        }
+        return false;
+    }
+
+    /**
+     * Writes the tables as the shortest log that rebuilds them.
+     * @return One score record per entry, best first within each mode
+     */
+    List<String> toRecords() {
+        List<String> records = new ArrayList<>();
+        for (GameMode mode : GameMode.values()) {
+            for (HighScoreEntry entry : get(mode)) {
+                records.add(scoreRecord(mode, entry.getName(), entry.getScore()));
+            }
+        }
+        return records;
+    }
+
+    static String scoreRecord(GameMode mode, String name, int score) {
+        return mode.name() + SEPARATOR + name + SEPARATOR + score;
+    }
+
+    static String resetRecord(GameMode mode) {
+        return RESET + SEPARATOR + (mode != null ? mode.name() : ALL_MODES);
+    }
+
+    private static final class Table {
+        final PriorityQueue<Slot> heap = new PriorityQueue<>(EVICTION_ORDER);
+        final Map<String, Slot> byName = new HashMap<>();
+    }
+
+    private static final class Slot {
+        final String key;
+        final long sequence;
+        String name;
+        int score;
+
+        Slot(String key, String name, int score, long sequence) {
+            this.key = key;
+            this.name = name;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+}
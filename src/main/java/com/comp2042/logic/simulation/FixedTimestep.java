@@ -0,0 +1,115 @@
+package com.comp2042.logic.simulation;
+
+/**
+ * Turns monotonic frame timestamps into a whole number of fixed-length logic steps.
+ * Frame time is added to an accumulator and consumed one step at a time, so the game logic
+ * advances at the same rate whatever the display refresh rate, and leftover time carries
+ * into the next frame instead of drifting. Time spent paused is never counted, and a long
+ * stall is capped so the game does not try to catch up all at once afterwards.
+ */
+public final class FixedTimestep {
+
+    /** Most steps run for one frame; anything beyond that is dropped. */
+    public static final int MAX_STEPS_PER_FRAME = 5;
+
+    private final long stepNanos;
+    private long accumulatorNanos;
+    private long lastFrameNanos;
+    private boolean hasLastFrame;
+    private boolean paused;
+    private long steps;
+
+    /**
+     * Constructs a timestep running at the given rate.
+     * @param stepsPerSecond Logic steps per second
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public FixedTimestep(int stepsPerSecond) {
+        if (stepsPerSecond <= 0) {
+            throw new IllegalArgumentException("Step rate must be positive: " + stepsPerSecond);
+        }
+        this.stepNanos = 1_000_000_000L / stepsPerSecond;
+    }
+
+    /**
+     * Accounts for the time since the previous frame.
+     * The first frame after a reset or resume only records its timestamp.
+     * @param nowNanos Monotonic frame timestamp in nanoseconds
+     * @return Number of logic steps to run for this frame
+     */
+    public int advanceTo(long nowNanos) {
+        if (paused) {
+            return 0;
+        }
+        if (!hasLastFrame) {
+            hasLastFrame = true;
+            lastFrameNanos = nowNanos;
+            return 0;
+        }
+        long elapsed = Math.max(0, nowNanos - lastFrameNanos);
+        lastFrameNanos = nowNanos;
+        accumulatorNanos = Math.min(accumulatorNanos + elapsed, MAX_STEPS_PER_FRAME * stepNanos);
+
+        int due = (int) (accumulatorNanos / stepNanos);
+        accumulatorNanos -= due * stepNanos;
+        steps += due;
+        return due;
+    }
+
+    /**
+     * Stops counting time until {@link #resume()}.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Starts counting time again from the next frame.
+     */
+    public void resume() {
+        paused = false;
+        hasLastFrame = false;
+    }
+
+    /**
+     * Clears the accumulator and step count for a new game.
+     */
+    public void reset() {
+        accumulatorNanos = 0;
+        hasLastFrame = false;
+        paused = false;
+        steps = 0;
+    }
+
+    /**
+     * Gets how long until the next step falls due, for loops that sleep between steps.
+     * @return Nanoseconds until the accumulator holds a whole step, or one step length while paused
+     */
+    public long getNanosUntilNextStep() {
+        return paused || !hasLastFrame ? stepNanos : stepNanos - accumulatorNanos;
+    }
+
+    /**
+     * Gets the length of one logic step.
+     * @return Step length in milliseconds
+     */
+    public double getStepMillis() {
+        return stepNanos / 1_000_000.0;
+    }
+
+    /**
+     * Gets the logic time run since the last reset, excluding pauses and dropped time.
+     * @return Elapsed logic time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return steps * stepNanos / 1_000_000L;
+    }
+
+    /**
+     * Gets the number of logic steps run since the last reset.
+     * @return Step count
+     */
+    public long getSteps() {
+        return steps;
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.logic.simulation;
+
+/**
+ * Plays a headless game one brick at a time, for batch runs.
+ * Players decide how simulated time passes between bricks, for example by advancing the
+ * clock to model a limited number of pieces per second.
+ */
+@FunctionalInterface
+public interface GamePlayer {
+
+    /**
+     * Plays the falling brick until it locks.
+     * @param game The running game
+     * @return false if the player cannot continue this game
+     */
+    boolean playPiece(HeadlessGame game);
+}
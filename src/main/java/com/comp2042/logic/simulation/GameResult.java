@@ -0,0 +1,74 @@
+package com.comp2042.logic.simulation;
+
+/**
+ * Outcome of one headless game in a batch run.
+ */
+public final class GameResult {
+
+    private final long seed;
+    private final int score;
+    private final int lines;
+    private final int pieces;
+    private final long durationMillis;
+    private final boolean gameOver;
+    private final boolean won;
+
+    /**
+     * Constructs a result.
+     * @param seed The game's seed value
+     * @param score Final score
+     * @param lines Lines cleared
+     * @param pieces Bricks locked
+     * @param durationMillis Simulated game time
+     * @param gameOver true if the game was lost
+     * @param won true if the mode's win condition was met
+     */
+    public GameResult(long seed, int score, int lines, int pieces, long durationMillis, boolean gameOver, boolean won) {
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.pieces = pieces;
+        this.durationMillis = durationMillis;
+        this.gameOver = gameOver;
+        this.won = won;
+    }
+
+    /**
+     * Captures the result of a finished or abandoned game.
+     * @param game The game
+     * @return Its result
+     */
+    public static GameResult of(HeadlessGame game) {
+        return new GameResult(game.getBoard().getSeed().getSeed(), game.getScore().getValue(),
+                game.getScore().getLinesValue(), game.getPiecesPlaced(), game.getClock().getElapsedMillis(),
+                game.isGameOver(), game.isWon());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+}
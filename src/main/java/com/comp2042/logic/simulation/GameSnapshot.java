@@ -0,0 +1,95 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.view.ViewData;
+
+/**
+ * Immutable picture of a running game, published by the logic thread for the view to draw.
+ * Snapshots never change after construction, so the view may read one while the logic
+ * thread is already building the next. The board matrix is shared between snapshots
+ * that have the same locked cells and must not be modified.
+ */
+public final class GameSnapshot {
+
+    private final long sequence;
+    private final int[][] boardMatrix;
+    private final ViewData brick;
+    private final int score;
+    private final int lines;
+    private final int combo;
+    private final long elapsedMillis;
+    private final boolean gameOver;
+    private final boolean won;
+
+    /**
+     * Constructs a snapshot.
+     * @param sequence Publication number, increasing by one for every snapshot of a game
+     * @param boardMatrix The locked cells of the board, not copied
+     * @param brick The falling brick and previews, with its landing row
+     * @param score The score
+     * @param lines Lines cleared
+     * @param combo Current combo count
+     * @param elapsedMillis Simulated game time
+     * @param gameOver true if the game was lost
+     * @param won true if the mode's win condition was met
+     */
+    public GameSnapshot(long sequence, int[][] boardMatrix, ViewData brick, int score, int lines, int combo,
+                        long elapsedMillis, boolean gameOver, boolean won) {
+        this.sequence = sequence;
+        this.boardMatrix = boardMatrix;
+        this.brick = brick;
+        this.score = score;
+        this.lines = lines;
+        this.combo = combo;
+        this.elapsedMillis = elapsedMillis;
+        this.gameOver = gameOver;
+        this.won = won;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the locked cells of the board.
+     * @return The read-only board matrix
+     */
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    public ViewData getBrick() {
+        return brick;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getCombo() {
+        return combo;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     * @return true once the game was lost or won
+     */
+    public boolean isFinished() {
+        return gameOver || won;
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.logic.score.LevelProgression;
+
+/**
+ * Accumulates fractional gravity, measured in cells per logic step ("G").
+ * Each step adds the current gravity and releases the whole cells that have built up,
+ * so a brick falls smoothly at any speed between a fraction of a cell and
+ * {@link LevelProgression#MAX_GRAVITY} cells per step instead of in whole timer periods.
+ */
+public final class GravityAccumulator {
+
+    private double cellsPerStep;
+    private double pending;
+
+    /**
+     * Sets the gravity without disturbing the fraction already accumulated.
+     * @param cellsPerStep Cells to fall per logic step, clamped to 0..{@link LevelProgression#MAX_GRAVITY}
+     */
+    public void setCellsPerStep(double cellsPerStep) {
+        this.cellsPerStep = Math.max(0, Math.min(LevelProgression.MAX_GRAVITY, cellsPerStep));
+    }
+
+    /**
+     * Gets the current gravity.
+     * @return Cells per logic step
+     */
+    public double getCellsPerStep() {
+        return cellsPerStep;
+    }
+
+    /**
+     * Advances one logic step.
+     * @return Number of whole cells the brick should fall this step
+     */
+    public int step() {
+        pending += cellsPerStep;
+        int cells = (int) pending;
+        pending -= cells;
+        return cells;
+    }
+
+    /**
+     * Drops any accumulated fraction, for a new game or a new brick.
+     */
+    public void reset() {
+        pending = 0;
+    }
+}
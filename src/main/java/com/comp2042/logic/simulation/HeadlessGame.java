@@ -0,0 +1,327 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.controller.EventSource;
+import com.comp2042.controller.EventType;
+import com.comp2042.controller.MoveEvent;
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.mode.ModeRules;
+import com.comp2042.logic.mode.TimeAttackModeRules;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.score.LevelProgression;
+import com.comp2042.logic.score.ScoreService;
+import com.comp2042.model.Board;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.model.Score;
+
+/**
+ * Runs the game rules without any JavaFX toolkit, view or sound.
+ * Drives a {@link Board} with the same scoring, combo, level gravity and 7-Bag spawning as
+ * {@code GameController}, and judges the game with the same {@link ModeRules} as the mode
+ * strategies, but advances time with a {@link TickClock} so a game can be stepped as fast as
+ * the CPU allows and replays exactly.
+ * Line clears are applied immediately since there is no clear animation to wait for.
+ */
+public class HeadlessGame {
+
+    /** Default tick rate, matching a 60 Hz display. */
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+
+    /** Board rows used by {@link #HeadlessGame(GameMode, GameSeed)}, as in the GUI. */
+    public static final int BOARD_ROWS = 25;
+
+    /** Board columns used by {@link #HeadlessGame(GameMode, GameSeed)}, as in the GUI. */
+    public static final int BOARD_COLUMNS = 10;
+
+    private static final MoveEvent USER_SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private final Board board;
+    private final GameMode gameMode;
+    private final TickClock clock;
+    private final ScoreService scoreService;
+    private final ModeRules rules;
+
+    private boolean autoGravity = true;
+    private double gravityMillis;
+    private int piecesPlaced;
+    private boolean gameOver;
+    private boolean won;
+
+    /**
+     * Constructs a headless game at the default tick rate.
+     * @param board The board to drive
+     * @param gameMode The game mode whose rules apply
+     */
+    public HeadlessGame(Board board, GameMode gameMode) {
+        this(board, gameMode, new TickClock(DEFAULT_TICKS_PER_SECOND));
+    }
+
+    /**
+     * Constructs a headless game on a standard board whose whole game is determined by a seed.
+     * @param gameMode The game mode whose rules apply
+     * @param seed The game seed
+     */
+    public HeadlessGame(GameMode gameMode, GameSeed seed) {
+        this(new GameBoard(BOARD_ROWS, BOARD_COLUMNS, seed), gameMode);
+    }
+
+    /**
+     * Constructs a headless game with an explicit clock.
+     * Mode setup such as the Time Attack limits is drawn from the board's seed.
+     * @param board The board to drive
+     * @param gameMode The game mode whose rules apply
+     * @param clock The tick clock that measures simulated time
+     */
+    public HeadlessGame(Board board, GameMode gameMode, TickClock clock) {
+        this.board = board;
+        this.gameMode = gameMode != null ? gameMode : GameMode.CLASSIC;
+        this.clock = clock;
+        this.scoreService = new ScoreService(board.getScore());
+        this.rules = ModeRules.forMode(this.gameMode);
+    }
+
+    /**
+     * Starts a new game: resets the board, clock and counters and applies mode setup.
+     */
+    public void start() {
+        board.newGame();
+        if (gameMode == GameMode.PUZZLE) {
+            board.setupPuzzleMode();
+        }
+        rules.reset(board);
+        clock.reset();
+        gravityMillis = 0;
+        piecesPlaced = 0;
+        gameOver = false;
+        won = false;
+    }
+
+    /**
+     * Applies one player action and then advances the clock by one tick.
+     * @param action The action to apply, or null to only advance time
+     */
+    public void step(EventType action) {
+        if (action != null) {
+            apply(action);
+        }
+        tick();
+    }
+
+    /**
+     * Applies one player action immediately, without advancing the clock.
+     * Soft drops score 1 point and hard drops 2 points per cell, as in the GUI.
+     * @param action The action to apply
+     * @return true if the action changed the board
+     */
+    public boolean apply(EventType action) {
+        if (isFinished()) {
+            return false;
+        }
+        boolean changed;
+        switch (action) {
+            case LEFT:
+                changed = board.moveBrickLeft();
+                break;
+            case RIGHT:
+                changed = board.moveBrickRight();
+                break;
+            case ROTATE:
+                changed = board.rotateLeftBrick();
+                break;
+            case HOLD:
+                board.holdBrick();
+                changed = true;
+                break;
+            case DOWN:
+                changed = board.moveBrickDown();
+                if (changed) {
+                    scoreService.applySoftDrop(USER_SOFT_DROP);
+                } else {
+                    lockBrick();
+                    changed = true;
+                }
+                break;
+            case HARD_DROP:
+                int distance = board.hardDrop();
+                if (distance > 0) {
+                    scoreService.applyHardDrop(distance);
+                    lockBrick();
+                }
+                changed = distance > 0;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown action: " + action);
+        }
+        checkModeConditions();
+        return changed;
+    }
+
+    /**
+     * Advances the clock by one tick, applying gravity and mode timers.
+     */
+    public void tick() {
+        advance(1);
+    }
+
+    /**
+     * Advances the clock by several ticks at once, applying gravity and mode timers.
+     * @param ticks Number of ticks to advance
+     */
+    public void advance(long ticks) {
+        if (isFinished() || ticks <= 0) {
+            return;
+        }
+        long before = clock.getElapsedMillis();
+        clock.advance(ticks);
+        rules.tick(clock.getElapsedMillis() - before);
+        if (autoGravity) {
+            gravityMillis += ticks * clock.getTickMillis();
+            double interval = LevelProgression.dropIntervalMillis(getLevel());
+            while (gravityMillis >= interval && !isFinished()) {
+                gravityMillis -= interval;
+                applyGravity();
+                interval = LevelProgression.dropIntervalMillis(getLevel());
+            }
+        }
+        checkModeConditions();
+    }
+
+    /**
+     * Turns the clock-driven gravity on or off.
+     * Replays turn it off and apply the recorded gravity drops through {@link #applyGravity()}.
+     * @param autoGravity true to drop the brick as time passes
+     */
+    public void setAutoGravity(boolean autoGravity) {
+        this.autoGravity = autoGravity;
+    }
+
+    /**
+     * Moves the brick down one row as the automatic drop does, locking it if it cannot move.
+     * Gravity drops do not score points.
+     */
+    public void applyGravity() {
+        if (isFinished()) {
+            return;
+        }
+        if (!board.moveBrickDown()) {
+            lockBrick();
+        }
+        checkModeConditions();
+    }
+
+    private void lockBrick() {
+        board.mergeBrickToBackground();
+        piecesPlaced++;
+        ClearRow result = board.checkClears();
+        if (result.getLinesRemoved() > 0) {
+            board.getScore().incrementCombo();
+            board.commitClear(result);
+        } else {
+            board.getScore().resetCombo();
+        }
+        scoreService.applyLineClearBonus(result);
+        if (!board.createNewBrick()) {
+            gameOver = true;
+        }
+    }
+
+    private void checkModeConditions() {
+        if (isFinished()) {
+            return;
+        }
+        Score score = board.getScore();
+        if (rules.isWon(score)) {
+            won = true;
+        } else if (rules.isLost(score)) {
+            gameOver = true;
+        }
+    }
+
+    /**
+     * Checks whether the game has ended, either by winning or losing.
+     * @return true once no further actions are accepted
+     */
+    public boolean isFinished() {
+        return gameOver || won;
+    }
+
+    /**
+     * Checks whether the game was lost (blocked spawn or Time Attack timeout).
+     * @return true if the game is over without a win
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Checks whether the mode's win condition was met.
+     * @return true if the game was won
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Gets the current level derived from lines cleared.
+     * @return The level, starting at 1
+     */
+    public int getLevel() {
+        return LevelProgression.levelForLines(board.getScore().getLinesValue());
+    }
+
+    /**
+     * Gets the number of bricks locked into the board so far.
+     * @return Pieces placed
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Gets the Time Attack target score.
+     * @return Target score, or 0 outside Time Attack mode
+     */
+    public int getTargetScore() {
+        return rules instanceof TimeAttackModeRules ? ((TimeAttackModeRules) rules).getTargetScore() : 0;
+    }
+
+    /**
+     * Gets the Time Attack time limit.
+     * @return Time limit in milliseconds, or 0 outside Time Attack mode
+     */
+    public long getTimeLimitMillis() {
+        return rules instanceof TimeAttackModeRules ? ((TimeAttackModeRules) rules).getTimeLimitMillis() : 0;
+    }
+
+    /**
+     * Gets the board being driven.
+     * @return The board instance
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the score of the board being driven.
+     * @return The Score object
+     */
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    /**
+     * Gets the game mode.
+     * @return The active game mode
+     */
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * Gets the tick clock.
+     * @return The clock measuring simulated time
+     */
+    public TickClock getClock() {
+        return clock;
+    }
+}
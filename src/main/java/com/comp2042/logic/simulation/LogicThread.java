@@ -0,0 +1,211 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.model.Board;
+import com.comp2042.view.ViewData;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a {@link HeadlessGame} on a dedicated thread so game timing does not depend on rendering.
+ * Player actions are handed over through a lock-free queue and applied as soon as the thread
+ * wakes; gravity and mode timers advance in fixed steps measured with {@link System#nanoTime()}.
+ * After every change the thread publishes an immutable {@link GameSnapshot} through a volatile
+ * field, which the JavaFX thread reads once per pulse. Only the logic thread touches the game
+ * after {@link #start()}; other threads talk to it through the queue and the pause and stop flags.
+ */
+public final class LogicThread {
+
+    private final HeadlessGame game;
+    private final FixedTimestep timestep;
+    private final Queue<EventType> inputs = new ConcurrentLinkedQueue<>();
+    private volatile GameSnapshot snapshot;
+    private volatile boolean running;
+    private volatile boolean pauseRequested;
+    private volatile Thread thread;
+
+    private long sequence;
+    private int[][] publishedMatrix;
+    private int publishedPieces = -1;
+
+    /**
+     * Constructs a logic thread for a game; the game is started by {@link #start()}.
+     * @param game The game to run, which must not be used by any other thread afterwards
+     */
+    public LogicThread(HeadlessGame game) {
+        this.game = game;
+        this.timestep = new FixedTimestep(game.getClock().getTicksPerSecond());
+    }
+
+    /**
+     * Starts a new game and the thread that runs it.
+     * @throws IllegalStateException if the thread was already started
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("Logic thread already started");
+        }
+        resetGame();
+        running = true;
+        Thread worker = Thread.ofPlatform().name("game-logic").daemon().unstarted(this::run);
+        thread = worker;
+        worker.start();
+    }
+
+    /**
+     * Starts a new game on the calling thread and publishes its first snapshot.
+     */
+    void resetGame() {
+        game.start();
+        timestep.reset();
+        publishedMatrix = null;
+        publish();
+    }
+
+    /**
+     * Queues a player action; it is applied on the logic thread before the next step.
+     * @param action The action to apply
+     */
+    public void submit(EventType action) {
+        if (action != null) {
+            inputs.offer(action);
+            wake();
+        }
+    }
+
+    /**
+     * Stops advancing time and applying actions until {@link #resume()}.
+     */
+    public void pause() {
+        pauseRequested = true;
+        wake();
+    }
+
+    /**
+     * Continues after {@link #pause()}; the paused time is not counted.
+     */
+    public void resume() {
+        pauseRequested = false;
+        wake();
+    }
+
+    /**
+     * Stops the thread. The last published snapshot stays readable.
+     */
+    public void stop() {
+        running = false;
+        wake();
+    }
+
+    /**
+     * Gets the most recently published snapshot.
+     * @return The latest snapshot, or null before {@link #start()}
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Checks whether the thread is still running the game.
+     * @return true until the thread was stopped or the game finished
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        boolean paused = false;
+        while (running) {
+            if (pauseRequested != paused) {
+                paused = pauseRequested;
+                if (paused) {
+                    timestep.pause();
+                } else {
+                    timestep.resume();
+                }
+            }
+            if (paused) {
+                inputs.clear();
+                LockSupport.park(this);
+                continue;
+            }
+            runOnce(System.nanoTime());
+            if (game.isFinished()) {
+                running = false;
+                break;
+            }
+            LockSupport.parkNanos(this, timestep.getNanosUntilNextStep());
+        }
+    }
+
+    /**
+     * Applies queued actions, runs the steps that are due and publishes a snapshot if anything changed.
+     * @param nowNanos Monotonic time in nanoseconds
+     */
+    void runOnce(long nowNanos) {
+        boolean changed = false;
+        EventType action;
+        while ((action = inputs.poll()) != null) {
+            changed |= game.apply(action);
+        }
+        int steps = timestep.advanceTo(nowNanos);
+        for (int i = 0; i < steps && !game.isFinished(); i++) {
+            game.tick();
+        }
+        if (changed || steps > 0) {
+            publishIfChanged();
+        }
+    }
+
+    private void publishIfChanged() {
+        GameSnapshot last = snapshot;
+        ViewData brick = brickView();
+        if (last != null && game.getPiecesPlaced() == publishedPieces
+                && brick.samePiece(last.getBrick()) && brick.sameQueue(last.getBrick()) && brick.sameHeld(last.getBrick())
+                && game.getScore().getValue() == last.getScore() && game.isFinished() == last.isFinished()) {
+            return;
+        }
+        publish(brick);
+    }
+
+    private void publish() {
+        publish(brickView());
+    }
+
+    private void publish(ViewData brick) {
+        if (publishedMatrix == null || game.getPiecesPlaced() != publishedPieces) {
+            publishedMatrix = game.getBoard().getBoardMatrix();
+            publishedPieces = game.getPiecesPlaced();
+        }
+        snapshot = new GameSnapshot(++sequence, publishedMatrix, brick,
+                game.getScore().getValue(), game.getScore().getLinesValue(), game.getScore().getCombo(),
+                game.getClock().getElapsedMillis(), game.isGameOver(), game.isWon());
+    }
+
+    private ViewData brickView() {
+        Board board = game.getBoard();
+        ViewData view = board.getViewData();
+        return view.withGhostY(board.getGhostY(view.getxPosition(), view.getyPosition()));
+    }
+
+    /**
+     * Waits for the thread to finish, for tests and orderly shutdown.
+     * @param millis Longest time to wait
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void join(long millis) throws InterruptedException {
+        Thread worker = thread;
+        if (worker != null) {
+            worker.join(millis);
+        }
+    }
+
+    private void wake() {
+        Thread worker = thread;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+}
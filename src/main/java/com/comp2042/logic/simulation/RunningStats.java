@@ -0,0 +1,104 @@
+package com.comp2042.logic.simulation;
+
+/**
+ * Count, mean, variance, minimum and maximum of a stream of values in constant space.
+ * Uses Welford's update for single values and Chan's formula to merge two summaries, so
+ * workers can each keep their own and combine them at the end without storing the values.
+ * Not thread-safe.
+ */
+public final class RunningStats {
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds one value.
+     * @param value The value
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds every value summarized by another instance, as if they had been added here.
+     * @param other The summary to merge; left unchanged
+     */
+    public void merge(RunningStats other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean.
+     * @return The mean, or 0 if no values were added
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the sample variance.
+     * @return The variance, or 0 with fewer than two values
+     */
+    public double getVariance() {
+        return count < 2 ? 0 : m2 / (count - 1);
+    }
+
+    /**
+     * Gets the sample standard deviation.
+     * @return The standard deviation, or 0 with fewer than two values
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Gets the smallest value.
+     * @return The minimum, or NaN if no values were added
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Gets the largest value.
+     * @return The maximum, or NaN if no values were added
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.2f sd=%.2f min=%.0f max=%.0f",
+                count, getMean(), getStandardDeviation(), getMin(), getMax());
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042.logic.simulation;
+
+/**
+ * Deterministic clock that advances in fixed ticks instead of reading wall time.
+ * Used by the headless engine so that gravity and mode timers behave identically
+ * no matter how fast the simulation actually runs.
+ */
+public final class TickClock {
+
+    private final int ticksPerSecond;
+    private long tick;
+
+    /**
+     * Constructs a clock with the given tick rate.
+     * @param ticksPerSecond Number of ticks in one simulated second
+     * @throws IllegalArgumentException if the tick rate is not positive
+     */
+    public TickClock(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    /**
+     * Advances the clock by one tick.
+     */
+    public void advance() {
+        advance(1);
+    }
+
+    /**
+     * Advances the clock by several ticks at once.
+     * @param ticks Number of ticks to advance
+     */
+    public void advance(long ticks) {
+        tick += ticks;
+    }
+
+    /**
+     * Resets the clock to tick zero.
+     */
+    public void reset() {
+        tick = 0;
+    }
+
+    /**
+     * Gets the number of ticks elapsed since the last reset.
+     * @return Current tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the tick rate.
+     * @return Ticks per simulated second
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Gets the simulated duration of one tick.
+     * @return Tick length in milliseconds
+     */
+    public double getTickMillis() {
+        return 1000.0 / ticksPerSecond;
+    }
+
+    /**
+     * Gets the simulated time elapsed since the last reset.
+     * @return Elapsed time in whole milliseconds
+     */
+    public long getElapsedMillis() {
+        return tick * 1000 / ticksPerSecond;
+    }
+}
@@ -0,0 +1,105 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.logic.mode.TimeAttackTable;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.model.GameMode;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Builds a {@link TimeAttackTable} by Monte Carlo simulation.
+ * Each simulated game is played by a player limited to a fixed number of pieces per second
+ * (the skill profile); the score it holds as each time limit bucket runs out is recorded, so
+ * one game samples every bucket. Games run in parallel on a fork/join pool and share seeds
+ * across buckets, which keeps the table increasing from one bucket to the next.
+ * A topped-out game keeps the score it had, since a target at or below it was already reached.
+ */
+public final class TimeAttackCalibrator {
+
+    /** Time limit buckets covering the 30-120 second range Time Attack rolls. */
+    public static final int[] DEFAULT_SECONDS = {30, 45, 60, 75, 90, 105, 120};
+
+    /** Percentiles from an easy target (most games reach it) to a hard one. */
+    public static final int[] DEFAULT_PERCENTILES = {10, 25, 50, 75, 90};
+
+    private static final double PERCENT = 100.0;
+
+    private final Supplier<? extends GamePlayer> players;
+    private final double piecesPerSecond;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a calibrator.
+     * @param players Creates the player of each game
+     * @param piecesPerSecond Bricks the player places per second of game time
+     * @param pool The pool games run on
+     * @throws IllegalArgumentException if piecesPerSecond is not positive
+     */
+    public TimeAttackCalibrator(Supplier<? extends GamePlayer> players, double piecesPerSecond, ForkJoinPool pool) {
+        if (!(piecesPerSecond > 0)) {
+            throw new IllegalArgumentException("piecesPerSecond must be positive");
+        }
+        this.players = players;
+        this.piecesPerSecond = piecesPerSecond;
+        this.pool = pool;
+    }
+
+    /**
+     * Simulates games and tabulates the score reached per bucket and percentile.
+     * @param masterSeed Seed the game seeds are derived from
+     * @param games Games simulated, each sampling every bucket
+     * @param seconds Time limit buckets, ascending
+     * @param percentiles Percentiles to tabulate, ascending within 0-100
+     * @return The calibrated table
+     */
+    public TimeAttackTable calibrate(long masterSeed, int games, int[] seconds, int[] percentiles) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("games must be positive");
+        }
+        long[] seeds = GameSeed.batchValues(masterSeed, games);
+        int[][] samples = new int[seconds.length][games];
+        pool.submit(() -> IntStream.range(0, games).parallel()
+                .forEach(game -> simulate(seeds[game], seconds, samples, game))).join();
+
+        int[][] scores = new int[seconds.length][percentiles.length];
+        for (int bucket = 0; bucket < seconds.length; bucket++) {
+            int[] sorted = samples[bucket];
+            Arrays.sort(sorted);
+            for (int column = 0; column < percentiles.length; column++) {
+                scores[bucket][column] = nearestRank(sorted, percentiles[column]);
+            }
+        }
+        return new TimeAttackTable(seconds, percentiles, scores);
+    }
+
+    private void simulate(long seed, int[] seconds, int[][] samples, int game) {
+        GamePlayer player = players.get();
+        HeadlessGame headless = new HeadlessGame(TournamentRunner.standardBoard(new GameSeed(seed)), GameMode.CLASSIC);
+        headless.start();
+        TickClock clock = headless.getClock();
+        long pieceTicks = Math.max(1, Math.round(clock.getTicksPerSecond() / piecesPerSecond));
+        double pieceMillis = pieceTicks * clock.getTickMillis();
+
+        boolean playing = true;
+        int bucket = 0;
+        while (bucket < seconds.length) {
+            double nextPieceAt = clock.getElapsedMillis() + pieceMillis;
+            while (bucket < seconds.length && (!playing || seconds[bucket] * 1000.0 < nextPieceAt)) {
+                samples[bucket++][game] = headless.getScore().getValue();
+            }
+            if (bucket < seconds.length) {
+                headless.advance(pieceTicks);
+                playing = !headless.isFinished() && player.playPiece(headless) && !headless.isFinished();
+            }
+        }
+    }
+
+    /** Nearest-rank percentile of a sorted sample. */
+    static int nearestRank(int[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / PERCENT * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
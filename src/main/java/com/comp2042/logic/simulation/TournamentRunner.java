@@ -0,0 +1,152 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.model.Board;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Plays batches of seeded headless games in parallel, for comparing rule variants, players
+ * and randomizers over large samples.
+ * The batch is split over a work-stealing {@link ForkJoinPool}; every game gets its own board
+ * from the board factory and its own seed derived from the master seed, so a batch gives the
+ * same statistics however its games are scheduled. Results are folded into per-task
+ * {@link TournamentStats} that merge on the way back up, so memory does not grow with the
+ * number of games.
+ */
+public final class TournamentRunner {
+
+    /** Bricks after which a game that is still going is stopped and counted as it stands. */
+    public static final int DEFAULT_MAX_PIECES = 10_000;
+
+    /** Games played in a row by one task before it stops splitting. */
+    private static final int LEAF_GAMES = 4;
+
+    private final GameMode gameMode;
+    private final Function<GameSeed, Board> boardFactory;
+    private final Supplier<? extends GamePlayer> players;
+    private final int maxPieces;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a runner on standard boards, capped at {@link #DEFAULT_MAX_PIECES}, using the common pool.
+     * @param gameMode The mode every game is played in
+     * @param players Creates a player for each task; players are not shared between threads
+     */
+    public TournamentRunner(GameMode gameMode, Supplier<? extends GamePlayer> players) {
+        this(gameMode, TournamentRunner::standardBoard, players, DEFAULT_MAX_PIECES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a runner.
+     * @param gameMode The mode every game is played in
+     * @param boardFactory Creates each game's board from its seed
+     * @param players Creates a player for each task; players are not shared between threads
+     * @param maxPieces Bricks after which a game is stopped
+     * @param pool The pool games run on
+     * @throws IllegalArgumentException if maxPieces is not positive
+     */
+    public TournamentRunner(GameMode gameMode, Function<GameSeed, Board> boardFactory,
+                            Supplier<? extends GamePlayer> players, int maxPieces, ForkJoinPool pool) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("maxPieces must be positive");
+        }
+        this.gameMode = gameMode;
+        this.boardFactory = boardFactory;
+        this.players = players;
+        this.maxPieces = maxPieces;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates the board the GUI plays on.
+     * @param seed The game seed
+     * @return A standard board
+     */
+    public static Board standardBoard(GameSeed seed) {
+        return new GameBoard(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, seed);
+    }
+
+    /**
+     * Plays a batch and returns its statistics.
+     * @param masterSeed Seed the game seeds are derived from, as by {@link GameSeed#batch(long, int)}
+     * @param games Number of games
+     * @return Aggregate statistics of all games
+     */
+    public TournamentStats run(long masterSeed, int games) {
+        return run(masterSeed, games, null);
+    }
+
+    /**
+     * Plays a batch, passing each game's result to a listener as soon as it finishes.
+     * @param masterSeed Seed the game seeds are derived from, as by {@link GameSeed#batch(long, int)}
+     * @param games Number of games
+     * @param listener Receives every result on the worker thread that played it, in no
+     *                 particular order; must be thread-safe. May be null
+     * @return Aggregate statistics of all games
+     */
+    public TournamentStats run(long masterSeed, int games, Consumer<GameResult> listener) {
+        return pool.invoke(new BatchTask(masterSeed, 0, games, listener));
+    }
+
+    /**
+     * Plays one game to the end or to the brick limit.
+     * @param seed The game's seed value
+     * @param player The player
+     * @return The game's result
+     */
+    public GameResult playGame(long seed, GamePlayer player) {
+        HeadlessGame game = new HeadlessGame(boardFactory.apply(new GameSeed(seed)), gameMode);
+        game.start();
+        while (!game.isFinished() && game.getPiecesPlaced() < maxPieces && player.playPiece(game)) {
+            // the player advances the game one brick per call
+        }
+        return GameResult.of(game);
+    }
+
+    /**
+     * Plays a range of the batch, splitting it in half until it is small enough.
+     * Each game's seed is derived from its index when it is played.
+     */
+    @SuppressWarnings("serial")
+    private final class BatchTask extends RecursiveTask<TournamentStats> {
+        private final long masterSeed;
+        private final int from;
+        private final int to;
+        private final Consumer<GameResult> listener;
+
+        BatchTask(long masterSeed, int from, int to, Consumer<GameResult> listener) {
+            this.masterSeed = masterSeed;
+            this.from = from;
+            this.to = to;
+            this.listener = listener;
+        }
+
+        @Override
+        protected TournamentStats compute() {
+            if (to - from <= LEAF_GAMES) {
+                TournamentStats stats = new TournamentStats();
+                GamePlayer player = players.get();
+                for (int i = from; i < to; i++) {
+                    GameResult result = playGame(GameSeed.batchValue(masterSeed, i), player);
+                    stats.add(result);
+                    if (listener != null) {
+                        listener.accept(result);
+                    }
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            BatchTask right = new BatchTask(masterSeed, mid, to, listener);
+            right.fork();
+            TournamentStats left = new BatchTask(masterSeed, from, mid, listener).compute();
+            return left.merge(right.join());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.comp2042.logic.simulation;
+
+/**
+ * Aggregate statistics of a batch of headless games: running summaries of score, lines,
+ * pieces and duration, plus win and loss counts. Results are folded in as they arrive and
+ * never stored, and summaries from parallel workers merge into one.
+ * Not thread-safe; give each worker its own instance.
+ */
+public final class TournamentStats {
+
+    private final RunningStats score = new RunningStats();
+    private final RunningStats lines = new RunningStats();
+    private final RunningStats pieces = new RunningStats();
+    private final RunningStats durationMillis = new RunningStats();
+    private long wins;
+    private long losses;
+
+    /**
+     * Folds in one game's result.
+     * @param result The result
+     */
+    public void add(GameResult result) {
+        score.add(result.getScore());
+        lines.add(result.getLines());
+        pieces.add(result.getPieces());
+        durationMillis.add(result.getDurationMillis());
+        if (result.isWon()) {
+            wins++;
+        }
+        if (result.isGameOver()) {
+            losses++;
+        }
+    }
+
+    /**
+     * Folds in every game summarized by another instance.
+     * @param other The statistics to merge; left unchanged
+     * @return This instance, for chaining
+     */
+    public TournamentStats merge(TournamentStats other) {
+        score.merge(other.score);
+        lines.merge(other.lines);
+        pieces.merge(other.pieces);
+        durationMillis.merge(other.durationMillis);
+        wins += other.wins;
+        losses += other.losses;
+        return this;
+    }
+
+    /**
+     * Gets the number of games folded in.
+     * @return The game count
+     */
+    public long getGames() {
+        return score.getCount();
+    }
+
+    public RunningStats getScore() {
+        return score;
+    }
+
+    public RunningStats getLines() {
+        return lines;
+    }
+
+    public RunningStats getPieces() {
+        return pieces;
+    }
+
+    public RunningStats getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    @Override
+    public String toString() {
+        return "games=" + getGames() + " wins=" + wins + " losses=" + losses
+                + "\n  score:    " + score
+                + "\n  lines:    " + lines
+                + "\n  pieces:   " + pieces
+                + "\n  duration: " + durationMillis;
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.main;
+
+import com.comp2042.logic.ai.Bot;
+import com.comp2042.logic.mode.TimeAttackTable;
+import com.comp2042.logic.simulation.TimeAttackCalibrator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Regenerates the Time Attack calibration shipped in {@code src/main/resources}.
+ * Usage: {@code CalibrateTimeAttack [output] [games] [piecesPerSecond] [seed]}.
+ */
+public final class CalibrateTimeAttack {
+
+    private static final String DEFAULT_OUTPUT = "src/main/resources/" + TimeAttackTable.RESOURCE;
+    private static final int DEFAULT_GAMES = 200;
+    private static final double DEFAULT_PIECES_PER_SECOND = 1.0;
+    private static final long DEFAULT_SEED = 2042L;
+
+    private CalibrateTimeAttack() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Path.of(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+        double piecesPerSecond = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_PIECES_PER_SECOND;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+
+        Bot bot = new Bot();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        TimeAttackCalibrator calibrator = new TimeAttackCalibrator(() -> bot::playPiece, piecesPerSecond, pool);
+        TimeAttackTable table = calibrator.calibrate(seed, games,
+                TimeAttackCalibrator.DEFAULT_SECONDS, TimeAttackCalibrator.DEFAULT_PERCENTILES);
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            table.write(writer, "Bot at " + piecesPerSecond + " pieces/s, " + games + " games, seed " + seed);
+        }
+        System.out.println("Wrote " + output);
+    }
+}
@@ -0,0 +1,50 @@
+package com.comp2042.main;
+
+import com.comp2042.logic.ai.Bot;
+import com.comp2042.logic.puzzle.Puzzle;
+import com.comp2042.logic.puzzle.PuzzleGenerator;
+import com.comp2042.logic.puzzle.PuzzleLibrary;
+import com.comp2042.logic.puzzle.PuzzlePack;
+import com.comp2042.logic.puzzle.PuzzleSolver;
+import com.comp2042.util.GameConstants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Regenerates the starter puzzle pack shipped in {@code src/main/resources}.
+ * Usage: {@code GeneratePuzzles [output] [count] [seed]}.
+ */
+public final class GeneratePuzzles {
+
+    private static final String DEFAULT_OUTPUT = "src/main/resources/" + PuzzleLibrary.STARTER_RESOURCE;
+    private static final int DEFAULT_COUNT = 24;
+    private static final long DEFAULT_SEED = 2042L;
+
+    private GeneratePuzzles() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Path.of(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COUNT;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        Bot bot = new Bot();
+        PuzzleSolver solver = new PuzzleSolver(bot::playPiece, PuzzleLibrary.MAX_PIECES);
+        List<Puzzle> puzzles = new PuzzleGenerator(solver, ForkJoinPool.commonPool()).generate(seed, count);
+
+        PuzzlePack pack = new PuzzlePack(GameConstants.PUZZLE_MODE_TARGET_LINES);
+        for (Puzzle puzzle : puzzles) {
+            pack.add(puzzle);
+        }
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(output, pack.toBytes());
+        System.out.println("Wrote " + puzzles.size() + " puzzles to " + output);
+    }
+}
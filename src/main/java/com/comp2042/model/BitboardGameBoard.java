@@ -0,0 +1,511 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.board.MatrixOperations;
+import com.comp2042.logic.board.ZobristKeys;
+import com.comp2042.logic.board.rotation.WallKicks;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.view.ViewData;
+
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Bitboard implementation of the Tetris game board.
+ * Stores occupancy as one {@code long} bitmask per row with colors kept in a parallel byte array,
+ * so collision, merge and full-row checks are a handful of AND/OR/compare operations per row.
+ * Behaves exactly like {@link GameBoard} (7-Bag randomizer, hold, wall kicks, Puzzle mode)
+ * and can be used anywhere a {@link Board} is expected.
+ */
+public class BitboardGameBoard implements Board {
+    private static final int START_X = 4;
+    private static final int START_Y = 0;
+    private static final int NEXT_PIECES_COUNT = 3;
+    private static final int PUZZLE_GARBAGE_HEIGHT = 10;
+
+    /** Number of wall bits to the left of column 0, so pieces may hang past the left edge. */
+    private static final int WALL_BITS = 4;
+    private static final int MAX_SHIFT = Long.SIZE - WALL_BITS;
+    private static final int MAX_COLUMNS = Long.SIZE - 2 * WALL_BITS;
+
+    private final int rows;
+    private final int columns;
+    private final long wallMask;
+    private final long[] occupancy;
+    private final byte[] colors;
+    private final ZobristKeys zobristKeys;
+    private long zobristHash;
+    private final Score score;
+    private GameSeed seed;
+    private boolean seedUsed;
+    private BrickFactory brickFactory;
+    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+
+    private Brick currentBrick;
+    private ShapeTable currentTable;
+    private int rotation;
+    private int currentX;
+    private int currentY;
+    private Brick heldBrick;
+    private boolean canHold = true;
+
+    /**
+     * Constructor for BitboardGameBoard with the same dimensions convention as {@link GameBoard}.
+     * @param width Number of rows in the board matrix
+     * @param height Number of columns in the board matrix (at most 56)
+     * @throws IllegalArgumentException if the board is too wide to fit in a row bitmask
+     */
+    public BitboardGameBoard(int width, int height) {
+        this(width, height, GameSeed.random());
+    }
+
+    /**
+     * Constructor for BitboardGameBoard whose bricks and garbage are drawn from the given seed.
+     * @param width Number of rows in the board matrix
+     * @param height Number of columns in the board matrix (at most 56)
+     * @param seed The game seed
+     * @throws IllegalArgumentException if the board is too wide to fit in a row bitmask
+     */
+    public BitboardGameBoard(int width, int height, GameSeed seed) {
+        if (height > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Board too wide for bitboard: " + height);
+        }
+        this.rows = width;
+        this.columns = height;
+        this.wallMask = ~(((1L << columns) - 1) << WALL_BITS);
+        this.occupancy = new long[rows];
+        this.colors = new byte[rows * columns];
+        this.zobristKeys = ZobristKeys.of(rows, columns);
+        this.score = new Score();
+        this.seed = seed;
+        this.brickFactory = new BrickFactory(seed.getBrickRandom());
+        clearCells();
+    }
+
+    /**
+     * Moves the current brick down by one position.
+     * @return true if the move was successful, false if collision occurred
+     */
+    @Override
+    public boolean moveBrickDown() {
+        if (collides(rotation, currentX, currentY + 1)) return false;
+        currentY++;
+        return true;
+    }
+
+    /**
+     * Moves the current brick left by one position.
+     * @return true if the move was successful, false if collision occurred
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        if (collides(rotation, currentX - 1, currentY)) return false;
+        currentX--;
+        return true;
+    }
+
+    /**
+     * Moves the current brick right by one position.
+     * @return true if the move was successful, false if collision occurred
+     */
+    @Override
+    public boolean moveBrickRight() {
+        if (collides(rotation, currentX + 1, currentY)) return false;
+        currentX++;
+        return true;
+    }
+
+    /**
+     * Rotates the current brick counter-clockwise with wall kick support.
+     * Bricks with a single orientation (O) keep their rotation index, matching {@code NoRotationStrategy}.
+     * @return true if rotation was successful, false if rotation would cause collision
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = (rotation + 1) % currentTable.getRotationCount();
+
+        for (int kick = 0; kick < WallKicks.count(); kick++) {
+            int testX = currentX + WallKicks.getDx(kick);
+            int testY = currentY + WallKicks.getDy(kick);
+            if (!collides(nextRotation, testX, testY)) {
+                currentX = testX;
+                currentY = testY;
+                rotation = nextRotation;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates and spawns a new brick using the 7-Bag randomizer system.
+     * @return true if the brick can be placed, false if game over condition is met
+     */
+    @Override
+    public boolean createNewBrick() {
+        canHold = true;
+        fillNextBricks();
+        currentBrick = nextBricks.poll();
+        nextBricks.add(brickFactory.createRandomBrick());
+        spawn(currentBrick);
+        return !collides(rotation, currentX, currentY);
+    }
+
+    /**
+     * Swaps the current brick with the held brick, or holds the current brick if none is held.
+     * Can only be used once per brick placement to prevent infinite swapping.
+     */
+    @Override
+    public void holdBrick() {
+        if (!canHold) {
+            return;
+        }
+
+        if (heldBrick == null) {
+            heldBrick = currentBrick;
+            fillNextBricks();
+            currentBrick = nextBricks.poll();
+            nextBricks.add(brickFactory.createRandomBrick());
+        } else {
+            Brick temp = currentBrick;
+            currentBrick = heldBrick;
+            heldBrick = temp;
+        }
+
+        spawn(currentBrick);
+        canHold = false;
+    }
+
+    /**
+     * Gets a copy of the current game board matrix, rebuilt from the color array.
+     * @return 2D array representing the board state where 0 is empty and non-zero values represent brick colors
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        int[][] matrix = new int[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            if (occupancy[row] == wallMask) {
+                continue;
+            }
+            int base = row * columns;
+            for (int col = 0; col < columns; col++) {
+                matrix[row][col] = colors[base + col];
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Gets a copy of the current falling brick's shape matrix.
+     * @return 2D array representing the current brick's shape
+     */
+    @Override
+    public int[][] getCurrentShape() {
+        return MatrixOperations.copy(currentTable.getMatrix(rotation));
+    }
+
+    /**
+     * Gets view data containing current brick, next bricks, and held brick information.
+     * The snapshot refers to bricks by type and rotation, so no shape matrices are copied.
+     * @return ViewData object containing all information needed for rendering
+     */
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(
+                currentTable.getType(),
+                rotation,
+                currentX,
+                currentY,
+                ViewData.packTypes(nextBricks),
+                heldBrick != null ? heldBrick.getType() : null);
+    }
+
+    /**
+     * Merges the current falling brick into the row bitmasks and color array,
+     * toggling the keys of the newly filled cells into the board hash.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        byte color = (byte) currentTable.getColor();
+        for (int i = 0, n = currentTable.getCellCount(rotation); i < n; i++) {
+            int row = currentY + currentTable.getCellY(rotation, i);
+            int col = currentX + currentTable.getCellX(rotation, i);
+            long bit = 1L << (col + WALL_BITS);
+            if ((occupancy[row] & bit) == 0) {
+                zobristHash ^= zobristKeys.cell(row, col);
+            }
+            occupancy[row] |= bit;
+            colors[row * columns + col] = color;
+        }
+    }
+
+    /**
+     * Checks for completed rows that should be cleared.
+     * A row is full when its bitmask, including the wall bits, has every bit set.
+     * The board is left untouched until {@link #commitClear(ClearRow)} is called.
+     * @return ClearRow object containing the number and indices of full rows
+     */
+    @Override
+    public ClearRow checkClears() {
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            if (occupancy[row] == -1L) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return ClearRow.NONE;
+        }
+        int[] clearedRows = new int[count];
+        for (int row = 0, i = 0; i < count; row++) {
+            if (occupancy[row] == -1L) {
+                clearedRows[i++] = row;
+            }
+        }
+        return new ClearRow(count, clearedRows);
+    }
+
+    /**
+     * Applies the cleared rows and updates the row bitmasks and colors.
+     * Results produced by this board are compacted in place by shifting the surviving rows down;
+     * since they list exactly the full rows, a row is dropped when its bitmask is full.
+     * Results carrying their own matrix replace the board state.
+     * Only the rows down to the lowest cleared row move, so only those are rehashed.
+     * @param clearRow ClearRow object describing the rows to clear
+     */
+    @Override
+    public void commitClear(ClearRow clearRow) {
+        if (clearRow.hasNewMatrix()) {
+            load(clearRow.getNewMatrix());
+            return;
+        }
+        int movedRows = 0;
+        for (int i = 0, n = clearRow.getClearedRowCount(); i < n; i++) {
+            movedRows = Math.max(movedRows, clearRow.getClearedRow(i) + 1);
+        }
+        zobristHash ^= hashRows(movedRows);
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (occupancy[read] == -1L) {
+                continue;
+            }
+            if (read != write) {
+                occupancy[write] = occupancy[read];
+                System.arraycopy(colors, read * columns, colors, write * columns, columns);
+            }
+            write--;
+        }
+        for (int row = 0; row <= write; row++) {
+            occupancy[row] = wallMask;
+            Arrays.fill(colors, row * columns, (row + 1) * columns, (byte) 0);
+        }
+        zobristHash ^= hashRows(movedRows);
+    }
+
+    /**
+     * Gets the Zobrist hash of the settled cells.
+     * Merges toggle the keys of the new cells and clears rehash only the rows that moved.
+     * @return The board hash
+     */
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * Gets the seed driving this board's 7-Bag and Puzzle garbage.
+     * After the first game each new game moves on to {@link GameSeed#next()}.
+     * @return The game seed
+     */
+    @Override
+    public GameSeed getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the Score object tracking game statistics.
+     * @return Score object containing score, lines cleared, and combo information
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Resets the game board to start a new game.
+     * Games after the first draw from the next seed in the sequence.
+     */
+    @Override
+    public void newGame() {
+        if (seedUsed) {
+            seed = seed.next();
+            brickFactory = new BrickFactory(seed.getBrickRandom());
+        }
+        seedUsed = true;
+        clearCells();
+        score.reset();
+        heldBrick = null;
+        canHold = true;
+        nextBricks.clear();
+        createNewBrick();
+    }
+
+    /**
+     * Calculates the Y position where the ghost piece should be displayed.
+     * Each step is a few shifts and ANDs against the row bitmasks, with no allocation.
+     * @param currentX Current X position of the brick
+     * @param currentY Current Y position of the brick
+     * @return Y coordinate where the brick would land if dropped
+     */
+    @Override
+    public int getGhostY(int currentX, int currentY) {
+        int ghostY = currentY;
+        while (!collides(rotation, currentX, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    /**
+     * Instantly drops the current brick to its lowest valid position.
+     * @return The number of rows the brick was dropped
+     */
+    @Override
+    public int hardDrop() {
+        int ghostY = getGhostY(currentX, currentY);
+        int distance = ghostY - currentY;
+        if (distance > 0) {
+            currentY = ghostY;
+            return distance;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets a list of row indices that are fully filled and ready to be cleared.
+     * @return List of row indices (0-based) that should be cleared
+     */
+    @Override
+    public List<Integer> getRowsToClear() {
+        List<Integer> clearedRows = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            if (occupancy[row] == -1L) {
+                clearedRows.add(row);
+            }
+        }
+        return clearedRows;
+    }
+
+    /**
+     * Sets up the board for Puzzle mode by generating garbage rows at the bottom.
+     */
+    @Override
+    public void setupPuzzleMode() {
+        load(MatrixOperations.generateGarbage(rows, columns, PUZZLE_GARBAGE_HEIGHT, seed.getGarbageRandom()));
+        currentBrick = null;
+        nextBricks.clear();
+        heldBrick = null;
+        canHold = true;
+        createNewBrick();
+    }
+
+    /**
+     * Starts a Puzzle mode game from a given seed, replacing this board's seed.
+     * @param puzzleSeed The seed of the puzzle
+     */
+    @Override
+    public void setupPuzzleMode(GameSeed puzzleSeed) {
+        seed = puzzleSeed;
+        seedUsed = false;
+        brickFactory = new BrickFactory(seed.getBrickRandom());
+        newGame();
+        setupPuzzleMode();
+    }
+
+    private void fillNextBricks() {
+        if (nextBricks.isEmpty()) {
+            for (int i = 0; i < NEXT_PIECES_COUNT; i++) {
+                nextBricks.add(brickFactory.createRandomBrick());
+            }
+        }
+    }
+
+    private void spawn(Brick brick) {
+        currentTable = ShapeTable.of(brick.getType());
+        rotation = 0;
+        currentX = START_X;
+        currentY = START_Y;
+    }
+
+    /**
+     * Tests whether a rotation of the current brick collides at the given position,
+     * using the shape table's per-row bitmasks.
+     * Out-of-range columns hit the wall bits; out-of-range rows are checked explicitly.
+     */
+    private boolean collides(int rotation, int x, int y) {
+        int shift = x + WALL_BITS;
+        if (shift < 0 || shift > MAX_SHIFT) {
+            return true;
+        }
+        for (int i = currentTable.getMinY(rotation), last = currentTable.getMaxY(rotation); i <= last; i++) {
+            long mask = currentTable.getRowMask(rotation, i);
+            int row = y + i;
+            if (row < 0 || row >= rows || (occupancy[row] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void load(int[][] matrix) {
+        clearCells();
+        for (int row = 0; row < rows && row < matrix.length; row++) {
+            int base = row * columns;
+            for (int col = 0; col < columns && col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    occupancy[row] |= 1L << (col + WALL_BITS);
+                    colors[base + col] = (byte) matrix[row][col];
+                }
+            }
+        }
+        zobristHash = hashRows(rows);
+    }
+
+    private void clearCells() {
+        Arrays.fill(occupancy, wallMask);
+        Arrays.fill(colors, (byte) 0);
+        zobristHash = 0L;
+    }
+
+    private long hashRows(int rowCount) {
+        long hash = 0L;
+        for (int row = 0; row < rowCount; row++) {
+            hash ^= zobristKeys.hashRow(row, (occupancy[row] & ~wallMask) >>> WALL_BITS);
+        }
+        return hash;
+    }
+
+    Brick getCurrentBrickForTest() {
+        return currentBrick;
+    }
+
+    Brick getHeldBrickForTest() {
+        return heldBrick;
+    }
+
+    boolean canHoldForTest() {
+        return canHold;
+    }
+
+    Point getCurrentOffsetForTest() {
+        return new Point(currentX, currentY);
+    }
+}
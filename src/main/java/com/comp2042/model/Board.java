@@ -1,6 +1,7 @@
 package com.comp2042.model;
 
 import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.random.GameSeed;
 import com.comp2042.view.ViewData;
 
 /**
@@ -109,9 +110,33 @@ public interface Board {
      * Sets up the board for Puzzle mode by generating garbage rows at the bottom.
      */
     void setupPuzzleMode();
+
+    /**
+     * Starts a Puzzle mode game from a given seed, replacing this board's seed.
+     * The board ends up exactly as a new board built from that seed would after
+     * {@link #newGame()} and {@link #setupPuzzleMode()}, so replays and simulations that
+     * rebuild the game from {@link #getSeed()} see the same puzzle.
+     * @param puzzleSeed The seed of the puzzle
+     */
+    void setupPuzzleMode(GameSeed puzzleSeed);
     
     /**
      * Swaps the current brick with the held brick, or holds the current brick if none is held.
      */
     void holdBrick();
+
+    /**
+     * Gets the seed whose streams drive this board's bricks and garbage.
+     * Game modes draw their own setup from the same seed's mode stream.
+     * @return The game seed
+     */
+    GameSeed getSeed();
+
+    /**
+     * Gets the Zobrist hash of the settled cells, kept up to date as bricks merge, rows clear
+     * and garbage is inserted. Boards with the same filled cells have the same hash, whatever
+     * their colors or the moves that led there; see {@link com.comp2042.logic.board.ZobristKeys}.
+     * @return The board hash
+     */
+    long getZobristHash();
 }
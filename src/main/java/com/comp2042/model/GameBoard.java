@@ -4,21 +4,22 @@ package com.comp2042.model;
 import com.comp2042.logic.board.BrickRotator;
 import com.comp2042.logic.board.ClearRow;
 import com.comp2042.logic.board.MatrixOperations;
+import com.comp2042.logic.board.RowIndexBuffer;
+import com.comp2042.logic.board.ZobristKeys;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickFactory;
 import com.comp2042.logic.bricks.OBrick;
 import com.comp2042.logic.collision.CollisionService;
-import com.comp2042.view.NextShapeInfo;
+import com.comp2042.logic.random.GameSeed;
 import com.comp2042.view.ViewData;
 import com.comp2042.logic.board.rotation.NoRotationStrategy;
 import com.comp2042.logic.board.rotation.StandardRotationStrategy;
+import com.comp2042.logic.board.rotation.WallKicks;
 
 
 import java.awt.*;
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Core game board implementation managing Tetris game logic.
@@ -31,21 +32,22 @@ public class GameBoard implements Board {
     private static final int NEXT_PIECES_COUNT = 3;
     private static final int PUZZLE_GARBAGE_HEIGHT = 10;
     
-    private static final Point[] WALL_KICKS = {
-        new Point(0, 0),
-        new Point(1, 0),
-        new Point(-1, 0),
-        new Point(0, -1),
-        new Point(2, 0),
-        new Point(-2, 0)
-    };
     private final int width;
     private final int height;
     private final BrickRotator brickRotator;
     private int[][] currentGameMatrix;
+    private final int[] rowFillCounts;
+    private final int[] surfaceRows;
+    private final RowIndexBuffer fullRows;
+    private final ZobristKeys zobristKeys;
+    private long zobristHash;
+    private int lastMergeTop;
+    private int lastMergeBottom = -1;
     private Point currentOffset;
     private final Score score;
-    private final BrickFactory brickFactory = new BrickFactory();
+    private GameSeed seed;
+    private boolean seedUsed;
+    private BrickFactory brickFactory;
     private final CollisionService collisionService = new CollisionService();
     private Brick currentBrick;
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
@@ -53,14 +55,31 @@ public class GameBoard implements Board {
     private boolean canHold = true;
 
     /**
-     * Constructor for GameBoard with specified dimensions.
+     * Constructor for GameBoard with specified dimensions and a random seed.
      * @param width Width of the game board
      * @param height Height of the game board
      */
     public GameBoard(int width, int height) {
+        this(width, height, GameSeed.random());
+    }
+
+    /**
+     * Constructor for GameBoard whose bricks and garbage are drawn from the given seed.
+     * @param width Width of the game board
+     * @param height Height of the game board
+     * @param seed The game seed
+     */
+    public GameBoard(int width, int height, GameSeed seed) {
         this.width = width;
+        this.seed = seed;
+        this.brickFactory = new BrickFactory(seed.getBrickRandom());
         this.height = height;
         currentGameMatrix = new int[width][height];
+        rowFillCounts = new int[width];
+        surfaceRows = new int[height];
+        java.util.Arrays.fill(surfaceRows, width);
+        fullRows = new RowIndexBuffer(4);
+        zobristKeys = ZobristKeys.of(width, height);
         brickRotator = new BrickRotator();
         score = new Score();
     }
@@ -72,7 +91,7 @@ public class GameBoard implements Board {
     @Override
     public boolean moveBrickDown() {
         Point p = translated(currentOffset, 0, 1);
-        if (!canPlaceAt(brickRotator.getCurrentShape(), p)) return false;
+        if (!canPlaceAt(brickRotator.getCurrentRotation(), p)) return false;
         currentOffset = p;
         return true;
 
@@ -86,7 +105,7 @@ public class GameBoard implements Board {
     @Override
     public boolean moveBrickLeft() {
         Point p = translated(currentOffset, -1, 0);
-        if (!canPlaceAt(brickRotator.getCurrentShape(), p)) return false;
+        if (!canPlaceAt(brickRotator.getCurrentRotation(), p)) return false;
         currentOffset = p;
         return true;
 
@@ -99,7 +118,7 @@ public class GameBoard implements Board {
     @Override
     public boolean moveBrickRight() {
         Point p = translated(currentOffset, 1, 0);
-        if (!canPlaceAt(brickRotator.getCurrentShape(), p)) return false;
+        if (!canPlaceAt(brickRotator.getCurrentRotation(), p)) return false;
         currentOffset = p;
         return true;
 
@@ -112,17 +131,14 @@ public class GameBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        NextShapeInfo nextShape = brickRotator.getNextShape();
+        int nextRotation = brickRotator.getNextRotation();
         
-        for (Point offset : WALL_KICKS) {
-            Point testPos = new Point(
-                (int)(currentOffset.getX() + offset.getX()),
-                (int)(currentOffset.getY() + offset.getY())
-            );
-            
-            if (canPlaceAt(nextShape.getShape(), testPos)) {
+        for (int kick = 0; kick < WallKicks.count(); kick++) {
+            Point testPos = translated(currentOffset, WallKicks.getDx(kick), WallKicks.getDy(kick));
+
+            if (canPlaceAt(nextRotation, testPos)) {
                 currentOffset = testPos;
-                brickRotator.setCurrentShape(nextShape.getPosition());
+                brickRotator.setCurrentShape(nextRotation);
                 return true;
             }
         }
@@ -156,12 +172,7 @@ public class GameBoard implements Board {
         brickRotator.setBrick(currentBrick);
         currentOffset = new Point(START_X, START_Y);
 
-        return collisionService.canPlaceAt(
-                currentGameMatrix,
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY()
-        );
+        return canPlaceAt(brickRotator.getCurrentRotation(), currentOffset);
     }
 
     /**
@@ -222,42 +233,89 @@ public class GameBoard implements Board {
     
     /**
      * Gets view data containing current brick, next bricks, and held brick information.
+     * The snapshot refers to bricks by type and rotation, so no shape matrices are copied.
      * @return ViewData object containing all information needed for rendering
      */
     @Override
     public ViewData getViewData() {
-        List<int[][]> nextShapes = nextBricks.stream()
-                .map(b -> b.getShapeMatrix().get(0))
-                .collect(Collectors.toList());
-        int[][] heldShape = (heldBrick != null) ? heldBrick.getShapeMatrix().get(0) : null;
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), nextShapes, heldShape);
+        return new ViewData(
+                currentBrick.getType(),
+                brickRotator.getCurrentRotation(),
+                (int) currentOffset.getX(),
+                (int) currentOffset.getY(),
+                ViewData.packTypes(nextBricks),
+                heldBrick != null ? heldBrick.getType() : null);
     }
 
     /**
-     * Merges the current falling brick into the background board matrix.
+     * Merges the current falling brick into the background board matrix in place.
+     * Updates the per-row fill counts, column surfaces and board hash and remembers which rows the brick touched.
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        int[][] shape = brickRotator.getCurrentShape();
+        int x = (int) currentOffset.getX();
+        int y = (int) currentOffset.getY();
+        zobristHash ^= zobristKeys.mergeDelta(currentGameMatrix, brickRotator.getShapeTable(), brickRotator.getCurrentRotation(), x, y);
+        MatrixOperations.mergeInPlace(currentGameMatrix, rowFillCounts, shape, x, y);
+        MatrixOperations.raiseSurface(surfaceRows, brickRotator.getShapeTable(), brickRotator.getCurrentRotation(), x, y);
+        lastMergeTop = y;
+        lastMergeBottom = y + shape.length - 1;
     }
 
     /**
      * Checks for completed rows that should be cleared.
-     * @return ClearRow object containing information about cleared rows and the new matrix state
+     * Only the rows touched by the last merge can have become full, so only those are inspected.
+     * The board is left untouched until {@link #commitClear(ClearRow)} is called.
+     * @return ClearRow object containing the number and indices of full rows
      */
     @Override
     public ClearRow checkClears() {
-        return MatrixOperations.checkRemoving(currentGameMatrix);
+        int count = MatrixOperations.findFullRows(rowFillCounts, height, lastMergeTop, lastMergeBottom, fullRows);
+        if (count == 0) {
+            return ClearRow.NONE;
+        }
+        return new ClearRow(count, fullRows.toArray());
     }
 
     /**
      * Applies the cleared rows and updates the board matrix.
-     * @param clearRow ClearRow object containing the new matrix state after clearing
+     * Results produced by this board are compacted in place; results carrying their own
+     * matrix replace the board state as before.
+     * Only the rows down to the lowest cleared row move, so only those are rehashed.
+     * @param clearRow ClearRow object describing the rows to clear
      */
     @Override
     public void commitClear(ClearRow clearRow) {
-        // Use the matrix from ClearRow which already has the correct dimensions
-        currentGameMatrix = clearRow.getNewMatrix();
+        lastMergeBottom = -1;
+        if (clearRow.hasNewMatrix()) {
+            currentGameMatrix = clearRow.getNewMatrix();
+            MatrixOperations.countFilledCells(currentGameMatrix, rowFillCounts);
+            MatrixOperations.computeSurface(currentGameMatrix, surfaceRows);
+            zobristHash = zobristKeys.hash(currentGameMatrix);
+            return;
+        }
+        fullRows.clear();
+        int movedRows = 0;
+        for (int i = 0, n = clearRow.getClearedRowCount(); i < n; i++) {
+            int row = clearRow.getClearedRow(i);
+            fullRows.add(row);
+            movedRows = Math.max(movedRows, row + 1);
+        }
+        zobristHash ^= zobristKeys.hashRows(currentGameMatrix, 0, movedRows);
+        MatrixOperations.removeRowsInPlace(currentGameMatrix, rowFillCounts, fullRows);
+        zobristHash ^= zobristKeys.hashRows(currentGameMatrix, 0, movedRows);
+        MatrixOperations.computeSurface(currentGameMatrix, surfaceRows);
+    }
+
+    /**
+     * Gets the Zobrist hash of the settled cells.
+     * Merges toggle the keys of the new cells and clears rehash only the rows that moved.
+     * @return The board hash
+     */
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
     }
 
     /**
@@ -268,13 +326,35 @@ public class GameBoard implements Board {
         return score;
     }
 
+    /**
+     * Gets the seed driving this board's 7-Bag and Puzzle garbage.
+     * After the first game each new game moves on to {@link GameSeed#next()},
+     * so this always returns the seed that reproduces the current game.
+     * @return The game seed
+     */
+    @Override
+    public GameSeed getSeed() {
+        return seed;
+    }
+
     /**
      * Resets the game board to start a new game.
+     * Games after the first draw from the next seed in the sequence.
      */
     @Override
     public void newGame() {
-        // new int[width][height] already initializes all elements to 0
-        currentGameMatrix = new int[width][height];
+        if (seedUsed) {
+            seed = seed.next();
+            brickFactory = new BrickFactory(seed.getBrickRandom());
+        }
+        seedUsed = true;
+        for (int[] row : currentGameMatrix) {
+            java.util.Arrays.fill(row, 0);
+        }
+        java.util.Arrays.fill(rowFillCounts, 0);
+        java.util.Arrays.fill(surfaceRows, width);
+        zobristHash = 0L;
+        lastMergeBottom = -1;
         score.reset();
         heldBrick = null;
         canHold = true;
@@ -287,7 +367,11 @@ public class GameBoard implements Board {
      * Creates a partially filled board with one empty space per row to make it solvable.
      */
     public void setupPuzzleMode() {
-        currentGameMatrix = MatrixOperations.generateGarbage(width, height, PUZZLE_GARBAGE_HEIGHT);
+        currentGameMatrix = MatrixOperations.generateGarbage(width, height, PUZZLE_GARBAGE_HEIGHT, seed.getGarbageRandom());
+        MatrixOperations.countFilledCells(currentGameMatrix, rowFillCounts);
+        MatrixOperations.computeSurface(currentGameMatrix, surfaceRows);
+        zobristHash = zobristKeys.hash(currentGameMatrix);
+        lastMergeBottom = -1;
         currentBrick = null;
         nextBricks.clear();
         heldBrick = null;
@@ -295,18 +379,31 @@ public class GameBoard implements Board {
         createNewBrick();
     }
 
+    /**
+     * Starts a Puzzle mode game from a given seed, replacing this board's seed.
+     * @param puzzleSeed The seed of the puzzle
+     */
+    @Override
+    public void setupPuzzleMode(GameSeed puzzleSeed) {
+        seed = puzzleSeed;
+        seedUsed = false;
+        brickFactory = new BrickFactory(seed.getBrickRandom());
+        newGame();
+        setupPuzzleMode();
+    }
+
     private static Point translated(Point p, int dx, int dy) {
         Point np = new Point(p);
         np.translate(dx, dy);
         return np;
     }
 
-    private boolean canPlaceAt(int[][] shape, Point p) {
-        return collisionService.canPlaceAt(
-                currentGameMatrix,
-                shape,
-                (int) p.getX(),
-                (int) p.getY());
+    private boolean canPlaceAt(int rotation, Point p) {
+        return canPlaceAt(rotation, (int) p.getX(), (int) p.getY());
+    }
+
+    private boolean canPlaceAt(int rotation, int x, int y) {
+        return collisionService.canPlaceAt(currentGameMatrix, brickRotator.getShapeTable(), rotation, x, y);
     }
     
     /**
@@ -329,20 +426,14 @@ public class GameBoard implements Board {
     
     /**
      * Gets a list of row indices that are fully filled and ready to be cleared.
+     * Uses the per-row fill counts, so no cells are rescanned.
      * @return List of row indices (0-based) that should be cleared
      */
     @Override
     public java.util.List<Integer> getRowsToClear() {
         java.util.List<Integer> clearedRows = new java.util.ArrayList<>();
-        for (int i = 0; i < currentGameMatrix.length; i++) {
-            boolean rowToClear = true;
-            for (int j = 0; j < currentGameMatrix[0].length; j++) {
-                if (currentGameMatrix[i][j] == 0) {
-                    rowToClear = false;
-                    break;
-                }
-            }
-            if (rowToClear) {
+        for (int i = 0; i < rowFillCounts.length; i++) {
+            if (rowFillCounts[i] == height) {
                 clearedRows.add(i);
             }
         }
@@ -351,31 +442,24 @@ public class GameBoard implements Board {
 
     /**
      * Calculates the Y position where the ghost piece (preview of landing position) should be displayed.
+     * Uses the column surfaces to find the landing row from the brick's lowest cell per column,
+     * and only steps down row by row when the brick is tucked under an overhang.
      * @param currentX Current X position of the brick
      * @param currentY Current Y position of the brick
      * @return Y coordinate where the brick would land if dropped
      */
     @Override
     public int getGhostY(int currentX, int currentY) {
-        int[][] shape = brickRotator.getCurrentShape();
-        
-        if (shape == null || shape.length == 0) {
-            return currentY;
+        int rotation = brickRotator.getCurrentRotation();
+        int landing = MatrixOperations.landingRow(surfaceRows, brickRotator.getShapeTable(), rotation, currentX, currentY);
+        if (landing != MatrixOperations.UNKNOWN_LANDING_ROW) {
+            return landing;
         }
-        
+
         int ghostY = currentY;
-        
-        while (true) {
-            int nextY = ghostY + 1;
-            Point testPos = new Point(currentX, nextY);
-            
-            if (!canPlaceAt(shape, testPos)) {
-                break;
-            }
-            
-            ghostY = nextY;
+        while (canPlaceAt(rotation, currentX, ghostY + 1)) {
+            ghostY++;
         }
-        
         return ghostY;
     }
 
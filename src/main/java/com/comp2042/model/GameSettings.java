@@ -12,11 +12,28 @@ public class GameSettings {
     private static final String KEY_SHOW_GHOST_PIECE = "showGhostPiece";
     private static final String KEY_SOUND_VOLUME = "soundVolume";
     private static final String KEY_MUSIC_VOLUME = "musicVolume";
+    private static final String KEY_CANVAS_RENDERER = "canvasRenderer";
+    private static final String KEY_LOGIC_THREAD = "logicThread";
+    private static final String KEY_DAS_MILLIS = "dasMillis";
+    private static final String KEY_ARR_MILLIS = "arrMillis";
+
+    /** Default Delayed Auto Shift: how long left or right is held before it repeats. */
+    public static final int DEFAULT_DAS_MILLIS = 170;
+
+    /** Default Auto Repeat Rate: the interval between repeated shifts. */
+    public static final int DEFAULT_ARR_MILLIS = 50;
+
+    /** Longest DAS or ARR that can be configured. */
+    public static final int MAX_SHIFT_MILLIS = 500;
 
     private static boolean showAnimations = true;
     private static boolean showGhostPiece = true;
     private static double soundVolume = 1.0;
     private static double musicVolume = 1.0;
+    private static boolean canvasRenderer = false;
+    private static boolean logicThread = false;
+    private static int dasMillis = DEFAULT_DAS_MILLIS;
+    private static int arrMillis = DEFAULT_ARR_MILLIS;
 
     private static Preferences prefs = Preferences.userRoot().node(PREFS_NODE);
 
@@ -33,6 +50,10 @@ public class GameSettings {
         showGhostPiece = prefs.getBoolean(KEY_SHOW_GHOST_PIECE, true);
         soundVolume = prefs.getDouble(KEY_SOUND_VOLUME, 1.0);
         musicVolume = prefs.getDouble(KEY_MUSIC_VOLUME, 1.0);
+        canvasRenderer = prefs.getBoolean(KEY_CANVAS_RENDERER, false);
+        logicThread = prefs.getBoolean(KEY_LOGIC_THREAD, false);
+        dasMillis = clampShiftMillis(prefs.getInt(KEY_DAS_MILLIS, DEFAULT_DAS_MILLIS));
+        arrMillis = clampShiftMillis(prefs.getInt(KEY_ARR_MILLIS, DEFAULT_ARR_MILLIS));
     }
 
     /**
@@ -43,6 +64,10 @@ public class GameSettings {
         prefs.putBoolean(KEY_SHOW_GHOST_PIECE, showGhostPiece);
         prefs.putDouble(KEY_SOUND_VOLUME, soundVolume);
         prefs.putDouble(KEY_MUSIC_VOLUME, musicVolume);
+        prefs.putBoolean(KEY_CANVAS_RENDERER, canvasRenderer);
+        prefs.putBoolean(KEY_LOGIC_THREAD, logicThread);
+        prefs.putInt(KEY_DAS_MILLIS, dasMillis);
+        prefs.putInt(KEY_ARR_MILLIS, arrMillis);
     }
 
     /**
@@ -53,6 +78,10 @@ public class GameSettings {
         showGhostPiece = true;
         soundVolume = 1.0;
         musicVolume = 1.0;
+        canvasRenderer = false;
+        logicThread = false;
+        dasMillis = DEFAULT_DAS_MILLIS;
+        arrMillis = DEFAULT_ARR_MILLIS;
         save();
     }
 
@@ -123,6 +152,80 @@ public class GameSettings {
         GameSettings.musicVolume = Math.max(0.0, Math.min(1.0, musicVolume));
         save();
     }
+
+    /**
+     * Checks if the board is drawn on a single canvas instead of one node per cell.
+     * @return true if the canvas renderer is selected, false otherwise
+     */
+    public static boolean isCanvasRenderer() {
+        return canvasRenderer;
+    }
+
+    /**
+     * Sets whether the board is drawn on a single canvas instead of one node per cell.
+     * Takes effect from the next game.
+     * @param canvasRenderer true to use the canvas renderer, false for the node renderer
+     */
+    public static void setCanvasRenderer(boolean canvasRenderer) {
+        GameSettings.canvasRenderer = canvasRenderer;
+        save();
+    }
+
+    /**
+     * Checks if the game rules run on their own thread instead of the JavaFX application thread.
+     * @return true if the logic thread is selected, false otherwise
+     */
+    public static boolean isLogicThread() {
+        return logicThread;
+    }
+
+    /**
+     * Sets whether the game rules run on their own thread instead of the JavaFX application thread.
+     * Takes effect from the next game.
+     * @param logicThread true to run the rules on a logic thread
+     */
+    public static void setLogicThread(boolean logicThread) {
+        GameSettings.logicThread = logicThread;
+        save();
+    }
+
+    /**
+     * Gets the Delayed Auto Shift: how long left or right is held before it starts repeating.
+     * @return Delay in milliseconds
+     */
+    public static int getDasMillis() {
+        return dasMillis;
+    }
+
+    /**
+     * Sets the Delayed Auto Shift. Takes effect from the next game.
+     * @param dasMillis Delay in milliseconds (clamped to 0-{@value #MAX_SHIFT_MILLIS})
+     */
+    public static void setDasMillis(int dasMillis) {
+        GameSettings.dasMillis = clampShiftMillis(dasMillis);
+        save();
+    }
+
+    /**
+     * Gets the Auto Repeat Rate: the interval between repeated shifts once DAS has passed.
+     * @return Interval in milliseconds, where 0 means the brick shifts straight to the wall
+     */
+    public static int getArrMillis() {
+        return arrMillis;
+    }
+
+    /**
+     * Sets the Auto Repeat Rate. Takes effect from the next game.
+     * @param arrMillis Interval in milliseconds (clamped to 0-{@value #MAX_SHIFT_MILLIS}), 0 for instant
+     */
+    public static void setArrMillis(int arrMillis) {
+        GameSettings.arrMillis = clampShiftMillis(arrMillis);
+        save();
+    }
+
+    private static int clampShiftMillis(int millis) {
+        return Math.max(0, Math.min(MAX_SHIFT_MILLIS, millis));
+    }
 }
 
 
@@ -0,0 +1,90 @@
+package com.comp2042.view;
+
+import com.comp2042.logic.board.MatrixOperations;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Read-only view of a brick's shape matrix, for drawing code.
+ * The shapes of brick types wrap the shared {@link ShapeTable} matrices, one instance per type
+ * and rotation, so the view reads them without copying and has no way to write to them.
+ */
+public final class BrickShape {
+
+    private static final BrickShape[][] SHARED = buildShared();
+
+    private final int[][] cells;
+
+    private BrickShape(int[][] cells) {
+        this.cells = cells;
+    }
+
+    private static BrickShape[][] buildShared() {
+        BrickType[] types = BrickType.values();
+        BrickShape[][] shapes = new BrickShape[types.length][];
+        for (BrickType type : types) {
+            ShapeTable table = ShapeTable.of(type);
+            shapes[type.ordinal()] = new BrickShape[table.getRotationCount()];
+            for (int r = 0; r < table.getRotationCount(); r++) {
+                shapes[type.ordinal()][r] = new BrickShape(table.getMatrix(r));
+            }
+        }
+        return shapes;
+    }
+
+    /**
+     * Gets the shared shape of a brick type in one rotation.
+     * @param type The brick type
+     * @param rotation Rotation index within the brick's shape table
+     * @return The shape
+     */
+    public static BrickShape of(BrickType type, int rotation) {
+        return SHARED[type.ordinal()][rotation];
+    }
+
+    /**
+     * Creates a shape from a copy of a matrix.
+     * @param matrix The shape matrix, with rectangular rows
+     * @return The shape
+     */
+    public static BrickShape copyOf(int[][] matrix) {
+        return new BrickShape(MatrixOperations.copy(matrix));
+    }
+
+    /**
+     * Gets the number of rows of the shape matrix.
+     * @return Row count
+     */
+    public int getRows() {
+        return cells.length;
+    }
+
+    /**
+     * Gets the number of columns of the shape matrix.
+     * @return Column count, or 0 if the matrix has no rows
+     */
+    public int getColumns() {
+        return cells.length > 0 ? cells[0].length : 0;
+    }
+
+    /**
+     * Gets the color code of one cell.
+     * @param row Row within the shape matrix
+     * @param column Column within the shape matrix
+     * @return The color code, or 0 if the cell is empty or outside the matrix
+     */
+    public int getCell(int row, int column) {
+        if (row < 0 || row >= cells.length || column < 0 || column >= cells[row].length) {
+            return 0;
+        }
+        return cells[row][column];
+    }
+
+    /**
+     * Copies the shape into a new matrix the caller may modify.
+     * @return The copy
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(cells);
+    }
+}
@@ -0,0 +1,172 @@
+package com.comp2042.view;
+
+/**
+ * Collects view updates between frames and draws each changed region at most once per pulse.
+ * Game events report the latest board and brick snapshots here instead of drawing them;
+ * the presenter works out which regions differ from what is on screen, asks its scheduler
+ * for one flush, and on that flush draws only the dirty regions from the newest snapshots.
+ * Updates that would be overwritten before the frame is shown are therefore never drawn.
+ */
+public final class FramePresenter {
+
+    /** The falling brick. */
+    public static final int ACTIVE_PIECE = 1;
+
+    /** The ghost landing preview, which depends on both the brick and the board. */
+    public static final int GHOST = 1 << 1;
+
+    /** The locked cells of the board. */
+    public static final int BOARD = 1 << 2;
+
+    /** The next piece previews. */
+    public static final int QUEUE = 1 << 3;
+
+    /** The held brick preview. */
+    public static final int HOLD = 1 << 4;
+
+    /** Every region. */
+    public static final int ALL = ACTIVE_PIECE | GHOST | BOARD | QUEUE | HOLD;
+
+    /**
+     * Draws the regions of the game view.
+     */
+    public interface View {
+        void drawBoard(int[][] boardMatrix);
+
+        void drawGhost(ViewData brick);
+
+        void drawActivePiece(ViewData brick);
+
+        void drawQueue(ViewData brick);
+
+        void drawHold(ViewData brick);
+    }
+
+    private final View view;
+    private final Runnable scheduler;
+    private ViewData shownBrick;
+    private ViewData pendingBrick;
+    private int[][] pendingBoard;
+    private int dirty;
+    private boolean scheduled;
+
+    /**
+     * Constructs a presenter.
+     * @param view The view that draws each region
+     * @param scheduler Requests one call to {@link #flush()} before the next frame is shown
+     */
+    public FramePresenter(View view, Runnable scheduler) {
+        this.view = view;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Records a new brick snapshot, marking the regions it changes.
+     * @param brick The latest view data
+     */
+    public void submitBrick(ViewData brick) {
+        if (brick == null) {
+            return;
+        }
+        ViewData reference = pendingBrick != null ? pendingBrick : shownBrick;
+        int changed = 0;
+        if (!brick.samePiece(reference)) {
+            changed |= ACTIVE_PIECE | GHOST;
+        }
+        if (!brick.sameQueue(reference)) {
+            changed |= QUEUE;
+        }
+        if (!brick.sameHeld(reference)) {
+            changed |= HOLD;
+        }
+        pendingBrick = brick;
+        markDirty(changed);
+    }
+
+    /**
+     * Records a new board matrix.
+     * The ghost is left alone: the board only changes when a brick locks, and the next brick
+     * submitted afterwards redraws it.
+     * @param boardMatrix The latest board matrix, which the presenter keeps until it is drawn
+     */
+    public void submitBoard(int[][] boardMatrix) {
+        if (boardMatrix == null) {
+            return;
+        }
+        pendingBoard = boardMatrix;
+        markDirty(BOARD);
+    }
+
+    /**
+     * Forgets a pending redraw of some regions, for when the view has just hidden them.
+     * @param regions Bitmask of regions to drop
+     */
+    public void discard(int regions) {
+        dirty &= ~regions;
+    }
+
+    /**
+     * Marks the view as showing a brick drawn directly, such as by the initial game view,
+     * and drops any pending updates.
+     * @param brick The view data now on screen
+     */
+    public void reset(ViewData brick) {
+        shownBrick = brick;
+        pendingBrick = null;
+        pendingBoard = null;
+        dirty = 0;
+    }
+
+    /**
+     * Draws every dirty region now from the newest snapshots.
+     * Safe to call at any time, for example before an animation that reads the drawn nodes.
+     */
+    public void flush() {
+        scheduled = false;
+        int regions = dirty;
+        if (regions == 0) {
+            return;
+        }
+        dirty = 0;
+        ViewData brick = pendingBrick != null ? pendingBrick : shownBrick;
+        if ((regions & BOARD) != 0 && pendingBoard != null) {
+            view.drawBoard(pendingBoard);
+            pendingBoard = null;
+        }
+        if (brick != null) {
+            if ((regions & GHOST) != 0) {
+                view.drawGhost(brick);
+            }
+            if ((regions & ACTIVE_PIECE) != 0) {
+                view.drawActivePiece(brick);
+            }
+            if ((regions & QUEUE) != 0) {
+                view.drawQueue(brick);
+            }
+            if ((regions & HOLD) != 0) {
+                view.drawHold(brick);
+            }
+        }
+        shownBrick = brick;
+        pendingBrick = null;
+    }
+
+    /**
+     * Gets the regions waiting to be drawn.
+     * @return Bitmask of dirty regions
+     */
+    public int getDirtyRegions() {
+        return dirty;
+    }
+
+    private void markDirty(int regions) {
+        if (regions == 0) {
+            return;
+        }
+        dirty |= regions;
+        if (!scheduled) {
+            scheduled = true;
+            scheduler.run();
+        }
+    }
+}
@@ -23,11 +23,17 @@ import static javafx.scene.layout.Region.USE_COMPUTED_SIZE;
 import javafx.util.Duration;
 
 public class SettingsPanel extends StackPane {
+    private static final int TIMING_STEP_MILLIS = 10;
+
     private Label titleLabel;
     private CheckBox showAnimationsCheckbox;
     private CheckBox showGhostPieceCheckbox;
+    private CheckBox canvasRendererCheckbox;
+    private CheckBox logicThreadCheckbox;
     private Label soundVolumeLabel;
     private Label musicVolumeLabel;
+    private Label dasLabel;
+    private Label arrLabel;
     private Button soundVolumeMinus;
     private Button soundVolumePlus;
     private Button musicVolumeMinus;
@@ -97,11 +103,30 @@ public class SettingsPanel extends StackPane {
             });
         showGhostPieceCheckbox = (CheckBox) ghostPieceRow.getChildren().get(1);
 
+        HBox canvasRendererRow = createCheckboxRow("CANVAS RENDERER", GameSettings.isCanvasRenderer(),
+            value -> {
+                GameSettings.setCanvasRenderer(value);
+                canvasRendererCheckbox.setSelected(value);
+            });
+        canvasRendererCheckbox = (CheckBox) canvasRendererRow.getChildren().get(1);
+
+        HBox logicThreadRow = createCheckboxRow("LOGIC THREAD", GameSettings.isLogicThread(),
+            value -> {
+                GameSettings.setLogicThread(value);
+                logicThreadCheckbox.setSelected(value);
+            });
+        logicThreadCheckbox = (CheckBox) logicThreadRow.getChildren().get(1);
+
         HBox soundVolumeRow = createVolumeRow("SOUND FX VOLUME", GameSettings.getSoundVolume(),
             this::updateSoundVolume);
         HBox musicVolumeRow = createVolumeRow("MUSIC VOLUME", GameSettings.getMusicVolume(),
             this::updateMusicVolume);
 
+        HBox dasRow = createTimingRow("AUTO SHIFT DELAY", GameSettings::getDasMillis, GameSettings::setDasMillis);
+        dasLabel = (Label) dasRow.getChildren().get(2);
+        HBox arrRow = createTimingRow("AUTO REPEAT RATE", GameSettings::getArrMillis, GameSettings::setArrMillis);
+        arrLabel = (Label) arrRow.getChildren().get(2);
+
         HBox resetRow = new HBox(15);
         resetRow.setAlignment(Pos.CENTER);
         resetHighScoresButton = createResetButton("RESET HIGH SCORES", this::resetHighScores);
@@ -117,8 +142,12 @@ public class SettingsPanel extends StackPane {
         settingsContainer.getChildren().addAll(
             animationsRow,
             ghostPieceRow,
+            canvasRendererRow,
+            logicThreadRow,
             soundVolumeRow,
             musicVolumeRow,
+            dasRow,
+            arrRow,
             resetRow,
             doneButton
         );
@@ -215,6 +244,57 @@ public class SettingsPanel extends StackPane {
         return row;
     }
 
+    private HBox createTimingRow(String labelText, java.util.function.IntSupplier getter, java.util.function.IntConsumer setter) {
+        HBox row = new HBox(10);
+        row.setAlignment(Pos.CENTER);
+
+        Label label = new Label(labelText);
+        label.setStyle(
+            "-fx-font-family: \"Press Start 2P\";" +
+            "-fx-font-size: 10px;" +
+            "-fx-text-fill: white;"
+        );
+        label.setMinWidth(180);
+        label.setPrefWidth(180);
+        label.setAlignment(Pos.CENTER_LEFT);
+
+        Button minusButton = new Button("-");
+        minusButton.getStyleClass().add("volume-button");
+        minusButton.setPrefWidth(40);
+        minusButton.setPrefHeight(40);
+
+        Label valueLabel = new Label(formatMillis(getter.getAsInt()));
+        valueLabel.setStyle(
+            "-fx-font-family: \"Press Start 2P\";" +
+            "-fx-font-size: 12px;" +
+            "-fx-text-fill: #00FFFF;" +
+            "-fx-min-width: 60px;" +
+            "-fx-alignment: center;"
+        );
+
+        Button plusButton = new Button("+");
+        plusButton.getStyleClass().add("volume-button");
+        plusButton.setPrefWidth(40);
+        plusButton.setPrefHeight(40);
+
+        minusButton.setOnAction(e -> {
+            setter.accept(getter.getAsInt() - TIMING_STEP_MILLIS);
+            valueLabel.setText(formatMillis(getter.getAsInt()));
+        });
+
+        plusButton.setOnAction(e -> {
+            setter.accept(getter.getAsInt() + TIMING_STEP_MILLIS);
+            valueLabel.setText(formatMillis(getter.getAsInt()));
+        });
+
+        row.getChildren().addAll(label, minusButton, valueLabel, plusButton);
+        return row;
+    }
+
+    private String formatMillis(int millis) {
+        return millis + "MS";
+    }
+
     private void updateSoundVolume(double volume) {
         GameSettings.setSoundVolume(volume);
         if (soundController != null) {
@@ -257,6 +337,10 @@ public class SettingsPanel extends StackPane {
         GameSettings.reset();
         showAnimationsCheckbox.setSelected(GameSettings.isShowAnimations());
         showGhostPieceCheckbox.setSelected(GameSettings.isShowGhostPiece());
+        canvasRendererCheckbox.setSelected(GameSettings.isCanvasRenderer());
+        logicThreadCheckbox.setSelected(GameSettings.isLogicThread());
+        dasLabel.setText(formatMillis(GameSettings.getDasMillis()));
+        arrLabel.setText(formatMillis(GameSettings.getArrMillis()));
         updateVolumeDisplays();
         if (soundController != null) {
             soundController.setSoundVolume(GameSettings.getSoundVolume());
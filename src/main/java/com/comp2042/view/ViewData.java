@@ -1,27 +1,138 @@
 package com.comp2042.view;
 
-import com.comp2042.logic.board.MatrixOperations;
-import java.util.List;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
 import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Immutable snapshot of what the view needs to draw the falling brick and the previews.
+ * Boards describe bricks by {@link BrickType} and rotation index, resolved against the shared
+ * {@link ShapeTable}s, and the next pieces are packed into one int, so taking a snapshot
+ * allocates only this object. The {@code get...Shape} accessors return read-only {@link BrickShape}s
+ * over the shared matrices; the matrix getters still return copies for callers that modify them.
+ */
 public final class ViewData {
 
-    private final int[][] brickData;
+    private static final int TYPE_BITS = 4;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+    /** Maximum number of next pieces a snapshot can hold. */
+    public static final int MAX_NEXT_PIECES = Integer.SIZE / TYPE_BITS - 1;
+
+    /** Ghost row of a snapshot that does not know where its brick lands. */
+    public static final int UNKNOWN_ROW = Integer.MIN_VALUE;
+
+    private final BrickType brickType;
+    private final int rotation;
     private final int xPosition;
     private final int yPosition;
-    private final List<int[][]> nextPieces;
-    private final int[][] heldBrickData;
+    private final int nextTypes;
+    private final BrickType heldType;
+    private final int ghostY;
+
+    private final BrickShape brickData;
+    private final List<BrickShape> nextPieces;
+    private final BrickShape heldBrickData;
 
+    /**
+     * Creates a snapshot from brick types.
+     * @param brickType Type of the falling brick
+     * @param rotation Rotation index of the falling brick within its shape table
+     * @param xPosition X position of the falling brick
+     * @param yPosition Y position of the falling brick
+     * @param nextTypes Next piece types packed with {@link #packTypes(Iterable)}
+     * @param heldType Type of the held brick, or null if none is held
+     */
+    public ViewData(BrickType brickType, int rotation, int xPosition, int yPosition, int nextTypes, BrickType heldType) {
+        this(brickType, rotation, xPosition, yPosition, nextTypes, heldType, UNKNOWN_ROW);
+    }
+
+    /**
+     * Creates a snapshot from brick types that also records where the brick would land,
+     * for views that draw it without access to the board.
+     * @param brickType Type of the falling brick
+     * @param rotation Rotation index of the falling brick within its shape table
+     * @param xPosition X position of the falling brick
+     * @param yPosition Y position of the falling brick
+     * @param nextTypes Next piece types packed with {@link #packTypes(Iterable)}
+     * @param heldType Type of the held brick, or null if none is held
+     * @param ghostY Row the brick would land on, or {@link #UNKNOWN_ROW}
+     */
+    public ViewData(BrickType brickType, int rotation, int xPosition, int yPosition, int nextTypes, BrickType heldType,
+                    int ghostY) {
+        this.brickType = brickType;
+        this.rotation = rotation;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.nextTypes = nextTypes;
+        this.heldType = heldType;
+        this.ghostY = ghostY;
+        this.brickData = null;
+        this.nextPieces = null;
+        this.heldBrickData = null;
+    }
+
+    /**
+     * Creates a snapshot from raw shape matrices, for callers without brick types.
+     * The matrices are copied.
+     * @param brickData Shape of the falling brick
+     * @param xPosition X position of the falling brick
+     * @param yPosition Y position of the falling brick
+     * @param nextPieces Shapes of the next pieces
+     * @param heldBrickData Shape of the held brick, or null if none is held
+     */
     public ViewData(int[][] brickData, int xPosition, int yPosition, List<int[][]> nextPieces, int[][] heldBrickData) {
-        this.brickData = MatrixOperations.copy(brickData);
+        this.brickType = null;
+        this.rotation = 0;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextPieces = new ArrayList<>(nextPieces);
-        this.heldBrickData = heldBrickData != null ? MatrixOperations.copy(heldBrickData) : null;
+        this.nextTypes = 0;
+        this.heldType = null;
+        this.ghostY = UNKNOWN_ROW;
+        this.brickData = BrickShape.copyOf(brickData);
+        this.nextPieces = new ArrayList<>(nextPieces.size());
+        for (int[][] piece : nextPieces) {
+            this.nextPieces.add(BrickShape.copyOf(piece));
+        }
+        this.heldBrickData = heldBrickData != null ? BrickShape.copyOf(heldBrickData) : null;
     }
 
-    public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+    /**
+     * Packs the types of a sequence of bricks into one int, in order.
+     * @param bricks The bricks, at most {@link #MAX_NEXT_PIECES}
+     * @return The packed types
+     * @throws IllegalArgumentException if there are too many bricks
+     */
+    public static int packTypes(Iterable<? extends Brick> bricks) {
+        int packed = 0;
+        int shift = 0;
+        for (Brick brick : bricks) {
+            if (shift >= MAX_NEXT_PIECES * TYPE_BITS) {
+                throw new IllegalArgumentException("At most " + MAX_NEXT_PIECES + " next pieces can be shown");
+            }
+            packed |= (brick.getType().ordinal() + 1) << shift;
+            shift += TYPE_BITS;
+        }
+        return packed;
+    }
+
+    /**
+     * Gets the type of the falling brick.
+     * @return The brick type, or null for snapshots built from raw matrices
+     */
+    public BrickType getBrickType() {
+        return brickType;
+    }
+
+    /**
+     * Gets the rotation index of the falling brick.
+     * @return Rotation index within the brick's shape table
+     */
+    public int getRotation() {
+        return rotation;
     }
 
     public int getxPosition() {
@@ -32,15 +143,143 @@ public final class ViewData {
         return yPosition;
     }
 
+    /**
+     * Gets the number of next pieces.
+     * @return Number of next pieces in the snapshot
+     */
+    public int getNextCount() {
+        if (nextPieces != null) {
+            return nextPieces.size();
+        }
+        int count = 0;
+        for (int packed = nextTypes; packed != 0; packed >>>= TYPE_BITS) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the type of a next piece.
+     * @param index Position in the queue, 0 being the next piece to spawn
+     * @return The brick type, or null if there is no piece at that position
+     */
+    public BrickType getNextType(int index) {
+        if (index < 0 || index >= MAX_NEXT_PIECES) {
+            return null;
+        }
+        int code = (nextTypes >>> (index * TYPE_BITS)) & TYPE_MASK;
+        return code == 0 ? null : BrickType.values()[code - 1];
+    }
+
+    /**
+     * Gets the row the falling brick would land on, if the snapshot recorded it.
+     * @return The ghost row, or {@link #UNKNOWN_ROW} if the board has to be asked
+     */
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Copies this snapshot with a known landing row.
+     * @param ghostY Row the brick would land on
+     * @return A typed snapshot carrying the row, or this snapshot if it was built from raw matrices
+     */
+    public ViewData withGhostY(int ghostY) {
+        if (!isTyped()) {
+            return this;
+        }
+        return new ViewData(brickType, rotation, xPosition, yPosition, nextTypes, heldType, ghostY);
+    }
+
+    /**
+     * Gets the type of the held brick.
+     * @return The held brick type, or null if none is held
+     */
+    public BrickType getHeldType() {
+        return heldType;
+    }
+
+    /**
+     * Gets the shape of the falling brick without copying it.
+     * @return The read-only shape
+     */
+    public BrickShape getBrickShape() {
+        return brickData != null ? brickData : BrickShape.of(brickType, rotation);
+    }
+
+    /**
+     * Gets the shape of a next piece, in its spawn rotation, without copying it.
+     * @param index Position in the queue
+     * @return The read-only shape, or null if there is no piece at that position
+     */
+    public BrickShape getNextShape(int index) {
+        if (nextPieces != null) {
+            return index >= 0 && index < nextPieces.size() ? nextPieces.get(index) : null;
+        }
+        BrickType type = getNextType(index);
+        return type != null ? BrickShape.of(type, 0) : null;
+    }
+
+    /**
+     * Gets the shape of the held brick, in its spawn rotation, without copying it.
+     * @return The read-only shape, or null if none is held
+     */
+    public BrickShape getHeldShape() {
+        if (brickType == null) {
+            return heldBrickData;
+        }
+        return heldType != null ? BrickShape.of(heldType, 0) : null;
+    }
+
+    public int[][] getBrickData() {
+        return getBrickShape().toMatrix();
+    }
+
     public List<int[][]> getNextPieces() {
-        List<int[][]> copies = new ArrayList<>();
-        for (int[][] piece : nextPieces) {
-            copies.add(MatrixOperations.copy(piece));
+        int count = getNextCount();
+        List<int[][]> pieces = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pieces.add(getNextShape(i).toMatrix());
         }
-        return copies;
+        return pieces;
     }
 
     public int[][] getHeldBrickData() {
-        return heldBrickData != null ? MatrixOperations.copy(heldBrickData) : null;
+        BrickShape held = getHeldShape();
+        return held != null ? held.toMatrix() : null;
+    }
+
+    /**
+     * Checks whether another snapshot shows the falling brick with the same type, rotation, position and landing row.
+     * Snapshots built from raw matrices never compare equal, since their shapes are not known by type.
+     * @param other The snapshot to compare with, may be null
+     * @return true if the falling brick would be drawn identically
+     */
+    public boolean samePiece(ViewData other) {
+        return isTyped() && other != null && other.isTyped()
+                && brickType == other.brickType && rotation == other.rotation
+                && xPosition == other.xPosition && yPosition == other.yPosition && ghostY == other.ghostY;
+    }
+
+    /**
+     * Checks whether another snapshot shows the same next pieces.
+     * @param other The snapshot to compare with, may be null
+     * @return true if the next queue would be drawn identically
+     */
+    public boolean sameQueue(ViewData other) {
+        return isTyped() && other != null && other.isTyped() && nextTypes == other.nextTypes;
+    }
+
+    /**
+     * Checks whether another snapshot shows the same held brick.
+     * @param other The snapshot to compare with, may be null
+     * @return true if the hold box would be drawn identically
+     */
+    public boolean sameHeld(ViewData other) {
+        return isTyped() && other != null && other.isTyped() && heldType == other.heldType;
+    }
+
+    private boolean isTyped() {
+        return brickData == null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package com.comp2042.view.animation;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fixed-capacity store for the state of short-lived explosion particles.
+ * Every particle lives in one slot of a set of parallel primitive arrays, so spawning and
+ * stepping particles creates no objects. Live particles are kept packed at the front of the
+ * arrays: when one expires the last live particle is moved into its slot, and the freed slot
+ * is reused by the next spawn. Spawns beyond the capacity are dropped.
+ */
+public final class ParticlePool {
+
+    /** How long a particle lives, matching the old per-node particle animation. */
+    public static final double LIFETIME_SECONDS = 0.5;
+
+    /** Largest distance a particle drifts on each axis over its lifetime. */
+    public static final double DRIFT_RANGE = 50.0;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] vx;
+    private final double[] vy;
+    private final double[] age;
+    private final int[] color;
+    private final RandomGenerator random;
+    private int size;
+
+    /**
+     * Constructs a pool with its own random source for particle directions.
+     * @param capacity Maximum number of live particles
+     */
+    public ParticlePool(int capacity) {
+        this(capacity, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a pool with the given random source for particle directions.
+     * @param capacity Maximum number of live particles
+     * @param random Random source used by {@link #emit(double, double, int, int)}
+     */
+    public ParticlePool(int capacity, RandomGenerator random) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        x = new double[capacity];
+        y = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        age = new double[capacity];
+        color = new int[capacity];
+        this.random = random;
+    }
+
+    /**
+     * Spawns one particle.
+     * @param px Starting X coordinate
+     * @param py Starting Y coordinate
+     * @param velocityX Horizontal speed in pixels per second
+     * @param velocityY Vertical speed in pixels per second
+     * @param colorCode Brick color code of the particle
+     * @return true if a slot was free, false if the particle was dropped
+     */
+    public boolean spawn(double px, double py, double velocityX, double velocityY, int colorCode) {
+        if (size == x.length) {
+            return false;
+        }
+        int i = size++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = velocityX;
+        vy[i] = velocityY;
+        age[i] = 0;
+        color[i] = colorCode;
+        return true;
+    }
+
+    /**
+     * Spawns a burst of particles drifting in random directions from one point.
+     * @param px Burst X coordinate
+     * @param py Burst Y coordinate
+     * @param colorCode Brick color code of the particles
+     * @param count Number of particles to spawn
+     * @return Number of particles actually spawned
+     */
+    public int emit(double px, double py, int colorCode, int count) {
+        int spawned = 0;
+        for (int n = 0; n < count; n++) {
+            double velocityX = (random.nextDouble() - 0.5) * DRIFT_RANGE / LIFETIME_SECONDS;
+            double velocityY = (random.nextDouble() - 0.5) * DRIFT_RANGE / LIFETIME_SECONDS;
+            if (!spawn(px, py, velocityX, velocityY, colorCode)) {
+                break;
+            }
+            spawned++;
+        }
+        return spawned;
+    }
+
+    /**
+     * Advances every live particle and frees the slots of those that expired.
+     * @param seconds Elapsed time since the last step
+     */
+    public void step(double seconds) {
+        int i = 0;
+        while (i < size) {
+            double newAge = age[i] + seconds;
+            if (newAge >= LIFETIME_SECONDS) {
+                size--;
+                x[i] = x[size];
+                y[i] = y[size];
+                vx[i] = vx[size];
+                vy[i] = vy[size];
+                age[i] = age[size];
+                color[i] = color[size];
+                continue;
+            }
+            age[i] = newAge;
+            x[i] += vx[i] * seconds;
+            y[i] += vy[i] * seconds;
+            i++;
+        }
+    }
+
+    /**
+     * Removes every live particle.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of live particles, which occupy slots 0 to size - 1.
+     * @return Live particle count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of live particles.
+     * @return Pool capacity
+     */
+    public int capacity() {
+        return x.length;
+    }
+
+    /**
+     * Checks whether no particles are alive.
+     * @return true if the pool is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    public int getColor(int slot) {
+        return color[slot];
+    }
+
+    /**
+     * Gets the opacity of a particle, fading linearly from 1 to 0 over its lifetime.
+     * @param slot Particle slot
+     * @return Opacity between 0 and 1
+     */
+    public double getAlpha(int slot) {
+        return 1.0 - age[slot] / LIFETIME_SECONDS;
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.view.animation;
+
+import com.comp2042.util.BrickColorMapper;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Draws line-clear explosion particles onto one {@link Canvas} overlay.
+ * Particle state lives in a {@link ParticlePool}; a single {@link AnimationTimer} steps
+ * and redraws all of it each frame, and stops itself once the last particle has faded.
+ */
+public class ParticleSystem {
+
+    /** Maximum live particles, enough for a four line clear at the highest burst size. */
+    public static final int CAPACITY = 512;
+
+    private static final double PARTICLE_SIZE = 5;
+    private static final double PARTICLE_ARC = 3;
+
+    /** Longest frame gap stepped at once, so a stall does not make particles jump. */
+    private static final double MAX_STEP_SECONDS = 0.1;
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final ParticlePool pool = new ParticlePool(CAPACITY);
+    private final AnimationTimer timer;
+    private long lastFrameNanos = -1;
+    private boolean running;
+
+    public ParticleSystem() {
+        canvas = new Canvas();
+        canvas.setMouseTransparent(true);
+        gc = canvas.getGraphicsContext2D();
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+    }
+
+    /**
+     * Gets the overlay canvas to place above the game.
+     * @return The canvas particles are drawn on
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Spawns a burst of particles and starts the animation if it is idle.
+     * @param x Burst X coordinate in canvas space
+     * @param y Burst Y coordinate in canvas space
+     * @param colorCode Brick color code of the particles
+     * @param count Number of particles
+     */
+    public void emit(double x, double y, int colorCode, int count) {
+        pool.emit(x, y, colorCode, count);
+        if (!running && !pool.isEmpty()) {
+            running = true;
+            lastFrameNanos = -1;
+            timer.start();
+        }
+    }
+
+    /**
+     * Removes every particle and stops the animation.
+     */
+    public void clear() {
+        pool.clear();
+        stop();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    private void onFrame(long now) {
+        double seconds = lastFrameNanos < 0 ? 0 : Math.min((now - lastFrameNanos) / 1e9, MAX_STEP_SECONDS);
+        lastFrameNanos = now;
+        pool.step(seconds);
+
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        int size = pool.size();
+        for (int i = 0; i < size; i++) {
+            gc.setGlobalAlpha(pool.getAlpha(i));
+            gc.setFill(BrickColorMapper.getFillColor(pool.getColor(i)));
+            gc.fillRoundRect(pool.getX(i), pool.getY(i), PARTICLE_SIZE, PARTICLE_SIZE, PARTICLE_ARC, PARTICLE_ARC);
+        }
+        gc.setGlobalAlpha(1.0);
+
+        if (pool.isEmpty()) {
+            stop();
+        }
+    }
+
+    private void stop() {
+        if (running) {
+            running = false;
+            timer.stop();
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.comp2042.view.renderer;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.GameSettings;
+import com.comp2042.view.BrickShape;
+import com.comp2042.util.BrickColorMapper;
+import com.comp2042.util.GameConstants;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Draws the game board, falling brick, ghost piece and hint outline onto a single {@link Canvas}.
+ * An alternative to {@link GameBoardRenderer}, {@link GhostPieceRenderer} and the brick panel
+ * that keeps the scene graph to one node instead of one {@code Rectangle} per cell.
+ * The renderer remembers what each visible cell currently shows and only repaints
+ * the rows whose contents changed since the last frame.
+ */
+public class CanvasBoardRenderer {
+
+    /** Rows at the top of the board that are never shown. */
+    private static final int HIDDEN_ROWS = 2;
+
+    /** Marks a cell code as the ghost outline of that color rather than a solid block. */
+    private static final int GHOST_FLAG = 0x100;
+
+    /** Marks a cell code as part of the hint outline. */
+    private static final int HINT_FLAG = 0x200;
+
+    private static final Color GRID_COLOR = Color.rgb(74, 158, 255, 0.3);
+    private static final double GRID_LINE_WIDTH = 0.5;
+    private static final double GHOST_STROKE_WIDTH = 2.0;
+    private static final Color HINT_COLOR = Color.WHITE;
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final double cellSize = GameConstants.BRICK_SIZE + GameConstants.CELL_GAP;
+
+    private int rows;
+    private int cols;
+    private int[][] background;
+    private int[][] rendered;
+    private boolean[] dirtyRows;
+
+    private BrickShape brickShape;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private boolean brickVisible = true;
+    private boolean ghostVisible = true;
+
+    private BrickShape hintShape;
+    private int hintX;
+    private int hintY;
+
+    public CanvasBoardRenderer() {
+        canvas = new Canvas();
+        canvas.setMouseTransparent(true);
+        canvas.setLayoutX(GameConstants.BORDER_OFFSET);
+        canvas.setLayoutY(GameConstants.BORDER_OFFSET);
+        gc = canvas.getGraphicsContext2D();
+    }
+
+    /**
+     * Gets the canvas node to place in the game area.
+     * @return The canvas this renderer draws on
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Sizes the canvas for a board and paints it empty.
+     * @param boardMatrix The board matrix to take dimensions and initial contents from
+     */
+    public void initialize(int[][] boardMatrix) {
+        rows = boardMatrix.length;
+        cols = boardMatrix[0].length;
+        background = new int[rows][cols];
+        rendered = new int[rows][cols];
+        dirtyRows = new boolean[rows];
+        brickShape = null;
+        hintShape = null;
+        brickVisible = true;
+        ghostVisible = true;
+
+        canvas.setWidth(cols * cellSize);
+        canvas.setHeight((rows - HIDDEN_ROWS) * cellSize);
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = HIDDEN_ROWS; i < rows; i++) {
+            drawRow(i);
+        }
+        refreshGameBackground(boardMatrix);
+    }
+
+    /**
+     * Updates the locked cells and repaints the rows that changed.
+     * @param board The current game board matrix
+     */
+    public void refreshGameBackground(int[][] board) {
+        if (background == null) {
+            return;
+        }
+        for (int i = HIDDEN_ROWS; i < rows && i < board.length; i++) {
+            int[] source = board[i];
+            int[] target = background[i];
+            for (int j = 0; j < cols && j < source.length; j++) {
+                if (target[j] != source[j]) {
+                    target[j] = source[j];
+                    dirtyRows[i] = true;
+                }
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Moves the falling brick and its ghost, repainting only the rows they left or entered.
+     * @param board The game board, used to find where the brick would land
+     * @param x Current column of the brick
+     * @param y Current row of the brick
+     * @param shape Current brick shape
+     */
+    public void updateBrick(Board board, int x, int y, BrickShape shape) {
+        updateBrick(x, y, board != null && shape != null ? board.getGhostY(x, y) : y, shape);
+    }
+
+    /**
+     * Moves the falling brick and its ghost to a landing row that is already known.
+     * @param x Current column of the brick
+     * @param y Current row of the brick
+     * @param landingY Row the brick would land on
+     * @param shape Current brick shape
+     */
+    public void updateBrick(int x, int y, int landingY, BrickShape shape) {
+        if (background == null) {
+            return;
+        }
+        markBrickRows();
+        brickShape = shape;
+        brickX = x;
+        brickY = y;
+        ghostY = landingY;
+        ghostVisible = GameSettings.isShowGhostPiece();
+        markBrickRows();
+        flush();
+    }
+
+    /**
+     * Shows or hides the falling brick.
+     * @param visible true to draw the brick
+     */
+    public void setBrickVisible(boolean visible) {
+        if (brickVisible != visible) {
+            brickVisible = visible;
+            markBrickRows();
+            flush();
+        }
+    }
+
+    /**
+     * Hides the ghost piece until the brick next moves.
+     */
+    public void hideGhostPiece() {
+        if (ghostVisible) {
+            ghostVisible = false;
+            markBrickRows();
+            flush();
+        }
+    }
+
+    /**
+     * Outlines a suggested placement until {@link #hideHint()} is called.
+     * Only shows where nothing else is drawn.
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @param shape The shape to outline
+     */
+    public void showHint(int x, int y, BrickShape shape) {
+        if (background == null) {
+            return;
+        }
+        markHintRows();
+        hintShape = shape;
+        hintX = x;
+        hintY = y;
+        markHintRows();
+        flush();
+    }
+
+    /**
+     * Removes the hint outline.
+     */
+    public void hideHint() {
+        if (hintShape != null && background != null) {
+            markHintRows();
+            hintShape = null;
+            flush();
+        }
+    }
+
+    private void markHintRows() {
+        if (hintShape == null) {
+            return;
+        }
+        for (int i = 0; i < hintShape.getRows(); i++) {
+            markRow(hintY + i);
+        }
+    }
+
+    private void markBrickRows() {
+        if (brickShape == null || dirtyRows == null) {
+            return;
+        }
+        int height = brickShape.getRows();
+        for (int i = 0; i < height; i++) {
+            markRow(brickY + i);
+            markRow(ghostY + i);
+        }
+    }
+
+    private void markRow(int row) {
+        if (row >= HIDDEN_ROWS && row < rows) {
+            dirtyRows[row] = true;
+        }
+    }
+
+    private void flush() {
+        for (int i = HIDDEN_ROWS; i < rows; i++) {
+            if (!dirtyRows[i]) {
+                continue;
+            }
+            dirtyRows[i] = false;
+            if (composeRow(i)) {
+                drawRow(i);
+            }
+        }
+    }
+
+    /**
+     * Works out what every cell of a row should show and stores it in the rendered codes.
+     * @return true if any cell differs from what is already painted
+     */
+    private boolean composeRow(int row) {
+        boolean changed = false;
+        int[] codes = rendered[row];
+        for (int j = 0; j < cols; j++) {
+            int code = background[row][j];
+            if (brickShape != null) {
+                if (brickVisible) {
+                    int cell = brickShape.getCell(row - brickY, j - brickX);
+                    if (cell != 0) {
+                        code = cell;
+                    }
+                }
+                if (code == 0 && ghostVisible && ghostY >= brickY) {
+                    int cell = brickShape.getCell(row - ghostY, j - brickX);
+                    if (cell != 0) {
+                        code = cell | GHOST_FLAG;
+                    }
+                }
+            }
+            if (code == 0 && hintShape != null && hintShape.getCell(row - hintY, j - hintX) != 0) {
+                code = HINT_FLAG;
+            }
+            if (codes[j] != code) {
+                codes[j] = code;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void drawRow(int row) {
+        double top = (row - HIDDEN_ROWS) * cellSize;
+        double width = cols * cellSize;
+        gc.clearRect(0, top, width, cellSize);
+
+        int[] codes = rendered[row];
+        for (int j = 0; j < cols; j++) {
+            int code = codes[j];
+            if (code == 0) {
+                continue;
+            }
+            double left = j * cellSize;
+            Paint fill = BrickColorMapper.getFillColor(code & ~GHOST_FLAG);
+            if ((code & (GHOST_FLAG | HINT_FLAG)) != 0) {
+                double inset = GHOST_STROKE_WIDTH / 2;
+                double size = GameConstants.BRICK_SIZE - GHOST_STROKE_WIDTH;
+                gc.setStroke(code == HINT_FLAG ? HINT_COLOR : fill);
+                gc.setLineWidth(GHOST_STROKE_WIDTH);
+                gc.strokeRoundRect(left + inset, top + inset, size, size,
+                        GameConstants.ARC_SIZE, GameConstants.ARC_SIZE);
+            } else {
+                gc.setFill(fill);
+                gc.fillRoundRect(left, top, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE,
+                        GameConstants.ARC_SIZE, GameConstants.ARC_SIZE);
+            }
+        }
+
+        // Clip the grid to this row so lines shared with neighbours are not painted twice
+        gc.save();
+        gc.beginPath();
+        gc.rect(0, top, width, cellSize);
+        gc.clip();
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(GRID_LINE_WIDTH);
+        gc.strokeLine(0, top, width, top);
+        gc.strokeLine(0, top + cellSize, width, top + cellSize);
+        for (int j = 0; j <= cols; j++) {
+            double x = j * cellSize;
+            gc.strokeLine(x, top, x, top + cellSize);
+        }
+        gc.restore();
+    }
+}
@@ -8,13 +8,22 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.Rectangle;
 
+import java.util.Arrays;
+
 /**
  * Handles rendering of the game board matrix.
  * Manages the display matrix and grid visualization.
+ * Keeps the color code last drawn in each cell so a refresh only touches the rectangles
+ * whose code changed; rows shifted down by a line clear show up as changed cells.
  */
 public class GameBoardRenderer {
     
+    /** Rendered code for a cell whose fill no longer matches any code, such as after an animation. */
+    private static final int UNKNOWN = -1;
+    
     private Rectangle[][] displayMatrix;
+    private int[][] renderedCodes;
+    private Group gridGroup;
     private final GridPane gamePanel;
     
     public GameBoardRenderer(GridPane gamePanel) {
@@ -26,47 +35,87 @@ public class GameBoardRenderer {
      * @param boardMatrix The board matrix to initialize from
      */
     public void initializeDisplayMatrix(int[][] boardMatrix) {
-        if (displayMatrix != null) {
-            for (int i = 0; i < displayMatrix.length; i++) {
-                for (int j = 0; j < displayMatrix[i].length; j++) {
-                    if (displayMatrix[i][j] != null) {
-                        displayMatrix[i][j].setFill(Color.TRANSPARENT);
-                    }
-                }
-            }
-        }
+        clearDisplayMatrix();
         
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        renderedCodes = new int[boardMatrix.length][boardMatrix[0].length];
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
                 rectangle.setFill(Color.TRANSPARENT);
+                rectangle.setArcHeight(GameConstants.ARC_SIZE);
+                rectangle.setArcWidth(GameConstants.ARC_SIZE);
                 displayMatrix[i][j] = rectangle;
                 gamePanel.add(rectangle, j, i - 2);
             }
         }
     }
     
+    /**
+     * Removes the cell rectangles from the game panel, leaving the grid lines in place.
+     * Used when another renderer takes over drawing the board.
+     */
+    public void clearDisplayMatrix() {
+        if (displayMatrix == null) {
+            return;
+        }
+        for (Rectangle[] row : displayMatrix) {
+            for (Rectangle rectangle : row) {
+                if (rectangle != null) {
+                    gamePanel.getChildren().remove(rectangle);
+                }
+            }
+        }
+        displayMatrix = null;
+        renderedCodes = null;
+    }
+    
+    /**
+     * Shows or hides the grid lines drawn by {@link #createGameBoardGrid(int[][])}.
+     * @param visible true to show the grid lines
+     */
+    public void setGridVisible(boolean visible) {
+        if (gridGroup != null) {
+            gridGroup.setVisible(visible);
+        }
+    }
+    
     /**
      * Refreshes the game board background with the current board state.
+     * Only cells whose color code differs from the last refresh are updated.
      * @param board The current game board matrix
      */
     public void refreshGameBackground(int[][] board) {
         if (displayMatrix == null) {
             return;
         }
-        for (int i = 0; i < displayMatrix.length; i++) {
-            for (int j = 0; j < displayMatrix[i].length; j++) {
-                if (displayMatrix[i][j] != null) {
-                    displayMatrix[i][j].setFill(Color.TRANSPARENT);
+        int rows = Math.min(board.length, displayMatrix.length);
+        for (int i = 2; i < rows; i++) {
+            int[] boardRow = board[i];
+            int[] renderedRow = renderedCodes[i];
+            int cols = Math.min(boardRow.length, renderedRow.length);
+            for (int j = 0; j < cols; j++) {
+                int code = boardRow[j];
+                if (renderedRow[j] != code) {
+                    renderedRow[j] = code;
+                    displayMatrix[i][j].setFill(BrickColorMapper.getFillColor(code));
                 }
             }
         }
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                if (i < displayMatrix.length && j < displayMatrix[i].length && displayMatrix[i][j] != null) {
-                    setRectangleData(board[i][j], displayMatrix[i][j]);
-                }
+    }
+    
+    /**
+     * Marks rows as needing a redraw on the next refresh, for when an animation has
+     * changed their rectangles' fill.
+     * @param rows Board row indices to redraw
+     */
+    public void invalidateRows(Iterable<Integer> rows) {
+        if (renderedCodes == null) {
+            return;
+        }
+        for (int row : rows) {
+            if (row >= 0 && row < renderedCodes.length) {
+                Arrays.fill(renderedCodes[row], UNKNOWN);
             }
         }
     }
@@ -76,7 +125,7 @@ public class GameBoardRenderer {
      * @param boardMatrix The board matrix to determine grid dimensions
      */
     public void createGameBoardGrid(int[][] boardMatrix) {
-        Group gridGroup = new Group();
+        gridGroup = new Group();
         gridGroup.setMouseTransparent(true);
         gridGroup.setManaged(false);
         Color gridColor = Color.rgb(74, 158, 255, 0.3);
@@ -111,11 +160,5 @@ public class GameBoardRenderer {
     public Rectangle[][] getDisplayMatrix() {
         return displayMatrix;
     }
-    
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(BrickColorMapper.getFillColor(color));
-        rectangle.setArcHeight(GameConstants.ARC_SIZE);
-        rectangle.setArcWidth(GameConstants.ARC_SIZE);
-    }
 }
 
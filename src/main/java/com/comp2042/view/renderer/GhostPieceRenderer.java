@@ -2,6 +2,7 @@ package com.comp2042.view.renderer;
 
 import com.comp2042.model.Board;
 import com.comp2042.util.BrickColorMapper;
+import com.comp2042.view.BrickShape;
 import com.comp2042.util.GameConstants;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
@@ -13,28 +14,39 @@ import java.util.List;
 
 /**
  * Handles rendering of the ghost piece preview.
- * Shows where the current piece will land.
+ * Shows where the current piece will land, or outlines any other placement such as a hint.
  */
 public class GhostPieceRenderer {
     
     private final GridPane ghostPanel;
+    private final Color outlineColor;
     private Rectangle[][] ghostRectangles;
     private final List<Rectangle> activeGhostRects = new ArrayList<>();
     
     public GhostPieceRenderer(GridPane ghostPanel) {
+        this(ghostPanel, null);
+    }
+
+    /**
+     * Constructs a renderer that outlines every cell in one color.
+     * @param ghostPanel The panel to draw the outline in
+     * @param outlineColor The outline color, or null to use each brick's own color
+     */
+    public GhostPieceRenderer(GridPane ghostPanel, Color outlineColor) {
         this.ghostPanel = ghostPanel;
+        this.outlineColor = outlineColor;
     }
     
     /**
      * Initializes the ghost piece rectangles based on the current brick shape.
-     * @param shape The current brick shape matrix
+     * @param shape The current brick shape
      */
-    public void initializeGhostPiece(int[][] shape) {
-        ghostRectangles = new Rectangle[shape.length][shape[0].length];
+    public void initializeGhostPiece(BrickShape shape) {
+        ghostRectangles = new Rectangle[shape.getRows()][shape.getColumns()];
         ghostPanel.setHgap(1);
         ghostPanel.setVgap(1);
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
+        for (int i = 0; i < shape.getRows(); i++) {
+            for (int j = 0; j < shape.getColumns(); j++) {
                 Rectangle rect = new Rectangle(GameConstants.BRICK_SIZE - 2, GameConstants.BRICK_SIZE - 2);
                 rect.setFill(Color.TRANSPARENT);
                 rect.setArcHeight(GameConstants.ARC_SIZE);
@@ -50,18 +62,45 @@ public class GhostPieceRenderer {
      * @param board The game board instance
      * @param currentX Current X position of the brick
      * @param currentY Current Y position of the brick
-     * @param shape Current brick shape matrix
+     * @param shape Current brick shape
      */
-    public void updateGhostPiece(Board board, int currentX, int currentY, int[][] shape) {
-        if (board == null || ghostPanel == null) {
+    public void updateGhostPiece(Board board, int currentX, int currentY, BrickShape shape) {
+        if (board == null) {
+            return;
+        }
+        updateGhostPiece(board.getGhostY(currentX, currentY), currentX, currentY, shape);
+    }
+    
+    /**
+     * Updates the ghost piece display for a landing row that is already known.
+     * @param ghostY Row the brick would land on
+     * @param currentX Current X position of the brick
+     * @param currentY Current Y position of the brick
+     * @param shape Current brick shape
+     */
+    public void updateGhostPiece(int ghostY, int currentX, int currentY, BrickShape shape) {
+        if (ghostPanel == null) {
             return;
         }
         
-        if (!com.comp2042.model.GameSettings.isShowGhostPiece()) {
+        if (!com.comp2042.model.GameSettings.isShowGhostPiece() || ghostY < currentY) {
             ghostPanel.setVisible(false);
             return;
         }
-        
+        showOutline(currentX, ghostY, shape);
+    }
+
+    /**
+     * Outlines a shape at a fixed position on the board, whatever the ghost piece setting.
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @param shape The shape to outline
+     */
+    public void showOutline(int x, int y, BrickShape shape) {
+        if (ghostPanel == null) {
+            return;
+        }
+
         for (Rectangle rect : activeGhostRects) {
             if (rect != null) {
                 rect.setFill(Color.TRANSPARENT);
@@ -70,16 +109,7 @@ public class GhostPieceRenderer {
         }
         activeGhostRects.clear();
         
-        int ghostY = board.getGhostY(currentX, currentY);
-        
-        if (shape == null || shape.length == 0 || shape[0].length == 0) {
-            ghostPanel.setVisible(false);
-            return;
-        }
-        
-        int distance = ghostY - currentY;
-        
-        if (distance < 0) {
+        if (shape == null || shape.getRows() == 0 || shape.getColumns() == 0) {
             ghostPanel.setVisible(false);
             return;
         }
@@ -87,28 +117,29 @@ public class GhostPieceRenderer {
         ghostPanel.setVisible(true);
         
         if (ghostRectangles == null || 
-            ghostRectangles.length != shape.length ||
-            (ghostRectangles.length > 0 && ghostRectangles[0].length != shape[0].length)) {
+            ghostRectangles.length != shape.getRows() ||
+            (ghostRectangles.length > 0 && ghostRectangles[0].length != shape.getColumns())) {
             ghostPanel.getChildren().clear();
             initializeGhostPiece(shape);
         }
         
         double cellSize = GameConstants.BRICK_SIZE + GameConstants.CELL_GAP;
         
-        double ghostStartX = GameConstants.BORDER_OFFSET + currentX * cellSize;
-        double ghostStartY = GameConstants.BORDER_OFFSET + (ghostY - 2) * cellSize;
+        double ghostStartX = GameConstants.BORDER_OFFSET + x * cellSize;
+        double ghostStartY = GameConstants.BORDER_OFFSET + (y - 2) * cellSize;
         ghostPanel.setLayoutX(ghostStartX);
         ghostPanel.setLayoutY(ghostStartY);
         
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
+        for (int i = 0; i < shape.getRows(); i++) {
+            for (int j = 0; j < shape.getColumns(); j++) {
                 if (i < ghostRectangles.length && j < ghostRectangles[i].length) {
                     Rectangle rect = ghostRectangles[i][j];
-                    if (shape[i][j] != 0) {
-                        Paint color = BrickColorMapper.getFillColor(shape[i][j]);
+                    int cell = shape.getCell(i, j);
+                    if (cell != 0) {
+                        Paint color = BrickColorMapper.getFillColor(cell);
                         if (color instanceof Color) {
                             rect.setFill(Color.TRANSPARENT);
-                            rect.setStroke((Color) color);
+                            rect.setStroke(outlineColor != null ? outlineColor : (Color) color);
                             rect.setStrokeWidth(2.0);
                             rect.setOpacity(1.0);
                             rect.setVisible(true);
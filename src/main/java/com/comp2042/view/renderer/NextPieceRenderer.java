@@ -1,34 +1,48 @@
 package com.comp2042.view.renderer;
 
+import com.comp2042.logic.bricks.BrickType;
 import com.comp2042.util.BrickColorMapper;
 import com.comp2042.util.GameConstants;
+import com.comp2042.view.BrickShape;
+import com.comp2042.view.ViewData;
 import javafx.scene.layout.GridPane;
 import javafx.scene.shape.Rectangle;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 
 /**
  * Handles rendering of next pieces and held piece previews.
  * Manages the display of upcoming pieces and the held piece.
+ * Snapshots that carry brick types are drawn from rectangles built once per panel and type,
+ * and a panel's children are only swapped when the type it shows changes.
  */
 public class NextPieceRenderer {
-    
+
     private final GridPane holdPanel;
     private final GridPane nextPiece1;
     private final GridPane nextPiece2;
     private final GridPane nextPiece3;
-    
+
+    private final PreviewSlot holdSlot;
+    private final PreviewSlot[] nextSlots;
+
     private Rectangle[][] nextPiece1Rectangles;
     private Rectangle[][] nextPiece2Rectangles;
     private Rectangle[][] nextPiece3Rectangles;
-    
+
     public NextPieceRenderer(GridPane holdPanel, GridPane nextPiece1, GridPane nextPiece2, GridPane nextPiece3) {
         this.holdPanel = holdPanel;
         this.nextPiece1 = nextPiece1;
         this.nextPiece2 = nextPiece2;
         this.nextPiece3 = nextPiece3;
+        this.holdSlot = new PreviewSlot(holdPanel);
+        this.nextSlots = new PreviewSlot[] {
+            new PreviewSlot(nextPiece1), new PreviewSlot(nextPiece2), new PreviewSlot(nextPiece3)
+        };
     }
-    
+
     /**
      * Updates the held piece display.
      * @param heldBrickData The shape matrix of the held piece, or null if no piece is held
@@ -37,9 +51,23 @@ public class NextPieceRenderer {
         if (holdPanel == null) {
             return;
         }
-        drawMatrixToGrid(holdPanel, heldBrickData, GameConstants.NEXT_PIECE_BRICK_SIZE);
+        if (drawMatrixToGrid(holdPanel, heldBrickData, GameConstants.NEXT_PIECE_BRICK_SIZE) != null) {
+            holdSlot.forget();
+        }
+    }
+
+    /**
+     * Updates the held piece display from a snapshot, reusing cached preview nodes when it carries brick types.
+     * @param brick The view data holding the held piece
+     */
+    public void updateHeldPiece(ViewData brick) {
+        if (brick.getBrickType() == null) {
+            updateHeldPiece(brick.getHeldBrickData());
+            return;
+        }
+        holdSlot.show(brick.getHeldType());
     }
-    
+
     /**
      * Updates the next pieces display.
      * @param nextShapes List of shape matrices for the next pieces
@@ -48,18 +76,21 @@ public class NextPieceRenderer {
         if (nextPiece1 == null || nextPiece2 == null || nextPiece3 == null || nextShapes == null) {
             return;
         }
-        
+
         GridPane[] grids = {nextPiece1, nextPiece2, nextPiece3};
-        
+
         for (int pieceIndex = 0; pieceIndex < 3 && pieceIndex < nextShapes.size(); pieceIndex++) {
             GridPane grid = grids[pieceIndex];
             if (grid == null) {
                 continue;
             }
-            
+
             int[][] nextBrickData = nextShapes.get(pieceIndex);
             Rectangle[][] rects = drawMatrixToGrid(grid, nextBrickData, GameConstants.NEXT_PIECE_BRICK_SIZE);
-            
+            if (rects != null) {
+                nextSlots[pieceIndex].forget();
+            }
+
             if (pieceIndex == 0) {
                 nextPiece1Rectangles = rects;
             } else if (pieceIndex == 1) {
@@ -69,49 +100,130 @@ public class NextPieceRenderer {
             }
         }
     }
-    
+
     /**
-     * Clears all next piece displays.
+     * Updates the next pieces display from a snapshot, reusing cached preview nodes when it carries brick types.
+     * @param brick The view data holding the next pieces
      */
-    public void clearNextPieces() {
-        if (nextPiece1 != null) {
-            nextPiece1.getChildren().clear();
+    public void updateNextPieces(ViewData brick) {
+        if (brick.getBrickType() == null) {
+            updateNextPieces(brick.getNextPieces());
+            return;
+        }
+        if (nextPiece1 == null || nextPiece2 == null || nextPiece3 == null) {
+            return;
         }
-        if (nextPiece2 != null) {
-            nextPiece2.getChildren().clear();
+        for (int pieceIndex = 0; pieceIndex < nextSlots.length; pieceIndex++) {
+            nextSlots[pieceIndex].show(brick.getNextType(pieceIndex));
         }
-        if (nextPiece3 != null) {
-            nextPiece3.getChildren().clear();
+    }
+
+    /**
+     * Clears all next piece displays.
+     */
+    public void clearNextPieces() {
+        for (PreviewSlot slot : nextSlots) {
+            slot.clear();
         }
     }
-    
+
+    /**
+     * Clears the held piece display.
+     */
+    public void clearHeldPiece() {
+        holdSlot.clear();
+    }
+
     private Rectangle[][] drawMatrixToGrid(GridPane targetGrid, int[][] matrix, int brickSize) {
         if (targetGrid == null || matrix == null || matrix.length == 0) {
             return null;
         }
-        
+
         targetGrid.getChildren().clear();
-        
+
+        Rectangle[][] rectangles = createRectangles(matrix, brickSize);
+        for (int i = 0; i < rectangles.length; i++) {
+            if (rectangles[i] != null) {
+                for (int j = 0; j < rectangles[i].length; j++) {
+                    targetGrid.add(rectangles[i][j], j, i);
+                }
+            }
+        }
+        return rectangles;
+    }
+
+    private static Rectangle[][] createRectangles(int[][] matrix, int brickSize) {
         Rectangle[][] rectangles = new Rectangle[matrix.length][];
         for (int i = 0; i < matrix.length; i++) {
             if (matrix[i] != null) {
                 rectangles[i] = new Rectangle[matrix[i].length];
                 for (int j = 0; j < matrix[i].length; j++) {
                     Rectangle rectangle = new Rectangle(brickSize, brickSize);
-                    rectangle.setFill(BrickColorMapper.getFillColor(matrix[i][j]));
                     setRectangleData(matrix[i][j], rectangle);
                     rectangles[i][j] = rectangle;
-                    targetGrid.add(rectangle, j, i);
                 }
             }
         }
         return rectangles;
     }
-    
-    private void setRectangleData(int color, Rectangle rectangle) {
+
+    private static void setRectangleData(int color, Rectangle rectangle) {
         rectangle.setFill(BrickColorMapper.getFillColor(color));
         rectangle.setArcHeight(GameConstants.ARC_SIZE);
         rectangle.setArcWidth(GameConstants.ARC_SIZE);
     }
-}
 
+    /**
+     * One preview panel and the rectangles built for each brick type it has shown.
+     * A node can only have one parent, so every panel keeps its own set.
+     */
+    private static final class PreviewSlot {
+        private final GridPane grid;
+        private final EnumMap<BrickType, List<Rectangle>> cache = new EnumMap<>(BrickType.class);
+        private BrickType shown;
+        private boolean stale;
+
+        PreviewSlot(GridPane grid) {
+            this.grid = grid;
+        }
+
+        void show(BrickType type) {
+            if (grid == null || (type == shown && !stale)) {
+                return;
+            }
+            shown = type;
+            stale = false;
+            if (type == null) {
+                grid.getChildren().clear();
+            } else {
+                grid.getChildren().setAll(cache.computeIfAbsent(type, PreviewSlot::build));
+            }
+        }
+
+        void clear() {
+            if (grid != null) {
+                grid.getChildren().clear();
+            }
+            shown = null;
+            stale = false;
+        }
+
+        /** Records that the panel was redrawn from a matrix, so its contents are no longer a cached type. */
+        void forget() {
+            stale = true;
+        }
+
+        private static List<Rectangle> build(BrickType type) {
+            int[][] matrix = BrickShape.of(type, 0).toMatrix();
+            Rectangle[][] rectangles = createRectangles(matrix, GameConstants.NEXT_PIECE_BRICK_SIZE);
+            List<Rectangle> nodes = new ArrayList<>();
+            for (int i = 0; i < rectangles.length; i++) {
+                for (int j = 0; j < rectangles[i].length; j++) {
+                    GridPane.setConstraints(rectangles[i][j], j, i);
+                    nodes.add(rectangles[i][j]);
+                }
+            }
+            return nodes;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.comp2042.controller;
 
 import com.comp2042.logic.board.ClearRow;
 import com.comp2042.logic.board.DownData;
+import com.comp2042.logic.input.AutoShift;
 import com.comp2042.model.GameMode;
 import com.comp2042.view.ViewData;
 import javafx.scene.input.KeyCode;
@@ -92,6 +93,15 @@ public class InputHandlerTest {
         assertTrue(mockListener.holdEventCalled);
     }
 
+    @Test
+    void testHandleKeyG() {
+        inputHandler = new InputHandler(mockListener, GameMode.PUZZLE);
+        inputHandler.handleKey(KeyCode.G);
+        
+        assertTrue(mockListener.hintEventCalled);
+        assertFalse(mockListener.holdEventCalled);
+    }
+
     @Test
     void testHandleKeyA() {
         inputHandler = new InputHandler(mockListener, GameMode.CLASSIC);
@@ -138,6 +148,38 @@ public class InputHandlerTest {
         assertNotNull(mockListener.lastLeftEvent, "D key should trigger left in Reverted mode");
     }
 
+    @Test
+    void testHeldKeyRepeatsFromTick() {
+        inputHandler = new InputHandler(mockListener, GameMode.CLASSIC, new AutoShift(100, 25));
+        inputHandler.handleKey(KeyCode.LEFT);
+        mockListener.lastLeftEvent = null;
+
+        inputHandler.handleKey(KeyCode.LEFT);
+        assertNull(mockListener.lastLeftEvent, "Key repeat events for a held key should be ignored");
+
+        inputHandler.tick(50);
+        assertNull(mockListener.lastShiftEvent);
+        inputHandler.tick(100);
+        assertNotNull(mockListener.lastShiftEvent);
+        assertEquals(EventType.LEFT, mockListener.lastShiftEvent.getEventType());
+        assertEquals(3, mockListener.lastShiftCells, "All repeats due in one tick should be sent together");
+
+        mockListener.lastShiftEvent = null;
+        inputHandler.handleKeyReleased(KeyCode.LEFT);
+        inputHandler.tick(1000);
+        assertNull(mockListener.lastShiftEvent);
+    }
+
+    @Test
+    void testZeroArrShiftsToWallInRevertedMode() {
+        inputHandler = new InputHandler(mockListener, GameMode.REVERTED, new AutoShift(0, 0));
+        inputHandler.handleKey(KeyCode.LEFT);
+        inputHandler.tick(16);
+
+        assertEquals(EventType.RIGHT, mockListener.lastShiftEvent.getEventType());
+        assertEquals(AutoShift.TO_WALL, mockListener.lastShiftCells);
+    }
+
     @Test
     void testUnhandledKey() {
         inputHandler = new InputHandler(mockListener, GameMode.CLASSIC);
@@ -146,6 +188,7 @@ public class InputHandlerTest {
         assertNull(mockListener.lastLeftEvent);
         assertNull(mockListener.lastRightEvent);
         assertFalse(mockListener.holdEventCalled);
+        assertFalse(mockListener.hintEventCalled);
     }
 
     private static class MockInputEventListener implements InputEventListener {
@@ -154,7 +197,10 @@ public class InputHandlerTest {
         MoveEvent lastDownEvent;
         MoveEvent lastRotateEvent;
         MoveEvent lastHardDropEvent;
+        MoveEvent lastShiftEvent;
+        int lastShiftCells;
         boolean holdEventCalled = false;
+        boolean hintEventCalled = false;
 
         @Override
         public ViewData onLeftEvent(MoveEvent event) {
@@ -168,6 +214,13 @@ public class InputHandlerTest {
             return createMockViewData();
         }
 
+        @Override
+        public int onShiftEvent(MoveEvent event, int maxCells) {
+            this.lastShiftEvent = event;
+            this.lastShiftCells = maxCells;
+            return 0;
+        }
+
         @Override
         public DownData onDownEvent(MoveEvent event) {
             this.lastDownEvent = event;
@@ -192,6 +245,11 @@ public class InputHandlerTest {
             return createMockViewData();
         }
 
+        @Override
+        public void onHintEvent() {
+            this.hintEventCalled = true;
+        }
+
         @Override
         public void createNewGame() {
             // Mock implementation
@@ -0,0 +1,137 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.model.GameBoard;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BfsPlacementGeneratorTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private final BfsPlacementGenerator generator = new BfsPlacementGenerator();
+
+    @Test
+    void testEmptyBoardMatchesDropPlacements() {
+        SearchBoard board = SearchBoard.empty(ROWS, COLUMNS);
+        DropPlacementGenerator drops = new DropPlacementGenerator();
+        for (BrickType type : BrickType.values()) {
+            assertEquals(cellKeys(board, drops.generate(board, type, 4, 0)),
+                    cellKeys(board, generator.generate(board, type, 4, 0)),
+                    "On an empty board every lock position is a straight drop for " + type);
+        }
+    }
+
+    @Test
+    void testStraightDropHasShortestPath() {
+        SearchBoard board = SearchBoard.empty(ROWS, COLUMNS);
+        Placement first = generator.generate(board, BrickType.T, 4, 0).get(0);
+
+        assertEquals(List.of(EventType.HARD_DROP), first.getPath());
+        assertEquals(0, first.getRotation());
+        assertEquals(4, first.getX());
+    }
+
+    @Test
+    void testFindsTuckUnderOverhang() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int col = 0; col < 6; col++) {
+            matrix[ROWS - 3][col] = 1;
+        }
+        SearchBoard board = SearchBoard.fromMatrix(matrix);
+        ShapeTable o = ShapeTable.of(BrickType.O);
+        int tuckedY = ROWS - 1 - o.getMaxY(0);
+        int tuckedX = -o.getMinX(0);
+
+        List<Placement> placements = generator.generate(board, BrickType.O, 4, 0);
+        Placement tuck = placements.stream()
+                .filter(p -> p.getX() == tuckedX && p.getY() == tuckedY)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("The O should slide under the overhang"));
+
+        assertTrue(tuck.getPath().contains(EventType.DOWN));
+        assertEquals(EventType.DOWN, tuck.getPath().get(tuck.getPath().size() - 1), "A tucked brick already rests, so it locks with a soft drop");
+        assertFalse(new DropPlacementGenerator().generate(board, BrickType.O, 4, 0).stream()
+                .anyMatch(p -> p.getX() == tuckedX && p.getY() == tuckedY));
+    }
+
+    @Test
+    void testNothingWhenSpawnBlocked() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int col = 0; col < COLUMNS; col++) {
+            matrix[0][col] = 1;
+            matrix[1][col] = 1;
+        }
+        assertTrue(generator.generate(SearchBoard.fromMatrix(matrix), BrickType.I, 4, 0).isEmpty());
+    }
+
+    @Test
+    void testPathsReplayOnGameBoard() {
+        GameBoard probe = newBoard();
+        int[][] matrix = probe.getBoardMatrix();
+        ViewData spawn = probe.getViewData();
+        SearchBoard board = SearchBoard.fromMatrix(matrix);
+
+        List<Placement> placements = generator.generate(board, spawn.getBrickType(), spawn.getxPosition(), spawn.getyPosition());
+        assertFalse(placements.isEmpty());
+        for (Placement placement : placements) {
+            GameBoard game = newBoard();
+            for (EventType event : placement.getPath()) {
+                switch (event) {
+                    case LEFT -> assertTrue(game.moveBrickLeft(), placement + " " + placement.getPath());
+                    case RIGHT -> assertTrue(game.moveBrickRight(), placement + " " + placement.getPath());
+                    case ROTATE -> assertTrue(game.rotateLeftBrick(), placement + " " + placement.getPath());
+                    case DOWN -> game.moveBrickDown();
+                    case HARD_DROP -> game.hardDrop();
+                    default -> fail("Unexpected input " + event);
+                }
+            }
+            ViewData end = game.getViewData();
+            assertEquals(placement.getRotation(), end.getRotation(), placement.toString());
+            assertEquals(placement.getX(), end.getxPosition(), placement.toString());
+            assertEquals(placement.getY(), end.getyPosition(), placement.toString());
+            assertFalse(game.moveBrickDown(), "The path should end with the brick resting: " + placement);
+        }
+    }
+
+    @Test
+    void testRotationsCoveringSameCellsListedOnce() {
+        SearchBoard board = SearchBoard.empty(ROWS, COLUMNS);
+        List<Placement> placements = generator.generate(board, BrickType.I, 4, 0);
+        assertEquals(placements.size(), cellKeys(board, placements).size());
+    }
+
+    /** A seeded board with puzzle garbage, so paths need tucks, spins and kicks. */
+    private static GameBoard newBoard() {
+        GameBoard game = new GameBoard(ROWS, COLUMNS, new GameSeed(21));
+        game.newGame();
+        game.setupPuzzleMode();
+        int[][] matrix = game.getBoardMatrix();
+        for (int row = ROWS - 10; row < ROWS - 4; row++) {
+            for (int col = 0; col < COLUMNS; col += 3) {
+                matrix[row][col] = 0;
+            }
+        }
+        game.commitClear(new ClearRow(0, matrix, List.of()));
+        return game;
+    }
+
+    private static Set<Long> cellKeys(SearchBoard board, List<Placement> placements) {
+        Set<Long> keys = new HashSet<>();
+        for (Placement p : placements) {
+            keys.add(DropPlacementGenerator.cellKey(board, ShapeTable.of(p.getType()), p.getRotation(), p.getX(), p.getY()));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,103 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.board.ZobristKeys;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.model.BitboardGameBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BotTest {
+
+    private static BeamSearch search(ForkJoinPool pool) {
+        return new BeamSearch(new DropPlacementGenerator(), Heuristic.DEFAULT, 8, 3, pool);
+    }
+
+    @Test
+    void testSearchCompletesALine() {
+        int[][] matrix = new int[25][10];
+        for (int col = 0; col < 9; col++) {
+            matrix[24][col] = 1;
+            matrix[23][col] = 1;
+        }
+        SearchBoard board = SearchBoard.fromMatrix(matrix);
+
+        Placement best = search(ForkJoinPool.commonPool())
+                .findBest(board, BrickType.I, null, List.of(), false, 4, 0);
+
+        assertNotNull(best);
+        SearchBoard placed = board.place(ShapeTable.of(best.getType()), best.getRotation(), best.getX(), best.getY());
+        assertEquals(2, placed.getLinesCleared(), "A vertical I in the open column clears both rows");
+    }
+
+    @Test
+    void testParallelAndSingleThreadSearchAgree() {
+        int[][] matrix = new int[25][10];
+        matrix[24][0] = 1;
+        matrix[24][3] = 1;
+        matrix[23][3] = 1;
+        matrix[24][7] = 1;
+        SearchBoard board = SearchBoard.fromMatrix(matrix);
+        List<BrickType> queue = List.of(BrickType.S, BrickType.T, BrickType.L);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            Placement expected = search(single).findBest(board, BrickType.Z, BrickType.J, queue, true, 4, 0);
+            Placement actual = search(ForkJoinPool.commonPool()).findBest(board, BrickType.Z, BrickType.J, queue, true, 4, 0);
+            assertEquals(expected, actual);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void testNoPlacementWhenSpawnBlocked() {
+        int[][] matrix = new int[25][10];
+        for (int row = 0; row < 25; row++) {
+            matrix[row][4] = 1;
+            matrix[row][5] = 1;
+        }
+        Placement best = search(ForkJoinPool.commonPool())
+                .findBest(SearchBoard.fromMatrix(matrix), BrickType.O, null, List.of(), false, 4, 0);
+        assertNull(best);
+    }
+
+    @Test
+    void testBotSurvivesSeededGame() {
+        HeadlessGame game = new HeadlessGame(new GameBoard(25, 10, new GameSeed(42)), GameMode.CLASSIC);
+        game.start();
+
+        int placed = new Bot().playGame(game, 100);
+
+        assertEquals(100, placed);
+        assertFalse(game.isGameOver(), "The bot should not top out within 100 bricks");
+        assertTrue(game.getScore().getValue() > 0);
+    }
+
+    @Test
+    void testBoardHashesSurviveLineClears() {
+        ZobristKeys keys = ZobristKeys.of(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS);
+        Board[] boards = {
+                new GameBoard(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, new GameSeed(8)),
+                new BitboardGameBoard(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, new GameSeed(8))
+        };
+        Bot bot = new Bot();
+        for (Board board : boards) {
+            HeadlessGame game = new HeadlessGame(board, GameMode.CLASSIC);
+            game.start();
+            for (int piece = 0; piece < 40 && bot.playPiece(game); piece++) {
+                assertEquals(keys.hash(board.getBoardMatrix()), board.getZobristHash());
+            }
+            assertTrue(game.getScore().getLinesValue() > 0, "The bot should clear lines");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.comp2042.logic.ai;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeuristicTest {
+
+    private static final Heuristic HEIGHT = new Heuristic(-1, 0, 0, 0, 0);
+    private static final Heuristic HOLES = new Heuristic(0, -1, 0, 0, 0);
+    private static final Heuristic BUMPINESS = new Heuristic(0, 0, -1, 0, 0);
+
+    @Test
+    void testEmptyBoardScoresZero() {
+        assertEquals(0, Heuristic.DEFAULT.evaluate(SearchBoard.empty(20, 10)), 1e-9);
+    }
+
+    @Test
+    void testAggregateHeight() {
+        int[][] matrix = new int[6][4];
+        matrix[5][0] = 1;
+        matrix[3][1] = 1;
+        assertEquals(-(1 + 3), HEIGHT.evaluate(SearchBoard.fromMatrix(matrix)));
+    }
+
+    @Test
+    void testHolesCountEmptyCellsUnderFilledOnes() {
+        int[][] matrix = new int[6][4];
+        matrix[3][1] = 1;
+        matrix[5][2] = 1;
+        assertEquals(-2, HOLES.evaluate(SearchBoard.fromMatrix(matrix)), "Rows 4 and 5 of column 1 are covered");
+    }
+
+    @Test
+    void testBumpiness() {
+        int[][] matrix = new int[6][3];
+        matrix[4][1] = 1;
+        matrix[5][1] = 1;
+        assertEquals(-4, BUMPINESS.evaluate(SearchBoard.fromMatrix(matrix)));
+    }
+
+    @Test
+    void testScoreAddsLineReward() {
+        Heuristic lines = new Heuristic(0, 0, 0, 0, 2.5);
+        assertEquals(5.0, lines.lineReward(2));
+        assertEquals(0.0, lines.score(SearchBoard.empty(4, 4)));
+    }
+}
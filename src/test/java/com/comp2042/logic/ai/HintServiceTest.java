@@ -0,0 +1,105 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BrickType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HintServiceTest {
+
+    private static final List<BrickType> QUEUE = List.of(BrickType.S, BrickType.T);
+
+    private static SearchBoard board() {
+        int[][] matrix = new int[25][10];
+        matrix[24][0] = 1;
+        matrix[24][3] = 1;
+        matrix[23][3] = 1;
+        matrix[24][7] = 1;
+        return SearchBoard.fromMatrix(matrix);
+    }
+
+    private static HintService.Hint awaitDepth(HintService hints, int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        HintService.Hint hint = hints.getHint();
+        while ((hint == null || hint.getDepth() < depth) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+            hint = hints.getHint();
+        }
+        return hint;
+    }
+
+    @Test
+    void testDeepensToTheBricksKnown() throws InterruptedException {
+        try (HintService hints = new HintService(new DropPlacementGenerator(), Heuristic.DEFAULT, 8, 1.0)) {
+            hints.onSpawn(board(), BrickType.Z, BrickType.J, QUEUE, true, 4, 0);
+
+            HintService.Hint hint = awaitDepth(hints, QUEUE.size() + 1);
+
+            assertNotNull(hint);
+            assertEquals(3, hint.getDepth());
+            Placement expected = new BeamSearch(new DropPlacementGenerator(), Heuristic.DEFAULT, 8, 3,
+                    ForkJoinPool.commonPool()).findBest(board(), BrickType.Z, BrickType.J, QUEUE, true, 4, 0);
+            assertEquals(expected, hint.getPlacement());
+        }
+    }
+
+    @Test
+    void testHintCanStartWithHold() throws InterruptedException {
+        int[][] matrix = new int[25][10];
+        for (int i = 21; i < 25; i++) {
+            for (int j = 0; j < 9; j++) {
+                matrix[i][j] = 1;
+            }
+        }
+        try (HintService hints = new HintService(new DropPlacementGenerator(), Heuristic.DEFAULT, 8, 1.0)) {
+            hints.onSpawn(SearchBoard.fromMatrix(matrix), BrickType.Z, BrickType.I, List.of(), true, 4, 0);
+
+            HintService.Hint hint = awaitDepth(hints, 1);
+
+            assertNotNull(hint);
+            assertTrue(hint.getPlacement().isHold(), "Only the held I fills the well");
+            assertEquals(BrickType.I, hint.getPlacement().getType());
+        }
+    }
+
+    @Test
+    void testCancelDropsTheHint() throws InterruptedException {
+        try (HintService hints = new HintService(new DropPlacementGenerator(), Heuristic.DEFAULT, 8, 1.0)) {
+            hints.onSpawn(board(), BrickType.Z, null, QUEUE, false, 4, 0);
+            assertNotNull(awaitDepth(hints, 1));
+
+            hints.cancel();
+            Thread.sleep(50);
+
+            assertNull(hints.getHint());
+        }
+    }
+
+    @Test
+    void testNewSpawnReplacesTheSearch() throws InterruptedException {
+        try (HintService hints = new HintService(new DropPlacementGenerator(), Heuristic.DEFAULT, 8, 0.5)) {
+            hints.onSpawn(board(), BrickType.Z, null, QUEUE, false, 4, 0);
+            hints.onSpawn(board(), BrickType.I, null, List.of(), false, 4, 0);
+
+            HintService.Hint hint = awaitDepth(hints, 1);
+
+            assertNotNull(hint);
+            assertEquals(BrickType.I, hint.getPlacement().getType());
+            assertEquals(1, hint.getDepth());
+        }
+    }
+
+    @Test
+    void testRejectsInvalidCpuFraction() {
+        assertThrows(IllegalArgumentException.class, () -> new HintService(0));
+        assertThrows(IllegalArgumentException.class, () -> new HintService(1.5));
+    }
+
+    @Test
+    void testDefaultIsShared() {
+        assertSame(HintService.getDefault(), HintService.getDefault());
+    }
+}
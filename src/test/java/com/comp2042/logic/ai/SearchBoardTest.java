@@ -0,0 +1,137 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.board.ZobristKeys;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchBoardTest {
+
+    @Test
+    void testFromMatrixReadsFilledCells() {
+        int[][] matrix = new int[4][5];
+        matrix[3][0] = 2;
+        matrix[3][4] = 7;
+        SearchBoard board = SearchBoard.fromMatrix(matrix);
+
+        assertEquals(4, board.getRowCount());
+        assertEquals(5, board.getColumnCount());
+        assertTrue(board.isFilled(3, 0));
+        assertTrue(board.isFilled(3, 4));
+        assertFalse(board.isFilled(3, 2));
+        assertEquals(0b10001, board.getRow(3));
+    }
+
+    @Test
+    void testFitsRejectsWallsFloorAndFilledCells() {
+        ShapeTable o = ShapeTable.of(BrickType.O);
+        SearchBoard board = SearchBoard.empty(6, 6);
+        int minX = o.getMinX(0);
+        int maxX = o.getMaxX(0);
+        int maxY = o.getMaxY(0);
+
+        assertTrue(board.fits(o, 0, -minX, 0));
+        assertFalse(board.fits(o, 0, -minX - 1, 0), "Left wall");
+        assertFalse(board.fits(o, 0, 6 - maxX, 0), "Right wall");
+        assertFalse(board.fits(o, 0, 0, 6 - maxY), "Floor");
+        assertFalse(board.fits(o, 0, 0, -o.getMinY(0) - 1), "Above the top");
+
+        int[][] matrix = new int[6][6];
+        matrix[5][minX] = 1;
+        assertFalse(SearchBoard.fromMatrix(matrix).fits(o, 0, 0, 5 - maxY));
+    }
+
+    @Test
+    void testDropRowStopsOnStack() {
+        ShapeTable o = ShapeTable.of(BrickType.O);
+        int[][] matrix = new int[10][6];
+        matrix[9][2] = 1;
+        matrix[9][3] = 1;
+        SearchBoard board = SearchBoard.fromMatrix(matrix);
+        int x = 2 - o.getMinX(0);
+
+        int landing = board.dropRow(o, 0, x, 0);
+        assertEquals(8, landing + o.getMaxY(0), "The brick should rest on row 9");
+        assertEquals(9, SearchBoard.empty(10, 6).dropRow(o, 0, x, 0) + o.getMaxY(0));
+    }
+
+    @Test
+    void testPlaceClearsFullRows() {
+        ShapeTable i = ShapeTable.of(BrickType.I);
+        int flat = -1;
+        for (int r = 0; r < i.getRotationCount(); r++) {
+            if (i.getMinY(r) == i.getMaxY(r)) {
+                flat = r;
+            }
+        }
+        int[][] matrix = new int[5][6];
+        matrix[4][0] = 1;
+        matrix[4][1] = 1;
+        matrix[3][0] = 1;
+        SearchBoard board = SearchBoard.fromMatrix(matrix);
+        int x = 2 - i.getMinX(flat);
+        int y = board.dropRow(i, flat, x, 0);
+
+        SearchBoard placed = board.place(i, flat, x, y);
+
+        assertEquals(1, placed.getLinesCleared());
+        assertEquals(0, placed.getRow(3));
+        assertEquals(1, placed.getRow(4), "Rows above a cleared row should fall");
+        assertEquals(0, board.getLinesCleared(), "The original board is unchanged");
+        assertEquals(0b000011, board.getRow(4));
+    }
+
+    @Test
+    void testTooWideBoardRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SearchBoard.fromMatrix(new int[2][32]));
+    }
+
+    @Test
+    void testZobristHashFollowsPlacementsAndClears() {
+        ZobristKeys keys = ZobristKeys.of(25, 10);
+        SearchBoard board = SearchBoard.empty(25, 10);
+        assertEquals(0L, board.getZobristHash());
+
+        DropPlacementGenerator generator = new DropPlacementGenerator();
+        BrickType[] types = BrickType.values();
+        int cleared = 0;
+        for (int piece = 0; piece < 60; piece++) {
+            java.util.List<Placement> placements = generator.generate(board, types[piece % types.length], 4, 0);
+            if (placements.isEmpty()) {
+                board = SearchBoard.empty(25, 10);
+                continue;
+            }
+            SearchBoard best = null;
+            for (Placement p : placements) {
+                SearchBoard next = board.place(ShapeTable.of(p.getType()), p.getRotation(), p.getX(), p.getY());
+                if (best == null || Heuristic.DEFAULT.score(next) > Heuristic.DEFAULT.score(best)) {
+                    best = next;
+                }
+            }
+            board = best;
+            cleared += board.getLinesCleared();
+            assertEquals(keys.hash(toMatrix(board)), board.getZobristHash());
+            assertEquals(SearchBoard.fromMatrix(toMatrix(board)), board);
+        }
+        assertTrue(cleared > 0, "Greedy play should clear lines");
+    }
+
+    @Test
+    void testSearchAndGameBoardsAgreeOnHash() {
+        int[][] matrix = new int[25][10];
+        matrix[24][3] = 4;
+        matrix[23][3] = 6;
+        assertEquals(ZobristKeys.of(25, 10).hash(matrix), SearchBoard.fromMatrix(matrix).getZobristHash());
+    }
+
+    private static int[][] toMatrix(SearchBoard board) {
+        int[][] matrix = new int[board.getRowCount()][board.getColumnCount()];
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                matrix[row][col] = board.isFilled(row, col) ? 1 : 0;
+            }
+        }
+        return matrix;
+    }
+}
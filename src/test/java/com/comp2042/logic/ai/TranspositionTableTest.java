@@ -0,0 +1,91 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.ai.TranspositionTable.ReplacementPolicy;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TranspositionTableTest {
+
+    /** Two keys that land in the same slot of a 16-slot table. */
+    private static final long KEY_A = 3L;
+    private static final long KEY_B = 3L + 16;
+
+    @Test
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(16, ReplacementPolicy.ALWAYS);
+
+        assertFalse(table.contains(KEY_A));
+        assertEquals(TranspositionTable.NOT_FOUND, table.getDepth(KEY_A));
+        assertEquals(-1.0, table.getValue(KEY_A, -1.0));
+
+        assertTrue(table.store(KEY_A, 2, 4.5));
+        assertTrue(table.contains(KEY_A));
+        assertEquals(2, table.getDepth(KEY_A));
+        assertEquals(4.5, table.getValue(KEY_A, -1.0));
+        assertEquals(1, table.size());
+
+        assertTrue(table.store(KEY_A, 0, 1.0), "The same key is always updated");
+        assertEquals(1.0, table.getValue(KEY_A, -1.0));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void testZeroKeyIsStorable() {
+        TranspositionTable table = new TranspositionTable(4, ReplacementPolicy.ALWAYS);
+        assertFalse(table.contains(0L));
+        table.store(0L, 1, 2.0);
+        assertTrue(table.contains(0L), "The empty board hashes to zero and must be cacheable");
+    }
+
+    @Test
+    void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(16, new TranspositionTable(10, ReplacementPolicy.ALWAYS).getCapacity());
+        assertEquals(16, new TranspositionTable(16, ReplacementPolicy.ALWAYS).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0, ReplacementPolicy.ALWAYS));
+    }
+
+    @Test
+    void testAlwaysReplaces() {
+        TranspositionTable table = new TranspositionTable(16, ReplacementPolicy.ALWAYS);
+        table.store(KEY_A, 5, 1.0);
+        assertTrue(table.store(KEY_B, 0, 2.0));
+        assertFalse(table.contains(KEY_A));
+        assertTrue(table.contains(KEY_B));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void testDepthPreferredKeepsDeeperEntry() {
+        TranspositionTable table = new TranspositionTable(16, ReplacementPolicy.DEPTH_PREFERRED);
+        table.store(KEY_A, 5, 1.0);
+
+        assertFalse(table.store(KEY_B, 4, 2.0));
+        assertTrue(table.contains(KEY_A));
+
+        table.newSearch();
+        assertFalse(table.store(KEY_B, 4, 2.0), "Depth-preferred ignores the search age");
+        assertTrue(table.store(KEY_B, 5, 2.0));
+        assertTrue(table.contains(KEY_B));
+    }
+
+    @Test
+    void testAgingReplacesEntriesFromEarlierSearches() {
+        TranspositionTable table = new TranspositionTable(16, ReplacementPolicy.AGING);
+        table.store(KEY_A, 5, 1.0);
+        assertFalse(table.store(KEY_B, 1, 2.0));
+
+        table.newSearch();
+        assertTrue(table.contains(KEY_A), "Entries survive into the next search");
+        assertTrue(table.store(KEY_B, 1, 2.0));
+        assertEquals(2.0, table.getValue(KEY_B, -1.0));
+    }
+
+    @Test
+    void testClearRemovesEntries() {
+        TranspositionTable table = new TranspositionTable(16, ReplacementPolicy.ALWAYS);
+        table.store(KEY_A, 1, 1.0);
+        table.clear();
+        assertFalse(table.contains(KEY_A));
+        assertEquals(0, table.size());
+    }
+}
@@ -107,6 +107,31 @@ public class ClearRowTest {
         assertEquals(4, clearRow.getLinesRemoved());
         assertEquals(4, clearRow.getClearedIndices().size());
     }
-}
 
+    @Test
+    void testInPlaceResultHasNoMatrix() {
+        ClearRow clearRow = new ClearRow(1, Arrays.asList(7));
+
+        assertFalse(clearRow.hasNewMatrix());
+        assertNull(clearRow.getNewMatrix());
+        assertEquals(1, clearRow.getLinesRemoved());
+    }
+
+    @Test
+    void testPrimitiveRowsMatchIndices() {
+        ClearRow clearRow = new ClearRow(2, new int[] {20, 24});
+
+        assertEquals(2, clearRow.getClearedRowCount());
+        assertEquals(20, clearRow.getClearedRow(0));
+        assertEquals(24, clearRow.getClearedRow(1));
+        assertEquals(Arrays.asList(20, 24), clearRow.getClearedIndices());
+        assertFalse(clearRow.hasNewMatrix());
+    }
 
+    @Test
+    void testNoneIsEmpty() {
+        assertEquals(0, ClearRow.NONE.getLinesRemoved());
+        assertEquals(0, ClearRow.NONE.getClearedRowCount());
+        assertTrue(ClearRow.NONE.getClearedIndices().isEmpty());
+    }
+}
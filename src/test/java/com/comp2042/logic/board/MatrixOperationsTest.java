@@ -1,5 +1,7 @@
 package com.comp2042.logic.board;
 
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.List;
@@ -195,6 +197,62 @@ public class MatrixOperationsTest {
         assertEquals(0, newMatrix[2][0], "Top rows should be empty after gravity");
     }
 
+    @Test
+    void testMergeInPlaceUpdatesFillCounts() {
+        int[][] board = new int[][]{
+            {0, 0, 0},
+            {1, 0, 0},
+            {0, 0, 0}
+        };
+        int[] counts = new int[]{0, 1, 0};
+        int[][] shape = new int[][]{
+            {0, 2},
+            {2, 2}
+        };
+
+        MatrixOperations.mergeInPlace(board, counts, shape, 1, 0);
+
+        assertEquals(2, board[0][2], "Should write into the original matrix");
+        assertEquals(2, board[1][1], "Should write into the original matrix");
+        assertArrayEquals(new int[]{1, 3, 0}, counts, "Fill counts should track newly filled cells");
+    }
+
+    @Test
+    void testFindFullRowsOnlyInspectsRange() {
+        int[] counts = new int[]{3, 3, 1, 3};
+        RowIndexBuffer fullRows = new RowIndexBuffer(1);
+
+        int found = MatrixOperations.findFullRows(counts, 3, 1, 5, fullRows);
+
+        assertEquals(2, found, "Should find full rows inside the range only");
+        assertEquals(1, fullRows.get(0));
+        assertEquals(3, fullRows.get(1));
+    }
+
+    @Test
+    void testRemoveRowsInPlaceMatchesCheckRemoving() {
+        int[][] matrix = new int[][]{
+            {0, 0, 0},
+            {1, 1, 1},
+            {4, 0, 4},
+            {5, 5, 5},
+            {0, 6, 0},
+            {2, 2, 2}
+        };
+        ClearRow expected = MatrixOperations.checkRemoving(matrix);
+        int[] counts = new int[matrix.length];
+        MatrixOperations.countFilledCells(matrix, counts);
+        RowIndexBuffer fullRows = new RowIndexBuffer(2);
+        MatrixOperations.findFullRows(counts, 3, 0, matrix.length - 1, fullRows);
+        int[] survivingRow = matrix[2];
+
+        MatrixOperations.removeRowsInPlace(matrix, counts, fullRows);
+
+        assertArrayEquals(expected.getNewMatrix(), matrix, "In-place compaction should match checkRemoving");
+        assertSame(survivingRow, matrix[4], "Surviving rows should be moved, not copied");
+        assertArrayEquals(new int[]{0, 0, 0, 0, 2, 1}, counts, "Fill counts should move with their rows");
+    }
+
     @Test
     void testDeepCopyList() {
         int[][] matrix1 = {{1, 2}, {3, 4}};
@@ -242,5 +300,75 @@ public class MatrixOperationsTest {
             assertTrue(emptyCount >= 1, "Each garbage row should have at least one empty space");
         }
     }
-}
 
+    @Test
+    void testComputeSurface() {
+        int[][] board = new int[5][3];
+        board[2][0] = 1;
+        board[4][0] = 1;
+        board[3][2] = 1;
+        int[] surface = new int[3];
+
+        MatrixOperations.computeSurface(board, surface);
+
+        assertArrayEquals(new int[]{2, 5, 3}, surface, "Surface is the topmost filled row, or the row count");
+    }
+
+    @Test
+    void testRaiseSurfaceCoversMergedCells() {
+        ShapeTable table = ShapeTable.of(BrickType.O);
+        int[][] board = new int[10][6];
+        int[] surface = new int[6];
+        MatrixOperations.computeSurface(board, surface);
+
+        MatrixOperations.mergeInPlace(board, new int[10], table.getMatrix(0), 1, 5);
+        MatrixOperations.raiseSurface(surface, table, 0, 1, 5);
+
+        int[] expected = new int[6];
+        MatrixOperations.computeSurface(board, expected);
+        assertArrayEquals(expected, surface);
+    }
+
+    @Test
+    void testLandingRowMatchesStepwiseDrop() {
+        int[][] board = new int[20][10];
+        java.util.Random random = new java.util.Random(3);
+        for (int row = 12; row < 20; row++) {
+            for (int col = 0; col < 10; col++) {
+                if (random.nextInt(3) != 0) {
+                    board[row][col] = 1;
+                }
+            }
+        }
+        int[] surface = new int[10];
+        MatrixOperations.computeSurface(board, surface);
+
+        for (BrickType type : BrickType.values()) {
+            ShapeTable table = ShapeTable.of(type);
+            for (int r = 0; r < table.getRotationCount(); r++) {
+                for (int x = -table.getMinX(r); x + table.getMaxX(r) < 10; x++) {
+                    int expected = 0;
+                    while (!MatrixOperations.intersect(board, table.getMatrix(r), x, expected + 1)) {
+                        expected++;
+                    }
+                    assertEquals(expected, MatrixOperations.landingRow(surface, table, r, x, 0),
+                            type + " rotation " + r + " at x=" + x);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLandingRowUnknownUnderOverhang() {
+        int[][] board = new int[10][4];
+        board[5][0] = 1;
+        int[] surface = new int[4];
+        MatrixOperations.computeSurface(board, surface);
+        ShapeTable table = ShapeTable.of(BrickType.O);
+        int minY = table.getMinY(0);
+
+        assertEquals(MatrixOperations.UNKNOWN_LANDING_ROW,
+                MatrixOperations.landingRow(surface, table, 0, -table.getMinX(0), 6 - minY),
+                "A brick below a column surface cannot be resolved from the surface alone");
+    }
+}
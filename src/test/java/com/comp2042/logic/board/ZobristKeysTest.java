@@ -0,0 +1,66 @@
+package com.comp2042.logic.board;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZobristKeysTest {
+
+    @Test
+    void testKeysSharedPerSize() {
+        assertSame(ZobristKeys.of(25, 10), ZobristKeys.of(25, 10));
+        assertNotSame(ZobristKeys.of(25, 10), ZobristKeys.of(20, 10));
+        assertEquals(25, ZobristKeys.of(25, 10).getRowCount());
+        assertEquals(10, ZobristKeys.of(25, 10).getColumnCount());
+    }
+
+    @Test
+    void testHashIgnoresColors() {
+        ZobristKeys keys = ZobristKeys.of(4, 4);
+        int[][] red = new int[4][4];
+        int[][] blue = new int[4][4];
+        red[3][1] = 2;
+        blue[3][1] = 5;
+
+        assertEquals(keys.hash(red), keys.hash(blue));
+        assertEquals(keys.cell(3, 1), keys.hash(red));
+        assertEquals(0L, keys.hash(new int[4][4]));
+    }
+
+    @Test
+    void testRowMaskMatchesMatrixRows() {
+        ZobristKeys keys = ZobristKeys.of(4, 4);
+        int[][] matrix = new int[4][4];
+        matrix[2][0] = 1;
+        matrix[2][3] = 1;
+
+        assertEquals(keys.hashRows(matrix, 2, 3), keys.hashRow(2, 0b1001));
+        assertEquals(keys.hash(matrix), keys.hashRows(matrix, 0, 4));
+    }
+
+    @Test
+    void testMergeDeltaTogglesOnlyEmptyCells() {
+        ZobristKeys keys = ZobristKeys.of(6, 6);
+        ShapeTable o = ShapeTable.of(BrickType.O);
+        int[][] matrix = new int[6][6];
+        int x = -o.getMinX(0);
+        int y = 4 - o.getMinY(0);
+        matrix[y + o.getCellY(0, 0)][x + o.getCellX(0, 0)] = 1;
+        long before = keys.hash(matrix);
+
+        long delta = keys.mergeDelta(matrix, o, 0, x, y);
+        MatrixOperations.mergeInPlace(matrix, new int[6], o.getMatrix(0), x, y);
+
+        assertEquals(keys.hash(matrix), before ^ delta);
+    }
+
+    @Test
+    void testPieceAndQueueKeysDiffer() {
+        ZobristKeys keys = ZobristKeys.of(25, 10);
+        assertEquals(0L, keys.piece(null));
+        assertNotEquals(keys.piece(BrickType.T), keys.piece(BrickType.S));
+        assertEquals(0L, keys.queueIndex(0));
+        assertNotEquals(keys.queueIndex(1), keys.queueIndex(2));
+    }
+}
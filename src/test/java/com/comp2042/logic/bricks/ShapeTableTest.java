@@ -0,0 +1,61 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+public class ShapeTableTest {
+
+    @Test
+    void testTableMatchesBrickMatrices() {
+        for (BrickType type : BrickType.values()) {
+            List<int[][]> rotations = BrickFactory.newBrick(type).getShapeMatrix();
+            ShapeTable table = ShapeTable.of(type);
+
+            assertEquals(type, table.getType());
+            assertEquals(rotations.size(), table.getRotationCount(), "Rotation count for " + type);
+            for (int r = 0; r < rotations.size(); r++) {
+                assertArrayEquals(rotations.get(r), table.getMatrix(r), "Matrix for " + type + " rotation " + r);
+            }
+        }
+    }
+
+    @Test
+    void testTableIsShared() {
+        assertSame(ShapeTable.of(BrickType.T), ShapeTable.of(BrickType.T));
+        assertSame(ShapeTable.of(BrickType.T).getMatrix(0), ShapeTable.of(BrickType.T).getMatrix(0),
+            "Matrices should be returned without copying");
+    }
+
+    @Test
+    void testCellOffsetsAndMasks() {
+        ShapeTable table = ShapeTable.of(BrickType.T);
+
+        assertEquals(4, table.getCellCount(0), "Every tetromino has four cells");
+        assertEquals(6, table.getColor());
+        assertEquals(0b0111, table.getRowMask(0, 1), "Row 1 of T rotation 0 is {6, 6, 6, 0}");
+        assertEquals(0b0010, table.getRowMask(0, 2), "Row 2 of T rotation 0 is {0, 6, 0, 0}");
+        assertEquals(0, table.getMinX(0));
+        assertEquals(2, table.getMaxX(0));
+        assertEquals(1, table.getMinY(0));
+        assertEquals(2, table.getMaxY(0));
+    }
+
+    @Test
+    void testLowestCellPerColumn() {
+        ShapeTable table = ShapeTable.of(BrickType.T);
+
+        assertEquals(1, table.getLowestCell(0, 0));
+        assertEquals(2, table.getLowestCell(0, 1));
+        assertEquals(1, table.getLowestCell(0, 2));
+        assertEquals(-1, table.getLowestCell(0, 3), "Empty column should report -1");
+    }
+
+    @Test
+    void testBrickReportsItsType() {
+        BrickFactory factory = new BrickFactory();
+        for (BrickType type : BrickType.values()) {
+            assertEquals(type, factory.createBrick(type).getType());
+        }
+    }
+}
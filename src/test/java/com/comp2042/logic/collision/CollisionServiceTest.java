@@ -1,5 +1,7 @@
 package com.comp2042.logic.collision;
 
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -155,5 +157,22 @@ public class CollisionServiceTest {
         assertTrue(collisionService.intersects(board, shape, 4, 5), 
             "Should intersect when non-zero cell overlaps with filled board cell");
     }
-}
 
+    @Test
+    void testCanPlaceAtWithShapeTableMatchesMatrix() {
+        int[][] board = new int[10][8];
+        board[6][3] = 1;
+        ShapeTable table = ShapeTable.of(BrickType.T);
+
+        for (int rotation = 0; rotation < table.getRotationCount(); rotation++) {
+            int[][] shape = table.getMatrix(rotation);
+            for (int x = -2; x < 8; x++) {
+                for (int y = -2; y < 10; y++) {
+                    assertEquals(collisionService.canPlaceAt(board, shape, x, y),
+                        collisionService.canPlaceAt(board, table, rotation, x, y),
+                        "Mismatch at rotation " + rotation + " (" + x + ", " + y + ")");
+                }
+            }
+        }
+    }
+}
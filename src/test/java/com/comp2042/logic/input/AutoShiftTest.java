@@ -0,0 +1,93 @@
+package com.comp2042.logic.input;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutoShiftTest {
+
+    private static int ticksUntilShift(AutoShift shift, double stepMillis, int maxTicks) {
+        for (int i = 1; i <= maxTicks; i++) {
+            if (shift.tick(stepMillis) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    void testNoShiftWithoutHeldKey() {
+        AutoShift shift = new AutoShift(100, 20);
+        assertEquals(0, shift.tick(1000));
+        assertEquals(0, shift.getDirection());
+    }
+
+    @Test
+    void testRepeatStartsAfterDelay() {
+        AutoShift shift = new AutoShift(100, 20);
+        assertTrue(shift.press(AutoShift.LEFT));
+
+        assertEquals(10, ticksUntilShift(shift, 10, 50), "First repeat should land exactly on the DAS delay");
+        assertEquals(AutoShift.LEFT, shift.getDirection());
+    }
+
+    @Test
+    void testRepeatRate() {
+        AutoShift shift = new AutoShift(100, 20);
+        shift.press(AutoShift.RIGHT);
+        assertEquals(1, shift.tick(100));
+
+        assertEquals(0, shift.tick(10));
+        assertEquals(1, shift.tick(10));
+        assertEquals(2, shift.tick(40), "Several repeats can fall in one step");
+    }
+
+    @Test
+    void testZeroArrShiftsToWall() {
+        AutoShift shift = new AutoShift(50, 0);
+        shift.press(AutoShift.LEFT);
+        assertEquals(0, shift.tick(16));
+        assertEquals(0, shift.tick(16));
+        assertEquals(0, shift.tick(16));
+        assertEquals(AutoShift.TO_WALL, shift.tick(16));
+        assertEquals(AutoShift.TO_WALL, shift.tick(16));
+    }
+
+    @Test
+    void testRepeatedPressIgnoredWhileHeld() {
+        AutoShift shift = new AutoShift(100, 20);
+        assertTrue(shift.press(AutoShift.LEFT));
+        shift.tick(60);
+        assertFalse(shift.press(AutoShift.LEFT), "Operating system key repeat must not restart DAS");
+        assertEquals(1, shift.tick(40));
+    }
+
+    @Test
+    void testLastPressedDirectionWinsAndReleaseHandsBack() {
+        AutoShift shift = new AutoShift(100, 20);
+        shift.press(AutoShift.LEFT);
+        shift.tick(100);
+        shift.press(AutoShift.RIGHT);
+        assertEquals(AutoShift.RIGHT, shift.getDirection());
+        assertEquals(0, shift.tick(50), "The new direction charges its own DAS");
+
+        shift.release(AutoShift.RIGHT);
+        assertEquals(AutoShift.LEFT, shift.getDirection());
+        assertEquals(0, shift.tick(50));
+        assertEquals(1, shift.tick(50));
+
+        shift.release(AutoShift.LEFT);
+        assertEquals(0, shift.getDirection());
+        assertEquals(0, shift.tick(1000));
+    }
+
+    @Test
+    void testReleaseAll() {
+        AutoShift shift = new AutoShift(0, 20);
+        shift.press(AutoShift.LEFT);
+        shift.press(AutoShift.RIGHT);
+        shift.releaseAll();
+        assertFalse(shift.isHeld(AutoShift.LEFT));
+        assertFalse(shift.isHeld(AutoShift.RIGHT));
+        assertEquals(0, shift.tick(100));
+    }
+}
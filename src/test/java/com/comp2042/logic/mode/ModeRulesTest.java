@@ -0,0 +1,75 @@
+package com.comp2042.logic.mode;
+
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModeRulesTest {
+
+    @Test
+    void testTimeAttackWinsAtTargetAndLosesAtLimit() {
+        GameBoard board = new GameBoard(25, 10, new GameSeed(5));
+        board.newGame();
+        TimeAttackModeRules rules = new TimeAttackModeRules();
+        rules.reset(board);
+        Score score = board.getScore();
+
+        assertFalse(rules.isWon(score));
+        assertFalse(rules.isLost(score));
+        assertEquals(rules.getTimeLimitMillis() / 1000, rules.getSecondsRemaining());
+
+        rules.tick(rules.getTimeLimitMillis() - 1);
+        assertFalse(rules.isLost(score));
+        assertEquals(1, rules.getSecondsRemaining());
+        rules.tick(1);
+        assertTrue(rules.isLost(score));
+        assertEquals(0, rules.getSecondsRemaining());
+
+        score.add(rules.getTargetScore());
+        assertTrue(rules.isWon(score));
+    }
+
+    @Test
+    void testHeadlessGameUsesSameTimeAttackRules() {
+        HeadlessGame game = new HeadlessGame(GameMode.TIME_ATTACK, new GameSeed(77));
+        game.start();
+
+        GameBoard board = new GameBoard(25, 10, new GameSeed(77));
+        board.newGame();
+        TimeAttackModeRules rules = new TimeAttackModeRules();
+        rules.reset(board);
+
+        assertEquals(rules.getTargetScore(), game.getTargetScore());
+        assertEquals(rules.getTimeLimitMillis(), game.getTimeLimitMillis());
+    }
+
+    @Test
+    void testPuzzleWinsAtLineGoal() {
+        ModeRules rules = ModeRules.forMode(GameMode.PUZZLE);
+        Score score = new Score();
+
+        score.addLines(PuzzleModeRules.TARGET_LINES - 1);
+        assertFalse(rules.isWon(score));
+        score.addLines(1);
+        assertTrue(rules.isWon(score));
+        assertFalse(rules.isLost(score));
+    }
+
+    @Test
+    void testClassicAndRevertedNeverEnd() {
+        Score score = new Score();
+        score.add(1_000_000);
+        score.addLines(1000);
+        for (GameMode mode : new GameMode[]{GameMode.CLASSIC, GameMode.REVERTED, null}) {
+            ModeRules rules = ModeRules.forMode(mode);
+            rules.tick(1_000_000);
+            assertFalse(rules.isWon(score));
+            assertFalse(rules.isLost(score));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.logic.mode;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeAttackTableTest {
+
+    private static final TimeAttackTable TABLE = new TimeAttackTable(
+            new int[] {30, 60},
+            new int[] {10, 90},
+            new int[][] {{1000, 2000}, {3000, 5000}});
+
+    @Test
+    void testWriteParseRoundTrip() throws IOException {
+        StringWriter out = new StringWriter();
+        TABLE.write(out, "test table");
+
+        TimeAttackTable parsed = TimeAttackTable.parse(new StringReader(out.toString()));
+
+        assertTrue(out.toString().startsWith("# test table\n"));
+        assertEquals(10, parsed.getLowestPercentile());
+        assertEquals(90, parsed.getHighestPercentile());
+        assertEquals(TABLE.scoreAt(45, 50), parsed.scoreAt(45, 50));
+    }
+
+    @Test
+    void testScoreInterpolatesBetweenBucketsAndPercentiles() {
+        assertEquals(1000, TABLE.scoreAt(30, 10), 1e-9);
+        assertEquals(5000, TABLE.scoreAt(60, 90), 1e-9);
+        assertEquals(2000, TABLE.scoreAt(45, 10), 1e-9);
+        assertEquals(1500, TABLE.scoreAt(30, 50), 1e-9);
+        assertEquals(2750, TABLE.scoreAt(45, 50), 1e-9);
+    }
+
+    @Test
+    void testScoreClampsOutsideTable() {
+        assertEquals(1000, TABLE.scoreAt(10, 0), 1e-9);
+        assertEquals(5000, TABLE.scoreAt(200, 100), 1e-9);
+    }
+
+    @Test
+    void testInvalidTablesAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TimeAttackTable.parse(new StringReader("30,100,200\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> TimeAttackTable.parse(new StringReader("percentiles,10,90\n30,100\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> TimeAttackTable.parse(new StringReader("percentiles,10,90\n60,1,2\n30,1,2\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> TimeAttackTable.parse(new StringReader("percentiles,10,x\n")));
+    }
+
+    @Test
+    void testShippedTableLoads() {
+        TimeAttackTable table = TimeAttackTable.loadDefault();
+
+        assertNotNull(table);
+        assertTrue(table.scoreAt(120, 50) > table.scoreAt(30, 50));
+        assertTrue(table.scoreAt(60, table.getHighestPercentile()) >= table.scoreAt(60, table.getLowestPercentile()));
+    }
+
+    @Test
+    void testRollKeepsTimeLimitWithOrWithoutTable() {
+        for (long seed = 0; seed < 50; seed++) {
+            TimeAttackRules calibrated = TimeAttackRules.roll(new Random(seed), TABLE);
+            TimeAttackRules uniform = TimeAttackRules.roll(new Random(seed), null);
+
+            assertEquals(uniform.getTimeLimitSeconds(), calibrated.getTimeLimitSeconds());
+            assertTrue(calibrated.getTimeLimitSeconds() >= 30 && calibrated.getTimeLimitSeconds() <= 120);
+            assertTrue(calibrated.getTargetScore() >= 1000 && calibrated.getTargetScore() <= 5000);
+            assertEquals(0, calibrated.getTargetScore() % 100);
+            assertTrue(uniform.getTargetScore() >= 100);
+        }
+    }
+}
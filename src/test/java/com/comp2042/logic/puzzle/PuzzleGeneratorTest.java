@@ -0,0 +1,69 @@
+package com.comp2042.logic.puzzle;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.Bot;
+import com.comp2042.logic.ai.DropPlacementGenerator;
+import com.comp2042.logic.ai.Heuristic;
+import com.comp2042.logic.simulation.GamePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PuzzleGeneratorTest {
+
+    /** Drops every brick where it spawns, so it never clears the goal. */
+    private static final GamePlayer DROPPER = game -> game.apply(EventType.HARD_DROP) || game.apply(EventType.DOWN);
+
+    /** A greedy one-brick search, fast enough to solve puzzles in tests. */
+    static PuzzleSolver greedySolver(int maxPieces) {
+        Bot bot = new Bot(new BeamSearch(new DropPlacementGenerator(), Heuristic.DEFAULT, 1, 1,
+                ForkJoinPool.commonPool()));
+        return new PuzzleSolver(bot::playPiece, maxPieces);
+    }
+
+    static PuzzleSolver greedySolver() {
+        return greedySolver(PuzzleLibrary.MAX_PIECES);
+    }
+
+    @Test
+    void testSolverReportsPar() {
+        PuzzleSolver solver = greedySolver();
+
+        int par = solver.solve(11);
+
+        assertNotEquals(PuzzleSolver.UNSOLVED, par);
+        assertTrue(par >= 78, "40 lines need at least 78 bricks on 10 rows of garbage");
+        assertTrue(par <= solver.getMaxPieces());
+        assertEquals(par, solver.solve(11), "The same seed plays the same puzzle");
+    }
+
+    @Test
+    void testSolverGivesUpWithinBudget() {
+        assertEquals(PuzzleSolver.UNSOLVED, new PuzzleSolver(DROPPER, 50).solve(11));
+        assertEquals(PuzzleSolver.UNSOLVED, greedySolver(40).solve(11), "40 bricks cannot clear 40 lines");
+    }
+
+    @Test
+    void testGeneratorIsDeterministic() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            List<Puzzle> serial = new PuzzleGenerator(greedySolver(), single).generate(5, 3);
+            List<Puzzle> parallel = new PuzzleGenerator(greedySolver(), ForkJoinPool.commonPool()).generate(5, 3);
+
+            assertEquals(3, serial.size());
+            assertEquals(serial, parallel);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void testGeneratorSkipsUnsolvableCandidates() {
+        assertTrue(new PuzzleGenerator(new PuzzleSolver(DROPPER, 50), ForkJoinPool.commonPool())
+                .generate(5, 2).isEmpty());
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.logic.puzzle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PuzzleLibraryTest {
+
+    private static PuzzleGenerator generator() {
+        return new PuzzleGenerator(PuzzleGeneratorTest.greedySolver(), ForkJoinPool.commonPool());
+    }
+
+    private static PuzzlePack starter(int count) {
+        PuzzlePack pack = new PuzzlePack(40);
+        for (int i = 0; i < count; i++) {
+            pack.add(new Puzzle(i, 80));
+        }
+        return pack;
+    }
+
+    @Test
+    void testServesStarterAndPersistsProgress(@TempDir Path dir) {
+        Path file = dir.resolve("puzzles.dat");
+        try (PuzzleLibrary library = new PuzzleLibrary(file, generator(), starter(10))) {
+            assertEquals(new Puzzle(0, 80), library.next());
+            assertEquals(new Puzzle(1, 80), library.next());
+        }
+
+        assertTrue(Files.exists(file));
+        try (PuzzleLibrary reopened = new PuzzleLibrary(file, generator(), null)) {
+            assertEquals(8, reopened.remaining());
+            assertEquals(new Puzzle(2, 80), reopened.next());
+        }
+        try (PuzzleLibrary again = new PuzzleLibrary(file, generator(), null)) {
+            assertEquals(7, again.remaining());
+        }
+    }
+
+    @Test
+    void testRefillAddsGeneratedPuzzles(@TempDir Path dir) {
+        Path file = dir.resolve("puzzles.dat");
+        int remaining;
+        try (PuzzleLibrary library = new PuzzleLibrary(file, generator(), starter(1))) {
+            library.next();
+            library.refill().join();
+            remaining = library.remaining();
+        }
+
+        assertTrue(remaining > 0);
+        try (PuzzleLibrary reopened = new PuzzleLibrary(file, generator(), null)) {
+            assertEquals(remaining, reopened.remaining());
+            assertNotEquals(PuzzleSolver.UNSOLVED, reopened.next().getPar());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.comp2042.logic.puzzle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PuzzlePackTest {
+
+    private static PuzzlePack packOf(int count) {
+        PuzzlePack pack = new PuzzlePack(40);
+        for (int i = 0; i < count; i++) {
+            pack.add(new Puzzle(1000L * i - 5, 80 + i));
+        }
+        return pack;
+    }
+
+    @Test
+    void testTakeServesPuzzlesInOrder() {
+        PuzzlePack pack = packOf(3);
+
+        assertEquals(new Puzzle(-5, 80), pack.take());
+        assertEquals(new Puzzle(995, 81), pack.take());
+        assertEquals(1, pack.remaining());
+        assertEquals(new Puzzle(1995, 82), pack.take());
+        assertNull(pack.take());
+    }
+
+    @Test
+    void testRoundTripKeepsRecordsAndIndex() {
+        PuzzlePack pack = packOf(20);
+        pack.take();
+
+        byte[] bytes = pack.toBytes();
+        PuzzlePack decoded = PuzzlePack.fromBytes(bytes);
+
+        assertEquals(PuzzlePack.HEADER_BYTES + 20 * PuzzlePack.RECORD_BYTES, bytes.length);
+        assertEquals(40, decoded.getTargetLines());
+        assertEquals(19, decoded.remaining());
+        assertEquals(new Puzzle(995, 81), decoded.take());
+    }
+
+    @Test
+    void testCompactDropsPlayedPuzzles() {
+        PuzzlePack pack = packOf(4);
+        pack.take();
+        pack.take();
+
+        pack.compact();
+        pack.add(new Puzzle(7, 90));
+
+        assertEquals(0, pack.getNext());
+        assertEquals(3, pack.remaining());
+        assertEquals(new Puzzle(1995, 82), pack.take());
+    }
+
+    @Test
+    void testWriteNextUpdatesIndexInPlace(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("pack.dat");
+        Files.write(file, packOf(5).toBytes());
+
+        PuzzlePack.writeNext(file, 3);
+        PuzzlePack reloaded = PuzzlePack.fromBytes(Files.readAllBytes(file));
+
+        assertEquals(2, reloaded.remaining());
+        assertEquals(new Puzzle(2995, 83), reloaded.take());
+    }
+
+    @Test
+    void testRejectsCorruptPacks() {
+        byte[] bytes = packOf(2).toBytes();
+
+        assertThrows(IllegalArgumentException.class, () -> PuzzlePack.fromBytes(new byte[3]));
+        assertThrows(IllegalArgumentException.class,
+                () -> PuzzlePack.fromBytes(java.util.Arrays.copyOf(bytes, bytes.length - 1)));
+        bytes[0] = 'X';
+        assertThrows(IllegalArgumentException.class, () -> PuzzlePack.fromBytes(bytes));
+    }
+}
@@ -0,0 +1,108 @@
+package com.comp2042.logic.random;
+
+import com.comp2042.logic.board.MatrixOperations;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.model.GameBoard;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class GameSeedTest {
+
+    private List<BrickType> drawBricks(GameSeed seed, int count) {
+        BrickFactory factory = new BrickFactory(seed.getBrickRandom());
+        List<BrickType> types = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            types.add(factory.createRandomBrick().getType());
+        }
+        return types;
+    }
+
+    @Test
+    void testSameSeedGivesSameBricks() {
+        assertEquals(drawBricks(new GameSeed(99), 50), drawBricks(new GameSeed(99), 50));
+    }
+
+    @Test
+    void testDifferentSeedsGiveDifferentBricks() {
+        assertNotEquals(drawBricks(new GameSeed(1), 50), drawBricks(new GameSeed(2), 50));
+    }
+
+    @Test
+    void testStreamsAreIndependent() {
+        GameSeed untouched = new GameSeed(5);
+        GameSeed drained = new GameSeed(5);
+        MatrixOperations.generateGarbage(25, 10, 10, drained.getGarbageRandom());
+        drained.getModeRandom().nextInt(100);
+
+        assertEquals(drawBricks(untouched, 21), drawBricks(drained, 21),
+                "Drawing garbage or mode values must not shift the brick sequence");
+    }
+
+    @Test
+    void testSameSeedGivesSameGarbage() {
+        int[][] first = MatrixOperations.generateGarbage(25, 10, 10, new GameSeed(8).getGarbageRandom());
+        int[][] second = MatrixOperations.generateGarbage(25, 10, 10, new GameSeed(8).getGarbageRandom());
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void testBoardsWithSameSeedMatch() {
+        GameBoard first = new GameBoard(25, 10, new GameSeed(3));
+        GameBoard second = new GameBoard(25, 10, new GameSeed(3));
+        first.newGame();
+        second.newGame();
+        first.setupPuzzleMode();
+        second.setupPuzzleMode();
+
+        assertArrayEquals(first.getBoardMatrix(), second.getBoardMatrix());
+        assertArrayEquals(first.getCurrentShape(), second.getCurrentShape());
+        assertEquals(3, first.getSeed().getSeed());
+    }
+
+    @Test
+    void testBatchIsReproducibleAndDistinct() {
+        List<GameSeed> batch = GameSeed.batch(123, 16);
+        List<GameSeed> again = GameSeed.batch(123, 16);
+
+        Set<Long> values = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.get(i).getSeed(), again.get(i).getSeed());
+            values.add(batch.get(i).getSeed());
+        }
+        assertEquals(16, values.size(), "Batch seeds should be distinct");
+    }
+
+    @Test
+    void testBatchValueMatchesBatchByIndex() {
+        List<GameSeed> batch = GameSeed.batch(123, 16);
+
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            assertEquals(batch.get(i).getSeed(), GameSeed.batchValue(123, i));
+        }
+        assertNotEquals(GameSeed.batchValue(123, 0), GameSeed.batchValue(124, 0));
+    }
+
+    @Test
+    void testEachNewGameGetsItsOwnReproducibleSeed() {
+        GameBoard board = new GameBoard(25, 10, new GameSeed(10));
+        board.newGame();
+        GameSeed first = board.getSeed();
+        board.newGame();
+        GameSeed second = board.getSeed();
+
+        assertSame(first, new GameBoard(25, 10, first).getSeed());
+        assertNotEquals(first.getSeed(), second.getSeed(), "A new game should move on to the next seed");
+        assertEquals(new GameSeed(10).next().getSeed(), second.getSeed());
+
+        GameBoard fresh = new GameBoard(25, 10, new GameSeed(second.getSeed()));
+        fresh.newGame();
+        assertArrayEquals(board.getCurrentShape(), fresh.getCurrentShape(),
+                "The current seed should reproduce the current game");
+    }
+}
@@ -0,0 +1,329 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.controller.EventSource;
+import com.comp2042.controller.EventType;
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.controller.MoveEvent;
+import com.comp2042.logic.board.DownData;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.logic.simulation.HeadlessGame;
+import com.comp2042.logic.simulation.TickClock;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ReplayTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    /** Applies forwarded input to a headless game, as GameController does for the GUI. */
+    private static final class HeadlessListener implements InputEventListener {
+        private final HeadlessGame game;
+
+        HeadlessListener(HeadlessGame game) {
+            this.game = game;
+        }
+
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            if (event.getEventSource() == EventSource.USER) {
+                game.apply(EventType.DOWN);
+            } else {
+                game.applyGravity();
+            }
+            return null;
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            game.apply(EventType.LEFT);
+            return null;
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            game.apply(EventType.RIGHT);
+            return null;
+        }
+
+        @Override
+        public int onShiftEvent(MoveEvent event, int maxCells) {
+            int moved = 0;
+            while (moved < maxCells && game.apply(event.getEventType())) {
+                moved++;
+            }
+            return moved;
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            game.apply(EventType.ROTATE);
+            return null;
+        }
+
+        @Override
+        public DownData onHardDropEvent(MoveEvent event) {
+            game.apply(EventType.HARD_DROP);
+            return null;
+        }
+
+        @Override
+        public ViewData onHoldEvent() {
+            game.apply(EventType.HOLD);
+            return null;
+        }
+
+        @Override
+        public void createNewGame() {
+        }
+    }
+
+    private static final class RecordingListener implements InputEventListener {
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            calls.add("DOWN");
+            return null;
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            calls.add("LEFT");
+            return null;
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            calls.add("RIGHT");
+            return null;
+        }
+
+        @Override
+        public int onShiftEvent(MoveEvent event, int maxCells) {
+            calls.add("SHIFT");
+            return Math.min(maxCells, 3);
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            calls.add("ROTATE");
+            return null;
+        }
+
+        @Override
+        public DownData onHardDropEvent(MoveEvent event) {
+            calls.add("HARD_DROP");
+            return null;
+        }
+
+        @Override
+        public ViewData onHoldEvent() {
+            calls.add("HOLD");
+            return null;
+        }
+
+        @Override
+        public void createNewGame() {
+            calls.add("NEW");
+        }
+    }
+
+    private static List<ReplayAction> actions(Replay replay, List<Long> deltas) {
+        List<ReplayAction> actions = new ArrayList<>();
+        ReplayReader reader = replay.reader();
+        while (reader.next()) {
+            actions.add(reader.getAction());
+            if (deltas != null) {
+                deltas.add(reader.getDeltaTicks());
+            }
+        }
+        return actions;
+    }
+
+    @Test
+    void testRecorderForwardsAndRecordsDeltas() {
+        long[] now = {0};
+        RecordingListener delegate = new RecordingListener();
+        ReplayRecorder recorder = new ReplayRecorder(delegate, () -> true, () -> now[0]);
+
+        recorder.begin(77, GameMode.CLASSIC);
+        now[0] = 30 * MILLIS;
+        recorder.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+        now[0] = 430 * MILLIS;
+        recorder.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+        recorder.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        now[0] = 1000 * MILLIS;
+        Replay replay = recorder.finish();
+
+        assertEquals(List.of("LEFT", "DOWN", "DOWN"), delegate.calls, "Every call should be forwarded");
+        List<Long> deltas = new ArrayList<>();
+        assertEquals(List.of(ReplayAction.LEFT, ReplayAction.GRAVITY, ReplayAction.SOFT_DROP, ReplayAction.END),
+                actions(replay, deltas));
+        assertEquals(List.of(3L, 40L, 0L, 57L), deltas, "Deltas are in hundredths of a second");
+        assertEquals(77, replay.getSeed());
+        assertEquals(4, replay.getEventCount());
+        assertFalse(recorder.isRecording());
+    }
+
+    @Test
+    void testRecorderRecordsShiftAsSingleMoves() {
+        long[] now = {0};
+        RecordingListener delegate = new RecordingListener();
+        ReplayRecorder recorder = new ReplayRecorder(delegate, () -> true, () -> now[0]);
+
+        recorder.begin(5, GameMode.CLASSIC);
+        now[0] = 200 * MILLIS;
+        assertEquals(3, recorder.onShiftEvent(new MoveEvent(EventType.RIGHT, EventSource.USER), Integer.MAX_VALUE));
+        Replay replay = recorder.finish();
+
+        assertEquals(List.of("SHIFT"), delegate.calls);
+        List<Long> deltas = new ArrayList<>();
+        assertEquals(List.of(ReplayAction.RIGHT, ReplayAction.RIGHT, ReplayAction.RIGHT, ReplayAction.END),
+                actions(replay, deltas), "Each cell actually moved should be recorded");
+        assertEquals(List.of(20L, 0L, 0L, 0L), deltas);
+    }
+
+    @Test
+    void testRecorderSkipsIgnoredInputAndPauses() {
+        long[] now = {0};
+        boolean[] accepting = {false};
+        ReplayRecorder recorder = new ReplayRecorder(new RecordingListener(), () -> accepting[0], () -> now[0]);
+
+        recorder.begin(1, GameMode.PUZZLE);
+        recorder.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        accepting[0] = true;
+        now[0] = 100 * MILLIS;
+        recorder.pause();
+        now[0] = 5000 * MILLIS;
+        recorder.onHoldEvent();
+        recorder.resume();
+        now[0] = 5200 * MILLIS;
+        recorder.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        Replay replay = recorder.finish();
+
+        List<Long> deltas = new ArrayList<>();
+        assertEquals(List.of(ReplayAction.HARD_DROP, ReplayAction.END), actions(replay, deltas),
+                "Input the game ignores or receives while paused must not be recorded");
+        assertEquals(30L, deltas.get(0), "Paused time should be left out");
+    }
+
+    @Test
+    void testCreateNewGameStopsRecording() {
+        RecordingListener delegate = new RecordingListener();
+        ReplayRecorder recorder = new ReplayRecorder(delegate, () -> true, () -> 0L);
+        recorder.begin(1, GameMode.CLASSIC);
+
+        recorder.createNewGame();
+
+        assertEquals(List.of("NEW"), delegate.calls);
+        assertFalse(recorder.isRecording());
+        assertNull(recorder.finish());
+    }
+
+    @Test
+    void testBytesRoundTrip() {
+        long[] now = {0};
+        ReplayRecorder recorder = new ReplayRecorder(new RecordingListener(), () -> true, () -> now[0]);
+        recorder.begin(-123456789L, GameMode.TIME_ATTACK);
+        for (int i = 0; i < 100; i++) {
+            now[0] += i * 37 * MILLIS;
+            recorder.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+        }
+        Replay replay = recorder.finish();
+
+        Replay decoded = Replay.fromBytes(replay.toBytes());
+
+        assertEquals(replay.getSeed(), decoded.getSeed());
+        assertEquals(GameMode.TIME_ATTACK, decoded.getGameMode());
+        assertEquals(replay.getEventCount(), decoded.getEventCount());
+        List<Long> expected = new ArrayList<>();
+        List<Long> actual = new ArrayList<>();
+        assertEquals(actions(replay, expected), actions(decoded, actual));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testRejectsInvalidData() {
+        assertThrows(IllegalArgumentException.class, () -> Replay.fromBytes(new byte[]{'X', 'R', 'P', 1}));
+        assertThrows(IllegalArgumentException.class, () -> Replay.fromBytes(new byte[]{'T', 'R', 'P', 9}));
+
+        ReplayRecorder recorder = new ReplayRecorder(new RecordingListener(), () -> true, () -> 0L);
+        recorder.begin(5, GameMode.CLASSIC);
+        byte[] bytes = recorder.finish().toBytes();
+        assertThrows(IllegalArgumentException.class,
+                () -> Replay.fromBytes(java.util.Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    void testPlayerReproducesRecordedGame() {
+        for (GameMode mode : GameMode.values()) {
+            long seed = 4242L + mode.ordinal();
+            HeadlessGame original = new HeadlessGame(
+                    new GameBoard(HeadlessGame.BOARD_ROWS, HeadlessGame.BOARD_COLUMNS, new GameSeed(seed)),
+                    mode, new TickClock(Replay.TICKS_PER_SECOND));
+            original.setAutoGravity(false);
+            original.start();
+
+            long[] now = {0};
+            ReplayRecorder recorder = new ReplayRecorder(new HeadlessListener(original), () -> !original.isFinished(), () -> now[0]);
+            recorder.begin(seed, mode);
+            Random random = new Random(seed);
+            while (!original.isFinished()) {
+                now[0] += (5 + random.nextInt(200)) * MILLIS;
+                original.advance(now[0] / (10 * MILLIS) - original.getClock().getTick());
+                if (original.isFinished()) {
+                    break;
+                }
+                switch (random.nextInt(8)) {
+                    case 0 -> recorder.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                    case 1 -> recorder.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                    case 2 -> recorder.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+                    case 3 -> recorder.onHoldEvent();
+                    case 4 -> recorder.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+                    case 5 -> recorder.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+                    default -> recorder.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+                }
+            }
+            Replay replay = Replay.fromBytes(recorder.finish().toBytes());
+
+            HeadlessGame replayed = ReplayPlayer.play(replay);
+
+            assertEquals(original.getScore().getValue(), replayed.getScore().getValue(), mode + " score");
+            assertEquals(original.getPiecesPlaced(), replayed.getPiecesPlaced(), mode + " pieces");
+            assertEquals(original.isWon(), replayed.isWon(), mode + " result");
+            assertArrayEquals(original.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix(), mode + " board");
+            assertTrue(ReplayPlayer.verifyScore(replay, original.getScore().getValue()));
+            assertFalse(ReplayPlayer.verifyScore(replay, original.getScore().getValue() + 1));
+        }
+    }
+
+    @Test
+    void testTenMinuteGameStaysSmall() {
+        long[] now = {0};
+        ReplayRecorder recorder = new ReplayRecorder(new RecordingListener(), () -> true, () -> now[0]);
+        recorder.begin(9, GameMode.CLASSIC);
+        Random random = new Random(9);
+        long tenMinutes = 10 * 60 * 1000 * MILLIS;
+        long nextGravity = 400 * MILLIS;
+        while (now[0] < tenMinutes) {
+            long nextInput = now[0] + (150 + random.nextInt(250)) * MILLIS;
+            if (nextGravity < nextInput) {
+                now[0] = nextGravity;
+                nextGravity += 400 * MILLIS;
+                recorder.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            } else {
+                now[0] = nextInput;
+                recorder.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            }
+        }
+        byte[] bytes = recorder.finish().toBytes();
+
+        assertTrue(bytes.length < 8 * 1024, "Ten minutes of play should take a few KB, was " + bytes.length);
+    }
+}
@@ -0,0 +1,121 @@
+package com.comp2042.logic.score;
+
+import com.comp2042.model.GameMode;
+import com.comp2042.model.HighScoreEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HighScoreLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testScoresSurviveReload() {
+        Path file = dir.resolve("scores.dat");
+        HighScoreManager manager = new HighScoreManager(file);
+        manager.addScore(GameMode.CLASSIC, "ALICE", 300);
+        manager.addScore(GameMode.PUZZLE, "BOB", 200);
+        manager.addScore(GameMode.CLASSIC, "alice", 500);
+        manager.flush().join();
+
+        HighScoreManager reloaded = new HighScoreManager(file);
+        List<HighScoreEntry> classic = reloaded.getTopScores(GameMode.CLASSIC);
+        assertEquals(1, classic.size());
+        assertEquals(500, classic.get(0).getScore());
+        assertEquals(200, reloaded.getHighestScoreValue(GameMode.PUZZLE));
+    }
+
+    @Test
+    void testLoadSeesUnflushedScoresOfSameFile() {
+        Path file = dir.resolve("scores.dat");
+        new HighScoreManager(file).addScore(GameMode.CLASSIC, "ALICE", 300);
+
+        assertEquals(300, new HighScoreManager(file).getHighestScoreValue(GameMode.CLASSIC));
+    }
+
+    @Test
+    void testResetIsPersisted() {
+        Path file = dir.resolve("scores.dat");
+        HighScoreManager manager = new HighScoreManager(file);
+        manager.addScore(GameMode.CLASSIC, "ALICE", 300);
+        manager.addScore(GameMode.PUZZLE, "BOB", 200);
+        manager.resetHighScore(GameMode.CLASSIC);
+        manager.addScore(GameMode.CLASSIC, "CAROL", 100);
+        manager.flush().join();
+
+        HighScoreManager reloaded = new HighScoreManager(file);
+        assertEquals(100, reloaded.getHighestScoreValue(GameMode.CLASSIC));
+        assertEquals(1, reloaded.getTopScores(GameMode.CLASSIC).size());
+        assertEquals(200, reloaded.getHighestScoreValue(GameMode.PUZZLE));
+
+        reloaded.resetAllHighScores();
+        reloaded.flush().join();
+        assertTrue(new HighScoreManager(file).getTopScores(GameMode.PUZZLE).isEmpty());
+    }
+
+    @Test
+    void testUnchangedScoresAreNotLogged() throws IOException {
+        Path file = dir.resolve("scores.dat");
+        HighScoreManager manager = new HighScoreManager(file);
+        manager.addScore(GameMode.CLASSIC, "ALICE", 300);
+        manager.addScore(GameMode.CLASSIC, "ALICE", 100);
+        manager.flush().join();
+
+        assertEquals(List.of("CLASSIC:ALICE:300"), Files.readAllLines(file));
+    }
+
+    @Test
+    void testCompactionKeepsOnlyLiveEntries() throws IOException {
+        Path file = dir.resolve("scores.dat");
+        HighScoreManager manager = new HighScoreManager(file);
+        for (int i = 1; i <= HighScoreLog.COMPACT_THRESHOLD; i++) {
+            manager.addScore(GameMode.CLASSIC, "P" + (i % 20), i);
+        }
+        manager.flush().join();
+
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.size() < HighScoreLog.COMPACT_THRESHOLD, "log was not compacted: " + lines.size());
+        List<HighScoreEntry> reloaded = new HighScoreManager(file).getTopScores(GameMode.CLASSIC);
+        assertEquals(manager.getTopScores(GameMode.CLASSIC).size(), reloaded.size());
+        for (int i = 0; i < reloaded.size(); i++) {
+            assertEquals(manager.getTopScores(GameMode.CLASSIC).get(i).getScore(), reloaded.get(i).getScore());
+        }
+        assertFalse(Files.exists(dir.resolve("scores.dat.tmp")));
+    }
+
+    @Test
+    void testLoadsSnapshotFileAndSkipsBadLines() throws IOException {
+        Path file = dir.resolve("scores.dat");
+        Files.write(file, List.of("CLASSIC:ALICE:300", "CLASSIC:BOB:500", "NOT_A_MODE:X:1", "", "PUZZLE:CAROL:oops"));
+
+        HighScoreManager manager = new HighScoreManager(file);
+        List<HighScoreEntry> classic = manager.getTopScores(GameMode.CLASSIC);
+        assertEquals(2, classic.size());
+        assertEquals("BOB", classic.get(0).getName());
+        assertTrue(manager.getTopScores(GameMode.PUZZLE).isEmpty());
+    }
+
+    @Test
+    void testTopScoresKeepBestPerMode() {
+        TopScores scores = new TopScores(3);
+        for (int i = 1; i <= 10; i++) {
+            scores.add(GameMode.CLASSIC, "P" + i, i * 10);
+        }
+        scores.add(GameMode.CLASSIC, "P9", 5);
+        scores.add(GameMode.CLASSIC, "P8", 200);
+
+        List<HighScoreEntry> top = scores.get(GameMode.CLASSIC);
+        assertEquals(3, top.size());
+        assertEquals(List.of(200, 100, 90), top.stream().map(HighScoreEntry::getScore).toList());
+        assertFalse(scores.add(GameMode.CLASSIC, "NEW", 90));
+        assertTrue(scores.add(GameMode.CLASSIC, "NEW", 95));
+    }
+}
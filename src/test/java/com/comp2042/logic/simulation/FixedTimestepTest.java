@@ -0,0 +1,66 @@
+package com.comp2042.logic.simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedTimestepTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testFirstFrameOnlyRecordsTime() {
+        FixedTimestep timestep = new FixedTimestep(100);
+        assertEquals(0, timestep.advanceTo(5_000 * MS));
+        assertEquals(1, timestep.advanceTo(5_010 * MS));
+    }
+
+    @Test
+    void testLeftoverTimeCarriesOver() {
+        FixedTimestep timestep = new FixedTimestep(100);
+        timestep.advanceTo(0);
+
+        assertEquals(0, timestep.advanceTo(6 * MS));
+        assertEquals(1, timestep.advanceTo(12 * MS));
+        assertEquals(1, timestep.advanceTo(24 * MS));
+        assertEquals(2, timestep.advanceTo(40 * MS));
+        assertEquals(4, timestep.getSteps());
+        assertEquals(40, timestep.getElapsedMillis());
+    }
+
+    @Test
+    void testLongStallIsCapped() {
+        FixedTimestep timestep = new FixedTimestep(100);
+        timestep.advanceTo(0);
+        assertEquals(FixedTimestep.MAX_STEPS_PER_FRAME, timestep.advanceTo(2_000 * MS));
+        assertEquals(1, timestep.advanceTo(2_010 * MS), "Dropped time should not be replayed later");
+    }
+
+    @Test
+    void testPausedTimeIsNotCounted() {
+        FixedTimestep timestep = new FixedTimestep(100);
+        timestep.advanceTo(0);
+        timestep.advanceTo(30 * MS);
+
+        timestep.pause();
+        assertEquals(0, timestep.advanceTo(500 * MS));
+        timestep.resume();
+        assertEquals(0, timestep.advanceTo(10_000 * MS));
+        assertEquals(1, timestep.advanceTo(10_010 * MS));
+        assertEquals(40, timestep.getElapsedMillis());
+    }
+
+    @Test
+    void testResetClearsElapsedTime() {
+        FixedTimestep timestep = new FixedTimestep(100);
+        timestep.advanceTo(0);
+        timestep.advanceTo(30 * MS);
+        timestep.reset();
+        assertEquals(0, timestep.getSteps());
+        assertEquals(0, timestep.advanceTo(100 * MS));
+    }
+
+    @Test
+    void testInvalidRateRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0));
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.logic.score.LevelProgression;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GravityAccumulatorTest {
+
+    @Test
+    void testFractionalGravityFallsSmoothly() {
+        GravityAccumulator gravity = new GravityAccumulator();
+        gravity.setCellsPerStep(0.25);
+
+        int[] falls = new int[8];
+        for (int i = 0; i < falls.length; i++) {
+            falls[i] = gravity.step();
+        }
+        assertArrayEquals(new int[]{0, 0, 0, 1, 0, 0, 0, 1}, falls);
+    }
+
+    @Test
+    void testGravityAboveOneDropsSeveralCellsPerStep() {
+        GravityAccumulator gravity = new GravityAccumulator();
+        gravity.setCellsPerStep(2.5);
+        assertEquals(2, gravity.step());
+        assertEquals(3, gravity.step());
+    }
+
+    @Test
+    void testGravityClampedToTwentyG() {
+        GravityAccumulator gravity = new GravityAccumulator();
+        gravity.setCellsPerStep(100);
+        assertEquals(LevelProgression.MAX_GRAVITY, gravity.getCellsPerStep());
+        assertEquals(20, gravity.step());
+    }
+
+    @Test
+    void testGravityResetDropsFraction() {
+        GravityAccumulator gravity = new GravityAccumulator();
+        gravity.setCellsPerStep(0.75);
+        gravity.step();
+        gravity.reset();
+        assertEquals(0, gravity.step());
+    }
+
+    @Test
+    void testLevelGravityMatchesDropInterval() {
+        double cellsPerStep = LevelProgression.gravityCellsPerStep(1, 60);
+        assertEquals((1000.0 / 60) / LevelProgression.dropIntervalMillis(1), cellsPerStep, 1e-12);
+        assertTrue(LevelProgression.gravityCellsPerStep(100, 60) <= LevelProgression.MAX_GRAVITY);
+    }
+}
@@ -0,0 +1,123 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessGameTest {
+
+    private HeadlessGame newGame(GameMode mode) {
+        HeadlessGame game = new HeadlessGame(new GameBoard(25, 10, new GameSeed(7)), mode, new TickClock(60));
+        game.start();
+        return game;
+    }
+
+    @Test
+    void testGravityDropsBrickAfterInterval() {
+        HeadlessGame game = newGame(GameMode.CLASSIC);
+        int startY = game.getBoard().getViewData().getyPosition();
+
+        for (int i = 0; i < 23; i++) {
+            game.tick();
+        }
+        assertEquals(startY, game.getBoard().getViewData().getyPosition(), "Level 1 gravity needs 400 ms");
+
+        game.tick();
+        assertEquals(startY + 1, game.getBoard().getViewData().getyPosition(), "Brick should fall after 400 ms");
+    }
+
+    @Test
+    void testHardDropLocksAndScores() {
+        HeadlessGame game = newGame(GameMode.CLASSIC);
+
+        game.step(EventType.HARD_DROP);
+
+        assertEquals(1, game.getPiecesPlaced(), "Hard drop should lock the brick");
+        assertTrue(game.getScore().getValue() > 0, "Hard drop should award 2 points per cell");
+        assertFalse(game.isFinished());
+    }
+
+    @Test
+    void testSoftDropScoresOnePoint() {
+        HeadlessGame game = newGame(GameMode.CLASSIC);
+
+        assertTrue(game.apply(EventType.DOWN));
+
+        assertEquals(1, game.getScore().getValue());
+    }
+
+    @Test
+    void testRepeatedHardDropsEndTheGame() {
+        HeadlessGame game = newGame(GameMode.CLASSIC);
+
+        while (!game.isFinished() && game.getPiecesPlaced() < 500) {
+            game.step(EventType.HARD_DROP);
+        }
+
+        assertTrue(game.isGameOver(), "Stacking in the middle should top out");
+        assertFalse(game.isWon());
+        assertFalse(game.apply(EventType.LEFT), "Finished games should ignore actions");
+    }
+
+    @Test
+    void testGravityAloneEndsTheGame() {
+        HeadlessGame game = newGame(GameMode.CLASSIC);
+
+        long ticks = 0;
+        while (!game.isFinished() && ticks < 1_000_000) {
+            game.tick();
+            ticks++;
+        }
+
+        assertTrue(game.isGameOver());
+        assertEquals(ticks, game.getClock().getTick());
+    }
+
+    @Test
+    void testTimeAttackTimesOut() {
+        HeadlessGame game = newGame(GameMode.TIME_ATTACK);
+        long limit = game.getTimeLimitMillis();
+
+        assertTrue(limit >= 30_000 && limit <= 120_000, "Time limit should be 30-120 seconds");
+        assertTrue(game.getTargetScore() >= 100);
+
+        while (!game.isFinished()) {
+            game.tick();
+        }
+        assertTrue(game.isGameOver(), "Idle Time Attack game should run out of time or top out");
+        assertTrue(game.getClock().getElapsedMillis() <= limit);
+    }
+
+    @Test
+    void testPuzzleModeStartsWithGarbage() {
+        HeadlessGame game = newGame(GameMode.PUZZLE);
+        int[][] matrix = game.getBoard().getBoardMatrix();
+
+        int filled = 0;
+        for (int cell : matrix[matrix.length - 1]) {
+            if (cell != 0) {
+                filled++;
+            }
+        }
+        assertEquals(matrix[0].length - 1, filled, "Bottom row should be garbage with one hole");
+    }
+
+    @Test
+    void testSameSeedReplaysSameGame() {
+        EventType[] script = {EventType.LEFT, EventType.ROTATE, null, EventType.RIGHT, EventType.RIGHT, EventType.HARD_DROP};
+        long[] results = new long[2];
+        for (int run = 0; run < 2; run++) {
+            HeadlessGame game = new HeadlessGame(GameMode.TIME_ATTACK, new GameSeed(2024));
+            game.start();
+            int step = 0;
+            while (!game.isFinished()) {
+                game.step(script[step++ % script.length]);
+            }
+            results[run] = game.getScore().getValue() * 1_000_000L + game.getPiecesPlaced() * 1000L + game.getTargetScore() / 100;
+        }
+        assertEquals(results[0], results[1], "The same seed and inputs should produce the same game");
+    }
+}
@@ -0,0 +1,106 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.model.GameBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogicThreadTest {
+
+    private static final long MS = 1_000_000L;
+
+    private LogicThread newLogic(long seed) {
+        return new LogicThread(new HeadlessGame(new GameBoard(25, 10, new GameSeed(seed)), GameMode.CLASSIC));
+    }
+
+    @Test
+    void testFirstSnapshotPublishedOnReset() {
+        LogicThread logic = newLogic(3);
+        assertNull(logic.getSnapshot());
+
+        logic.resetGame();
+        GameSnapshot snapshot = logic.getSnapshot();
+        assertNotNull(snapshot);
+        assertEquals(1, snapshot.getSequence());
+        assertEquals(0, snapshot.getScore());
+        assertFalse(snapshot.isFinished());
+        assertNotEquals(ViewData.UNKNOWN_ROW, snapshot.getBrick().getGhostY(), "Snapshots should carry the landing row");
+    }
+
+    @Test
+    void testQueuedInputAppliedAndPublished() {
+        LogicThread logic = newLogic(3);
+        logic.resetGame();
+        int startX = logic.getSnapshot().getBrick().getxPosition();
+
+        logic.submit(EventType.LEFT);
+        logic.submit(EventType.LEFT);
+        logic.runOnce(0);
+
+        GameSnapshot snapshot = logic.getSnapshot();
+        assertEquals(2, snapshot.getSequence(), "Both moves should be published in one snapshot");
+        assertEquals(startX - 2, snapshot.getBrick().getxPosition());
+    }
+
+    @Test
+    void testNothingPublishedWithoutChange() {
+        LogicThread logic = newLogic(3);
+        logic.resetGame();
+        logic.runOnce(0);
+        logic.runOnce(10 * MS);
+        assertEquals(1, logic.getSnapshot().getSequence(), "A step without a visible change should not publish");
+    }
+
+    @Test
+    void testGravityFollowsElapsedTime() {
+        LogicThread logic = newLogic(3);
+        logic.resetGame();
+        int startY = logic.getSnapshot().getBrick().getyPosition();
+
+        logic.runOnce(0);
+        for (int frame = 1; frame <= 30; frame++) {
+            logic.runOnce(frame * 16_700_000L);
+        }
+        assertTrue(logic.getSnapshot().getBrick().getyPosition() > startY, "Level 1 gravity should drop the brick within 500 ms");
+    }
+
+    @Test
+    void testBoardMatrixSharedUntilBrickLocks() {
+        LogicThread logic = newLogic(3);
+        logic.resetGame();
+        int[][] matrix = logic.getSnapshot().getBoardMatrix();
+
+        logic.submit(EventType.RIGHT);
+        logic.runOnce(0);
+        assertSame(matrix, logic.getSnapshot().getBoardMatrix());
+
+        logic.submit(EventType.HARD_DROP);
+        logic.runOnce(MS);
+        GameSnapshot locked = logic.getSnapshot();
+        assertNotSame(matrix, locked.getBoardMatrix(), "A locked brick should publish a new board");
+        assertTrue(locked.getScore() > 0);
+    }
+
+    @Test
+    void testThreadRunsGameUntilStopped() throws InterruptedException {
+        LogicThread logic = newLogic(11);
+        logic.start();
+        try {
+            assertThrows(IllegalStateException.class, logic::start);
+            logic.submit(EventType.HARD_DROP);
+
+            long deadline = System.nanoTime() + 2_000 * MS;
+            while (logic.getSnapshot().getScore() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(logic.getSnapshot().getScore() > 0, "The logic thread should apply queued input");
+        } finally {
+            logic.stop();
+            logic.join(1_000);
+        }
+        assertFalse(logic.isRunning());
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.logic.simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RunningStatsTest {
+
+    @Test
+    void testEmptyStats() {
+        RunningStats stats = new RunningStats();
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getMean());
+        assertEquals(0, stats.getVariance());
+        assertTrue(Double.isNaN(stats.getMin()));
+        assertTrue(Double.isNaN(stats.getMax()));
+    }
+
+    @Test
+    void testMeanAndVariance() {
+        RunningStats stats = new RunningStats();
+        for (double value : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) {
+            stats.add(value);
+        }
+        assertEquals(8, stats.getCount());
+        assertEquals(5.0, stats.getMean(), 1e-12);
+        assertEquals(32.0 / 7, stats.getVariance(), 1e-12);
+        assertEquals(2, stats.getMin());
+        assertEquals(9, stats.getMax());
+    }
+
+    @Test
+    void testMergeMatchesSequentialAdds() {
+        RunningStats all = new RunningStats();
+        RunningStats left = new RunningStats();
+        RunningStats right = new RunningStats();
+        java.util.Random random = new java.util.Random(4);
+        for (int i = 0; i < 1000; i++) {
+            double value = random.nextGaussian() * 50 + 1000;
+            all.add(value);
+            (i < 300 ? left : right).add(value);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getMean(), left.getMean(), 1e-9);
+        assertEquals(all.getVariance(), left.getVariance(), 1e-6);
+        assertEquals(all.getMin(), left.getMin());
+        assertEquals(all.getMax(), left.getMax());
+    }
+
+    @Test
+    void testMergeWithEmpty() {
+        RunningStats stats = new RunningStats();
+        stats.add(3);
+        stats.merge(new RunningStats());
+        assertEquals(1, stats.getCount());
+
+        RunningStats empty = new RunningStats();
+        empty.merge(stats);
+        assertEquals(3, empty.getMean());
+        assertEquals(3, empty.getMin());
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.logic.mode.TimeAttackTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeAttackCalibratorTest {
+
+    /** Drops every brick where it spawns, so games top out quickly. */
+    private static final GamePlayer DROPPER = game -> game.apply(EventType.HARD_DROP) || game.apply(EventType.DOWN);
+
+    private static final int[] SECONDS = {5, 10, 60};
+    private static final int[] PERCENTILES = {10, 50, 90};
+
+    @Test
+    void testTableGrowsWithTimeLimitAndPercentile() {
+        TimeAttackCalibrator calibrator = new TimeAttackCalibrator(() -> DROPPER, 2, ForkJoinPool.commonPool());
+
+        TimeAttackTable table = calibrator.calibrate(7, 12, SECONDS, PERCENTILES);
+
+        assertTrue(table.scoreAt(5, 50) > 0);
+        for (int percentile : PERCENTILES) {
+            assertTrue(table.scoreAt(10, percentile) >= table.scoreAt(5, percentile));
+            assertTrue(table.scoreAt(60, percentile) >= table.scoreAt(10, percentile));
+        }
+        assertTrue(table.scoreAt(10, 90) >= table.scoreAt(10, 10));
+    }
+
+    @Test
+    void testCalibrationIsDeterministic() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            TimeAttackTable serial = new TimeAttackCalibrator(() -> DROPPER, 2, single)
+                    .calibrate(3, 10, SECONDS, PERCENTILES);
+            TimeAttackTable parallel = new TimeAttackCalibrator(() -> DROPPER, 2, ForkJoinPool.commonPool())
+                    .calibrate(3, 10, SECONDS, PERCENTILES);
+
+            for (int seconds : SECONDS) {
+                for (int percentile : PERCENTILES) {
+                    assertEquals(serial.scoreAt(seconds, percentile), parallel.scoreAt(seconds, percentile));
+                }
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void testNearestRank() {
+        int[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertEquals(1, TimeAttackCalibrator.nearestRank(sorted, 0));
+        assertEquals(1, TimeAttackCalibrator.nearestRank(sorted, 10));
+        assertEquals(5, TimeAttackCalibrator.nearestRank(sorted, 50));
+        assertEquals(10, TimeAttackCalibrator.nearestRank(sorted, 100));
+    }
+
+    @Test
+    void testRejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeAttackCalibrator(() -> DROPPER, 0, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.logic.simulation;
+
+import com.comp2042.controller.EventType;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentRunnerTest {
+
+    /** Drops every brick where it spawns, so games top out quickly. */
+    private static final GamePlayer DROPPER = game -> game.apply(EventType.HARD_DROP) || game.apply(EventType.DOWN);
+
+    @Test
+    void testRunsEveryGameAndStreamsResults() {
+        TournamentRunner runner = new TournamentRunner(GameMode.CLASSIC, () -> DROPPER);
+        AtomicInteger streamed = new AtomicInteger();
+
+        TournamentStats stats = runner.run(99, 40, result -> streamed.incrementAndGet());
+
+        assertEquals(40, stats.getGames());
+        assertEquals(40, streamed.get());
+        assertEquals(40, stats.getLosses(), "Dropping in the middle always tops out");
+        assertTrue(stats.getPieces().getMin() > 0);
+        assertTrue(stats.getScore().getMean() > 0);
+    }
+
+    @Test
+    void testResultsDoNotDependOnParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            TournamentStats serial = new TournamentRunner(GameMode.CLASSIC, TournamentRunner::standardBoard,
+                    () -> DROPPER, TournamentRunner.DEFAULT_MAX_PIECES, single).run(5, 33);
+            TournamentStats parallel = new TournamentRunner(GameMode.CLASSIC, () -> DROPPER).run(5, 33);
+
+            assertEquals(serial.getGames(), parallel.getGames());
+            assertEquals(serial.getScore().getMean(), parallel.getScore().getMean());
+            assertEquals(serial.getScore().getVariance(), parallel.getScore().getVariance());
+            assertEquals(serial.getPieces().getMax(), parallel.getPieces().getMax());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void testGamesStopAtPieceLimit() {
+        TournamentRunner runner = new TournamentRunner(GameMode.CLASSIC, TournamentRunner::standardBoard,
+                () -> DROPPER, 3, ForkJoinPool.commonPool());
+
+        TournamentStats stats = runner.run(1, 8);
+
+        assertEquals(3, stats.getPieces().getMax());
+        assertEquals(0, stats.getLosses());
+    }
+
+    @Test
+    void testPlayGameMatchesSeed() {
+        TournamentRunner runner = new TournamentRunner(GameMode.CLASSIC, () -> DROPPER);
+        GameResult first = runner.playGame(12, DROPPER);
+        GameResult second = runner.playGame(12, DROPPER);
+
+        assertEquals(12, first.getSeed());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getPieces(), second.getPieces());
+        assertTrue(first.isGameOver());
+    }
+
+    @Test
+    void testInvalidPieceLimitRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TournamentRunner(GameMode.CLASSIC,
+                TournamentRunner::standardBoard, () -> DROPPER, 0, ForkJoinPool.commonPool()));
+    }
+}
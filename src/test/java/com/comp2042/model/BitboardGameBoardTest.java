@@ -0,0 +1,205 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.random.GameSeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashSet;
+import java.util.Set;
+
+public class BitboardGameBoardTest extends BoardContractTest {
+
+    private BitboardGameBoard board;
+
+    @Override
+    protected Board createBoard(int width, int height, GameSeed seed) {
+        return new BitboardGameBoard(width, height, seed);
+    }
+
+    @BeforeEach
+    void setUp() {
+        board = new BitboardGameBoard(10, 20);
+    }
+
+    @Test
+    void testNewGameInitializesEmptyBoard() {
+        board.newGame();
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(10, matrix.length, "Matrix should keep the GameBoard row convention");
+        assertEquals(20, matrix[0].length, "Matrix should keep the GameBoard column convention");
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                assertEquals(0, cell, "Board should be empty at the start of a new game");
+            }
+        }
+    }
+
+    @Test
+    void testMoveBrickDownReturnsTrueWhenPossible() {
+        board.createNewBrick();
+        assertTrue(board.moveBrickDown(), "Brick should be able to move down initially");
+    }
+
+    @Test
+    void testMoveBrickLeftAndRight() {
+        board.createNewBrick();
+        assertTrue(board.moveBrickLeft(), "Should move left when possible");
+        assertTrue(board.moveBrickRight(), "Should move right when possible");
+    }
+
+    @Test
+    void testRotateBrickReturnsTrue() {
+        board.createNewBrick();
+        assertTrue(board.rotateLeftBrick(), "Rotation should be allowed for most starting positions");
+    }
+
+    @Test
+    void testCollisionBlocksInvalidPlacement() {
+        board.createNewBrick();
+        while (board.moveBrickLeft()) {
+        }
+        assertFalse(board.moveBrickLeft(), "Brick should not move outside the left boundary");
+
+        while (board.moveBrickRight()) {
+        }
+        assertFalse(board.moveBrickRight(), "Brick should not move outside the right boundary");
+    }
+
+    @Test
+    void testMergeBrickToBackgroundKeepsColors() {
+        board.createNewBrick();
+        int[][] shape = board.getCurrentShape();
+        board.hardDrop();
+        int x = board.getCurrentOffsetForTest().x;
+        int y = board.getCurrentOffsetForTest().y;
+        board.mergeBrickToBackground();
+
+        int[][] matrix = board.getBoardMatrix();
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0) {
+                    assertEquals(shape[i][j], matrix[y + i][x + j], "Merged cell should keep the brick color");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGhostYMatchesStepwiseDrop() {
+        board.createNewBrick();
+        int x = board.getCurrentOffsetForTest().x;
+        int y = board.getCurrentOffsetForTest().y;
+        int ghostY = board.getGhostY(x, y);
+
+        while (board.moveBrickDown()) {
+        }
+
+        assertEquals(board.getCurrentOffsetForTest().y, ghostY, "Ghost should land where stepwise drops stop");
+    }
+
+    @Test
+    void testHardDropReturnsDistance() {
+        board.createNewBrick();
+        int startY = board.getCurrentOffsetForTest().y;
+        int distance = board.hardDrop();
+        assertEquals(startY + distance, board.getCurrentOffsetForTest().y, "Hard drop should move by its distance");
+        assertFalse(board.moveBrickDown(), "Brick should rest after a hard drop");
+        assertEquals(0, board.hardDrop(), "Second hard drop should not move the brick");
+    }
+
+    @Test
+    void testStackingEventuallyEndsGame() {
+        board.newGame();
+        boolean spawned = true;
+        int pieces = 0;
+        while (spawned && pieces < 100) {
+            board.mergeBrickToBackground();
+            spawned = board.createNewBrick();
+            pieces++;
+        }
+        assertFalse(spawned, "Stacking bricks at the spawn point should block spawning");
+    }
+
+    @Test
+    void testClearFullRowCompactsBoard() {
+        board.newGame();
+        board.setupPuzzleMode();
+        assertTrue(board.getRowsToClear().isEmpty(), "Garbage rows always have one hole");
+
+        int[][] matrix = board.getBoardMatrix();
+        int bottom = matrix.length - 1;
+        for (int col = 0; col < matrix[bottom].length; col++) {
+            matrix[bottom][col] = 3;
+        }
+        board.commitClear(new ClearRow(0, matrix, new java.util.ArrayList<>()));
+
+        assertEquals(1, board.getRowsToClear().size(), "Filled bottom row should be detected");
+        ClearRow result = board.checkClears();
+        assertEquals(1, result.getLinesRemoved(), "Exactly one full row should be cleared");
+        assertEquals(bottom, result.getClearedIndices().get(0).intValue());
+
+        board.commitClear(result);
+        int[][] after = board.getBoardMatrix();
+        assertArrayEquals(matrix[bottom - 1], after[bottom], "Rows above should shift down");
+        assertTrue(board.getRowsToClear().isEmpty(), "No full rows should remain");
+    }
+
+    @Test
+    void testPuzzleModeInitialization() {
+        board.newGame();
+        board.setupPuzzleMode();
+
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            int filled = 0;
+            for (int cell : matrix[row]) {
+                if (cell != 0) {
+                    filled++;
+                }
+            }
+            if (row < matrix.length - 10) {
+                assertEquals(0, filled, "Top rows should be empty (above garbage)");
+            } else {
+                assertEquals(matrix[row].length - 1, filled, "Garbage rows should have exactly one hole");
+            }
+        }
+    }
+
+    @Test
+    void testSevenBagRandomizer() {
+        board.newGame();
+        Set<Class<?>> typesSeen = new HashSet<>();
+        typesSeen.add(board.getCurrentBrickForTest().getClass());
+        for (int i = 0; i < 6; i++) {
+            board.createNewBrick();
+            typesSeen.add(board.getCurrentBrickForTest().getClass());
+        }
+        assertEquals(7, typesSeen.size(), "All 7 brick types should appear in the first 7 bricks");
+    }
+
+    @Test
+    void testHoldSwapsPieceOncePerTurn() {
+        board.newGame();
+        Brick originalBrick = board.getCurrentBrickForTest();
+
+        board.holdBrick();
+        assertSame(originalBrick, board.getHeldBrickForTest(), "Held brick should be the original brick");
+        assertFalse(board.canHoldForTest(), "canHold should be false after first hold");
+
+        Brick secondBrick = board.getCurrentBrickForTest();
+        board.holdBrick();
+        assertSame(secondBrick, board.getCurrentBrickForTest(), "Second hold in the same turn should be ignored");
+
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        board.createNewBrick();
+        assertTrue(board.canHoldForTest(), "canHold should reset after new piece spawns");
+    }
+
+    @Test
+    void testRejectsBoardsWiderThanBitmask() {
+        assertThrows(IllegalArgumentException.class, () -> new BitboardGameBoard(20, 57));
+    }
+}
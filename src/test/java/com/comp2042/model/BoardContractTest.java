@@ -0,0 +1,73 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.board.ZobristKeys;
+import com.comp2042.logic.random.GameSeed;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+/**
+ * Checks every {@link Board} implementation must pass, run once per implementation by its subclass.
+ */
+public abstract class BoardContractTest {
+
+    /**
+     * Creates the board under test.
+     * @param width First board dimension, as passed to the board's constructor
+     * @param height Second board dimension, as passed to the board's constructor
+     * @param seed The game seed
+     * @return A new board
+     */
+    protected abstract Board createBoard(int width, int height, GameSeed seed);
+
+    @Test
+    void testPuzzleFromSeedMatchesFreshBoard() {
+        Board fresh = createBoard(10, 20, new GameSeed(77));
+        fresh.newGame();
+        fresh.setupPuzzleMode();
+
+        Board board = createBoard(10, 20, new GameSeed(1));
+        board.newGame();
+        board.setupPuzzleMode(new GameSeed(77));
+
+        assertEquals(77, board.getSeed().getSeed());
+        assertArrayEquals(fresh.getBoardMatrix(), board.getBoardMatrix());
+        assertEquals(fresh.getZobristHash(), board.getZobristHash());
+        assertEquals(fresh.getViewData().getBrickType(), board.getViewData().getBrickType());
+        assertEquals(fresh.getViewData().getNextType(0), board.getViewData().getNextType(0));
+    }
+
+    @Test
+    void testZobristHashTracksMergesClearsAndGarbage() {
+        Board game = createBoard(25, 10, new GameSeed(5));
+        ZobristKeys keys = ZobristKeys.of(25, 10);
+        game.newGame();
+        assertEquals(0L, game.getZobristHash(), "An empty board should hash to zero");
+
+        game.setupPuzzleMode();
+        assertEquals(keys.hash(game.getBoardMatrix()), game.getZobristHash(), "Garbage should be hashed");
+
+        Random random = new Random(3);
+        for (int piece = 0; piece < 80; piece++) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    game.moveBrickLeft();
+                } else {
+                    game.moveBrickRight();
+                }
+            }
+            game.hardDrop();
+            game.mergeBrickToBackground();
+            ClearRow clearRow = game.checkClears();
+            if (clearRow.getLinesRemoved() > 0) {
+                game.commitClear(clearRow);
+            }
+            assertEquals(keys.hash(game.getBoardMatrix()), game.getZobristHash(), "Hash should match a full rehash");
+            if (!game.createNewBrick()) {
+                game.setupPuzzleMode();
+            }
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.comp2042.model;
 
+import com.comp2042.logic.board.ClearRow;
+import com.comp2042.logic.board.MatrixOperations;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.random.GameSeed;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.awt.Point;
 import java.util.HashSet;
 import java.util.Set;
 
-public class GameBoardTest {
+public class GameBoardTest extends BoardContractTest {
 
     private GameBoard board;
 
+    @Override
+    protected Board createBoard(int width, int height, GameSeed seed) {
+        return new GameBoard(width, height, seed);
+    }
+
     @BeforeEach
     void setUp() {
         board = new GameBoard(10, 20);
@@ -315,4 +324,41 @@ public class GameBoardTest {
         assertTrue(topRowsEmpty, "Top rows should be empty (above garbage)");
     }
 
+
+    @Test
+    void testGhostYMatchesStepwiseDropDuringPlay() {
+        GameBoard game = new GameBoard(25, 10);
+        game.newGame();
+        game.setupPuzzleMode();
+        java.util.Random random = new java.util.Random(11);
+
+        for (int piece = 0; piece < 60; piece++) {
+            int moves = random.nextInt(6);
+            for (int i = 0; i < moves; i++) {
+                switch (random.nextInt(3)) {
+                    case 0 -> game.moveBrickLeft();
+                    case 1 -> game.moveBrickRight();
+                    default -> game.rotateLeftBrick();
+                }
+            }
+            Point offset = game.getCurrentOffsetForTest();
+            int[][] matrix = game.getBoardMatrix();
+            int[][] shape = game.getCurrentShape();
+            int expected = offset.y;
+            while (!MatrixOperations.intersect(matrix, shape, offset.x, expected + 1)) {
+                expected++;
+            }
+            assertEquals(expected, game.getGhostY(offset.x, offset.y), "Ghost should match a row-by-row drop");
+
+            game.hardDrop();
+            game.mergeBrickToBackground();
+            ClearRow clearRow = game.checkClears();
+            if (clearRow.getLinesRemoved() > 0) {
+                game.commitClear(clearRow);
+            }
+            if (!game.createNewBrick()) {
+                game.newGame();
+            }
+        }
+    }
 }
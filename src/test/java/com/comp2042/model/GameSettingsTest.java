@@ -31,6 +31,48 @@ public class GameSettingsTest {
         assertEquals(1.0, GameSettings.getMusicVolume(), 0.001, "Music volume should be 1.0 by default");
     }
 
+    @Test
+    void testDefaultCanvasRenderer() {
+        assertFalse(GameSettings.isCanvasRenderer(), "Node renderer should be used by default");
+    }
+
+    @Test
+    void testLogicThreadOffByDefaultAndSettable() {
+        assertFalse(GameSettings.isLogicThread(), "Rules should run on the JavaFX thread by default");
+        GameSettings.setLogicThread(true);
+        assertTrue(GameSettings.isLogicThread());
+        GameSettings.setLogicThread(false);
+        assertFalse(GameSettings.isLogicThread());
+    }
+
+    @Test
+    void testSetCanvasRenderer() {
+        GameSettings.setCanvasRenderer(true);
+        assertTrue(GameSettings.isCanvasRenderer(), "Should be able to select the canvas renderer");
+
+        GameSettings.setCanvasRenderer(false);
+        assertFalse(GameSettings.isCanvasRenderer(), "Should be able to select the node renderer");
+    }
+
+    @Test
+    void testDefaultAutoShiftTimings() {
+        assertEquals(GameSettings.DEFAULT_DAS_MILLIS, GameSettings.getDasMillis());
+        assertEquals(GameSettings.DEFAULT_ARR_MILLIS, GameSettings.getArrMillis());
+    }
+
+    @Test
+    void testSetAutoShiftTimingsClamped() {
+        GameSettings.setDasMillis(100);
+        GameSettings.setArrMillis(0);
+        assertEquals(100, GameSettings.getDasMillis());
+        assertEquals(0, GameSettings.getArrMillis(), "ARR of 0 should be allowed for instant shifts");
+
+        GameSettings.setDasMillis(-5);
+        GameSettings.setArrMillis(10_000);
+        assertEquals(0, GameSettings.getDasMillis());
+        assertEquals(GameSettings.MAX_SHIFT_MILLIS, GameSettings.getArrMillis());
+    }
+
     @Test
     void testSetShowAnimations() {
         GameSettings.setShowAnimations(false);
@@ -97,6 +139,10 @@ public class GameSettingsTest {
         GameSettings.setShowGhostPiece(false);
         GameSettings.setSoundVolume(0.3);
         GameSettings.setMusicVolume(0.7);
+        GameSettings.setCanvasRenderer(true);
+        GameSettings.setLogicThread(true);
+        GameSettings.setDasMillis(80);
+        GameSettings.setArrMillis(0);
         
         GameSettings.reset();
         
@@ -104,6 +150,10 @@ public class GameSettingsTest {
         assertTrue(GameSettings.isShowGhostPiece());
         assertEquals(1.0, GameSettings.getSoundVolume(), 0.001);
         assertEquals(1.0, GameSettings.getMusicVolume(), 0.001);
+        assertFalse(GameSettings.isCanvasRenderer());
+        assertFalse(GameSettings.isLogicThread());
+        assertEquals(GameSettings.DEFAULT_DAS_MILLIS, GameSettings.getDasMillis());
+        assertEquals(GameSettings.DEFAULT_ARR_MILLIS, GameSettings.getArrMillis());
     }
 
     @Test
@@ -0,0 +1,153 @@
+package com.comp2042.view;
+
+import com.comp2042.logic.bricks.BrickType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FramePresenterTest {
+
+    private static class CountingView implements FramePresenter.View {
+        int boards;
+        int ghosts;
+        int pieces;
+        int queues;
+        int holds;
+        int[][] lastBoard;
+        ViewData lastPiece;
+
+        @Override
+        public void drawBoard(int[][] boardMatrix) {
+            boards++;
+            lastBoard = boardMatrix;
+        }
+
+        @Override
+        public void drawGhost(ViewData brick) {
+            ghosts++;
+        }
+
+        @Override
+        public void drawActivePiece(ViewData brick) {
+            pieces++;
+            lastPiece = brick;
+        }
+
+        @Override
+        public void drawQueue(ViewData brick) {
+            queues++;
+        }
+
+        @Override
+        public void drawHold(ViewData brick) {
+            holds++;
+        }
+    }
+
+    private static final int NEXT = 0x21;
+
+    private CountingView view;
+    private int scheduled;
+    private FramePresenter presenter;
+
+    @BeforeEach
+    void setUp() {
+        view = new CountingView();
+        scheduled = 0;
+        presenter = new FramePresenter(view, () -> scheduled++);
+        presenter.reset(new ViewData(BrickType.T, 0, 4, 0, NEXT, null));
+    }
+
+    @Test
+    void testMovesWithinOneFrameDrawOnce() {
+        presenter.submitBrick(new ViewData(BrickType.T, 0, 3, 0, NEXT, null));
+        presenter.submitBrick(new ViewData(BrickType.T, 0, 2, 0, NEXT, null));
+        ViewData last = new ViewData(BrickType.T, 1, 2, 1, NEXT, null);
+        presenter.submitBrick(last);
+
+        assertEquals(1, scheduled, "Only the first change should request a flush");
+        presenter.flush();
+
+        assertEquals(1, view.pieces);
+        assertEquals(1, view.ghosts);
+        assertSame(last, view.lastPiece, "The newest snapshot should be drawn");
+        assertEquals(0, view.queues, "An unchanged queue should not be redrawn");
+        assertEquals(0, view.holds);
+        assertEquals(0, view.boards);
+    }
+
+    @Test
+    void testUnchangedBrickIsNotRedrawn() {
+        presenter.submitBrick(new ViewData(BrickType.T, 0, 4, 0, NEXT, null));
+        assertEquals(0, presenter.getDirtyRegions());
+        assertEquals(0, scheduled);
+    }
+
+    @Test
+    void testQueueAndHoldMarkedOnlyWhenChanged() {
+        presenter.submitBrick(new ViewData(BrickType.I, 0, 4, 0, 0x13, BrickType.T));
+        assertEquals(FramePresenter.ALL & ~FramePresenter.BOARD, presenter.getDirtyRegions());
+        presenter.flush();
+
+        presenter.submitBrick(new ViewData(BrickType.I, 0, 4, 1, 0x13, BrickType.T));
+        assertEquals(FramePresenter.ACTIVE_PIECE | FramePresenter.GHOST, presenter.getDirtyRegions());
+        presenter.flush();
+
+        assertEquals(2, view.pieces);
+        assertEquals(1, view.queues);
+        assertEquals(1, view.holds);
+    }
+
+    @Test
+    void testBoardKeepsNewestMatrix() {
+        int[][] first = new int[2][2];
+        int[][] second = new int[2][2];
+        presenter.submitBoard(first);
+        presenter.submitBoard(second);
+        presenter.flush();
+
+        assertEquals(1, view.boards);
+        assertSame(second, view.lastBoard);
+        assertEquals(0, view.ghosts, "A board change alone should not redraw the ghost");
+    }
+
+    @Test
+    void testFlushWithNothingDirtyDrawsNothing() {
+        presenter.flush();
+        presenter.flush();
+        assertEquals(0, view.boards + view.ghosts + view.pieces + view.queues + view.holds);
+    }
+
+    @Test
+    void testDiscardDropsPendingRegion() {
+        presenter.submitBrick(new ViewData(BrickType.T, 0, 4, 5, NEXT, null));
+        presenter.discard(FramePresenter.GHOST);
+        presenter.flush();
+
+        assertEquals(1, view.pieces);
+        assertEquals(0, view.ghosts);
+    }
+
+    @Test
+    void testResetDropsPendingUpdates() {
+        presenter.submitBoard(new int[1][1]);
+        ViewData spawned = new ViewData(BrickType.S, 0, 4, 0, NEXT, null);
+        presenter.submitBrick(spawned);
+        presenter.reset(spawned);
+
+        assertEquals(0, presenter.getDirtyRegions());
+        presenter.flush();
+        assertEquals(0, view.boards + view.pieces);
+
+        presenter.submitBrick(new ViewData(BrickType.S, 0, 4, 0, NEXT, null));
+        assertEquals(0, presenter.getDirtyRegions(), "The reset brick counts as already shown");
+    }
+
+    @Test
+    void testNewFrameRequestedAfterFlush() {
+        presenter.submitBoard(new int[1][1]);
+        presenter.flush();
+        presenter.submitBoard(new int[1][1]);
+        assertEquals(2, scheduled);
+    }
+}
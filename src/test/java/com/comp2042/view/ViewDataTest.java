@@ -0,0 +1,121 @@
+package com.comp2042.view;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.random.GameSeed;
+import com.comp2042.model.GameBoard;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ViewDataTest {
+
+    private static List<Brick> bricks(BrickType... types) {
+        BrickFactory factory = new BrickFactory();
+        List<Brick> bricks = new ArrayList<>();
+        for (BrickType type : types) {
+            bricks.add(factory.createBrick(type));
+        }
+        return bricks;
+    }
+
+    @Test
+    void testPackedNextTypes() {
+        int packed = ViewData.packTypes(bricks(BrickType.Z, BrickType.I, BrickType.T));
+        ViewData view = new ViewData(BrickType.L, 1, 3, 4, packed, BrickType.O);
+
+        assertEquals(3, view.getNextCount());
+        assertEquals(BrickType.Z, view.getNextType(0));
+        assertEquals(BrickType.I, view.getNextType(1));
+        assertEquals(BrickType.T, view.getNextType(2));
+        assertNull(view.getNextType(3));
+        assertEquals(BrickType.O, view.getHeldType());
+        assertEquals(1, view.getRotation());
+        assertEquals(3, view.getxPosition());
+        assertEquals(4, view.getyPosition());
+    }
+
+    @Test
+    void testShapesComeFromSharedTables() {
+        ViewData view = new ViewData(BrickType.J, 2, 0, 0, ViewData.packTypes(bricks(BrickType.S)), null);
+
+        assertSame(BrickShape.of(BrickType.J, 2), view.getBrickShape());
+        assertSame(BrickShape.of(BrickType.S, 0), view.getNextShape(0));
+        assertArrayEquals(ShapeTable.of(BrickType.J).getMatrix(2), view.getBrickShape().toMatrix());
+        assertNull(view.getHeldShape());
+        assertNull(view.getHeldBrickData());
+    }
+
+    @Test
+    void testMatrixGettersReturnCopies() {
+        ViewData view = new ViewData(BrickType.T, 0, 0, 0, ViewData.packTypes(bricks(BrickType.I)), BrickType.Z);
+
+        int[][] data = view.getBrickData();
+        assertNotSame(ShapeTable.of(BrickType.T).getMatrix(0), data);
+        assertArrayEquals(ShapeTable.of(BrickType.T).getMatrix(0), data);
+        data[1][1] = 99;
+        view.getBrickShape().toMatrix()[1][1] = 99;
+        assertNotEquals(99, ShapeTable.of(BrickType.T).getMatrix(0)[1][1], "Copies must not write through to the table");
+
+        assertArrayEquals(ShapeTable.of(BrickType.Z).getMatrix(0), view.getHeldBrickData());
+        assertEquals(1, view.getNextPieces().size());
+    }
+
+    @Test
+    void testMatrixConstructorStillWorks() {
+        int[][] shape = {{0, 1}, {1, 1}};
+        List<int[][]> next = new ArrayList<>();
+        next.add(new int[][]{{2}});
+        ViewData view = new ViewData(shape, 1, 2, next, null);
+
+        shape[0][0] = 5;
+        assertEquals(0, view.getBrickData()[0][0], "Constructor should copy the matrix");
+        assertNull(view.getBrickType());
+        assertEquals(1, view.getNextCount());
+        assertArrayEquals(new int[][]{{2}}, view.getNextShape(0).toMatrix());
+        assertEquals(1, view.getBrickShape().getCell(1, 0));
+        assertEquals(0, view.getBrickShape().getCell(2, 0), "Cells outside the matrix should read as empty");
+        assertNull(view.getHeldShape());
+    }
+
+    @Test
+    void testTooManyNextPiecesRejected() {
+        BrickType[] types = new BrickType[ViewData.MAX_NEXT_PIECES + 1];
+        java.util.Arrays.fill(types, BrickType.I);
+
+        assertThrows(IllegalArgumentException.class, () -> ViewData.packTypes(bricks(types)));
+    }
+
+    @Test
+    void testBoardSnapshotMatchesBoardState() {
+        GameBoard board = new GameBoard(25, 10, new GameSeed(6));
+        board.newGame();
+        board.holdBrick();
+        board.rotateLeftBrick();
+
+        ViewData view = board.getViewData();
+
+        assertArrayEquals(board.getCurrentShape(), view.getBrickShape().toMatrix());
+        assertEquals(3, view.getNextCount());
+        assertNotNull(view.getHeldType());
+    }
+
+    @Test
+    void testSnapshotComparisons() {
+        int packed = ViewData.packTypes(bricks(BrickType.Z, BrickType.I));
+        ViewData view = new ViewData(BrickType.L, 1, 3, 4, packed, BrickType.O);
+
+        assertTrue(view.samePiece(new ViewData(BrickType.L, 1, 3, 4, 0, null)));
+        assertFalse(view.samePiece(new ViewData(BrickType.L, 2, 3, 4, packed, BrickType.O)));
+        assertFalse(view.samePiece(new ViewData(BrickType.L, 1, 3, 5, packed, BrickType.O)));
+        assertTrue(view.sameQueue(new ViewData(BrickType.T, 0, 0, 0, packed, null)));
+        assertFalse(view.sameHeld(new ViewData(BrickType.L, 1, 3, 4, packed, null)));
+        assertFalse(view.samePiece(null));
+
+        ViewData legacy = new ViewData(new int[][]{{1}}, 3, 4, new ArrayList<>(), null);
+        assertFalse(legacy.samePiece(legacy), "Matrix snapshots should always be redrawn");
+    }
+}
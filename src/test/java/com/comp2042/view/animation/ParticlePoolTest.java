@@ -0,0 +1,77 @@
+package com.comp2042.view.animation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.SplittableRandom;
+
+public class ParticlePoolTest {
+
+    @Test
+    void testSpawnAndMove() {
+        ParticlePool pool = new ParticlePool(4);
+        assertTrue(pool.spawn(10, 20, 100, -40, 3));
+
+        pool.step(0.1);
+
+        assertEquals(1, pool.size());
+        assertEquals(20.0, pool.getX(0), 1e-9);
+        assertEquals(16.0, pool.getY(0), 1e-9);
+        assertEquals(3, pool.getColor(0));
+        assertEquals(1.0 - 0.1 / ParticlePool.LIFETIME_SECONDS, pool.getAlpha(0), 1e-9);
+    }
+
+    @Test
+    void testSpawnDroppedWhenFull() {
+        ParticlePool pool = new ParticlePool(2);
+        assertTrue(pool.spawn(0, 0, 0, 0, 1));
+        assertTrue(pool.spawn(0, 0, 0, 0, 1));
+        assertFalse(pool.spawn(0, 0, 0, 0, 1), "Spawns beyond capacity should be dropped");
+        assertEquals(2, pool.size());
+
+        assertEquals(0, pool.emit(0, 0, 1, 5));
+    }
+
+    @Test
+    void testExpiredParticlesFreeTheirSlots() {
+        ParticlePool pool = new ParticlePool(3);
+        pool.spawn(0, 0, 0, 0, 1);
+        pool.step(0.3);
+        pool.spawn(0, 0, 0, 0, 2);
+        pool.spawn(0, 0, 0, 0, 3);
+
+        pool.step(0.25);
+
+        assertEquals(2, pool.size(), "The oldest particle should have expired");
+        assertTrue(pool.spawn(0, 0, 0, 0, 4), "The freed slot should be reused");
+        assertEquals(3, pool.size());
+
+        int colors = 0;
+        for (int i = 0; i < pool.size(); i++) {
+            colors |= 1 << pool.getColor(i);
+        }
+        assertEquals((1 << 2) | (1 << 3) | (1 << 4), colors, "Live particles should stay packed at the front");
+    }
+
+    @Test
+    void testEmitStaysWithinDriftRange() {
+        ParticlePool pool = new ParticlePool(64, new SplittableRandom(7));
+        assertEquals(10, pool.emit(100, 100, 5, 10));
+
+        pool.step(ParticlePool.LIFETIME_SECONDS - 1e-6);
+
+        double half = ParticlePool.DRIFT_RANGE / 2;
+        for (int i = 0; i < pool.size(); i++) {
+            assertTrue(Math.abs(pool.getX(i) - 100) <= half);
+            assertTrue(Math.abs(pool.getY(i) - 100) <= half);
+        }
+    }
+
+    @Test
+    void testClearEmptiesPool() {
+        ParticlePool pool = new ParticlePool(8);
+        pool.emit(0, 0, 1, 8);
+        pool.clear();
+        assertTrue(pool.isEmpty());
+        assertEquals(8, pool.capacity());
+    }
+}